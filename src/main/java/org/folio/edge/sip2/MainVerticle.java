@@ -1,6 +1,7 @@
 package org.folio.edge.sip2;
 
 import static java.lang.Boolean.FALSE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.lang3.StringEscapeUtils.ESCAPE_JAVA;
 import static org.folio.edge.sip2.domain.TenantResolutionContext.createContextForConnectPhase;
 import static org.folio.edge.sip2.parser.Command.LOGIN;
@@ -15,10 +16,14 @@ import io.micrometer.core.instrument.Timer;
 import io.vertx.config.ConfigRetriever;
 import io.vertx.config.ConfigRetrieverOptions;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Verticle;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -26,18 +31,27 @@ import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.NetSocket;
-import io.vertx.core.parsetools.RecordParser;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.edge.sip2.cache.AcsConfigCacheFactory;
+import org.folio.edge.sip2.cache.FolioCircuitBreakerFactory;
+import org.folio.edge.sip2.cache.FolioResponseCacheFactory;
+import org.folio.edge.sip2.cache.PatronVerificationCacheFactory;
+import org.folio.edge.sip2.cache.RequestCoalescerFactory;
+import org.folio.edge.sip2.cache.RequestHedgerFactory;
 import org.folio.edge.sip2.cache.TokenCacheFactory;
 import org.folio.edge.sip2.domain.ConnectionDetails;
 import org.folio.edge.sip2.domain.PreviousMessage;
 import org.folio.edge.sip2.handlers.ISip2RequestHandler;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.metrics.Metrics;
 import org.folio.edge.sip2.modules.ApplicationModule;
 import org.folio.edge.sip2.modules.FolioResourceProviderModule;
@@ -45,6 +59,10 @@ import org.folio.edge.sip2.modules.RequestHandlerModule;
 import org.folio.edge.sip2.parser.Command;
 import org.folio.edge.sip2.parser.Message;
 import org.folio.edge.sip2.parser.Parser;
+import org.folio.edge.sip2.parser.Sip2Frame;
+import org.folio.edge.sip2.parser.Sip2FrameDecoder;
+import org.folio.edge.sip2.parser.Sip2ResponseEncoder;
+import org.folio.edge.sip2.repositories.MemoizingResourceProvider;
 import org.folio.edge.sip2.service.config.TenantConfigurationService;
 import org.folio.edge.sip2.service.tenant.Sip2TenantService;
 import org.folio.edge.sip2.session.SessionData;
@@ -56,7 +74,13 @@ public class MainVerticle extends AbstractVerticle {
   private static final String HEALTH_CHECK_PORT_ENV_VAR = "HEALTH_CHECK_PORT";
   private static final String HEALTH_CHECK_PORT_PROPERTY = "healthCheckPort";
   private static final String HEALTH_CHECK_PATH = "/admin/health";
+  private static final String ACS_CONFIG_CACHE_PATH = "/admin/cache/acs-config";
+  private static final String FOLIO_RESPONSE_CACHE_PATH = "/admin/cache/folio-responses";
   private static final int HEALTH_CHECK_DEFAULT_PORT = 8081;
+  private static final String ADMIN_TOKEN_ENV_VAR = "SIP2_ADMIN_TOKEN";
+  private static final String ADMIN_TOKEN_PROPERTY = "sip2AdminToken";
+  private static final String ADMIN_TOKEN_HEADER = "X-Sip2-Admin-Token";
+  private static final String DEFAULT_COMMAND_TIMEOUT_KEY = "default";
 
   private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(MainVerticle.class);
   private final Map<Integer, Metrics> metricsMap = new HashMap<>();
@@ -64,12 +88,30 @@ public class MainVerticle extends AbstractVerticle {
   private Sip2TenantService tenantResolver;
   private TenantConfigurationService tenantConfigurationService;
   private Map<Command, ISip2RequestHandler> handlers;
+  private Map<Command, Long> commandTimeouts = Map.of();
 
   private List<NetServer> servers = new ArrayList<>();
   private ConfigRetriever configRetriever;
 
   public static final int DEFAULT_TOKEN_CACHE_CAPACITY = 100;
   public static final String SYS_TOKEN_CACHE_CAPACITY = "token_cache_capacity";
+  public static final String SYS_VERTICLE_INSTANCES = "verticleInstances";
+  public static final String SYS_ACS_CONFIG_CACHE_TTL = "acsConfigCacheTtl";
+  public static final String SYS_ACS_CONFIG_CACHE_STALE_PERIOD = "acsConfigCacheStalePeriod";
+  public static final String SYS_ACS_CONFIG_CACHE_CAPACITY = "acsConfigCacheCapacity";
+  public static final String SYS_COALESCE_FOLIO_GETS = "coalesceFolioGets";
+  public static final String SYS_FOLIO_RESPONSE_CACHE_TTLS = "folioResponseCacheTtls";
+  public static final String SYS_FOLIO_RESPONSE_CACHE_CAPACITY = "folioResponseCacheCapacity";
+  public static final String SYS_FOLIO_CIRCUIT_BREAKER = "folioCircuitBreaker";
+  public static final String SYS_FOLIO_GET_HEDGING = "folioGetHedging";
+  public static final String SYS_PATRON_VERIFICATION_CACHE = "patronVerificationCache";
+  public static final String SYS_COMMAND_TIMEOUTS = "commandTimeouts";
+  public static final String SYS_DIRECT_RESPONSES = "directResponses";
+
+  /**
+   * Tenant configuration owned by the primary instance; {@code null} for the primary itself.
+   */
+  private TenantConfigurationService sharedTenantConfigurationService;
 
   /**
    * Construct the {@code MainVerticle}.
@@ -82,6 +124,17 @@ public class MainVerticle extends AbstractVerticle {
     this.handlers = handlers;
   }
 
+  /**
+   * Construct an additional {@code MainVerticle} instance that serves SIP2 connections on its
+   * own event loop, reusing the tenant configuration loaded and refreshed by the primary
+   * instance.
+   *
+   * @param tenantConfigurationService the tenant configuration owned by the primary instance
+   */
+  MainVerticle(TenantConfigurationService tenantConfigurationService) {
+    this.sharedTenantConfigurationService = tenantConfigurationService;
+  }
+
   private String getSanitizedConfig() {
     JsonObject sc = config().copy();
     JsonPointer.from("/tenantConfigRetrieverOptions/stores/0/config").writeJson(sc, "******");
@@ -90,25 +143,60 @@ public class MainVerticle extends AbstractVerticle {
 
   @Override
   public void start(Promise<Void> startFuture) {
-    log.debug("Startup configuration: {}", this::getSanitizedConfig);
-
-    callAdminHealthCheckService();
-
-    // Initialize the TokenCache
-    TokenCacheFactory.initialize(config()
-        .getInteger(SYS_TOKEN_CACHE_CAPACITY, DEFAULT_TOKEN_CACHE_CAPACITY));
+    final boolean primary = isPrimaryInstance();
+    if (primary) {
+      log.debug("Startup configuration: {}", this::getSanitizedConfig);
+
+      callAdminHealthCheckService();
+
+      // Initialize the TokenCache
+      TokenCacheFactory.initialize(config()
+          .getInteger(SYS_TOKEN_CACHE_CAPACITY, DEFAULT_TOKEN_CACHE_CAPACITY));
+
+      // Initialize the ACS configuration cache shared by all instances
+      AcsConfigCacheFactory.initialize(
+          config().getInteger(SYS_ACS_CONFIG_CACHE_TTL,
+              AcsConfigCacheFactory.DEFAULT_TTL_SECONDS),
+          config().getInteger(SYS_ACS_CONFIG_CACHE_STALE_PERIOD,
+              AcsConfigCacheFactory.DEFAULT_STALE_SECONDS),
+          config().getInteger(SYS_ACS_CONFIG_CACHE_CAPACITY,
+              AcsConfigCacheFactory.DEFAULT_CAPACITY));
+
+      // Share identical FOLIO GET requests in flight between all instances
+      RequestCoalescerFactory.initialize(config()
+          .getBoolean(SYS_COALESCE_FOLIO_GETS, RequestCoalescerFactory.DEFAULT_ENABLED));
+
+      // Initialize the cache of FOLIO reference data shared by all instances
+      FolioResponseCacheFactory.initialize(
+          config().getJsonObject(SYS_FOLIO_RESPONSE_CACHE_TTLS),
+          config().getInteger(SYS_FOLIO_RESPONSE_CACHE_CAPACITY,
+              FolioResponseCacheFactory.DEFAULT_CAPACITY));
+
+      // Fail FOLIO calls at once while a module is failing or busy, for all instances
+      FolioCircuitBreakerFactory.initialize(config().getJsonObject(SYS_FOLIO_CIRCUIT_BREAKER));
+
+      // Hedge slow FOLIO GET requests, for all instances
+      RequestHedgerFactory.initialize(config().getJsonObject(SYS_FOLIO_GET_HEDGING));
+
+      // Reuse the patron logins and PIN checks of all instances for a short time
+      PatronVerificationCacheFactory.initialize(
+          config().getJsonObject(SYS_PATRON_VERIFICATION_CACHE));
+    }
 
+    commandTimeouts = getCommandTimeouts(config());
     setupGuiceContext();
 
-    JsonObject crOptionsJson = config().getJsonObject("tenantConfigRetrieverOptions");
-    ConfigRetrieverOptions crOptions = new ConfigRetrieverOptions(crOptionsJson);
-    configRetriever = ConfigRetriever.create(vertx, crOptions);
+    if (primary) {
+      JsonObject crOptionsJson = config().getJsonObject("tenantConfigRetrieverOptions");
+      ConfigRetrieverOptions crOptions = new ConfigRetrieverOptions(crOptionsJson);
+      configRetriever = ConfigRetriever.create(vertx, crOptions);
 
-    configRetriever.listen(change -> {
-      var multiTenantConfig = change.getNewConfiguration();
-      tenantConfigurationService.updateConfiguration(multiTenantConfig);
-      log.info("Tenant config changed: {}", multiTenantConfig::encode);
-    });
+      configRetriever.listen(change -> {
+        var multiTenantConfig = change.getNewConfiguration();
+        tenantConfigurationService.updateConfiguration(multiTenantConfig);
+        log.info("Tenant config changed: {}", multiTenantConfig::encode);
+      });
+    }
 
     var portList = determinePorts();
     List<Future<Void>> serverFutures = new ArrayList<>();
@@ -139,8 +227,11 @@ public class MainVerticle extends AbstractVerticle {
         var messageDelimiter = tenantConfig.getString("messageDelimiter", "\r");
 
         logNewConnectionDetails(connectionDetails, sessionData, messageDelimiter);
-        socket.handler(RecordParser.newDelimited(messageDelimiter, buffer ->
-            handleBuffer(buffer, socket, sessionData, messageDelimiter, metrics)));
+        var charset = Charset.forName(sessionData.getCharset());
+        var responseEncoder = new Sip2ResponseEncoder(charset, messageDelimiter,
+            sessionData.isErrorDetectionEnabled());
+        socket.handler(new Sip2FrameDecoder(messageDelimiter, charset, frame ->
+            handleFrame(frame, socket, sessionData, messageDelimiter, responseEncoder, metrics)));
 
         socket.exceptionHandler(t -> {
           log.error(sessionData, "Socket exception", t);
@@ -152,6 +243,7 @@ public class MainVerticle extends AbstractVerticle {
     }
 
     Future.all(serverFutures)
+        .compose(result -> primary ? deployAdditionalInstances() : Future.<Void>succeededFuture())
         .onSuccess(result -> {
           log.info("All {} servers started successfully", portList.size());
           startFuture.complete();
@@ -163,29 +255,29 @@ public class MainVerticle extends AbstractVerticle {
   }
 
   /**
-   * Handles the processing of incoming buffer data from the socket connection.
+   * Handles the processing of an incoming message from the socket connection.
    *
-   * @param buffer The buffer containing the incoming message.
+   * @param frame The frame containing the incoming message.
    * @param socket The NetSocket connection used for communication.
    * @param sessionData The session-specific data used for processing.
    * @param messageDelimiter The delimiter used to separate messages.
+   * @param responseEncoder The encoder for responses sent on this connection.
    * @param metrics The metrics object used for recording performance data.
    */
-  private void handleBuffer(Buffer buffer, NetSocket socket, SessionData sessionData,
-                            String messageDelimiter, Metrics metrics) {
+  private void handleFrame(Sip2Frame frame, NetSocket socket, SessionData sessionData,
+                           String messageDelimiter, Sip2ResponseEncoder responseEncoder,
+                           Metrics metrics) {
     final Timer.Sample sample = metrics.sample();
-
-    final String messageString = buffer.getString(0, buffer.length(),
-        sessionData.getCharset());
+    final long receivedNanos = System.nanoTime();
 
     Command command = UNKNOWN;
 
     try {
-      final Parser parser = getParser(sessionData);
+      final Parser parser = sessionData.getParser();
 
       // parsing
       final Message<Object> message = callWithContext(
-          sessionData, () -> parser.parseMessage(messageString));
+          sessionData, () -> parser.parseMessage(frame));
 
       command = message.getCommand();
 
@@ -198,8 +290,9 @@ public class MainVerticle extends AbstractVerticle {
 
       // process validation results
       if (!message.isValid()) {
-        log.error(sessionData, "Message is invalid: {}", messageString);
-        handleInvalidMessage(message, socket, sessionData, messageDelimiter, sample, metrics);
+        log.error(sessionData, "Message is invalid: {}", frame.getMessage());
+        handleInvalidMessage(message, socket, sessionData, messageDelimiter, responseEncoder,
+            sample, metrics);
         return;
       }
 
@@ -218,7 +311,10 @@ public class MainVerticle extends AbstractVerticle {
         return;
       }
 
-      executeHandler(message, sessionData, messageDelimiter, handler, sample, socket, metrics);
+      executeHandler(message,
+          sessionData.forCommand(receivedNanos, commandTimeouts.getOrDefault(command, 0L),
+              MemoizingResourceProvider.createMemo()),
+          messageDelimiter, responseEncoder, handler, sample, socket, metrics);
     } catch (Exception ex) {
       String errorMessage = "Problems handling the request: " + ex.getMessage();
       log.error(sessionData, errorMessage, ex);
@@ -228,21 +324,6 @@ public class MainVerticle extends AbstractVerticle {
     }
   }
 
-  /**
-   * Creates and configures a Parser based on the given session data.
-   *
-   * @param sessionData The session data containing configuration details.
-   * @return A configured Parser instance.
-   */
-  private Parser getParser(SessionData sessionData) {
-    return Parser.builder()
-      .delimiter(sessionData.getFieldDelimiter())
-      .charset(Charset.forName(sessionData.getCharset()))
-      .errorDetectionEnabled(sessionData.isErrorDetectionEnabled())
-      .timezone(sessionData.getTimeZone())
-      .build();
-  }
-
   /**
    * Returns a new {@link SessionData} object.
    *
@@ -294,11 +375,8 @@ public class MainVerticle extends AbstractVerticle {
   }
 
   private Future<Void> listenToMessages(Promise<Void> promise, NetServer server) {
-    configRetriever.getConfig()
+    loadTenantConfiguration()
         .onSuccess(config -> {
-          tenantConfigurationService.updateConfiguration(config);
-          log.info("Tenant config loaded: {}", config::encode);
-
           server.listen()
               .onSuccess(result -> {
                 log.info("Server is now listening!");
@@ -317,11 +395,95 @@ public class MainVerticle extends AbstractVerticle {
     return promise.future();
   }
 
+  private Future<JsonObject> loadTenantConfiguration() {
+    if (configRetriever == null) {
+      // already loaded and kept up to date by the primary instance
+      return Future.succeededFuture(tenantConfigurationService.getConfiguration());
+    }
+
+    return configRetriever.getConfig()
+        .onSuccess(config -> {
+          tenantConfigurationService.updateConfiguration(config);
+          log.info("Tenant config loaded: {}", config::encode);
+        });
+  }
+
+  private boolean isPrimaryInstance() {
+    return sharedTenantConfigurationService == null;
+  }
+
+  /**
+   * Deploys {@code verticleInstances - 1} additional instances of this verticle. Vert.x assigns
+   * each instance its own event loop and balances connections on the shared ports between them,
+   * so parsing, rendering and FOLIO calls are no longer bound to a single core. Every instance
+   * builds its own {@code WebClient} and handlers, but tenant configuration is loaded once by
+   * this instance and shared.
+   *
+   * @return a future completed once all additional instances are listening
+   */
+  private Future<Void> deployAdditionalInstances() {
+    int instances = getVerticleInstances(config());
+    if (instances <= 1) {
+      return Future.succeededFuture();
+    }
+
+    var sharedConfigurationService = tenantConfigurationService;
+    Supplier<Verticle> supplier = () -> new MainVerticle(sharedConfigurationService);
+    var options = new DeploymentOptions()
+        .setConfig(config())
+        .setInstances(instances - 1);
+
+    return vertx.deployVerticle(supplier, options)
+        .onSuccess(id -> log.info("Deployed {} SIP2 verticle instances", instances))
+        .mapEmpty();
+  }
+
+  /**
+   * Returns the number of {@code MainVerticle} instances to run, defaulting to the number of
+   * available processors.
+   *
+   * @param config the module configuration
+   * @return the number of instances, at least 1
+   */
+  static int getVerticleInstances(JsonObject config) {
+    int instances = config.getInteger(SYS_VERTICLE_INSTANCES,
+        Runtime.getRuntime().availableProcessors());
+    return Math.max(instances, 1);
+  }
+
+  /**
+   * Returns the time in milliseconds each SIP2 command must be answered in, from the
+   * {@code commandTimeouts} object that maps command names, e.g. {@code CHECKOUT}, or
+   * {@code default} for all other commands, to milliseconds. {@code 0} means no deadline.
+   *
+   * @param config the module configuration
+   * @return the timeouts by command, without the commands that have no deadline
+   */
+  static Map<Command, Long> getCommandTimeouts(JsonObject config) {
+    final JsonObject timeouts = config.getJsonObject(SYS_COMMAND_TIMEOUTS, new JsonObject());
+    final long defaultTimeout = timeouts.getLong(DEFAULT_COMMAND_TIMEOUT_KEY, 0L);
+    final Map<Command, Long> result = new EnumMap<>(Command.class);
+    for (Command command : Command.values()) {
+      final long timeout = timeouts.getLong(command.name(), defaultTimeout);
+      if (timeout > 0) {
+        result.put(command, timeout);
+      }
+    }
+    for (String key : timeouts.fieldNames()) {
+      if (!DEFAULT_COMMAND_TIMEOUT_KEY.equals(key)) {
+        // fails on a misspelled command, instead of silently running it without deadline
+        Command.valueOf(key);
+      }
+    }
+    return result;
+  }
+
   /**
    * Execute the command.
    * @param message message
    * @param sessionData sessionData
    * @param messageDelimiter messageDelimiter
+   * @param responseEncoder responseEncoder
    * @param handler handler
    * @param sample sample
    * @param socket socket
@@ -330,28 +492,54 @@ public class MainVerticle extends AbstractVerticle {
   private void executeHandler(Message<Object> message,
                               SessionData sessionData,
                               String messageDelimiter,
+                              Sip2ResponseEncoder responseEncoder,
                               ISip2RequestHandler handler,
                               Timer.Sample sample,
                               NetSocket socket,
                               Metrics metrics) {
-    handler
-        .execute(message.getRequest(), sessionData)
+    handler.execute(message.getRequest(), sessionData)
+        .onComplete(result -> {
+          log.debug(sessionData, "Saved {} FOLIO requests of command {}",
+              sessionData.getRequestMemo()::getSaved, message::getCommand);
+          if (sessionData.hasDeadline() && sessionData.getRemainingMillis() <= 0) {
+            // still answered, and kept for a resend, so that its FOLIO writes are not repeated
+            log.warn(sessionData, "Deadline exceeded for command {}", message.getCommand());
+            metrics.deadlineError();
+          }
+        })
         .onSuccess(result -> {
-          final String responseMsg;
+          final Buffer responseBuffer;
           if (message.getCommand() == REQUEST_ACS_RESEND) {
             // we don't want to modify the response
-            responseMsg = result;
+            responseBuffer = Buffer.buffer(result, sessionData.getCharset());
+            handler.writeHistory(sessionData, message, result);
+            log.info(sessionData, "Sip response {}", () -> getEscapedString(result));
           } else {
-            responseMsg = formatResponse(result, message, sessionData,
-            messageDelimiter);
+            final var encoded = responseEncoder.encode(result, message.getSequenceNumber(), false);
+            responseBuffer = encoded.getBuffer();
+            handler.writeHistory(sessionData, message, encoded);
+            log.info(sessionData, "Sip response {}",
+                () -> getEscapedString(encoded.getMessage()));
           }
-          handler.writeHistory(sessionData, message, responseMsg);
-          log.info(sessionData, "Sip response {}", () -> getEscapedString(responseMsg));
           sample.stop(metrics.commandTimer(message.getCommand()));
-          socket.write(responseMsg, sessionData.getCharset());
+          socket.write(responseBuffer);
         }).onFailure(e -> {
           String errorMsg = "Failed to respond to request";
           log.error(sessionData, errorMsg, e);
+          if (sessionData.hasDeadline() && sessionData.getRemainingMillis() <= 0) {
+            final String deadlineResponse =
+                handler.getDeadlineResponse(message.getRequest(), sessionData);
+            if (deadlineResponse != null) {
+              final var encoded = responseEncoder.encode(deadlineResponse,
+                  message.getSequenceNumber(), false);
+              handler.writeHistory(sessionData, message, encoded);
+              log.info(sessionData, "Sip response {}",
+                  () -> getEscapedString(encoded.getMessage()));
+              sample.stop(metrics.commandTimer(message.getCommand()));
+              socket.write(encoded.getBuffer());
+              return;
+            }
+          }
           String responseMessage = (String) sessionData.getErrorResponseMessage();
           if (responseMessage != null) {
             handler.writeHistory(sessionData, message, responseMessage);
@@ -378,12 +566,16 @@ public class MainVerticle extends AbstractVerticle {
                                      Metrics metrics,
                                      NetSocket socket,
                                      Command command) {
-    String prvMessage = sessionData
-        .getPreviousMessage()
-        .getPreviousMessageResponse();
-    log.info(sessionData, "Sending previous Sip response {}", () -> getEscapedString(prvMessage));
+    PreviousMessage prvMessage = sessionData.getPreviousMessage();
+    log.info(sessionData, "Sending previous Sip response {}",
+        () -> getEscapedString(prvMessage.getPreviousMessageResponse()));
     sample.stop(metrics.commandTimer(command));
-    socket.write(prvMessage, sessionData.getCharset());
+    if (prvMessage.getPreviousEncodedResponse() != null) {
+      // the bytes that were sent before, without encoding them again
+      socket.write(prvMessage.getPreviousEncodedResponse().getBuffer());
+    } else {
+      socket.write(prvMessage.getPreviousMessageResponse(), sessionData.getCharset());
+    }
   }
 
   /**
@@ -393,9 +585,12 @@ public class MainVerticle extends AbstractVerticle {
     if (handlers == null) {
       var okapiUrl = config().getString("okapiUrl");
       var webClient = WebClientUtils.create(vertx, config());
+      WebClientUtils.warmUp(webClient, okapiUrl,
+          config().getInteger(WebClientUtils.SYS_WEB_CLIENT_WARM_UP, 0));
       var injector = Guice.createInjector(
           new FolioResourceProviderModule(okapiUrl, webClient),
-          new ApplicationModule(),
+          new ApplicationModule(sharedTenantConfigurationService,
+              ResponseWriterRepository.parseCommands(config().getJsonArray(SYS_DIRECT_RESPONSES))),
           new RequestHandlerModule()
       );
 
@@ -407,6 +602,8 @@ public class MainVerticle extends AbstractVerticle {
 
   private void callAdminHealthCheckService() {
     HttpServer httpServer = vertx.createHttpServer();
+    var adminToken = getEnvOrDefault(ADMIN_TOKEN_PROPERTY, ADMIN_TOKEN_ENV_VAR, null,
+        String::trim);
 
     httpServer.requestHandler(request -> {
       log.debug("path : {}", request.path());
@@ -416,6 +613,26 @@ public class MainVerticle extends AbstractVerticle {
         response.putHeader("Content-Type", "text/plain");
         response.end("OK");
         log.info("Admin health check service response message : {}", response.getStatusMessage());
+      } else if (request.path().equals(ACS_CONFIG_CACHE_PATH)
+          && request.method() == HttpMethod.DELETE) {
+        if (!isAdminAuthorized(request, adminToken)) {
+          return;
+        }
+        var tenant = request.getParam("tenant");
+        var location = request.getParam("location");
+        var removed = AcsConfigCacheFactory.get().invalidate(key ->
+            (tenant == null || tenant.equals(key.tenant()))
+                && (location == null || location.equals(key.scLocation())));
+        response.putHeader("Content-Type", "text/plain");
+        response.end("Invalidated " + removed + " ACS configuration entries");
+      } else if (request.path().equals(FOLIO_RESPONSE_CACHE_PATH)
+          && request.method() == HttpMethod.DELETE) {
+        if (!isAdminAuthorized(request, adminToken)) {
+          return;
+        }
+        var removed = FolioResponseCacheFactory.get().invalidate(request.getParam("tenant"));
+        response.putHeader("Content-Type", "text/plain");
+        response.end("Invalidated " + removed + " FOLIO responses");
       } else {
         response.setStatusCode(404).end();
       }
@@ -429,9 +646,31 @@ public class MainVerticle extends AbstractVerticle {
         .onFailure(e -> log.error("{} failed: {}", msg, e.getMessage(), e));
   }
 
+  /**
+   * Checks the admin token of a request that changes the state of the module, and answers it
+   * when it must not proceed: with 404 while no admin token is configured, which disables these
+   * requests, and with 401 when the request does not carry the configured token.
+   */
+  private static boolean isAdminAuthorized(HttpServerRequest request, String adminToken) {
+    if (adminToken == null) {
+      request.response().setStatusCode(404).end();
+      return false;
+    }
+    var token = request.getHeader(ADMIN_TOKEN_HEADER);
+    if (token == null || !MessageDigest.isEqual(adminToken.getBytes(UTF_8),
+        token.trim().getBytes(UTF_8))) {
+      log.warn("Rejected {} {} without a valid admin token", request.method(), request.path());
+      request.response().setStatusCode(401).end();
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public void stop(Promise<Void> stopFuture) {
-    configRetriever.close();
+    if (configRetriever != null) {
+      configRetriever.close();
+    }
 
     List<Future<Void>> stopFutures = servers.stream()
         .map(NetServer::close)
@@ -454,6 +693,7 @@ public class MainVerticle extends AbstractVerticle {
       NetSocket socket,
       SessionData sessionData,
       String messageDelimiter,
+      Sip2ResponseEncoder responseEncoder,
       Timer.Sample sample,
       Metrics metrics) {
     if (sessionData.isErrorDetectionEnabled()) {
@@ -462,8 +702,8 @@ public class MainVerticle extends AbstractVerticle {
       handler.execute(message.getRequest(), sessionData)
           .onSuccess(result -> {
             sample.stop(metrics.commandTimer(message.getCommand()));
-            socket.write(formatResponse(result, message, sessionData,
-                messageDelimiter, true), sessionData.getCharset());
+            socket.write(responseEncoder.encode(result, message.getSequenceNumber(), true)
+                .getBuffer());
           })
           .onFailure(e -> {
             log.error("Failed to send SC resend", e);
@@ -477,51 +717,6 @@ public class MainVerticle extends AbstractVerticle {
     }
   }
 
-  private String formatResponse(String response, Message<Object> message, SessionData sessionData,
-      String messageDelimiter) {
-    return formatResponse(response, message, sessionData, messageDelimiter, false);
-  }
-
-  private String formatResponse(String response, Message<Object> message, SessionData sessionData,
-      String messageDelimiter, boolean isSCResend) {
-    final String result;
-
-    if (sessionData.isErrorDetectionEnabled()) {
-      final StringBuilder sb = new StringBuilder(response.length() + (isSCResend ? 6 : 9)
-          + messageDelimiter.length())
-          .append(response);
-      // SC Resend messages never include a sequence number, but will include the checksum
-      if (!isSCResend) {
-        sb.append("AY").append(message.getSequenceNumber());
-      }
-
-      sb.append("AZ");
-
-      var charset = Charset.forName(sessionData.getCharset());
-      int checksum = getChecksum(sessionData, sb.toString(), charset);
-
-      sb.append(String.format("%04X", checksum)).append(messageDelimiter);
-
-      result = sb.toString();
-    } else {
-      result = response + messageDelimiter;
-    }
-
-    return result;
-  }
-
-  protected int getChecksum(SessionData sessionData, String message, Charset charset) {
-    log.debug(sessionData, "Calculating checksum for {} using charset {}",
-        () -> getEscapedString(message), () -> charset);
-    final byte[] bytes = message.getBytes(charset);
-    int checksum = 0;
-    for (final byte b : bytes) {
-      checksum += b & 0xff;
-    }
-    checksum = -checksum & 0xffff;
-    return checksum;
-  }
-
   /**
    * Method that evaluates whether or not the previous message needs to be resent.
    * Resending happens when the current message's checksum and sequence number
@@ -0,0 +1,41 @@
+package org.folio.edge.sip2.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.edge.sip2.repositories.domain.AcsConfig;
+
+public class AcsConfigCacheFactory {
+
+  public static final int DEFAULT_TTL_SECONDS = 60;
+  public static final int DEFAULT_STALE_SECONDS = 300;
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  private AcsConfigCacheFactory() { }
+
+  static AsyncLoadingCache<AcsConfigKey, AcsConfig> instance;
+
+  /**
+   * Creates the ACS configuration cache shared by all verticle instances.
+   *
+   * @param ttlSeconds how long a configuration is used before it is reloaded, 0 disables caching
+   * @param staleSeconds how long after that a configuration is used while it is reloaded
+   * @param capacity the maximum number of configurations kept
+   */
+  public static synchronized void initialize(int ttlSeconds, int staleSeconds, int capacity) {
+    instance = new AsyncLoadingCache<>("ACS configuration", Duration.ofSeconds(ttlSeconds),
+        Duration.ofSeconds(staleSeconds), capacity, Clock.systemUTC());
+  }
+
+  /**
+   * Returns the shared ACS configuration cache, created with the defaults when it was not
+   * initialized.
+   *
+   * @return the cache
+   */
+  public static synchronized AsyncLoadingCache<AcsConfigKey, AcsConfig> get() {
+    if (instance == null) {
+      initialize(DEFAULT_TTL_SECONDS, DEFAULT_STALE_SECONDS, DEFAULT_CAPACITY);
+    }
+    return instance;
+  }
+}
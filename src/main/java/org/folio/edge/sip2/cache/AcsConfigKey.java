@@ -0,0 +1,10 @@
+package org.folio.edge.sip2.cache;
+
+/**
+ * Identifies the ACS configuration of a tenant as seen from one SC location.
+ *
+ * @param tenant the tenant id
+ * @param scLocation the location code of the SC, may be {@code null}
+ */
+public record AcsConfigKey(String tenant, String scLocation) {
+}
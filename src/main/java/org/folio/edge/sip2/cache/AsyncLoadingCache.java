@@ -0,0 +1,222 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.folio.edge.sip2.utils.Sip2LogAdapter;
+
+/**
+ * A bounded cache of values that are loaded asynchronously, shared by all verticle instances.
+ *
+ * <ul>
+ *   <li>A value younger than the TTL is returned as is.</li>
+ *   <li>A value older than the TTL, but still within the stale period, is returned as is while
+ *   it is reloaded in the background.</li>
+ *   <li>Otherwise the value is loaded and the caller waits for it.</li>
+ * </ul>
+ *
+ * <p>Only one load per key runs at a time; concurrent callers wait for the same load and are
+ * completed on their own Vert.x context. Failed loads are not cached. At capacity the least
+ * recently used value is evicted. A TTL of zero disables the cache, every call then loads the
+ * value.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class AsyncLoadingCache<K, V> {
+
+  private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(AsyncLoadingCache.class);
+
+  private final String name;
+  private final long ttlMillis;
+  private final long staleMillis;
+  private final int capacity;
+  private final Clock clock;
+  // access ordered, guarded by itself
+  private final Map<K, CacheEntry<V>> entries;
+  private final Map<K, Load<V>> loading = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a cache.
+   *
+   * @param name the name of the cache, used when logging
+   * @param ttl how long a value is returned without reloading it, zero disables the cache
+   * @param stalePeriod how long after the TTL a value is still returned while it is reloaded
+   * @param capacity the maximum number of values kept
+   * @param clock the clock the age of the values is measured with
+   */
+  public AsyncLoadingCache(String name, Duration ttl, Duration stalePeriod, int capacity,
+      Clock clock) {
+    this.name = requireNonNull(name, "name cannot be null");
+    this.ttlMillis = Math.max(0, requireNonNull(ttl, "ttl cannot be null").toMillis());
+    this.staleMillis = Math.max(0,
+        requireNonNull(stalePeriod, "stalePeriod cannot be null").toMillis());
+    this.capacity = Math.max(1, capacity);
+    this.clock = requireNonNull(clock, "clock cannot be null");
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+        return size() > AsyncLoadingCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value for the key, loading it when it is missing or expired.
+   *
+   * @param key the key
+   * @param loader loads the value of the key
+   * @return the value
+   */
+  public Future<V> get(K key, Supplier<Future<V>> loader) {
+    if (!isEnabled()) {
+      return loader.get();
+    }
+
+    final CacheEntry<V> entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+    if (entry != null) {
+      final long age = clock.millis() - entry.loadedAt();
+      if (age < ttlMillis) {
+        return Future.succeededFuture(entry.value());
+      }
+      if (age < ttlMillis + staleMillis) {
+        load(key, loader).onFailure(e -> log.warn(
+            "Failed to refresh {} entry {}, the stale value is kept", name, key, e));
+        return Future.succeededFuture(entry.value());
+      }
+      synchronized (entries) {
+        entries.remove(key, entry);
+      }
+    }
+
+    return load(key, loader);
+  }
+
+  /**
+   * Removes the values of the matching keys, loads that are still running are not cached.
+   *
+   * @param filter selects the keys to remove
+   * @return the number of values removed
+   */
+  public int invalidate(Predicate<K> filter) {
+    loading.forEach((key, load) -> {
+      if (filter.test(key)) {
+        load.invalidated = true;
+      }
+    });
+    int removed = 0;
+    synchronized (entries) {
+      final Iterator<K> keys = entries.keySet().iterator();
+      while (keys.hasNext()) {
+        if (filter.test(keys.next())) {
+          keys.remove();
+          removed++;
+        }
+      }
+    }
+    log.info("Invalidated {} {} entries", removed, name);
+    return removed;
+  }
+
+  /**
+   * Removes all values.
+   *
+   * @return the number of values removed
+   */
+  public int invalidateAll() {
+    return invalidate(key -> true);
+  }
+
+  /**
+   * Returns the number of cached values, including stale ones.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Returns whether values are cached at all.
+   *
+   * @return {@code false} when the TTL is zero
+   */
+  public boolean isEnabled() {
+    return ttlMillis > 0;
+  }
+
+  private Future<V> load(K key, Supplier<Future<V>> loader) {
+    final Load<V> load = new Load<>();
+    final Load<V> running = loading.putIfAbsent(key, load);
+    if (running != null) {
+      return onCurrentContext(running.promise.future());
+    }
+
+    Future<V> loaded;
+    try {
+      loaded = loader.get();
+    } catch (Exception e) {
+      loaded = Future.failedFuture(e);
+    }
+
+    loaded.onComplete(result -> {
+      if (result.succeeded() && !load.invalidated) {
+        put(key, result.result());
+      }
+      loading.remove(key, load);
+      load.promise.handle(result);
+    });
+    return load.promise.future();
+  }
+
+  private void put(K key, V value) {
+    synchronized (entries) {
+      entries.put(key, new CacheEntry<>(value, clock.millis()));
+    }
+  }
+
+  // completes a load started on another event loop on the context of the caller
+  static <T> Future<T> onCurrentContext(Future<T> future) {
+    final Context context = Vertx.currentContext();
+    if (context == null) {
+      return future;
+    }
+
+    final Promise<T> promise = Promise.promise();
+    future.onComplete(result -> {
+      if (Vertx.currentContext() == context) {
+        promise.handle(result);
+      } else {
+        context.runOnContext(v -> promise.handle(result));
+      }
+    });
+    return promise.future();
+  }
+
+  private record CacheEntry<V>(V value, long loadedAt) {
+  }
+
+  /**
+   * A running load of a key, which is not cached once the key was invalidated while it ran.
+   */
+  private static final class Load<V> {
+    private final Promise<V> promise = Promise.promise();
+    private volatile boolean invalidated;
+  }
+}
@@ -0,0 +1,221 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.ext.web.client.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.folio.edge.sip2.repositories.FolioRequestThrowable;
+
+/**
+ * Circuit breakers and bulkheads of the calls to FOLIO, by tenant and path group, shared by all
+ * verticle instances. The path group is the first segment of the path, e.g. {@code circulation}
+ * or {@code bl-users}, which is roughly the FOLIO module that serves the call.
+ *
+ * <p>A circuit opens after {@code failureThreshold} calls in a row failed or were answered with
+ * a 5xx status. While it is open, calls fail at once without being sent. Once
+ * {@code openDuration} passed, one trial call is let through: the circuit closes if it
+ * succeeds and opens again otherwise. The bulkhead fails calls at once while
+ * {@code maxConcurrentCalls} calls of the same tenant and path group are in flight, so a slow
+ * module cannot take up all connections to FOLIO.
+ */
+public class FolioCircuitBreaker {
+
+  static final String STATE_METRICS_NAME = "org.folio.edge.sip2.folio.circuit.state";
+  static final String REJECTED_METRICS_NAME = "org.folio.edge.sip2.folio.circuit.rejected";
+  static final String UNAVAILABLE_MESSAGE =
+      "FOLIO is temporarily unavailable, please try again later";
+  static final String BUSY_MESSAGE = "FOLIO is busy, please try again later";
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final int maxConcurrentCalls;
+  private final Clock clock;
+  private final MeterRegistry registry;
+  private final Map<CircuitKey, Circuit> circuits = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the circuit breakers.
+   *
+   * @param failureThreshold the number of failures in a row that open a circuit, {@code 0} to
+   *     never open it
+   * @param openDuration how long a circuit stays open before a trial call is let through
+   * @param maxConcurrentCalls the maximum number of calls in flight per tenant and path group,
+   *     {@code 0} for no maximum
+   * @param clock the clock
+   * @param registry the registry of the metrics
+   */
+  public FolioCircuitBreaker(int failureThreshold, Duration openDuration, int maxConcurrentCalls,
+      Clock clock, MeterRegistry registry) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = requireNonNull(openDuration, "openDuration cannot be null");
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.clock = requireNonNull(clock, "clock cannot be null");
+    this.registry = requireNonNull(registry, "registry cannot be null");
+  }
+
+  public boolean isEnabled() {
+    return failureThreshold > 0 || maxConcurrentCalls > 0;
+  }
+
+  /**
+   * Makes a call to FOLIO, unless the circuit of its tenant and path group is open or its
+   * bulkhead is full.
+   *
+   * @param tenant the tenant the call is made for
+   * @param path the path and query of the call
+   * @param call sends the request
+   * @param <T> the response body type
+   * @return the response, or a {@link FolioRequestThrowable} when the call was not sent
+   */
+  public <T> Future<HttpResponse<T>> execute(String tenant, String path,
+      Supplier<Future<HttpResponse<T>>> call) {
+    if (!isEnabled()) {
+      return call.get();
+    }
+
+    final Circuit circuit = getCircuit(tenant, path);
+    final Admission admission = circuit.acquire();
+    if (admission == Admission.OPEN || admission == Admission.BULKHEAD) {
+      registry.counter(REJECTED_METRICS_NAME, "tenant", circuit.key.tenant(),
+          "group", circuit.key.group(),
+          "reason", admission.name().toLowerCase(Locale.ROOT)).increment();
+      return Future.failedFuture(new FolioRequestThrowable(
+          admission == Admission.BULKHEAD ? BUSY_MESSAGE : UNAVAILABLE_MESSAGE));
+    }
+
+    Future<HttpResponse<T>> sent;
+    try {
+      sent = call.get();
+    } catch (Exception e) {
+      sent = Future.failedFuture(e);
+    }
+    return sent.onComplete(result -> circuit.release(admission,
+        result.succeeded() && result.result().statusCode() < 500));
+  }
+
+  /**
+   * Returns whether the circuit of a tenant and path is open, i.e. calls to it fail at once.
+   *
+   * @param tenant the tenant
+   * @param path the path
+   * @return {@code true} if the circuit is open
+   */
+  public boolean isOpen(String tenant, String path) {
+    final Circuit circuit = circuits.get(new CircuitKey(tenant, getPathGroup(path)));
+    return circuit != null && circuit.isOpen();
+  }
+
+  /**
+   * Returns the group of a path, its first segment.
+   *
+   * @param path the path and query
+   * @return the path group
+   */
+  static String getPathGroup(String path) {
+    if (path == null) {
+      return "";
+    }
+    final int start = path.startsWith("/") ? 1 : 0;
+    int end = start;
+    while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+      end++;
+    }
+    return path.substring(start, end);
+  }
+
+  private Circuit getCircuit(String tenant, String path) {
+    return circuits.computeIfAbsent(
+        new CircuitKey(tenant == null ? "" : tenant, getPathGroup(path)), key -> {
+          final Circuit circuit = new Circuit(key);
+          Gauge.builder(STATE_METRICS_NAME, circuit, Circuit::getStateValue)
+              .description("0 when closed, 1 when half-open and 2 when open")
+              .tag("tenant", key.tenant())
+              .tag("group", key.group())
+              .register(registry);
+          return circuit;
+        });
+  }
+
+  private record CircuitKey(String tenant, String group) { }
+
+  // the ordinal is the value of the state gauge
+  private enum State { CLOSED, HALF_OPEN, OPEN }
+
+  private enum Admission { CALL, TRIAL, OPEN, BULKHEAD }
+
+  private final class Circuit {
+    private final CircuitKey key;
+    private State state = State.CLOSED;
+    private int failures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+    private int activeCalls;
+
+    private Circuit(CircuitKey key) {
+      this.key = key;
+    }
+
+    synchronized Admission acquire() {
+      if (maxConcurrentCalls > 0 && activeCalls >= maxConcurrentCalls) {
+        return Admission.BULKHEAD;
+      }
+      if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+        state = State.HALF_OPEN;
+      }
+      if (state == State.OPEN || state == State.HALF_OPEN && trialInFlight) {
+        return Admission.OPEN;
+      }
+      activeCalls++;
+      if (state == State.HALF_OPEN) {
+        trialInFlight = true;
+        return Admission.TRIAL;
+      }
+      return Admission.CALL;
+    }
+
+    synchronized void release(Admission admission, boolean succeeded) {
+      activeCalls--;
+      if (failureThreshold <= 0) {
+        return;
+      }
+      if (admission == Admission.TRIAL) {
+        trialInFlight = false;
+        if (succeeded) {
+          state = State.CLOSED;
+        } else {
+          open();
+        }
+      } else if (state == State.CLOSED) {
+        // calls sent before the circuit opened do not change it anymore
+        if (succeeded) {
+          failures = 0;
+        } else if (++failures >= failureThreshold) {
+          open();
+        }
+      }
+    }
+
+    synchronized boolean isOpen() {
+      return state == State.OPEN && clock.instant().isBefore(openedAt.plus(openDuration));
+    }
+
+    synchronized int getStateValue() {
+      return state.ordinal();
+    }
+
+    private void open() {
+      state = State.OPEN;
+      openedAt = clock.instant();
+      failures = 0;
+    }
+  }
+}
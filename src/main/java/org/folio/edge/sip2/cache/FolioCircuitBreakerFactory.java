@@ -0,0 +1,45 @@
+package org.folio.edge.sip2.cache;
+
+import io.vertx.core.json.JsonObject;
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.edge.sip2.metrics.Metrics;
+
+public class FolioCircuitBreakerFactory {
+
+  public static final int DEFAULT_FAILURE_THRESHOLD = 0;
+  public static final int DEFAULT_OPEN_SECONDS = 30;
+  public static final int DEFAULT_MAX_CONCURRENT_CALLS = 0;
+
+  private FolioCircuitBreakerFactory() { }
+
+  static FolioCircuitBreaker instance;
+
+  /**
+   * Creates the circuit breakers of the calls to FOLIO shared by all verticle instances.
+   *
+   * @param config the {@code failureThreshold}, {@code openSeconds} and
+   *     {@code maxConcurrentCalls}, {@code null} for the defaults, which disable the circuit
+   *     breakers and bulkheads
+   */
+  public static synchronized void initialize(JsonObject config) {
+    final JsonObject options = config == null ? new JsonObject() : config;
+    instance = new FolioCircuitBreaker(
+        options.getInteger("failureThreshold", DEFAULT_FAILURE_THRESHOLD),
+        Duration.ofSeconds(options.getInteger("openSeconds", DEFAULT_OPEN_SECONDS)),
+        options.getInteger("maxConcurrentCalls", DEFAULT_MAX_CONCURRENT_CALLS),
+        Clock.systemUTC(), Metrics.getRegistry());
+  }
+
+  /**
+   * Returns the shared circuit breakers, created disabled when they were not initialized.
+   *
+   * @return the circuit breakers
+   */
+  public static synchronized FolioCircuitBreaker get() {
+    if (instance == null) {
+      initialize(null);
+    }
+    return instance;
+  }
+}
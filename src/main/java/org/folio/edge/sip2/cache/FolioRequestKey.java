@@ -0,0 +1,26 @@
+package org.folio.edge.sip2.cache;
+
+import java.util.Map;
+import org.folio.edge.sip2.utils.JsonFieldExtractor;
+
+/**
+ * Identifies a GET request to FOLIO. Requests are only identical when they are made for the
+ * same tenant, with the same access token and headers, so a response is never shared with a
+ * login that might not be permitted to see it.
+ *
+ * @param tenant the tenant id
+ * @param path the path and query of the request
+ * @param headers the headers of the request data
+ * @param accessToken the access token the request is made with
+ * @param responseFields the fields of the response that are decoded, {@code null} for all
+ */
+public record FolioRequestKey(String tenant, String path, Map<String, String> headers,
+    String accessToken, JsonFieldExtractor responseFields) {
+
+  @Override
+  public String toString() {
+    // the access token is left out so that it is never logged
+    return "FolioRequestKey[tenant=" + tenant + ", path=" + path + ", headers=" + headers
+        + ", responseFields=" + responseFields + "]";
+  }
+}
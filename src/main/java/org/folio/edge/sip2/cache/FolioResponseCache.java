@@ -0,0 +1,204 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.folio.edge.sip2.repositories.FolioResource;
+import org.folio.edge.sip2.utils.Sip2LogAdapter;
+
+/**
+ * FOLIO GET responses of reference data that rarely changes, such as the locale, fee/fine types,
+ * holdings and instances, shared by all verticle instances.
+ *
+ * <p>Only paths that match a TTL rule are cached, each for the TTL of the first rule it
+ * matches. Circulation paths are never cached. Responses are kept per tenant and SC login, so a
+ * login never gets a response that was loaded with the permissions of another login. Each
+ * tenant keeps at most {@code capacity} responses, the least recently used one is evicted
+ * first. Every caller gets its own copy of a cached response.
+ */
+public class FolioResponseCache {
+  private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(FolioResponseCache.class);
+  private static final String METRICS_NAME = "org.folio.edge.sip2.folio.response.cache";
+  private static final String CIRCULATION_PATH = "/circulation/";
+
+  private final List<TtlRule> rules;
+  private final int capacity;
+  private final Clock clock;
+  private final Map<String, Map<ResponseKey, CachedResponse>> tenants =
+      new ConcurrentHashMap<>();
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  /**
+   * Creates a response cache.
+   *
+   * @param rules the TTLs of the cached paths, the first matching rule is used
+   * @param capacity the maximum number of responses kept per tenant
+   * @param clock the clock the age of the responses is measured with
+   * @param registry the registry of the cache metrics
+   */
+  public FolioResponseCache(List<TtlRule> rules, int capacity, Clock clock,
+      MeterRegistry registry) {
+    this.rules = rules.stream()
+        .filter(rule -> rule.ttl().compareTo(Duration.ZERO) > 0)
+        .toList();
+    this.capacity = Math.max(1, capacity);
+    this.clock = requireNonNull(clock, "clock cannot be null");
+    hitCounter = Counter.builder(METRICS_NAME).tag("result", "hit").register(registry);
+    missCounter = Counter.builder(METRICS_NAME).tag("result", "miss").register(registry);
+  }
+
+  /**
+   * Returns how long the response of a path is cached.
+   *
+   * @param path the path and query of the GET request
+   * @return the TTL, or {@code null} when the response is not cached
+   */
+  public Duration getTtl(String path) {
+    if (path == null || path.startsWith(CIRCULATION_PATH)) {
+      return null;
+    }
+    for (TtlRule rule : rules) {
+      if (rule.pattern().matcher(path).matches()) {
+        return rule.ttl();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a copy of the cached response of a request.
+   *
+   * @param tenant the tenant
+   * @param username the username of the SC login
+   * @param path the path and query of the request
+   * @param headers the headers of the request data
+   * @return the response, or {@code null} when it is missing or expired
+   */
+  public FolioResource get(String tenant, String username, String path,
+      Map<String, String> headers) {
+    final Map<ResponseKey, CachedResponse> responses = tenants.get(tenant);
+    FolioResource resource = null;
+    if (responses != null) {
+      final ResponseKey key = new ResponseKey(username, path, headers);
+      synchronized (responses) {
+        final CachedResponse cached = responses.get(key);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+          resource = cached.resource();
+        } else if (cached != null) {
+          responses.remove(key);
+        }
+      }
+    }
+
+    if (resource == null) {
+      missCounter.increment();
+      return null;
+    }
+    hitCounter.increment();
+    // the cached response is never handed out, so it can be copied outside the lock
+    return resource.copy();
+  }
+
+  /**
+   * Caches a copy of the response of a request.
+   *
+   * @param tenant the tenant
+   * @param username the username of the SC login
+   * @param path the path and query of the request
+   * @param headers the headers of the request data
+   * @param resource the response
+   * @param ttl how long the response is cached
+   */
+  public void put(String tenant, String username, String path, Map<String, String> headers,
+      FolioResource resource, Duration ttl) {
+    final Map<ResponseKey, CachedResponse> responses =
+        tenants.computeIfAbsent(tenant, t -> newTenantCache());
+    final CachedResponse cached =
+        new CachedResponse(resource.copy(), clock.millis() + ttl.toMillis());
+    synchronized (responses) {
+      responses.put(new ResponseKey(username, path, headers), cached);
+    }
+  }
+
+  /**
+   * Removes the cached responses of a tenant.
+   *
+   * @param tenant the tenant, or {@code null} for all tenants
+   * @return the number of responses removed
+   */
+  public int invalidate(String tenant) {
+    int removed = 0;
+    for (Map.Entry<String, Map<ResponseKey, CachedResponse>> entry : tenants.entrySet()) {
+      if (tenant == null || tenant.equals(entry.getKey())) {
+        synchronized (entry.getValue()) {
+          removed += entry.getValue().size();
+          entry.getValue().clear();
+        }
+      }
+    }
+    log.info("Invalidated {} FOLIO responses", removed);
+    return removed;
+  }
+
+  /**
+   * Returns the number of cached responses, including expired ones.
+   *
+   * @return the number of responses
+   */
+  public int size() {
+    int size = 0;
+    for (Map<ResponseKey, CachedResponse> responses : tenants.values()) {
+      synchronized (responses) {
+        size += responses.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns whether any response is cached.
+   *
+   * @return {@code false} when there is no rule with a TTL
+   */
+  public boolean isEnabled() {
+    return !rules.isEmpty();
+  }
+
+  private Map<ResponseKey, CachedResponse> newTenantCache() {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ResponseKey, CachedResponse> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * The TTL of the responses of the paths that match a regular expression.
+   *
+   * @param pattern matches the whole path and query
+   * @param ttl how long the responses are cached, zero to not cache them
+   */
+  public record TtlRule(Pattern pattern, Duration ttl) {
+
+    public TtlRule {
+      requireNonNull(pattern, "pattern cannot be null");
+      requireNonNull(ttl, "ttl cannot be null");
+    }
+  }
+
+  private record ResponseKey(String username, String path, Map<String, String> headers) {
+  }
+
+  private record CachedResponse(FolioResource resource, long expiresAt) {
+  }
+}
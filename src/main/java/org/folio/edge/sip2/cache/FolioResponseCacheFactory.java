@@ -0,0 +1,58 @@
+package org.folio.edge.sip2.cache;
+
+import io.vertx.core.json.JsonObject;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.folio.edge.sip2.cache.FolioResponseCache.TtlRule;
+import org.folio.edge.sip2.metrics.Metrics;
+
+public class FolioResponseCacheFactory {
+
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  /**
+   * The default TTLs in seconds, by regular expression matching the whole path and query.
+   */
+  private static final JsonObject DEFAULT_TTLS = new JsonObject()
+      .put("/locale", 300)
+      .put("/feefines\\?.*", 300)
+      .put("/holdings-storage/holdings/[^/?]+", 60)
+      .put("/inventory/instances/[^/?]+", 60);
+
+  private FolioResponseCacheFactory() { }
+
+  static FolioResponseCache instance;
+
+  /**
+   * Creates the FOLIO response cache shared by all verticle instances.
+   *
+   * @param ttls the TTLs in seconds by path pattern, {@code null} for the defaults
+   * @param capacity the maximum number of responses kept per tenant
+   */
+  public static synchronized void initialize(JsonObject ttls, int capacity) {
+    final List<TtlRule> rules = new ArrayList<>();
+    for (Map.Entry<String, Object> ttl : (ttls == null ? DEFAULT_TTLS : ttls)) {
+      rules.add(new TtlRule(Pattern.compile(ttl.getKey()),
+          Duration.ofSeconds(((Number) ttl.getValue()).longValue())));
+    }
+    instance = new FolioResponseCache(rules, capacity, Clock.systemUTC(),
+        Metrics.getRegistry());
+  }
+
+  /**
+   * Returns the shared FOLIO response cache, created with the defaults when it was not
+   * initialized.
+   *
+   * @return the cache
+   */
+  public static synchronized FolioResponseCache get() {
+    if (instance == null) {
+      initialize(null, DEFAULT_CAPACITY);
+    }
+    return instance;
+  }
+}
@@ -0,0 +1,206 @@
+package org.folio.edge.sip2.cache;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.folio.edge.sip2.domain.integration.login.FolioLoginResponse;
+
+/**
+ * Access tokens of the SC login accounts, shared by all connections that log in with the same
+ * account. Many kiosks of a branch usually share one SIP2 login, so reconnecting kiosks reuse
+ * the token of the account instead of each logging in again.
+ *
+ * <p>Tokens are kept by tenant, username and a keyed digest of the password, so a kiosk only
+ * gets a token when it logs in with the password the token was issued for. Only one login or
+ * refresh per account runs at a time, the other connections wait for its token.
+ */
+public class KioskTokenPool {
+  private static final String METRICS_NAME = "org.folio.edge.sip2.token.pool";
+  private static final String REFRESH_METRICS_NAME = "org.folio.edge.sip2.token.refresh";
+
+  private final Duration expiryMargin;
+  private final Clock clock;
+  private final Map<TokenKey, FolioLoginResponse> tokens;
+  private final Map<TokenKey, Future<FolioLoginResponse>> loading = new ConcurrentHashMap<>();
+  // access tokens with a scheduled refresh, and whether a connection used them since
+  private final Map<String, Boolean> scheduledRefreshes = new ConcurrentHashMap<>();
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter loadCounter;
+  private final Counter requestRefreshCounter;
+  private final Counter backgroundRefreshCounter;
+
+  /**
+   * Creates a token pool.
+   *
+   * @param capacity the maximum number of accounts whose tokens are kept
+   * @param expiryMargin how long before it expires a token is no longer handed out
+   * @param clock the clock token expiration is checked with
+   * @param registry the registry of the pool metrics
+   */
+  public KioskTokenPool(int capacity, Duration expiryMargin, Clock clock,
+      MeterRegistry registry) {
+    this.expiryMargin = requireNonNull(expiryMargin, "expiryMargin cannot be null");
+    this.clock = requireNonNull(clock, "clock cannot be null");
+    final int maxSize = Math.max(1, capacity);
+    this.tokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<TokenKey, FolioLoginResponse> eldest) {
+        return size() > maxSize;
+      }
+    });
+    hitCounter = Counter.builder(METRICS_NAME).tag("result", "hit").register(registry);
+    missCounter = Counter.builder(METRICS_NAME).tag("result", "miss").register(registry);
+    loadCounter = Counter.builder(METRICS_NAME + ".loads").register(registry);
+    requestRefreshCounter = Counter.builder(REFRESH_METRICS_NAME)
+        .tag("path", "request").register(registry);
+    backgroundRefreshCounter = Counter.builder(REFRESH_METRICS_NAME)
+        .tag("path", "background").register(registry);
+  }
+
+  /**
+   * Returns the token of the account if it does not expire soon.
+   *
+   * @param tenant the tenant
+   * @param username the username of the SC login
+   * @param password the password of the SC login
+   * @return the token, or {@code null} when there is no usable token
+   */
+  public FolioLoginResponse get(String tenant, String username, String password) {
+    final FolioLoginResponse token = tokens.get(TokenKey.of(tenant, username, password));
+    if (token != null && isUsable(token)) {
+      hitCounter.increment();
+      return token;
+    }
+    missCounter.increment();
+    return null;
+  }
+
+  /**
+   * Returns the current token of the account, without checking its expiration.
+   *
+   * @param tenant the tenant
+   * @param username the username of the SC login
+   * @param password the password of the SC login
+   * @return the token, or {@code null}
+   */
+  public FolioLoginResponse peek(String tenant, String username, String password) {
+    return tokens.get(TokenKey.of(tenant, username, password));
+  }
+
+  /**
+   * Registers a background refresh of a token.
+   *
+   * @param token the token
+   * @return {@code false} if a refresh of the token is already scheduled
+   */
+  public boolean scheduleRefresh(FolioLoginResponse token) {
+    return scheduledRefreshes.putIfAbsent(token.getAccessToken(), FALSE) == null;
+  }
+
+  /**
+   * Records that a connection used a token, so that its scheduled refresh is done.
+   *
+   * @param token the token
+   */
+  public void markUsed(FolioLoginResponse token) {
+    scheduledRefreshes.computeIfPresent(token.getAccessToken(), (accessToken, used) -> TRUE);
+  }
+
+  /**
+   * Removes the scheduled refresh of a token.
+   *
+   * @param token the token
+   * @return {@code true} if a connection used the token since the refresh was scheduled
+   */
+  public boolean takeScheduledRefresh(FolioLoginResponse token) {
+    return TRUE.equals(scheduledRefreshes.remove(token.getAccessToken()));
+  }
+
+  /**
+   * Counts a token refresh, done either while a request waits for it or in the background.
+   *
+   * @param background whether the refresh was done in the background
+   */
+  public void recordRefresh(boolean background) {
+    (background ? backgroundRefreshCounter : requestRefreshCounter).increment();
+  }
+
+  /**
+   * Gets a new token for the account. When a login or refresh of the account is already
+   * running its token is returned instead of starting another one.
+   *
+   * @param tenant the tenant
+   * @param username the username of the SC login
+   * @param password the password of the SC login
+   * @param loader logs in or refreshes the token
+   * @return the new token
+   */
+  public Future<FolioLoginResponse> load(String tenant, String username, String password,
+      Supplier<Future<FolioLoginResponse>> loader) {
+    final TokenKey key = TokenKey.of(tenant, username, password);
+    final Promise<FolioLoginResponse> promise = Promise.promise();
+    final Future<FolioLoginResponse> running = loading.putIfAbsent(key, promise.future());
+    if (running != null) {
+      return AsyncLoadingCache.onCurrentContext(running);
+    }
+
+    loadCounter.increment();
+    Future<FolioLoginResponse> loaded;
+    try {
+      loaded = loader.get();
+    } catch (Exception e) {
+      loaded = Future.failedFuture(e);
+    }
+
+    loaded.onComplete(result -> {
+      if (result.succeeded() && result.result() != null) {
+        tokens.put(key, result.result());
+      }
+      loading.remove(key, promise.future());
+      promise.handle(result);
+    });
+    return promise.future();
+  }
+
+  /**
+   * Returns the number of accounts with a token.
+   *
+   * @return the number of tokens
+   */
+  public int size() {
+    return tokens.size();
+  }
+
+  private boolean isUsable(FolioLoginResponse token) {
+    final OffsetDateTime expiration = token.getAccessTokenExpiration();
+    return expiration != null
+        && OffsetDateTime.now(clock).isBefore(expiration.minus(expiryMargin));
+  }
+
+  private record TokenKey(String tenant, String username, String passwordHash) {
+
+    static TokenKey of(String tenant, String username, String password) {
+      return new TokenKey(tenant, username, hash(password));
+    }
+
+    private static String hash(String password) {
+      final byte[] digest = SecretDigests.digest(password);
+      return digest == null ? null : HexFormat.of().formatHex(digest);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Remembers for a short time that a patron was verified with a password or PIN, so that the
+ * following commands that carry the same credentials, e.g. the Checkouts after Patron
+ * Information, are verified without another FOLIO login or PIN check. It is shared by all
+ * connections, so a kiosk that connects again for every patron benefits too.
+ *
+ * <p>Entries are kept by tenant, patron identifier and kind of check. The password or PIN itself
+ * is never kept, only its {@link SecretDigests keyed digest}. An entry is removed as soon as a
+ * verification of the patron fails, and at most {@code capacity} entries are kept, the least
+ * recently used one is evicted first.
+ */
+public class PatronVerificationCache {
+
+  private static final String METRICS_NAME = "org.folio.edge.sip2.patron.verification.cache";
+
+  private final boolean enabled;
+  private final long ttlMillis;
+  private final int capacity;
+  private final Clock clock;
+  private final Map<VerificationKey, Verification> verifications;
+  private final Map<Check, Counter> hitCounters = new EnumMap<>(Check.class);
+  private final Map<Check, Counter> missCounters = new EnumMap<>(Check.class);
+
+  /**
+   * The kind of verification of a patron.
+   */
+  public enum Check {
+    LOGIN, PIN
+  }
+
+  /**
+   * Creates a patron verification cache.
+   *
+   * @param enabled whether verifications are cached, otherwise every one is sent to FOLIO
+   * @param ttl how long a verification is reused
+   * @param capacity the maximum number of cached verifications
+   * @param clock the clock the age of the verifications is measured with
+   * @param registry the registry of the cache metrics
+   */
+  public PatronVerificationCache(boolean enabled, Duration ttl, int capacity, Clock clock,
+      MeterRegistry registry) {
+    this.enabled = enabled && ttl.compareTo(Duration.ZERO) > 0;
+    this.ttlMillis = ttl.toMillis();
+    this.capacity = Math.max(1, capacity);
+    this.clock = requireNonNull(clock, "clock cannot be null");
+    this.verifications = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<VerificationKey, Verification> eldest) {
+        return size() > PatronVerificationCache.this.capacity;
+      }
+    };
+    for (Check check : Check.values()) {
+      final String tag = check.name().toLowerCase(Locale.ROOT);
+      hitCounters.put(check, Counter.builder(METRICS_NAME)
+          .tag("check", tag).tag("result", "hit").register(registry));
+      missCounters.put(check, Counter.builder(METRICS_NAME)
+          .tag("check", tag).tag("result", "miss").register(registry));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns whether the patron was verified with the same password or PIN within the TTL. A hit
+   * is a verification that is not sent to FOLIO.
+   *
+   * @param tenant the tenant
+   * @param patronIdentifier the patron identifier
+   * @param check the kind of verification
+   * @param secret the password or PIN
+   * @return {@code true} when the verification can be reused
+   */
+  public boolean isVerified(String tenant, String patronIdentifier, Check check,
+      String secret) {
+    if (!enabled || StringUtils.isBlank(secret)) {
+      return false;
+    }
+
+    final VerificationKey key = new VerificationKey(tenant, patronIdentifier, check);
+    final Verification verification;
+    synchronized (verifications) {
+      verification = verifications.get(key);
+      if (verification != null && verification.expiresAt() <= clock.millis()) {
+        verifications.remove(key);
+      }
+    }
+
+    final boolean verified = verification != null
+        && verification.expiresAt() > clock.millis()
+        && MessageDigest.isEqual(verification.digest(), SecretDigests.digest(secret));
+    (verified ? hitCounters : missCounters).get(check).increment();
+    return verified;
+  }
+
+  /**
+   * Remembers that FOLIO verified the patron with a password or PIN.
+   *
+   * @param tenant the tenant
+   * @param patronIdentifier the patron identifier
+   * @param check the kind of verification
+   * @param secret the password or PIN
+   */
+  public void put(String tenant, String patronIdentifier, Check check, String secret) {
+    if (!enabled || StringUtils.isBlank(secret)) {
+      return;
+    }
+
+    final Verification verification =
+        new Verification(SecretDigests.digest(secret), clock.millis() + ttlMillis);
+    synchronized (verifications) {
+      verifications.put(new VerificationKey(tenant, patronIdentifier, check), verification);
+    }
+  }
+
+  /**
+   * Forgets the verification of a patron, e.g. once FOLIO rejected the password or PIN.
+   *
+   * @param tenant the tenant
+   * @param patronIdentifier the patron identifier
+   * @param check the kind of verification
+   */
+  public void evict(String tenant, String patronIdentifier, Check check) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (verifications) {
+      verifications.remove(new VerificationKey(tenant, patronIdentifier, check));
+    }
+  }
+
+  /**
+   * Returns the number of cached verifications, including expired ones.
+   *
+   * @return the number of verifications
+   */
+  public int size() {
+    synchronized (verifications) {
+      return verifications.size();
+    }
+  }
+
+  private record VerificationKey(String tenant, String patronIdentifier, Check check) {
+  }
+
+  private record Verification(byte[] digest, long expiresAt) {
+  }
+}
@@ -0,0 +1,46 @@
+package org.folio.edge.sip2.cache;
+
+import io.vertx.core.json.JsonObject;
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.edge.sip2.metrics.Metrics;
+
+public class PatronVerificationCacheFactory {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final int DEFAULT_TTL_SECONDS = 60;
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  private PatronVerificationCacheFactory() { }
+
+  static PatronVerificationCache instance;
+
+  /**
+   * Creates the patron verification cache shared by all verticle instances.
+   *
+   * @param config {@code enabled}, {@code ttlSeconds} and {@code capacity}, {@code null} for
+   *     the defaults, which disable the cache
+   */
+  public static synchronized void initialize(JsonObject config) {
+    final JsonObject options = config == null ? new JsonObject() : config;
+    instance = new PatronVerificationCache(
+        options.getBoolean("enabled", DEFAULT_ENABLED),
+        Duration.ofSeconds(options.getInteger("ttlSeconds", DEFAULT_TTL_SECONDS)),
+        options.getInteger("capacity", DEFAULT_CAPACITY),
+        Clock.systemUTC(),
+        Metrics.getRegistry());
+  }
+
+  /**
+   * Returns the shared patron verification cache, created disabled when it was not
+   * initialized.
+   *
+   * @return the cache
+   */
+  public static synchronized PatronVerificationCache get() {
+    if (instance == null) {
+      initialize(null);
+    }
+    return instance;
+  }
+}
@@ -0,0 +1,109 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares one in-flight request between all callers that make an identical request at the same
+ * time, across all verticle instances. Nothing is kept once the request completes, so a caller
+ * that comes later sends its own request.
+ *
+ * <p>The caller that starts the request gets its result as is. The callers that join it get a
+ * copy, taken before the result is handed to anyone, and are completed on their own Vert.x
+ * context. A failed request fails all of its callers.
+ *
+ * @param <K> the request key type
+ * @param <V> the result type
+ */
+public class RequestCoalescer<K, V> {
+
+  private final boolean enabled;
+  private final UnaryOperator<V> copier;
+  private final Map<K, Future<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter sentCounter;
+  private final Counter coalescedCounter;
+
+  /**
+   * Creates a request coalescer.
+   *
+   * @param metricsName the name of the counter of sent and coalesced requests
+   * @param enabled whether requests are shared, otherwise every caller sends its own
+   * @param copier copies a result for a caller that joined a request
+   * @param registry the registry of the metrics
+   */
+  public RequestCoalescer(String metricsName, boolean enabled, UnaryOperator<V> copier,
+      MeterRegistry registry) {
+    requireNonNull(metricsName, "metricsName cannot be null");
+    this.enabled = enabled;
+    this.copier = requireNonNull(copier, "copier cannot be null");
+    sentCounter = Counter.builder(metricsName).tag("result", "sent").register(registry);
+    coalescedCounter = Counter.builder(metricsName).tag("result", "coalesced")
+        .register(registry);
+  }
+
+  /**
+   * Sends a request, or joins the identical request that is already in flight.
+   *
+   * @param key identifies the request
+   * @param sender sends the request
+   * @return the result of the request
+   */
+  public Future<V> execute(K key, Supplier<Future<V>> sender) {
+    if (!enabled) {
+      return sender.get();
+    }
+
+    final Promise<V> shared = Promise.promise();
+    final Future<V> running = inFlight.putIfAbsent(key, shared.future());
+    if (running != null) {
+      coalescedCounter.increment();
+      return AsyncLoadingCache.onCurrentContext(running.map(this::copy));
+    }
+
+    sentCounter.increment();
+    Future<V> sent;
+    try {
+      sent = sender.get();
+    } catch (Exception e) {
+      sent = Future.failedFuture(e);
+    }
+
+    // registered before the caller's handlers, so the joiners copy the result before the
+    // caller can change it
+    sent.onComplete(result -> {
+      inFlight.remove(key, shared.future());
+      shared.handle(result);
+    });
+    return sent;
+  }
+
+  /**
+   * Returns whether identical requests are shared.
+   *
+   * @return {@code false} when every caller sends its own request
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the number of requests in flight.
+   *
+   * @return the number of requests
+   */
+  public int size() {
+    return inFlight.size();
+  }
+
+  private V copy(V value) {
+    return value == null ? null : copier.apply(value);
+  }
+}
@@ -0,0 +1,38 @@
+package org.folio.edge.sip2.cache;
+
+import org.folio.edge.sip2.metrics.Metrics;
+import org.folio.edge.sip2.repositories.FolioResource;
+
+public class RequestCoalescerFactory {
+
+  public static final boolean DEFAULT_ENABLED = false;
+
+  private static final String METRICS_NAME = "org.folio.edge.sip2.folio.get.coalescing";
+
+  private RequestCoalescerFactory() { }
+
+  static RequestCoalescer<FolioRequestKey, FolioResource> instance;
+
+  /**
+   * Creates the coalescer of FOLIO GET requests shared by all verticle instances.
+   *
+   * @param enabled whether identical GET requests in flight are shared
+   */
+  public static synchronized void initialize(boolean enabled) {
+    instance = new RequestCoalescer<>(METRICS_NAME, enabled, FolioResource::copy,
+        Metrics.getRegistry());
+  }
+
+  /**
+   * Returns the shared coalescer of FOLIO GET requests, created disabled when it was not
+   * initialized.
+   *
+   * @return the coalescer
+   */
+  public static synchronized RequestCoalescer<FolioRequestKey, FolioResource> get() {
+    if (instance == null) {
+      initialize(DEFAULT_ENABLED);
+    }
+    return instance;
+  }
+}
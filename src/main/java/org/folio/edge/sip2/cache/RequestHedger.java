@@ -0,0 +1,209 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second, identical request when the first one is slower than a percentile of the
+ * recent latencies of the same kind of request, and uses whichever response comes first. Only
+ * idempotent requests must be hedged.
+ *
+ * <p>Latencies are kept per key, e.g. the path template, over the last
+ * {@value #WINDOW_SIZE} requests, and nothing is hedged until {@value #MIN_SAMPLES} of them
+ * were seen. The extra load is capped by a budget: every request earns {@code budgetRatio} of
+ * a hedge, and a hedge is only sent while a whole one was earned. A request is not hedged when
+ * it is not made on a Vert.x context, as there is no timer to send the hedge with.
+ */
+public class RequestHedger {
+
+  static final int WINDOW_SIZE = 100;
+  static final int MIN_SAMPLES = 20;
+  static final int MAX_KEYS = 200;
+  // at most this many hedges are saved up while there is little to hedge
+  private static final double MAX_BUDGET = 10;
+
+  private final boolean enabled;
+  private final double percentile;
+  private final long minDelayNanos;
+  private final double budgetRatio;
+  private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+  private final Counter hedgedCounter;
+  private final Counter wonCounter;
+  private final Counter budgetCounter;
+  private double budget;
+
+  /**
+   * Creates a request hedger.
+   *
+   * @param metricsName the name of the counter of hedged requests
+   * @param enabled whether requests are hedged, otherwise they are sent once
+   * @param percentile the percentile of the recent latencies after which a hedge is sent,
+   *     e.g. {@code 95}
+   * @param minDelay the least time to wait before a hedge is sent
+   * @param budgetRatio the maximum ratio of hedges to requests, e.g. {@code 0.05}
+   * @param registry the registry of the metrics
+   */
+  public RequestHedger(String metricsName, boolean enabled, double percentile,
+      Duration minDelay, double budgetRatio, MeterRegistry registry) {
+    requireNonNull(metricsName, "metricsName cannot be null");
+    this.enabled = enabled;
+    this.percentile = Math.clamp(percentile, 0, 100);
+    this.minDelayNanos = requireNonNull(minDelay, "minDelay cannot be null").toNanos();
+    this.budgetRatio = Math.max(0, budgetRatio);
+    hedgedCounter = Counter.builder(metricsName).tag("result", "hedged").register(registry);
+    wonCounter = Counter.builder(metricsName).tag("result", "won").register(registry);
+    budgetCounter = Counter.builder(metricsName).tag("result", "overBudget").register(registry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sends a request, and a hedge when the request is slow.
+   *
+   * @param key the kind of request, whose recent latencies decide when to hedge
+   * @param sender sends the request, it is called a second time for the hedge
+   * @param <T> the result type
+   * @return the first result, or the failure of the last request to fail
+   */
+  public <T> Future<T> execute(String key, Supplier<Future<T>> sender) {
+    if (!enabled) {
+      return sender.get();
+    }
+
+    final LatencyWindow window = getWindow(key);
+    final Long delay = window == null ? null : window.getHedgeDelay();
+    earnBudget();
+
+    final Context context = Vertx.currentContext();
+    final Attempts<T> attempts = new Attempts<>(window);
+    attempts.send(sender);
+    if (delay == null || context == null || attempts.result.future().isComplete()) {
+      return attempts.result.future();
+    }
+
+    final long timerId = context.owner().setTimer(
+        Math.max(1, TimeUnit.NANOSECONDS.toMillis(delay)), id -> {
+          if (attempts.result.future().isComplete()) {
+            return;
+          }
+          if (!spendBudget()) {
+            budgetCounter.increment();
+            return;
+          }
+          hedgedCounter.increment();
+          attempts.hedged = true;
+          attempts.send(sender);
+        });
+    return attempts.result.future().onComplete(result -> context.owner().cancelTimer(timerId));
+  }
+
+  /**
+   * Returns the time after which a request of a kind is hedged.
+   *
+   * @param key the kind of request
+   * @return the delay, or {@code null} while too few latencies were seen
+   */
+  Duration getHedgeDelay(String key) {
+    final LatencyWindow window = windows.get(key);
+    final Long delay = window == null ? null : window.getHedgeDelay();
+    return delay == null ? null : Duration.ofNanos(delay);
+  }
+
+  private LatencyWindow getWindow(String key) {
+    final LatencyWindow window = windows.get(key);
+    if (window != null || windows.size() >= MAX_KEYS) {
+      return window;
+    }
+    return windows.computeIfAbsent(key, k -> new LatencyWindow());
+  }
+
+  private synchronized void earnBudget() {
+    budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+  }
+
+  private synchronized boolean spendBudget() {
+    if (budget < 1) {
+      return false;
+    }
+    budget--;
+    return true;
+  }
+
+  /**
+   * The request and its hedge, the first result completes the shared result.
+   */
+  private final class Attempts<T> {
+    private final LatencyWindow window;
+    private final Promise<T> result = Promise.promise();
+    private int pending;
+    private boolean hedged;
+
+    private Attempts(LatencyWindow window) {
+      this.window = window;
+    }
+
+    private void send(Supplier<Future<T>> sender) {
+      final boolean hedge = hedged;
+      final long start = System.nanoTime();
+      pending++;
+      Future<T> sent;
+      try {
+        sent = sender.get();
+      } catch (Exception e) {
+        sent = Future.failedFuture(e);
+      }
+      sent.onComplete(attempt -> {
+        pending--;
+        if (attempt.succeeded()) {
+          if (window != null) {
+            window.record(System.nanoTime() - start);
+          }
+          if (result.tryComplete(attempt.result()) && hedge) {
+            wonCounter.increment();
+          }
+        } else if (pending == 0) {
+          result.tryFail(attempt.cause());
+        }
+      });
+    }
+  }
+
+  /**
+   * The latest latencies of a kind of request.
+   */
+  private final class LatencyWindow {
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int count;
+    private Long hedgeDelay;
+
+    synchronized void record(long latencyNanos) {
+      latencies[count % WINDOW_SIZE] = latencyNanos;
+      count++;
+      // sorting is cheap for the window size, but not needed on every request
+      if (count >= MIN_SAMPLES && (hedgeDelay == null || count % 10 == 0)) {
+        final long[] sorted = Arrays.copyOf(latencies, Math.min(count, WINDOW_SIZE));
+        Arrays.sort(sorted);
+        final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        hedgeDelay = Math.max(minDelayNanos, sorted[Math.clamp(index, 0, sorted.length - 1)]);
+      }
+    }
+
+    synchronized Long getHedgeDelay() {
+      return hedgeDelay;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.edge.sip2.cache;
+
+import io.vertx.core.json.JsonObject;
+import java.time.Duration;
+import org.folio.edge.sip2.metrics.Metrics;
+
+public class RequestHedgerFactory {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final double DEFAULT_PERCENTILE = 95;
+  public static final long DEFAULT_MIN_DELAY_MILLIS = 50;
+  public static final double DEFAULT_BUDGET_PERCENT = 5;
+
+  private static final String METRICS_NAME = "org.folio.edge.sip2.folio.get.hedging";
+
+  private RequestHedgerFactory() { }
+
+  static RequestHedger instance;
+
+  /**
+   * Creates the hedger of FOLIO GET requests shared by all verticle instances.
+   *
+   * @param config {@code enabled}, {@code percentile}, {@code minDelayMillis} and
+   *     {@code budgetPercent}, {@code null} for the defaults, which disable hedging
+   */
+  public static synchronized void initialize(JsonObject config) {
+    final JsonObject options = config == null ? new JsonObject() : config;
+    instance = new RequestHedger(METRICS_NAME,
+        options.getBoolean("enabled", DEFAULT_ENABLED),
+        options.getDouble("percentile", DEFAULT_PERCENTILE),
+        Duration.ofMillis(options.getLong("minDelayMillis", DEFAULT_MIN_DELAY_MILLIS)),
+        options.getDouble("budgetPercent", DEFAULT_BUDGET_PERCENT) / 100,
+        Metrics.getRegistry());
+  }
+
+  /**
+   * Returns the shared hedger of FOLIO GET requests, created disabled when it was not
+   * initialized.
+   *
+   * @return the hedger
+   */
+  public static synchronized RequestHedger get() {
+    if (instance == null) {
+      initialize(null);
+    }
+    return instance;
+  }
+}
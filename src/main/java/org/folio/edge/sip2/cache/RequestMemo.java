@@ -0,0 +1,100 @@
+package org.folio.edge.sip2.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.vertx.core.Future;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Remembers the results of the requests made while one SIP2 command is executed, so that an
+ * identical request made again for the same command is answered without sending it. A memo
+ * belongs to one command of one connection and is dropped with it, so nothing is shared between
+ * connections or kept after the command was answered.
+ *
+ * <p>The caller that sent a request gets its result as it is, without a copy, and must not
+ * change it; only a caller that repeats the request gets its own copy, so requests that are
+ * never repeated cost nothing. A failed request is forgotten, so it is sent again when it is
+ * repeated.
+ *
+ * @param <K> the request key type
+ * @param <V> the result type
+ */
+public class RequestMemo<K, V> {
+
+  private final UnaryOperator<V> copier;
+  private final Map<K, Future<V>> results = new HashMap<>();
+  private int saved;
+
+  /**
+   * Creates a request memo.
+   *
+   * @param copier copies a result for a caller of a remembered request
+   */
+  public RequestMemo(UnaryOperator<V> copier) {
+    this.copier = requireNonNull(copier, "copier cannot be null");
+  }
+
+  /**
+   * Returns the result of an identical request made before.
+   *
+   * @param key identifies the request
+   * @return a copy of the result, which may still be in flight, or {@code null} when no
+   *     identical request was made
+   */
+  public synchronized Future<V> get(K key) {
+    final Future<V> result = results.get(key);
+    if (result == null) {
+      return null;
+    }
+    saved++;
+    return result.map(this::copy);
+  }
+
+  /**
+   * Remembers the result of a request.
+   *
+   * @param key identifies the request
+   * @param sent the result of the request, which the caller must not change
+   * @return the result of the request
+   */
+  public synchronized Future<V> put(K key, Future<V> sent) {
+    results.put(key, sent);
+    sent.onFailure(e -> remove(key, sent));
+    return sent;
+  }
+
+  /**
+   * Forgets all results, e.g. once the command changed data in FOLIO.
+   */
+  public synchronized void clear() {
+    results.clear();
+  }
+
+  /**
+   * Returns the number of requests that were answered from this memo.
+   *
+   * @return the number of requests that were not sent
+   */
+  public synchronized int getSaved() {
+    return saved;
+  }
+
+  /**
+   * Returns the number of remembered results.
+   *
+   * @return the number of results
+   */
+  public synchronized int size() {
+    return results.size();
+  }
+
+  private synchronized void remove(K key, Future<V> result) {
+    results.remove(key, result);
+  }
+
+  private V copy(V value) {
+    return value == null ? null : copier.apply(value);
+  }
+}
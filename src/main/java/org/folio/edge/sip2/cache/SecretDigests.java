@@ -0,0 +1,54 @@
+package org.folio.edge.sip2.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Keyed digests of the passwords and PINs the caches and sessions recognize again. The digest is an HMAC with
+ * a random key that only exists in the memory of this process, so a digest that leaks, e.g. in
+ * a heap dump, can neither be looked up in a table of hashed passwords nor be computed for a
+ * guessed password elsewhere. It is fast enough to be computed on the event loop.
+ */
+public final class SecretDigests {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int KEY_LENGTH = 32;
+  private static final SecretKeySpec KEY = newKey();
+  // a Mac is not thread safe, every thread initializes its own one once
+  private static final ThreadLocal<Mac> MACS = ThreadLocal.withInitial(SecretDigests::newMac);
+
+  private SecretDigests() { }
+
+  /**
+   * Returns the digest of a password or PIN.
+   *
+   * @param secret the password or PIN
+   * @return the digest, {@code null} for a {@code null} secret
+   */
+  public static byte[] digest(String secret) {
+    if (secret == null) {
+      return null;
+    }
+    return MACS.get().doFinal(secret.getBytes(UTF_8));
+  }
+
+  private static SecretKeySpec newKey() {
+    final byte[] key = new byte[KEY_LENGTH];
+    new SecureRandom().nextBytes(key);
+    return new SecretKeySpec(key, ALGORITHM);
+  }
+
+  private static Mac newMac() {
+    try {
+      final Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(KEY);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(ALGORITHM + " is not available", e);
+    }
+  }
+}
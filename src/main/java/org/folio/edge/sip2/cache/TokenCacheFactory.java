@@ -1,18 +1,34 @@
 package org.folio.edge.sip2.cache;
 
-import org.folio.okapi.common.refreshtoken.tokencache.TenantUserCache;
+import static org.folio.edge.sip2.repositories.LoginRepository.TOKEN_OFFSET_SECONDS;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.edge.sip2.metrics.Metrics;
 
 public class TokenCacheFactory {
 
+  public static final int DEFAULT_CAPACITY = 100;
+
   private TokenCacheFactory() { }
 
-  static TenantUserCache instance;
+  static KioskTokenPool instance;
 
-  public static void initialize(int capacity) {
-    instance = new TenantUserCache(capacity);
+  public static synchronized void initialize(int capacity) {
+    instance = new KioskTokenPool(capacity, Duration.ofSeconds(TOKEN_OFFSET_SECONDS),
+        Clock.systemUTC(), Metrics.getRegistry());
   }
 
-  public static TenantUserCache get() {
+  /**
+   * Returns the token pool shared by all verticle instances, created with the default capacity
+   * when it was not initialized.
+   *
+   * @return the token pool
+   */
+  public static synchronized KioskTokenPool get() {
+    if (instance == null) {
+      initialize(DEFAULT_CAPACITY);
+    }
     return instance;
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.edge.sip2.domain;
 
 import org.folio.edge.sip2.parser.Message;
+import org.folio.edge.sip2.parser.Sip2ResponseEncoder.EncodedResponse;
 
 /**
  * Class that defines the data structure for the previous message's request + response pair.
@@ -9,6 +10,7 @@ public class PreviousMessage {
   private int previousRequestSequenceNo;
   private String previousRequestChecksum;
   private String previousMessageResponse;
+  private EncodedResponse previousEncodedResponse;
 
   /**
    * Constructor that constructs the PreviousMessage instance.
@@ -22,8 +24,30 @@ public class PreviousMessage {
     previousMessageResponse = response;
   }
 
+  /**
+   * Constructor that keeps the encoded response as it was written to the socket.
+   *
+   * @param message - The parsed request object
+   * @param response - the encoded SIP response that corresponds to the @message.
+   */
+  public PreviousMessage(Message<Object> message, EncodedResponse response) {
+    previousRequestSequenceNo = message.getSequenceNumber();
+    previousRequestChecksum = message.getChecksumsString();
+    previousEncodedResponse = response;
+  }
+
   public String getPreviousMessageResponse() {
-    return previousMessageResponse;
+    return previousEncodedResponse != null
+        ? previousEncodedResponse.getMessage() : previousMessageResponse;
+  }
+
+  /**
+   * Returns the encoded previous response, which is resent as is.
+   *
+   * @return the encoded response, {@code null} if only its text was kept
+   */
+  public EncodedResponse getPreviousEncodedResponse() {
+    return previousEncodedResponse;
   }
 
   public String getPreviousRequestChecksum() {
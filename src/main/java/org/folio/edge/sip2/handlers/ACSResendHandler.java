@@ -3,6 +3,7 @@ package org.folio.edge.sip2.handlers;
 import io.vertx.core.Future;
 import org.folio.edge.sip2.domain.PreviousMessage;
 import org.folio.edge.sip2.parser.Message;
+import org.folio.edge.sip2.parser.Sip2ResponseEncoder.EncodedResponse;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 
@@ -27,4 +28,10 @@ public class ACSResendHandler implements ISip2RequestHandler {
   public void writeHistory(SessionData sessionData, Message<Object> request, String response) {
     //Do nothing. No need to save a response for the 97 message.
   }
+
+  @Override
+  public void writeHistory(SessionData sessionData, Message<Object> request,
+      EncodedResponse response) {
+    //Do nothing. No need to save a response for the 97 message.
+  }
 }
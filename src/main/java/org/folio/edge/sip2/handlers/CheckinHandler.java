@@ -1,17 +1,22 @@
 package org.folio.edge.sip2.handlers;
 
 import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
+import static org.folio.edge.sip2.parser.Command.CHECKIN_RESPONSE;
 
 import freemarker.template.Template;
 import io.vertx.core.Future;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.Checkin;
 import org.folio.edge.sip2.domain.messages.responses.CheckinResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
+import org.folio.edge.sip2.handlers.writers.ResponseWriter;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -21,14 +26,18 @@ public class CheckinHandler implements ISip2RequestHandler {
 
   private final CirculationRepository circulationRepository;
   private final Template commandTemplate;
+  private final ResponseWriter<CheckinResponse> responseWriter;
 
   @Inject
   CheckinHandler(
       CirculationRepository circulationRepository,
-      @Named("checkinResponse") Template commandTemplate) {
+      @Named("checkinResponse") Template commandTemplate,
+      ResponseWriterRepository responseWriterRepository) {
     this.circulationRepository = Objects.requireNonNull(circulationRepository,
         "CirculationRepository cannot be null");
     this.commandTemplate = Objects.requireNonNull(commandTemplate, "Template cannot be null");
+    this.responseWriter = Objects.requireNonNull(responseWriterRepository,
+        "ResponseWriterRepository cannot be null").getResponseWriter(CHECKIN_RESPONSE);
   }
 
   @Override
@@ -45,17 +54,37 @@ public class CheckinHandler implements ISip2RequestHandler {
     return circulationFuture.compose(checkinResponse -> {
       log.info(sessionData, "CheckinHandler :: execute CheckinResponse: {}", () -> checkinResponse);
 
-      final Map<String, Object> root = new HashMap<>();
-      root.put("formatDateTime", new FormatDateTimeMethodModel());
-      root.put("delimiter", sessionData.getFieldDelimiter());
-      root.put("checkinResponse", checkinResponse);
-      root.put("timezone", sessionData.getTimeZone());
-
-      final String response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+      final String response = renderCheckinResponse(sessionData, checkinResponse);
 
       log.info(sessionData, "CheckinHandler :: execute SIP checkin response: {}", response);
 
       return Future.succeededFuture(response);
     });
   }
+
+  @Override
+  public String getDeadlineResponse(Object message, SessionData sessionData) {
+    final Checkin checkin = (Checkin) message;
+    return renderCheckinResponse(sessionData, CheckinResponse.builder()
+        .ok(false)
+        .transactionDate(OffsetDateTime.now())
+        .institutionId(checkin.getInstitutionId())
+        .itemIdentifier(checkin.getItemIdentifier())
+        .screenMessage(Collections.singletonList(DEADLINE_SCREEN_MESSAGE))
+        .build());
+  }
+
+  private String renderCheckinResponse(SessionData sessionData,
+      CheckinResponse checkinResponse) {
+    if (responseWriter != null) {
+      return executeResponseWriter(sessionData, checkinResponse, responseWriter);
+    }
+
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("checkinResponse", checkinResponse);
+    root.put("timezone", sessionData.getTimeZone());
+
+    return executeFreemarkerTemplate(sessionData, root, commandTemplate);
+  }
 }
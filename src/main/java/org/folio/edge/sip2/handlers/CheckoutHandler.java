@@ -1,6 +1,8 @@
 package org.folio.edge.sip2.handlers;
 
 import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
+import static org.folio.edge.sip2.parser.Command.CHECKOUT_RESPONSE;
 
 import freemarker.template.Template;
 import io.vertx.core.Future;
@@ -11,7 +13,8 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.Checkout;
 import org.folio.edge.sip2.domain.messages.responses.CheckoutResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
+import org.folio.edge.sip2.handlers.writers.ResponseWriter;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -22,14 +25,18 @@ public class CheckoutHandler implements ISip2RequestHandler {
 
   private final CirculationRepository circulationRepository;
   private final Template commandTemplate;
+  private final ResponseWriter<CheckoutResponse> responseWriter;
 
   @Inject
   CheckoutHandler(
       CirculationRepository circulationRepository,
-      @Named("checkoutResponse") Template commandTemplate) {
+      @Named("checkoutResponse") Template commandTemplate,
+      ResponseWriterRepository responseWriterRepository) {
     this.circulationRepository = Objects.requireNonNull(circulationRepository,
         "CirculationRepository cannot be null");
     this.commandTemplate = Objects.requireNonNull(commandTemplate, "Template cannot be null");
+    this.responseWriter = Objects.requireNonNull(responseWriterRepository,
+        "ResponseWriterRepository cannot be null").getResponseWriter(CHECKOUT_RESPONSE);
   }
 
   @Override
@@ -70,13 +77,17 @@ public class CheckoutHandler implements ISip2RequestHandler {
     log.info(sessionData, "CheckoutHandler :: execute CheckoutResponse: {}",
         () -> checkoutResponse);
 
-    final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
-    root.put("delimiter", sessionData.getFieldDelimiter());
-    root.put("checkoutResponse", checkoutResponse);
-    root.put("timezone", sessionData.getTimeZone());
+    final String response;
+    if (responseWriter != null) {
+      response = executeResponseWriter(sessionData, checkoutResponse, responseWriter);
+    } else {
+      final Map<String, Object> root = new HashMap<>();
+      root.put("delimiter", sessionData.getFieldDelimiter());
+      root.put("checkoutResponse", checkoutResponse);
+      root.put("timezone", sessionData.getTimeZone());
 
-    final String response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+      response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+    }
 
     log.info(sessionData, "CheckoutHandler :: execute SIP checkout response: {}", response);
     return response;
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.EndPatronSession;
 import org.folio.edge.sip2.domain.messages.responses.EndSessionResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.parser.Message;
 import org.folio.edge.sip2.repositories.PatronRepository;
 import org.folio.edge.sip2.session.SessionData;
@@ -75,7 +74,6 @@ public class EndPatronSessionHandler implements ISip2RequestHandler {
         () -> endSessionResponse);
 
     final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
     root.put("delimiter", sessionData.getFieldDelimiter());
     root.put("endSessionResponse", endSessionResponse);
     root.put("timezone", sessionData.getTimeZone());
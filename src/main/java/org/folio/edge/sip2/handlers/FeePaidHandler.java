@@ -6,12 +6,13 @@ import freemarker.template.Template;
 import io.vertx.core.Future;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.FeePaid;
 import org.folio.edge.sip2.domain.messages.responses.FeePaidResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.repositories.FeeFinesRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -43,18 +44,35 @@ public class FeePaidHandler implements ISip2RequestHandler {
     return feePaidFuture.compose(feePaidResponse -> {
       log.info(sessionData, "FeePaidResponse: {}", () -> feePaidResponse);
 
-      final Map<String, Object> root = new HashMap<>();
-      root.put("formatDateTime", new FormatDateTimeMethodModel());
-      root.put("delimiter", sessionData.getFieldDelimiter());
-      root.put("feePaidResponse", feePaidResponse);
-      root.put("timezone", sessionData.getTimeZone());
-
-      final String response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+      final String response = renderFeePaidResponse(sessionData, feePaidResponse);
 
       log.debug(sessionData, "SIP feePaid response: {}", response);
 
       return Future.succeededFuture(response);
     });
   }
+
+  @Override
+  public String getDeadlineResponse(Object message, SessionData sessionData) {
+    final FeePaid feePaid = (FeePaid) message;
+    return renderFeePaidResponse(sessionData, FeePaidResponse.builder()
+        .paymentAccepted(Boolean.FALSE)
+        .transactionDate(OffsetDateTime.now())
+        .transactionId(feePaid.getTransactionId())
+        .institutionId(feePaid.getInstitutionId())
+        .patronIdentifier(feePaid.getPatronIdentifier())
+        .screenMessage(Collections.singletonList(DEADLINE_SCREEN_MESSAGE))
+        .build());
+  }
+
+  private String renderFeePaidResponse(SessionData sessionData,
+      FeePaidResponse feePaidResponse) {
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("feePaidResponse", feePaidResponse);
+    root.put("timezone", sessionData.getTimeZone());
+
+    return executeFreemarkerTemplate(sessionData, root, commandTemplate);
+  }
 }
 
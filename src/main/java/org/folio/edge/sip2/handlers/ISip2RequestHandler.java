@@ -3,10 +3,16 @@ package org.folio.edge.sip2.handlers;
 import io.vertx.core.Future;
 import org.folio.edge.sip2.domain.PreviousMessage;
 import org.folio.edge.sip2.parser.Message;
+import org.folio.edge.sip2.parser.Sip2ResponseEncoder.EncodedResponse;
 import org.folio.edge.sip2.session.SessionData;
 
 public interface ISip2RequestHandler {
 
+  /**
+   * Screen message of the responses sent when a request was not handled before its deadline.
+   */
+  String DEADLINE_SCREEN_MESSAGE = "The request timed out, please try again";
+
   /**
    * Handle the request and prepare a SIP response to send back.
    * @param message  Request message that contains all the information needed to fill the response.
@@ -14,6 +20,17 @@ public interface ISip2RequestHandler {
    */
   Future<String> execute(Object message, SessionData sessionData);
 
+  /**
+   * Prepare the SIP response sent when the request could not be handled before its deadline,
+   * which reports the failure in the response message of the command, e.g. with its ok flag off.
+   * @param message  Request message that contains all the information needed to fill the response.
+   * @param sessionData Session object of the request
+   * @return  SIP response string, or {@code null} if the command has no failure response
+   */
+  default String getDeadlineResponse(Object message, SessionData sessionData) {
+    return null;
+  }
+
   /**
    * Save the current request/response as a history item (for the next request).
    * @param sessionData Session object to store the history
@@ -28,4 +45,20 @@ public interface ISip2RequestHandler {
       sessionData.setPreviousMessage(new PreviousMessage(request, response));
     }
   }
+
+  /**
+   * Save the current request/response as a history item (for the next request), keeping a
+   * reference to the encoded response so that a resend writes the same bytes.
+   * @param sessionData Session object to store the history
+   * @param request A parsed SIP request object
+   * @param response encoded SIP response for the passed in request
+   */
+  default void writeHistory(SessionData sessionData, Message<Object> request,
+      EncodedResponse response) {
+    if ((request != null)
+        && (request.getSequenceNumber() != null)
+        && request.getChecksumsString() != null) {
+      sessionData.setPreviousMessage(new PreviousMessage(request, response));
+    }
+  }
 }
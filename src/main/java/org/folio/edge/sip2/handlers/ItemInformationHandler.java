@@ -4,12 +4,14 @@ import freemarker.template.Template;
 import io.vertx.core.Future;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import org.folio.edge.sip2.domain.messages.enumerations.CirculationStatus;
 import org.folio.edge.sip2.domain.messages.requests.ItemInformation;
 import org.folio.edge.sip2.domain.messages.responses.ItemInformationResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils;
 import org.folio.edge.sip2.repositories.ItemRepository;
 import org.folio.edge.sip2.session.SessionData;
@@ -46,18 +48,33 @@ public class ItemInformationHandler implements ISip2RequestHandler {
     return itemInformationFuture.compose(itemInformationResponse -> {
       log.debug(sessionData, "ItemInformationResponse: {}", () -> itemInformationResponse);
 
-      final Map<String, Object> root = new HashMap<>();
-      root.put("formatDateTime", new FormatDateTimeMethodModel());
-      root.put("delimiter", sessionData.getFieldDelimiter());
-      root.put("itemInformationResponse", itemInformationResponse);
-      root.put("timezone", sessionData.getTimeZone());
-
-      final String response = FreemarkerUtils
-          .executeFreemarkerTemplate(sessionData, root, commandTemplate);
+      final String response = renderItemInformationResponse(sessionData,
+          itemInformationResponse);
 
       log.info(sessionData, "SIP itemInformation response: {}", response);
 
       return Future.succeededFuture(response);
     });
   }
+
+  @Override
+  public String getDeadlineResponse(Object message, SessionData sessionData) {
+    final ItemInformation itemInformation = (ItemInformation) message;
+    return renderItemInformationResponse(sessionData, ItemInformationResponse.builder()
+        .circulationStatus(CirculationStatus.OTHER)
+        .transactionDate(OffsetDateTime.now())
+        .itemIdentifier(itemInformation.getItemIdentifier())
+        .screenMessage(Collections.singletonList(DEADLINE_SCREEN_MESSAGE))
+        .build());
+  }
+
+  private String renderItemInformationResponse(SessionData sessionData,
+      ItemInformationResponse itemInformationResponse) {
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("itemInformationResponse", itemInformationResponse);
+    root.put("timezone", sessionData.getTimeZone());
+
+    return FreemarkerUtils.executeFreemarkerTemplate(sessionData, root, commandTemplate);
+  }
 }
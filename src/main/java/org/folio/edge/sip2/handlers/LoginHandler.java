@@ -3,6 +3,8 @@ package org.folio.edge.sip2.handlers;
 import static java.lang.Boolean.FALSE;
 import static java.util.Objects.requireNonNull;
 import static org.folio.edge.sip2.domain.TenantResolutionContext.createContextForLoginPhase;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
+import static org.folio.edge.sip2.parser.Command.LOGIN_RESPONSE;
 
 import freemarker.template.Template;
 import io.vertx.core.Future;
@@ -13,8 +15,9 @@ import java.util.Map;
 import org.folio.edge.sip2.domain.messages.requests.Login;
 import org.folio.edge.sip2.domain.messages.responses.LoginResponse;
 import org.folio.edge.sip2.exception.TenantNotResolvedThrowable;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils;
+import org.folio.edge.sip2.handlers.writers.ResponseWriter;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.LoginRepository;
 import org.folio.edge.sip2.repositories.SettingsRepository;
 import org.folio.edge.sip2.service.config.TenantConfigurationService;
@@ -30,6 +33,7 @@ public class LoginHandler implements ISip2RequestHandler {
   private final SettingsRepository settingsRepository;
   private final LoginRepository loginRepository;
   private final Template commandTemplate;
+  private final ResponseWriter<LoginResponse> responseWriter;
   private final TenantConfigurationService tenantConfigurationService;
 
   @Inject
@@ -38,7 +42,8 @@ public class LoginHandler implements ISip2RequestHandler {
       SettingsRepository settingsRepository,
       Sip2TenantService tenantResolver,
       TenantConfigurationService tenantConfigurationService,
-      @Named("loginResponse") Template commandTemplate) {
+      @Named("loginResponse") Template commandTemplate,
+      ResponseWriterRepository responseWriterRepository) {
     this.loginRepository = requireNonNull(loginRepository,
         "LoginRepository cannot be null");
     this.settingsRepository = requireNonNull(settingsRepository,
@@ -47,6 +52,8 @@ public class LoginHandler implements ISip2RequestHandler {
     this.sip2TenantService = requireNonNull(tenantResolver, "Sip2TenantResolver cannot be null");
     this.tenantConfigurationService = requireNonNull(tenantConfigurationService,
         "TenantConfigurationService cannot be null");
+    this.responseWriter = requireNonNull(responseWriterRepository,
+        "ResponseWriterRepository cannot be null").getResponseWriter(LOGIN_RESPONSE);
   }
 
   @Override
@@ -118,13 +125,16 @@ public class LoginHandler implements ISip2RequestHandler {
    */
   private String constructLoginResponse(SessionData sessionData, LoginResponse loginResponse) {
     log.debug(sessionData, "LoginResponse: {}", () -> loginResponse);
-    final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
-    root.put("delimiter", sessionData.getFieldDelimiter());
-    root.put("loginResponse", loginResponse);
-
-    final String response = FreemarkerUtils
-        .executeFreemarkerTemplate(sessionData, root, commandTemplate);
+    final String response;
+    if (responseWriter != null) {
+      response = executeResponseWriter(sessionData, loginResponse, responseWriter);
+    } else {
+      final Map<String, Object> root = new HashMap<>();
+      root.put("delimiter", sessionData.getFieldDelimiter());
+      root.put("loginResponse", loginResponse);
+
+      response = FreemarkerUtils.executeFreemarkerTemplate(sessionData, root, commandTemplate);
+    }
     log.info(sessionData, "LoginHandler :: execute SIP login response: {}", response);
     return response;
   }
@@ -1,6 +1,8 @@
 package org.folio.edge.sip2.handlers;
 
 import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
+import static org.folio.edge.sip2.parser.Command.PATRON_INFORMATION_RESPONSE;
 
 import freemarker.template.Template;
 import io.vertx.core.Future;
@@ -11,7 +13,8 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.PatronInformation;
 import org.folio.edge.sip2.domain.messages.responses.PatronInformationResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
+import org.folio.edge.sip2.handlers.writers.ResponseWriter;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.PatronRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -23,14 +26,19 @@ public class PatronInformationHandler implements ISip2RequestHandler {
 
   private final PatronRepository patronRepository;
   private final Template commandTemplate;
+  private final ResponseWriter<PatronInformationResponse> responseWriter;
 
   @Inject
   PatronInformationHandler(
       PatronRepository patronRepository,
-      @Named("patronInformationResponse") Template commandTemplate) {
+      @Named("patronInformationResponse") Template commandTemplate,
+      ResponseWriterRepository responseWriterRepository) {
     this.patronRepository = Objects.requireNonNull(patronRepository,
         "PatronRepository cannot be null");
     this.commandTemplate = Objects.requireNonNull(commandTemplate, "Template cannot be null");
+    this.responseWriter = Objects.requireNonNull(responseWriterRepository,
+        "ResponseWriterRepository cannot be null")
+        .getResponseWriter(PATRON_INFORMATION_RESPONSE);
   }
 
   @Override
@@ -70,14 +78,18 @@ public class PatronInformationHandler implements ISip2RequestHandler {
       PatronInformationResponse patronInformationResponse) {
     log.debug(sessionData, "PatronInformationResponse: {}", () -> patronInformationResponse);
 
-    final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
-    root.put("delimiter", sessionData.getFieldDelimiter());
-    root.put("patronInformationResponse", patronInformationResponse);
-    root.put("maxLength", sessionData.getMaxPrintWidth());
-    root.put("timezone", sessionData.getTimeZone());
+    final String response;
+    if (responseWriter != null) {
+      response = executeResponseWriter(sessionData, patronInformationResponse, responseWriter);
+    } else {
+      final Map<String, Object> root = new HashMap<>();
+      root.put("delimiter", sessionData.getFieldDelimiter());
+      root.put("patronInformationResponse", patronInformationResponse);
+      root.put("maxLength", sessionData.getMaxPrintWidth());
+      root.put("timezone", sessionData.getTimeZone());
 
-    final String response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+      response = executeFreemarkerTemplate(sessionData, root, commandTemplate);
+    }
     log.debug(sessionData, "SIP patron information response: {}", response);
     return response;
   }
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.PatronStatusRequest;
 import org.folio.edge.sip2.domain.messages.responses.PatronStatusResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.repositories.PatronRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -67,7 +66,6 @@ public class PatronStatusHandler implements ISip2RequestHandler {
     log.info(sessionData, "PatronStatusResponse: {}", () -> patronStatusResponse);
 
     final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
     root.put("delimiter", sessionData.getFieldDelimiter());
     root.put("patronStatusResponse", patronStatusResponse);
     root.put("timezone", sessionData.getTimeZone());
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.RenewAll;
 import org.folio.edge.sip2.domain.messages.responses.RenewAllResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -68,7 +67,6 @@ public class RenewAllHandler implements ISip2RequestHandler {
     log.info(sessionData, "RenewAllResponse: {}", () -> renewAllResponse);
 
     final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
     root.put("delimiter", sessionData.getFieldDelimiter());
     root.put("renewAllResponse", renewAllResponse);
     root.put("timezone", sessionData.getTimeZone());
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import org.folio.edge.sip2.domain.messages.requests.Renew;
 import org.folio.edge.sip2.domain.messages.responses.RenewResponse;
-import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -66,7 +65,6 @@ public class RenewHandler implements ISip2RequestHandler {
     log.info(sessionData, "RenewResponse: {}", () -> renewResponse);
 
     final Map<String, Object> root = new HashMap<>();
-    root.put("formatDateTime", new FormatDateTimeMethodModel());
     root.put("delimiter", sessionData.getFieldDelimiter());
     root.put("renewResponse", renewResponse);
     root.put("timezone", sessionData.getTimeZone());
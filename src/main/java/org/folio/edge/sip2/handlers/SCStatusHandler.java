@@ -1,6 +1,7 @@
 package org.folio.edge.sip2.handlers;
 
 import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
 import static org.folio.edge.sip2.parser.Command.ACS_STATUS;
 
 import freemarker.template.Template;
@@ -8,38 +9,60 @@ import io.vertx.core.Future;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.lang.invoke.MethodHandles;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.folio.edge.sip2.domain.messages.enumerations.Messages;
 import org.folio.edge.sip2.domain.messages.enumerations.StatusCode;
 import org.folio.edge.sip2.domain.messages.requests.SCStatus;
 import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
 import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
+import org.folio.edge.sip2.handlers.writers.ResponseWriter;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.SettingsRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 
 public class SCStatusHandler implements ISip2RequestHandler {
+  // the date and time sync field follows the command and the fixed-length flags and numbers
+  private static final int DATE_TIME_SYNC_SEARCH_START = 8;
+  private static final int MAX_RENDERED_STATUSES = 256;
+  // a timeout period of 0 tells that the ACS is not on-line, 999 that the retries are unknown
+  private static final int OFF_LINE_TIMEOUT_PERIOD = 0;
+  private static final int UNKNOWN_RETRIES_ALLOWED = 999;
+  private static final String PROTOCOL_VERSION = "2.00";
 
   private final SettingsRepository settingsRepository;
   private final Sip2LogAdapter log;
   private final Template template;
+  private final ResponseWriter<ACSStatus> responseWriter;
+  // kiosks send SC Status as a heartbeat, the rendered message only changes with the date
+  private final Map<List<Object>, RenderedACSStatus> renderedStatuses =
+      new ConcurrentHashMap<>();
 
   /**
    * Constructor of SCStatusHandler.
    *
    * @param settingsRepository the repository necessary to retrieve config data from.
    * @param template the template to apply to the data.
+   * @param responseWriterRepository the repository of responses written without a template.
    *
    */
   @Inject
   public SCStatusHandler(
       SettingsRepository settingsRepository,
-      @Named("scStatusResponse") Template template) {
+      @Named("scStatusResponse") Template template,
+      ResponseWriterRepository responseWriterRepository) {
     this.settingsRepository = settingsRepository;
     log = Sip2LogAdapter.getLogger(MethodHandles.lookup().lookupClass());
     this.template = template;
+    this.responseWriter = responseWriterRepository.getResponseWriter(ACS_STATUS);
   }
 
   @Override
@@ -56,22 +79,13 @@ public class SCStatusHandler implements ISip2RequestHandler {
       Future<ACSStatus> future = settingsRepository.getACSStatus(sessionData);
 
       return future.compose(acsStatus -> {
-        Map<String, Object> root = new HashMap<>();
-        root.put("PackagedSupportedMessages",
-            new PackagedSupportedMessages(acsStatus.getSupportedMessages()));
-        root.put("ACSStatus",acsStatus);
-        root.put("formatDateTime", new FormatDateTimeMethodModel());
-        root.put("delimiter", sessionData.getFieldDelimiter());
-        root.put("maxLength", sessionData.getMaxPrintWidth());
-        root.put("timezone", sessionData.getTimeZone());
-
-        if (template == null) {
+        if (responseWriter == null && template == null) {
           log.warn(sessionData,
               "Unable to locate Freemarker template for the command:{}", ACS_STATUS.name());
           return Future.failedFuture("");
         }
 
-        String acsSipStatusMessage = executeFreemarkerTemplate(sessionData, root, template);
+        String acsSipStatusMessage = renderACSStatus(acsStatus, sessionData);
         log.info(sessionData,
             "SCStatusHandler :: execute Sip2 ACSStatus message:{}", acsSipStatusMessage);
 
@@ -84,6 +98,112 @@ public class SCStatusHandler implements ISip2RequestHandler {
     }
   }
 
+  @Override
+  public String getDeadlineResponse(Object message, SessionData sessionData) {
+    if (responseWriter == null && template == null) {
+      return null;
+    }
+
+    // the ACS reports itself off-line, so the kiosk does not send commands that would fail too
+    return render(ACSStatus.builder()
+        .onLineStatus(Boolean.FALSE)
+        .checkinOk(Boolean.FALSE)
+        .checkoutOk(Boolean.FALSE)
+        .acsRenewalPolicy(Boolean.FALSE)
+        .statusUpdateOk(Boolean.FALSE)
+        .offLineOk(Boolean.FALSE)
+        .timeoutPeriod(OFF_LINE_TIMEOUT_PERIOD)
+        .retriesAllowed(UNKNOWN_RETRIES_ALLOWED)
+        .dateTimeSync(OffsetDateTime.now())
+        .protocolVersion(PROTOCOL_VERSION)
+        .institutionId(Objects.toString(sessionData.getTenant(), ""))
+        .libraryName("")
+        .terminalLocation(Objects.toString(sessionData.getScLocation(), ""))
+        .screenMessage(Collections.singletonList(DEADLINE_SCREEN_MESSAGE))
+        .build(), sessionData);
+  }
+
+  /**
+   * Renders the ACS Status message. A message is rendered once for the same settings and
+   * session values; later requests only format their date and time sync into it. The checksum
+   * is added afterwards, when the message is encoded.
+   *
+   * @param acsStatus the ACS status
+   * @param sessionData the session data
+   * @return the message, or an empty string if it could not be rendered
+   */
+  String renderACSStatus(ACSStatus acsStatus, SessionData sessionData) {
+    final var dateTimeSync = acsStatus.getDateTimeSync();
+    if (dateTimeSync == null) {
+      return render(acsStatus, sessionData);
+    }
+
+    final String formattedDateTimeSync = FormatDateTimeMethodModel.formatDateTime(dateTimeSync,
+        FormatDateTimeMethodModel.SIP_DATE_TIME_PATTERN, sessionData.getTimeZone());
+    final List<Object> key = renderKey(acsStatus, sessionData);
+    final RenderedACSStatus rendered = renderedStatuses.get(key);
+    if (rendered != null) {
+      return rendered.prefix() + formattedDateTimeSync + rendered.suffix();
+    }
+
+    final String message = render(acsStatus, sessionData);
+    final int index = message.indexOf(formattedDateTimeSync, DATE_TIME_SYNC_SEARCH_START);
+    if (index >= 0) {
+      if (renderedStatuses.size() >= MAX_RENDERED_STATUSES) {
+        renderedStatuses.clear();
+      }
+      renderedStatuses.put(key, new RenderedACSStatus(message.substring(0, index),
+          message.substring(index + formattedDateTimeSync.length())));
+    }
+    return message;
+  }
+
+  int getRenderedStatusCount() {
+    return renderedStatuses.size();
+  }
+
+  private String render(ACSStatus acsStatus, SessionData sessionData) {
+    if (responseWriter != null) {
+      return executeResponseWriter(sessionData, acsStatus, responseWriter);
+    }
+
+    Map<String, Object> root = new HashMap<>();
+    root.put("PackagedSupportedMessages",
+        new PackagedSupportedMessages(acsStatus.getSupportedMessages()));
+    root.put("ACSStatus",acsStatus);
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("maxLength", sessionData.getMaxPrintWidth());
+    root.put("timezone", sessionData.getTimeZone());
+
+    return executeFreemarkerTemplate(sessionData, root, template);
+  }
+
+  private static List<Object> renderKey(ACSStatus acsStatus, SessionData sessionData) {
+    // everything the message is rendered from, except the date and time sync; new settings
+    // make a new key, so a message is never reused after the settings changed
+    return Arrays.asList(
+        acsStatus.getOnLineStatus(),
+        acsStatus.getCheckinOk(),
+        acsStatus.getCheckoutOk(),
+        acsStatus.getAcsRenewalPolicy(),
+        acsStatus.getStatusUpdateOk(),
+        acsStatus.getOffLineOk(),
+        acsStatus.getTimeoutPeriod(),
+        acsStatus.getRetriesAllowed(),
+        acsStatus.getProtocolVersion(),
+        acsStatus.getInstitutionId(),
+        acsStatus.getLibraryName(),
+        acsStatus.getSupportedMessages(),
+        acsStatus.getTerminalLocation(),
+        acsStatus.getScreenMessage(),
+        acsStatus.getPrintLine(),
+        sessionData.getFieldDelimiter(),
+        sessionData.getMaxPrintWidth());
+  }
+
+  private record RenderedACSStatus(String prefix, String suffix) {
+  }
+
   /**
    * Inner utility class to help laid out the Messages data for freemarker template to consume.
    *
@@ -7,9 +7,18 @@ import freemarker.template.TemplateModelException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.folio.edge.sip2.utils.Utils;
 
 public class FormatDateTimeMethodModel implements TemplateMethodModelEx {
+  public static final String SIP_DATE_TIME_PATTERN = "yyyyMMdd    HHmmss";
+
+  /** The method model is stateless, so all templates share this instance. */
+  public static final FormatDateTimeMethodModel INSTANCE = new FormatDateTimeMethodModel();
+
+  // the templates only use a couple of patterns, so the formatters are built once
+  private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
 
   @Override
   public Object exec(@SuppressWarnings("rawtypes") List args)
@@ -20,12 +29,62 @@ public class FormatDateTimeMethodModel implements TemplateMethodModelEx {
     }
 
     OffsetDateTime time = (OffsetDateTime) ((StringModel) args.get(0)).getWrappedObject();
-    OffsetDateTime convertedTime =
-        Utils.convertDateTime(time,((SimpleScalar)args.get(2)).getAsString());
 
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(
-                                    ((SimpleScalar)args.get(1)).getAsString());
+    return formatDateTime(time, ((SimpleScalar)args.get(1)).getAsString(),
+        ((SimpleScalar)args.get(2)).getAsString());
+  }
+
+  /**
+   * Formats a date and time in the SC time zone, as the {@code formatDateTime} method of the
+   * templates does.
+   * @param time the date and time
+   * @param pattern the {@link DateTimeFormatter} pattern
+   * @param timeZone the time zone of the SC
+   * @return the formatted date and time
+   */
+  public static String formatDateTime(OffsetDateTime time, String pattern, String timeZone) {
+    final OffsetDateTime convertedTime = Utils.convertDateTime(time, timeZone);
+    if (SIP_DATE_TIME_PATTERN.equals(pattern)) {
+      return formatSipDateTime(convertedTime);
+    }
+
+    return getFormatter(pattern).format(convertedTime);
+  }
+
+  /**
+   * Formats a date and time as a SIP date in its local time, {@code YYYYMMDD    HHMMSS}.
+   * @param dateTime the date and time in the SC time zone
+   * @return the SIP date
+   */
+  static String formatSipDateTime(OffsetDateTime dateTime) {
+    final int year = dateTime.getYear();
+    if (year < 1 || year > 9999) {
+      return getFormatter(SIP_DATE_TIME_PATTERN).format(dateTime);
+    }
+
+    final char[] chars = new char[18];
+    appendDigits(chars, 0, year, 4);
+    appendDigits(chars, 4, dateTime.getMonthValue(), 2);
+    appendDigits(chars, 6, dateTime.getDayOfMonth(), 2);
+    chars[8] = ' ';
+    chars[9] = ' ';
+    chars[10] = ' ';
+    chars[11] = ' ';
+    appendDigits(chars, 12, dateTime.getHour(), 2);
+    appendDigits(chars, 14, dateTime.getMinute(), 2);
+    appendDigits(chars, 16, dateTime.getSecond(), 2);
+    return new String(chars);
+  }
 
-    return formatter.format(convertedTime);
+  private static DateTimeFormatter getFormatter(String pattern) {
+    return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+  }
+
+  private static void appendDigits(char[] chars, int offset, int value, int count) {
+    int remaining = value;
+    for (int i = offset + count - 1; i >= offset; i--) {
+      chars[i] = (char) ('0' + remaining % 10);
+      remaining /= 10;
+    }
   }
 }
@@ -16,7 +16,10 @@ import static org.folio.edge.sip2.parser.Command.REQUEST_SC_RESEND;
 import static org.folio.edge.sip2.parser.Command.SC_STATUS;
 import static org.folio.edge.sip2.utils.Utils.getEnvOrDefault;
 
+import freemarker.ext.beans.BeansWrapper;
 import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.DefaultObjectWrapperBuilder;
 import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
 import java.io.IOException;
@@ -33,7 +36,12 @@ public class FreemarkerRepository {
   private static final String SIP2_LOCALE_PROPERTY = "sip2TemplateLocale";
   private static final String SIP2_LOCALE_ENV_VAR = "SIP2_TEMPLATE_LOCALE";
 
+  // the templates only read bean properties, so methods are not introspected; the builder
+  // shares the wrapper and its class introspection cache between configurations
+  private static final DefaultObjectWrapper OBJECT_WRAPPER = createObjectWrapper();
+
   private EnumMap<Command, Template> templates;
+  private Locale locale;
   private final Logger log;
 
   /**
@@ -46,6 +54,15 @@ public class FreemarkerRepository {
     return templates.get(command);
   }
 
+  /**
+   * Get the locale the templates format numbers with.
+   *
+   * @return the configured locale, or {@link Locale#ROOT}
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
   /**
    * Creates a FreemarkerRepository using the locale configured via the
    * {@code sip2Locale} system property or {@code SIP2_LOCALE} environment variable.
@@ -65,9 +82,12 @@ public class FreemarkerRepository {
     configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
     configuration.setLogTemplateExceptions(false);
     configuration.setWrapUncheckedExceptions(true);
+    configuration.setObjectWrapper(OBJECT_WRAPPER);
+    configuration.setLocalizedLookup(false);
+    configuration.setSharedVariable("formatDateTime", FormatDateTimeMethodModel.INSTANCE);
 
-    configuration.setLocale(getEnvOrDefault(
-        SIP2_LOCALE_PROPERTY, SIP2_LOCALE_ENV_VAR, ROOT, this::parseLocale));
+    locale = getEnvOrDefault(SIP2_LOCALE_PROPERTY, SIP2_LOCALE_ENV_VAR, ROOT, this::parseLocale);
+    configuration.setLocale(locale);
 
     addTemplate(CHECKOUT_RESPONSE, "CheckoutResponse.ftl", configuration);
     addTemplate(CHECKIN_RESPONSE, "CheckinResponse.ftl", configuration);
@@ -85,6 +105,13 @@ public class FreemarkerRepository {
 
   }
 
+  private static DefaultObjectWrapper createObjectWrapper() {
+    final DefaultObjectWrapperBuilder builder =
+        new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_27);
+    builder.setExposureLevel(BeansWrapper.EXPOSE_PROPERTIES_ONLY);
+    return builder.build();
+  }
+
   private Locale parseLocale(String tag) {
     try {
       var locale = new Locale.Builder().setLanguageTag(tag).build();
@@ -3,8 +3,6 @@ package org.folio.edge.sip2.handlers.freemarker;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 
@@ -27,7 +25,7 @@ public class FreemarkerUtils {
    */
   public static String executeFreemarkerTemplate(SessionData sd, Object data, Template template) {
 
-    Writer out = new StringWriter();
+    final ResponseBufferWriter out = ResponseBufferWriter.acquire();
     String outputString = "";
 
     try {
@@ -39,6 +37,8 @@ public class FreemarkerUtils {
       log.error(sd, "Having problems applying template to data: {} ", ioEx.getMessage());
     } catch (Exception ex) {
       log.error(sd, "Error applying template to data: {} ", ex.getMessage());
+    } finally {
+      out.release();
     }
 
     log.debug(sd, "Data = {} Template = {}",
@@ -0,0 +1,98 @@
+package org.folio.edge.sip2.handlers.freemarker;
+
+import java.io.Writer;
+
+/**
+ * An unsynchronized, reusable {@link Writer} that templates are rendered into. Unlike
+ * {@link java.io.StringWriter} it does not lock on every write and, once reset, it keeps its
+ * buffer for the next response rendered on the same thread.
+ */
+final class ResponseBufferWriter extends Writer {
+  static final int INITIAL_CAPACITY = 512;
+  // a buffer that grew past this size for an unusually large response is not kept
+  static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+  private static final ThreadLocal<ResponseBufferWriter> WRITERS =
+      ThreadLocal.withInitial(ResponseBufferWriter::new);
+
+  private StringBuilder sb = new StringBuilder(INITIAL_CAPACITY);
+  private boolean inUse;
+
+  /**
+   * Returns the writer of the current thread, reset for a new response. A template rendered
+   * while another is still being rendered on the thread gets a writer of its own.
+   */
+  static ResponseBufferWriter acquire() {
+    final ResponseBufferWriter writer = WRITERS.get();
+    if (writer.inUse) {
+      final ResponseBufferWriter nested = new ResponseBufferWriter();
+      nested.inUse = true;
+      return nested;
+    }
+    writer.inUse = true;
+    return writer;
+  }
+
+  /**
+   * Releases the writer so that the thread can render its next response with it.
+   */
+  void release() {
+    if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+      sb = new StringBuilder(INITIAL_CAPACITY);
+    } else {
+      sb.setLength(0);
+    }
+    inUse = false;
+  }
+
+  int capacity() {
+    return sb.capacity();
+  }
+
+  @Override
+  public void write(int c) {
+    sb.append((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    sb.append(cbuf, off, len);
+  }
+
+  @Override
+  public void write(String str) {
+    sb.append(str);
+  }
+
+  @Override
+  public void write(String str, int off, int len) {
+    sb.append(str, off, off + len);
+  }
+
+  @Override
+  public Writer append(CharSequence csq) {
+    sb.append(csq);
+    return this;
+  }
+
+  @Override
+  public Writer append(char c) {
+    sb.append(c);
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    // nothing to flush, the response stays in memory
+  }
+
+  @Override
+  public void close() {
+    // the buffer is kept until the writer is released
+  }
+
+  @Override
+  public String toString() {
+    return sb.toString();
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static java.util.Objects.requireNonNull;
+import static org.folio.edge.sip2.handlers.writers.SipFieldWriter.MAX_FIELD_LENGTH;
+
+import java.util.Locale;
+import java.util.Set;
+import org.folio.edge.sip2.domain.messages.enumerations.Messages;
+import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes the ACS Status message, as {@code acs-status.ftl} does. The institution, library,
+ * supported messages and terminal location fields are always ended with a {@code |}.
+ */
+final class ACSStatusWriter implements ResponseWriter<ACSStatus> {
+  private static final String NUMBER_PATTERN = "000";
+  private static final char FIELD_END = '|';
+
+  // the order of the supported messages field
+  private static final Messages[] SUPPORTED_MESSAGES = {
+      Messages.PATRON_STATUS_REQUEST,
+      Messages.CHECKOUT,
+      Messages.CHECKIN,
+      Messages.BLOCK_PATRON,
+      Messages.SC_ACS_STATUS,
+      Messages.REQUEST_SC_ACS_RESEND,
+      Messages.LOGIN,
+      Messages.PATRON_INFORMATION,
+      Messages.END_PATRON_SESSION,
+      Messages.FEE_PAID,
+      Messages.ITEM_INFORMATION,
+      Messages.ITEM_STATUS_UPDATE,
+      Messages.PATRON_ENABLE,
+      Messages.HOLD,
+      Messages.RENEW,
+      Messages.RENEW_ALL
+  };
+
+  private final Locale locale;
+
+  ACSStatusWriter(Locale locale) {
+    this.locale = locale;
+  }
+
+  @Override
+  public String write(ACSStatus response, SessionData sessionData) {
+    final SipFieldWriter out = new SipFieldWriter(sessionData, locale)
+        .append("98")
+        .yesOrNo(response.getOnLineStatus())
+        .yesOrNo(response.getCheckinOk())
+        .yesOrNo(response.getCheckoutOk())
+        .yesOrNo(response.getAcsRenewalPolicy())
+        .yesOrNo(response.getStatusUpdateOk())
+        .yesOrNo(response.getOffLineOk())
+        .number(response.getTimeoutPeriod(), NUMBER_PATTERN)
+        .number(response.getRetriesAllowed(), NUMBER_PATTERN)
+        .dateTime(response.getDateTimeSync())
+        .append(response.getProtocolVersion())
+        .append("AO").append(response.getInstitutionId()).append(FIELD_END)
+        .append("AM").append(response.getLibraryName()).append(FIELD_END)
+        .append("BX");
+
+    final Set<Messages> supportedMessages = requireNonNull(response.getSupportedMessages(),
+        "supported messages cannot be null");
+    for (Messages message : SUPPORTED_MESSAGES) {
+      out.yesOrNo(supportedMessages.contains(message));
+    }
+
+    return out.append(FIELD_END)
+        .append("AN").append(response.getTerminalLocation()).append(FIELD_END)
+        .repeatableField("AF", response.getScreenMessage(), MAX_FIELD_LENGTH)
+        .repeatableField("AG", response.getPrintLine(), sessionData.getMaxPrintWidth())
+        .toString();
+  }
+}
@@ -0,0 +1,39 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static java.lang.Boolean.TRUE;
+import static org.folio.edge.sip2.handlers.writers.SipFieldWriter.MAX_FIELD_LENGTH;
+
+import java.util.Locale;
+import org.folio.edge.sip2.domain.messages.responses.CheckinResponse;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes the Checkin Response message, as {@code CheckinResponse.ftl} does.
+ */
+final class CheckinResponseWriter implements ResponseWriter<CheckinResponse> {
+
+  @Override
+  public String write(CheckinResponse response, SessionData sessionData) {
+    return new SipFieldWriter(sessionData, Locale.ROOT)
+        .append("10")
+        .ok(response.getOk())
+        .yesOrNo(TRUE.equals(response.getResensitize()))
+        .yesNoOrUnknown(response.getMagneticMedia())
+        .yesOrNo(TRUE.equals(response.getAlert()))
+        .dateTime(response.getTransactionDate())
+        .field("AO", response.getInstitutionId())
+        .field("AB", response.getItemIdentifier())
+        .fieldOrEmpty("AQ", response.getPermanentLocation())
+        .optionalField("AJ", response.getTitleIdentifier())
+        .optionalField("CL", response.getSortBin())
+        .optionalField("AA", response.getPatronIdentifier())
+        .mediaType(response.getMediaType())
+        .optionalField("CH", response.getItemProperties())
+        .repeatableField("AF", response.getScreenMessage(), MAX_FIELD_LENGTH)
+        .repeatableField("AG", response.getPrintLine(), MAX_FIELD_LENGTH)
+        .fieldOrEmpty("CS", response.getCallNumber())
+        .fieldOrEmpty("CV", response.getAlertType())
+        .fieldOrEmpty("CT", response.getPickupServicePoint())
+        .toString();
+  }
+}
@@ -0,0 +1,39 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static org.folio.edge.sip2.handlers.writers.SipFieldWriter.MAX_FIELD_LENGTH;
+
+import java.util.Locale;
+import org.folio.edge.sip2.domain.messages.responses.CheckoutResponse;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes the Checkout Response message, as {@code CheckoutResponse.ftl} does.
+ */
+final class CheckoutResponseWriter implements ResponseWriter<CheckoutResponse> {
+
+  @Override
+  public String write(CheckoutResponse response, SessionData sessionData) {
+    return new SipFieldWriter(sessionData, Locale.ROOT)
+        .append("12")
+        .ok(response.getOk())
+        .yesOrNo(response.getRenewalOk())
+        .yesNoOrUnknown(response.getMagneticMedia())
+        .yesNoOrUnknown(response.getDesensitize())
+        .dateTime(response.getTransactionDate())
+        .field("AO", response.getInstitutionId())
+        .field("AA", response.getPatronIdentifier())
+        .field("AB", response.getItemIdentifier())
+        .field("AJ", response.getTitleIdentifier())
+        .dateField("AH", response.getDueDate())
+        .feeType(response.getFeeType())
+        .flagField("CI", response.getSecurityInhibit())
+        .currencyType(response.getCurrencyType())
+        .optionalField("BV", response.getFeeAmount())
+        .mediaType(response.getMediaType())
+        .optionalField("CH", response.getItemProperties())
+        .optionalField("BK", response.getTransactionId())
+        .repeatableField("AF", response.getScreenMessage(), MAX_FIELD_LENGTH)
+        .repeatableField("AG", response.getPrintLine(), MAX_FIELD_LENGTH)
+        .toString();
+  }
+}
@@ -0,0 +1,19 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import java.util.Locale;
+import org.folio.edge.sip2.domain.messages.responses.LoginResponse;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes the Login Response message, as {@code LoginResponse.ftl} does.
+ */
+final class LoginResponseWriter implements ResponseWriter<LoginResponse> {
+
+  @Override
+  public String write(LoginResponse response, SessionData sessionData) {
+    return new SipFieldWriter(sessionData, Locale.ROOT)
+        .append("94")
+        .ok(response.getOk())
+        .toString();
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static java.util.Objects.requireNonNull;
+import static org.folio.edge.sip2.handlers.writers.SipFieldWriter.MAX_FIELD_LENGTH;
+
+import java.util.Locale;
+import org.folio.edge.sip2.domain.messages.PatronAccountInfo;
+import org.folio.edge.sip2.domain.messages.responses.PatronInformationResponse;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes the Patron Information Response message, as {@code PatronInformationResponse.ftl}
+ * does, including the extended account fields for each fee or fine.
+ */
+final class PatronInformationResponseWriter
+    implements ResponseWriter<PatronInformationResponse> {
+  private final Locale locale;
+
+  PatronInformationResponseWriter(Locale locale) {
+    this.locale = locale;
+  }
+
+  @Override
+  public String write(PatronInformationResponse response, SessionData sessionData) {
+    final SipFieldWriter out = new SipFieldWriter(sessionData, locale)
+        .append("64")
+        .patronStatus(response.getPatronStatus())
+        .language(response.getLanguage())
+        .dateTime(response.getTransactionDate())
+        .count(response.getHoldItemsCount())
+        .count(response.getOverdueItemsCount())
+        .count(response.getChargedItemsCount())
+        .count(response.getFineItemsCount())
+        .count(response.getRecallItemsCount())
+        .count(response.getUnavailableHoldsCount())
+        .field("AO", response.getInstitutionId())
+        .field("AA", response.getPatronIdentifier())
+        .field("AE", response.getPersonalName())
+        .limitField("BZ", response.getHoldItemsLimit())
+        .limitField("CA", response.getOverdueItemsLimit())
+        .limitField("CB", response.getChargedItemsLimit())
+        .flagField("BL", response.getValidPatron())
+        .flagField("CQ", response.getValidPatronPassword())
+        .currencyType(response.getCurrencyType())
+        .optionalField("BV", response.getFeeAmount())
+        .optionalField("CC", response.getFeeLimit())
+        .listField("AS", response.getHoldItems())
+        .listField("AT", response.getOverdueItems())
+        .listField("AU", response.getChargedItems())
+        .listField("AV", response.getFineItems())
+        .listField("BU", response.getRecallItems())
+        .listField("CD", response.getUnavailableHoldItems());
+
+    for (PatronAccountInfo account : requireNonNull(response.getPatronAccountList(),
+        "patron account list cannot be null")) {
+      out.fieldOrEmpty("CG", account.getId())
+          .currencyField("FA", account.getFeeFineRemaining())
+          .fieldOrEmpty("FB", account.getItemBarcode())
+          .accountDateField("FC", account.getFeeCreationDate())
+          .fieldOrEmpty("FD", account.getItemTitle())
+          .fieldOrEmpty("FE", account.getFeeFineId())
+          .fieldOrEmpty("FF", account.getFeeFineType());
+    }
+
+    return out.optionalField("BD", response.getHomeAddress())
+        .fieldOrEmpty("BE", response.getEmailAddress())
+        .optionalField("BF", response.getHomePhoneNumber())
+        .repeatableField("AF", response.getScreenMessage(), MAX_FIELD_LENGTH)
+        .repeatableField("AG", response.getPrintLine(), sessionData.getMaxPrintWidth())
+        .fieldOrEmpty("FU", response.getBorrowerType())
+        .fieldOrEmpty("FV", response.getBorrowerTypeDescription())
+        .toString();
+  }
+}
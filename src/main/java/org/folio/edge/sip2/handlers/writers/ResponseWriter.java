@@ -0,0 +1,22 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes an ACS response message directly, without going through its Freemarker template.
+ * A writer produces exactly the same message as the template it replaces.
+ *
+ * @param <T> the response type
+ */
+@FunctionalInterface
+public interface ResponseWriter<T> {
+
+  /**
+   * Writes the SIP message for a response.
+   *
+   * @param response the response to write
+   * @param sessionData the session the response is sent to
+   * @return the SIP message, without the sequence number and checksum
+   */
+  String write(T response, SessionData sessionData);
+}
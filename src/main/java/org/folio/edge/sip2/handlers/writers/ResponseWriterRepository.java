@@ -0,0 +1,98 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static org.folio.edge.sip2.parser.Command.ACS_STATUS;
+import static org.folio.edge.sip2.parser.Command.CHECKIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.CHECKOUT_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.LOGIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.PATRON_INFORMATION_RESPONSE;
+
+import io.vertx.core.json.JsonArray;
+import java.lang.invoke.MethodHandles;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.edge.sip2.parser.Command;
+
+/**
+ * Selects the engine used to write each response. By default every response is written by
+ * its Freemarker template; the responses listed in the {@code directResponses} config option
+ * are written by their {@link ResponseWriter} instead. The option is an array of response
+ * commands, e.g. {@code ["CHECKOUT_RESPONSE", "CHECKIN_RESPONSE"]}, or {@code ["ALL"]}.
+ */
+public class ResponseWriterRepository {
+  static final String ALL = "ALL";
+
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final Map<Command, ResponseWriter<?>> writers = new EnumMap<>(Command.class);
+
+  /**
+   * Creates the repository with the responses to be written directly.
+   *
+   * @param locale the locale of the templates, used to format numbers the same way
+   * @param directResponses the response commands to write directly
+   */
+  public ResponseWriterRepository(Locale locale, Set<Command> directResponses) {
+    final Map<Command, ResponseWriter<?>> available = new EnumMap<>(Command.class);
+    available.put(LOGIN_RESPONSE, new LoginResponseWriter());
+    available.put(CHECKOUT_RESPONSE, new CheckoutResponseWriter());
+    available.put(CHECKIN_RESPONSE, new CheckinResponseWriter());
+    available.put(ACS_STATUS, new ACSStatusWriter(locale));
+    available.put(PATRON_INFORMATION_RESPONSE, new PatronInformationResponseWriter(locale));
+
+    for (Command command : directResponses) {
+      final ResponseWriter<?> writer = available.get(command);
+      if (writer == null) {
+        log.warn("No direct response writer for {}, its template is used", command);
+      } else {
+        writers.put(command, writer);
+      }
+    }
+    log.info("Responses written directly: {}", writers.keySet());
+  }
+
+  /**
+   * Get the direct writer of a response.
+   *
+   * @param command the response command
+   * @param <T> the response type of the command
+   * @return the writer, or {@code null} when the response is written by its template
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ResponseWriter<T> getResponseWriter(Command command) {
+    return (ResponseWriter<T>) writers.get(command);
+  }
+
+  /**
+   * Returns the response commands to write directly from the {@code directResponses} option.
+   *
+   * @param names the response command names, or {@code ALL}; {@code null} for none
+   * @return the response commands, unknown names are ignored
+   */
+  public static Set<Command> parseCommands(JsonArray names) {
+    final Set<Command> commands = EnumSet.noneOf(Command.class);
+    if (names == null) {
+      return commands;
+    }
+    for (Object name : names) {
+      final String trimmed = String.valueOf(name).trim().toUpperCase(Locale.ROOT);
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      if (ALL.equals(trimmed)) {
+        return EnumSet.of(LOGIN_RESPONSE, CHECKOUT_RESPONSE, CHECKIN_RESPONSE, ACS_STATUS,
+            PATRON_INFORMATION_RESPONSE);
+      }
+      try {
+        commands.add(Command.valueOf(trimmed));
+      } catch (IllegalArgumentException e) {
+        log.warn("Ignoring unknown response command '{}'", name);
+      }
+    }
+    return commands;
+  }
+}
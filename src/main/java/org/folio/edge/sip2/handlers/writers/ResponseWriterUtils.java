@@ -0,0 +1,32 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.utils.Sip2LogAdapter;
+
+public class ResponseWriterUtils {
+
+  private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(ResponseWriterUtils.class);
+
+  private ResponseWriterUtils() {}
+
+  /**
+   * Utility method that writes a response with a direct writer. As with a template, a response
+   * that cannot be written, e.g. because a required field is missing, results in an empty
+   * string.
+   *
+   * @param sd the session the response is sent to
+   * @param response the response to write
+   * @param writer the writer of the response
+   * @param <T> the response type
+   * @return the SIP message
+   */
+  public static <T> String executeResponseWriter(SessionData sd, T response,
+      ResponseWriter<T> writer) {
+    try {
+      return writer.write(response, sd);
+    } catch (Exception e) {
+      log.error(sd, "Error writing response: {} ", e.getMessage());
+      return "";
+    }
+  }
+}
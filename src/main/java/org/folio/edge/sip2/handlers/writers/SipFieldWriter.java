@@ -0,0 +1,334 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
+import org.folio.edge.sip2.domain.messages.enumerations.FeeType;
+import org.folio.edge.sip2.domain.messages.enumerations.Language;
+import org.folio.edge.sip2.domain.messages.enumerations.MediaType;
+import org.folio.edge.sip2.domain.messages.enumerations.PatronStatus;
+import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * Writes SIP fields straight into a response message, following the field macros in
+ * {@code lib.ftl}: variable-length values are cut to 255 characters, field delimiters in a
+ * value are replaced by spaces and every variable-length field ends with the delimiter.
+ *
+ * <p>A required value that is missing fails the whole response, as it does in the templates.
+ */
+final class SipFieldWriter {
+  static final int MAX_FIELD_LENGTH = 255;
+
+  private static final String CURRENCY_PATTERN = ",##0.00";
+  private static final String ACCOUNT_DATE_PATTERN = "dd.MM.yyyy";
+  private static final int COUNT_LENGTH = 4;
+  private static final int MAX_COUNT = 9999;
+
+  private final StringBuilder sb = new StringBuilder(256);
+  private final char delimiter;
+  private final String timezone;
+  private final Locale locale;
+  private DecimalFormat currencyFormat;
+
+  SipFieldWriter(SessionData sessionData, Locale locale) {
+    this.delimiter = sessionData.getFieldDelimiter();
+    this.timezone = sessionData.getTimeZone();
+    this.locale = locale;
+  }
+
+  /**
+   * Writes literal text, such as a command identifier.
+   */
+  SipFieldWriter append(String text) {
+    sb.append(requireNonNull(text, "text cannot be null"));
+    return this;
+  }
+
+  /**
+   * Writes a single character, such as a literal delimiter.
+   */
+  SipFieldWriter append(char c) {
+    sb.append(c);
+    return this;
+  }
+
+  /**
+   * Writes a required flag as {@code 1} or {@code 0}.
+   */
+  SipFieldWriter ok(Boolean value) {
+    sb.append(requireNonNull(value, "ok cannot be null") ? '1' : '0');
+    return this;
+  }
+
+  /**
+   * Writes a required flag as {@code Y} or {@code N}.
+   */
+  SipFieldWriter yesOrNo(Boolean value) {
+    sb.append(requireNonNull(value, "flag cannot be null") ? 'Y' : 'N');
+    return this;
+  }
+
+  /**
+   * Writes a flag as {@code Y} or {@code N}, or {@code U} when it is unknown.
+   */
+  SipFieldWriter yesNoOrUnknown(Boolean value) {
+    if (value == null) {
+      sb.append('U');
+      return this;
+    }
+    return yesOrNo(value);
+  }
+
+  /**
+   * Writes a required 18-character SIP date in the SC time zone.
+   */
+  SipFieldWriter dateTime(OffsetDateTime value) {
+    sb.append(FormatDateTimeMethodModel.formatDateTime(
+        requireNonNull(value, "date cannot be null"),
+        FormatDateTimeMethodModel.SIP_DATE_TIME_PATTERN, timezone));
+    return this;
+  }
+
+  /**
+   * Writes a number with a {@link DecimalFormat} pattern, e.g. {@code 000}.
+   */
+  SipFieldWriter number(Number value, String pattern) {
+    sb.append(new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale))
+        .format(requireNonNull(value, "number cannot be null")));
+    return this;
+  }
+
+  /**
+   * Writes a required variable-length field.
+   */
+  SipFieldWriter field(String id, String value) {
+    requireNonNull(value, () -> id + " cannot be null");
+    sb.append(id);
+    appendValue(value, 0, Math.min(value.length(), MAX_FIELD_LENGTH));
+    sb.append(delimiter);
+    return this;
+  }
+
+  /**
+   * Writes a variable-length field that is always present, but may be empty.
+   */
+  SipFieldWriter fieldOrEmpty(String id, String value) {
+    return field(id, value == null ? "" : value);
+  }
+
+  /**
+   * Writes a variable-length field only when it has a value.
+   */
+  SipFieldWriter optionalField(String id, String value) {
+    if (value != null && !value.isEmpty()) {
+      field(id, value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes every value of a list as its own variable-length field.
+   */
+  SipFieldWriter listField(String id, List<String> values) {
+    if (values != null) {
+      for (String value : values) {
+        fieldOrEmpty(id, value);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Writes every value of a list, split into as many fields of at most {@code length}
+   * characters as it takes, e.g. screen messages and print lines.
+   */
+  SipFieldWriter repeatableField(String id, List<String> values, int length) {
+    if (values == null || values.isEmpty()) {
+      return this;
+    }
+    if (length < 1) {
+      throw new IllegalArgumentException("Invalid length " + length + " for field " + id);
+    }
+
+    for (String value : values) {
+      requireNonNull(value, () -> id + " cannot contain null");
+      int start = 0;
+      while (start < value.length()) {
+        // the templates split with a regular expression, which counts code points
+        int end = start;
+        for (int count = 0; count < length && end < value.length(); count++) {
+          end += Character.charCount(value.codePointAt(end));
+        }
+        sb.append(id);
+        appendValue(value, start, end);
+        sb.append(delimiter);
+        start = end;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Writes a date field that is always present, but may be empty.
+   */
+  SipFieldWriter dateField(String id, OffsetDateTime value) {
+    return formattedDateField(id, value, FormatDateTimeMethodModel.SIP_DATE_TIME_PATTERN);
+  }
+
+  /**
+   * Writes a fee date field, formatted as {@code dd.MM.yyyy}, that may be empty.
+   */
+  SipFieldWriter accountDateField(String id, OffsetDateTime value) {
+    return formattedDateField(id, value, ACCOUNT_DATE_PATTERN);
+  }
+
+  /**
+   * Writes an amount field, formatted as {@code #,##0.00}, that may be empty.
+   */
+  SipFieldWriter currencyField(String id, Double value) {
+    sb.append(id);
+    if (value != null) {
+      if (currencyFormat == null) {
+        currencyFormat = new DecimalFormat(CURRENCY_PATTERN,
+            DecimalFormatSymbols.getInstance(locale));
+      }
+      sb.append(currencyFormat.format(value));
+    }
+    sb.append(delimiter);
+    return this;
+  }
+
+  /**
+   * Writes an optional flag field as {@code Y} or {@code N}.
+   */
+  SipFieldWriter flagField(String id, Boolean value) {
+    if (value != null) {
+      sb.append(id);
+      yesOrNo(value);
+      sb.append(delimiter);
+    }
+    return this;
+  }
+
+  /**
+   * Writes a 4-digit count limited to 0-9999, or four spaces when the count is unknown.
+   */
+  SipFieldWriter count(Integer value) {
+    if (value == null) {
+      sb.append("    ");
+    } else {
+      appendCount(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an optional 4-digit limit field limited to 0-9999.
+   */
+  SipFieldWriter limitField(String id, Integer value) {
+    if (value != null) {
+      sb.append(id);
+      appendCount(value);
+      sb.append(delimiter);
+    }
+    return this;
+  }
+
+  /**
+   * Writes the 14-character patron status, one {@code Y} or space per status.
+   */
+  SipFieldWriter patronStatus(Set<PatronStatus> value) {
+    requireNonNull(value, "patron status cannot be null");
+    for (PatronStatus status : PatronStatus.values()) {
+      sb.append(value.contains(status) ? 'Y' : ' ');
+    }
+    return this;
+  }
+
+  /**
+   * Writes the required 3-digit language code.
+   */
+  SipFieldWriter language(Language value) {
+    // the codes follow the declaration order, as the switch in lib.ftl does
+    appendDigits(requireNonNull(value, "language cannot be null").ordinal(), 3);
+    return this;
+  }
+
+  /**
+   * Writes the optional fee type field.
+   */
+  SipFieldWriter feeType(FeeType value) {
+    if (value != null) {
+      sb.append("BT");
+      appendDigits(value.ordinal() + 1, 2);
+      sb.append(delimiter);
+    }
+    return this;
+  }
+
+  /**
+   * Writes the optional currency type field.
+   */
+  SipFieldWriter currencyType(CurrencyType value) {
+    if (value != null) {
+      sb.append("BH").append(value).append(delimiter);
+    }
+    return this;
+  }
+
+  /**
+   * Writes the optional media type field.
+   */
+  SipFieldWriter mediaType(MediaType value) {
+    if (value != null) {
+      sb.append("CK");
+      appendDigits(value.ordinal(), 3);
+      sb.append(delimiter);
+    }
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return sb.toString();
+  }
+
+  private SipFieldWriter formattedDateField(String id, OffsetDateTime value, String pattern) {
+    sb.append(id);
+    if (value != null) {
+      sb.append(FormatDateTimeMethodModel.formatDateTime(value, pattern, timezone));
+    }
+    sb.append(delimiter);
+    return this;
+  }
+
+  private void appendValue(String value, int start, int end) {
+    for (int i = start; i < end; i++) {
+      final char c = value.charAt(i);
+      sb.append(c == delimiter ? ' ' : c);
+    }
+  }
+
+  private void appendCount(int value) {
+    if (value > MAX_COUNT) {
+      sb.append(MAX_COUNT);
+    } else {
+      appendDigits(Math.max(value, 0), COUNT_LENGTH);
+    }
+  }
+
+  private void appendDigits(int value, int length) {
+    final String digits = Integer.toString(value);
+    for (int i = digits.length(); i < length; i++) {
+      sb.append('0');
+    }
+    sb.append(digits);
+  }
+}
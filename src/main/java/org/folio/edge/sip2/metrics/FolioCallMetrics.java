@@ -0,0 +1,143 @@
+package org.folio.edge.sip2.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.client.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Timers of the calls to FOLIO, by path template, HTTP method and status class, and counters of
+ * the calls and errors by tenant.
+ *
+ * <p>Paths are turned into templates by dropping the query and replacing UUIDs and numbers with
+ * {@code {id}}. To keep the number of meters bounded, paths and tenants beyond the first
+ * {@value #MAX_PATHS} and {@value #MAX_TENANTS} are recorded as {@code other}. The tenant is not
+ * a tag of the timers, whose histogram buckets make every series expensive, so the number of
+ * timers does not grow with the number of tenants.
+ */
+public final class FolioCallMetrics {
+  static final String TIMER_NAME = "org.folio.edge.sip2.folio.call";
+  static final String ERRORS_NAME = TIMER_NAME + ".errors";
+  static final String CALLS_NAME = "org.folio.edge.sip2.folio.calls";
+  static final int MAX_PATHS = 200;
+  static final int MAX_TENANTS = 100;
+  static final String OTHER = "other";
+
+  private static final Pattern ID_SEGMENT = Pattern.compile(
+      "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+");
+  private static final String ID = "{id}";
+  private static final String NO_STATUS = "none";
+  private static final String UNKNOWN_TENANT = "unknown";
+  private static final Duration[] SLOS = {
+      Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+      Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2),
+      Duration.ofSeconds(5)};
+
+  private static FolioCallMetrics instance;
+
+  private final MeterRegistry registry;
+  private final Set<String> paths = ConcurrentHashMap.newKeySet();
+  private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+  FolioCallMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Returns the FOLIO call metrics shared by all verticle instances.
+   *
+   * @return the call metrics
+   */
+  public static synchronized FolioCallMetrics get() {
+    if (instance == null) {
+      instance = new FolioCallMetrics(Metrics.getRegistry());
+    }
+    return instance;
+  }
+
+  /**
+   * Makes a call to FOLIO and records how long it took, and whether it failed.
+   *
+   * @param method the HTTP method
+   * @param path the path and query of the call
+   * @param tenant the tenant the call is made for
+   * @param call sends the request
+   * @param <T> the response body type
+   * @return the response
+   */
+  public <T> Future<HttpResponse<T>> time(HttpMethod method, String path, String tenant,
+      Supplier<Future<HttpResponse<T>>> call) {
+    final long start = System.nanoTime();
+    return call.get().onComplete(result -> {
+      final long duration = System.nanoTime() - start;
+      final String status = result.succeeded()
+          ? getStatusClass(result.result().statusCode()) : NO_STATUS;
+      final Tags tags = Tags.of(
+          "path", bounded(paths, getPathTemplate(path), MAX_PATHS),
+          "method", method.name());
+      final String tenantTag =
+          bounded(tenants, tenant == null ? UNKNOWN_TENANT : tenant, MAX_TENANTS);
+
+      Timer.builder(TIMER_NAME)
+          .tags(tags)
+          .tag("status", status)
+          .publishPercentileHistogram()
+          .serviceLevelObjectives(SLOS)
+          .register(registry)
+          .record(duration, TimeUnit.NANOSECONDS);
+      registry.counter(CALLS_NAME, "tenant", tenantTag, "status", status).increment();
+
+      if (result.failed() || result.result().statusCode() >= 400) {
+        registry.counter(ERRORS_NAME, tags.and("tenant", tenantTag, "error", result.failed()
+            ? result.cause().getClass().getSimpleName() : status)).increment();
+      }
+    });
+  }
+
+  /**
+   * Returns the template of a path, without the query and with UUIDs and numbers replaced by
+   * {@code {id}}, e.g. {@code /bl-users/by-id/{id}}.
+   *
+   * @param path the path and query
+   * @return the path template
+   */
+  public static String getPathTemplate(String path) {
+    if (path == null || path.isEmpty()) {
+      return "/";
+    }
+
+    final int query = path.indexOf('?');
+    final String[] segments = (query < 0 ? path : path.substring(0, query)).split("/", -1);
+    final StringBuilder template = new StringBuilder(path.length());
+    for (int i = 0; i < segments.length; i++) {
+      if (i > 0) {
+        template.append('/');
+      }
+      template.append(ID_SEGMENT.matcher(segments[i]).matches() ? ID : segments[i]);
+    }
+    return template.toString();
+  }
+
+  static String getStatusClass(int statusCode) {
+    return statusCode / 100 + "xx";
+  }
+
+  private static String bounded(Set<String> values, String value, int max) {
+    if (values.contains(value)) {
+      return value;
+    }
+    if (values.size() >= max) {
+      return OTHER;
+    }
+    values.add(value);
+    return value;
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.edge.sip2.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.http.HttpConnection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics of the connection pools of the FOLIO web clients, summed over all verticle
+ * instances.
+ *
+ * <p>Only the open connections are counted, through the connect handler of the HTTP client.
+ * The wait queue, the connections in use and the time to acquire a connection are not measured:
+ * the web client has no public hook for them.
+ */
+public final class HttpClientPoolMetrics {
+  private static final String METRICS_PREFIX = "org.folio.edge.sip2.folio.client.";
+
+  private static HttpClientPoolMetrics instance;
+
+  private final AtomicInteger connections = new AtomicInteger();
+
+  HttpClientPoolMetrics(MeterRegistry registry) {
+    Gauge.builder(METRICS_PREFIX + "connections", connections, AtomicInteger::get)
+        .register(registry);
+  }
+
+  /**
+   * Returns the pool metrics shared by all FOLIO web clients.
+   *
+   * @return the pool metrics
+   */
+  public static synchronized HttpClientPoolMetrics get() {
+    if (instance == null) {
+      instance = new HttpClientPoolMetrics(Metrics.getRegistry());
+    }
+    return instance;
+  }
+
+  /**
+   * Counts a connection opened by a pool until it is closed.
+   *
+   * @param connection the connection
+   */
+  public void connectionOpened(HttpConnection connection) {
+    connections.incrementAndGet();
+    connection.closeHandler(v -> connections.decrementAndGet());
+  }
+
+  int getConnections() {
+    return connections.get();
+  }
+}
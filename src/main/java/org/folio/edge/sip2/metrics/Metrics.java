@@ -11,6 +11,7 @@ import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.micrometer.backends.BackendRegistries;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.folio.edge.sip2.parser.Command;
 
 public final class Metrics {
@@ -24,17 +25,23 @@ public final class Metrics {
       METRICS_PREFIX + "scResend" + ERRORS_SUFFIX;
   private static final String COUNTER_INVALID_MESSAGE_ERRORS =
       METRICS_PREFIX + "invalidMessage" + ERRORS_SUFFIX;
+  private static final String COUNTER_DEADLINE_ERRORS = METRICS_PREFIX + "deadline" + ERRORS_SUFFIX;
+
+  // JVM binders register listeners, so they must be bound once even with several verticles
+  private static final AtomicBoolean JVM_METRICS_BOUND = new AtomicBoolean();
+  // used by all callers while metrics are disabled, so their meters are registered once
+  private static final MeterRegistry LOCAL_REGISTRY = new SimpleMeterRegistry();
 
   private static final String SIP2_COMMAND_TAG = "command";
   private static final String SIP2_COMMAND_TIMER_NAME = METRICS_PREFIX + "command.timer";
 
-  private final MeterRegistry registry = Optional.ofNullable(BackendRegistries.getDefaultNow())
-      .orElse(new SimpleMeterRegistry());
+  private final MeterRegistry registry = getRegistry();
   private final Counter socketErrorCounter;
   private final Counter requestErrorCounter;
   private final Counter responseErrorCounter;
   private final Counter scResendErrorCounter;
   private final Counter invalidMessageErrorCounter;
+  private final Counter deadlineErrorCounter;
   private final JvmGcMetrics jvmGcMetrics;
 
   Metrics(int port) {
@@ -53,20 +60,38 @@ public final class Metrics {
     invalidMessageErrorCounter = Counter.builder(COUNTER_INVALID_MESSAGE_ERRORS)
         .tag("port", Integer.toString(port))
         .register(registry);
+    deadlineErrorCounter = Counter.builder(COUNTER_DEADLINE_ERRORS)
+        .tag("port", Integer.toString(port))
+        .register(registry);
 
     // Load JVM instrumentation
-    new ClassLoaderMetrics().bindTo(registry);
-    new JvmMemoryMetrics().bindTo(registry);
-    jvmGcMetrics = new JvmGcMetrics();
-    jvmGcMetrics.bindTo(registry);
-    new ProcessorMetrics().bindTo(registry);
-    new JvmThreadMetrics().bindTo(registry);
+    if (JVM_METRICS_BOUND.compareAndSet(false, true)) {
+      new ClassLoaderMetrics().bindTo(registry);
+      new JvmMemoryMetrics().bindTo(registry);
+      jvmGcMetrics = new JvmGcMetrics();
+      jvmGcMetrics.bindTo(registry);
+      new ProcessorMetrics().bindTo(registry);
+      new JvmThreadMetrics().bindTo(registry);
+    } else {
+      jvmGcMetrics = null;
+    }
   }
 
   public static Metrics getMetrics(int port) {
     return new Metrics(port);
   }
 
+  /**
+   * Returns the registry of the Vert.x metrics backend, or the local registry when metrics are
+   * disabled.
+   *
+   * @return the meter registry
+   */
+  public static MeterRegistry getRegistry() {
+    return Optional.ofNullable(BackendRegistries.getDefaultNow())
+        .orElse(LOCAL_REGISTRY);
+  }
+
   public void socketError() {
     socketErrorCounter.increment();
   }
@@ -107,6 +132,14 @@ public final class Metrics {
     return invalidMessageErrorCounter.count();
   }
 
+  public void deadlineError() {
+    deadlineErrorCounter.increment();
+  }
+
+  double deadlineErrorCount() {
+    return deadlineErrorCounter.count();
+  }
+
   public Timer.Sample sample() {
     return Timer.start(registry);
   }
@@ -119,11 +152,15 @@ public final class Metrics {
    * Closes any metrics that need to be closed.
    */
   public void stop() {
-    jvmGcMetrics.close();
+    if (jvmGcMetrics != null) {
+      jvmGcMetrics.close();
+      JVM_METRICS_BOUND.set(false);
+    }
     socketErrorCounter.close();
     requestErrorCounter.close();
     responseErrorCounter.close();
     scResendErrorCounter.close();
     invalidMessageErrorCounter.close();
+    deadlineErrorCounter.close();
   }
 }
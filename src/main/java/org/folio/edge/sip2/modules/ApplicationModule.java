@@ -15,22 +15,45 @@ import static org.folio.edge.sip2.parser.Command.SC_STATUS;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
-import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
 import freemarker.template.Template;
 import jakarta.inject.Named;
 import java.time.Clock;
+import java.util.Set;
+import org.folio.edge.sip2.cache.AcsConfigCacheFactory;
+import org.folio.edge.sip2.cache.AcsConfigKey;
+import org.folio.edge.sip2.cache.AsyncLoadingCache;
+import org.folio.edge.sip2.cache.FolioCircuitBreaker;
+import org.folio.edge.sip2.cache.FolioCircuitBreakerFactory;
+import org.folio.edge.sip2.cache.FolioRequestKey;
+import org.folio.edge.sip2.cache.FolioResponseCache;
+import org.folio.edge.sip2.cache.FolioResponseCacheFactory;
+import org.folio.edge.sip2.cache.KioskTokenPool;
+import org.folio.edge.sip2.cache.PatronVerificationCache;
+import org.folio.edge.sip2.cache.PatronVerificationCacheFactory;
+import org.folio.edge.sip2.cache.RequestCoalescer;
+import org.folio.edge.sip2.cache.RequestCoalescerFactory;
+import org.folio.edge.sip2.cache.RequestHedger;
+import org.folio.edge.sip2.cache.RequestHedgerFactory;
+import org.folio.edge.sip2.cache.TokenCacheFactory;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
+import org.folio.edge.sip2.metrics.Metrics;
+import org.folio.edge.sip2.parser.Command;
+import org.folio.edge.sip2.repositories.CachingResourceProvider;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.repositories.ConfigurationRepository;
 import org.folio.edge.sip2.repositories.FeeFinesRepository;
+import org.folio.edge.sip2.repositories.FolioResource;
 import org.folio.edge.sip2.repositories.FolioResourceProvider;
 import org.folio.edge.sip2.repositories.IRequestData;
 import org.folio.edge.sip2.repositories.IResourceProvider;
 import org.folio.edge.sip2.repositories.ItemRepository;
 import org.folio.edge.sip2.repositories.LoginRepository;
+import org.folio.edge.sip2.repositories.MemoizingResourceProvider;
 import org.folio.edge.sip2.repositories.PasswordVerifier;
 import org.folio.edge.sip2.repositories.UsersRepository;
+import org.folio.edge.sip2.repositories.domain.AcsConfig;
 import org.folio.edge.sip2.service.config.TenantConfigurationService;
 import org.folio.edge.sip2.service.tenant.IpTenantResolver;
 import org.folio.edge.sip2.service.tenant.LocationCodeTenantResolver;
@@ -47,6 +70,26 @@ import org.folio.edge.sip2.service.tenant.UsernamePrefixTenantResolver;
  */
 public class ApplicationModule extends AbstractModule {
 
+  private final TenantConfigurationService tenantConfigurationService;
+  private final Set<Command> directResponses;
+
+  public ApplicationModule() {
+    this(null, Set.of());
+  }
+
+  /**
+   * Creates the module, optionally reusing an existing tenant configuration service so that
+   * several verticle instances observe the same tenant configuration.
+   *
+   * @param tenantConfigurationService shared tenant configuration, or {@code null} to create one
+   * @param directResponses the responses written directly instead of by their template
+   */
+  public ApplicationModule(TenantConfigurationService tenantConfigurationService,
+      Set<Command> directResponses) {
+    this.tenantConfigurationService = tenantConfigurationService;
+    this.directResponses = directResponses;
+  }
+
   @Override
   protected void configure() {
     var tenantResolverBinder = Multibinder.newSetBinder(binder(), TenantResolver.class);
@@ -56,10 +99,13 @@ public class ApplicationModule extends AbstractModule {
     tenantResolverBinder.addBinding().to(LocationCodeTenantResolver.class);
     bind(Sip2TenantService.class).asEagerSingleton();
 
-    bind(new TypeLiteral<IResourceProvider<IRequestData>>() {})
-        .to(FolioResourceProvider.class).asEagerSingleton();
+    bind(FolioResourceProvider.class).asEagerSingleton();
 
-    bind(TenantConfigurationService.class).asEagerSingleton();
+    if (tenantConfigurationService == null) {
+      bind(TenantConfigurationService.class).asEagerSingleton();
+    } else {
+      bind(TenantConfigurationService.class).toInstance(tenantConfigurationService);
+    }
     bind(Clock.class).toInstance(Clock.systemUTC());
     bind(ConfigurationRepository.class);
     bind(CirculationRepository.class);
@@ -76,6 +122,56 @@ public class ApplicationModule extends AbstractModule {
     return new FreemarkerRepository();
   }
 
+  @Provides
+  @Singleton
+  ResponseWriterRepository provideResponseWriterRepository(
+      FreemarkerRepository freemarkerRepository) {
+    return new ResponseWriterRepository(freemarkerRepository.getLocale(), directResponses);
+  }
+
+  @Provides
+  @Singleton
+  IResourceProvider<IRequestData> provideResourceProvider(
+      FolioResourceProvider folioResourceProvider, FolioResponseCache responseCache) {
+    return new MemoizingResourceProvider(
+        new CachingResourceProvider(folioResourceProvider, responseCache), Metrics.getRegistry());
+  }
+
+  @Provides
+  FolioResponseCache provideFolioResponseCache() {
+    return FolioResponseCacheFactory.get();
+  }
+
+  @Provides
+  AsyncLoadingCache<AcsConfigKey, AcsConfig> provideAcsConfigCache() {
+    return AcsConfigCacheFactory.get();
+  }
+
+  @Provides
+  KioskTokenPool provideKioskTokenPool() {
+    return TokenCacheFactory.get();
+  }
+
+  @Provides
+  RequestCoalescer<FolioRequestKey, FolioResource> provideFolioGetCoalescer() {
+    return RequestCoalescerFactory.get();
+  }
+
+  @Provides
+  FolioCircuitBreaker provideFolioCircuitBreaker() {
+    return FolioCircuitBreakerFactory.get();
+  }
+
+  @Provides
+  RequestHedger provideRequestHedger() {
+    return RequestHedgerFactory.get();
+  }
+
+  @Provides
+  PatronVerificationCache providePatronVerificationCache() {
+    return PatronVerificationCacheFactory.get();
+  }
+
   @Provides
   @Named("checkoutResponse")
   Template provideCheckoutResponseTemplate(FreemarkerRepository freemarkerRepository) {
@@ -1,7 +1,5 @@
 package org.folio.edge.sip2.parser;
 
-import java.util.Arrays;
-
 /**
  * Valid SIP commands.
  * @author mreno-EBSCO
@@ -44,6 +42,17 @@ public enum Command {
   RENEW_RESPONSE("30"),
   RENEW_ALL_RESPONSE("66");
 
+  // command identifiers are two digits, indexed by their numeric value
+  private static final Command[] INDEX = new Command[100];
+
+  static {
+    for (Command command : values()) {
+      if (command != UNKNOWN) {
+        INDEX[index(command.identifier.charAt(0), command.identifier.charAt(1))] = command;
+      }
+    }
+  }
+
   private final String identifier;
 
   private Command(String identifier) {
@@ -57,9 +66,28 @@ public enum Command {
    * @return the found command enum or {@code UNKNOWN} if not found.
    */
   public static Command find(String identifier) {
-    return Arrays.stream(values())
-        .filter(status -> status.identifier.equals(identifier))
-        .findFirst()
-        .orElse(UNKNOWN);
+    if (identifier == null || identifier.length() != 2) {
+      return UNKNOWN;
+    }
+    return find(identifier.charAt(0), identifier.charAt(1));
+  }
+
+  /**
+   * Find an enum base on the two characters of the command identifier.
+   *
+   * @param first the first character of the command identifier.
+   * @param second the second character of the command identifier.
+   * @return the found command enum or {@code UNKNOWN} if not found.
+   */
+  public static Command find(char first, char second) {
+    if (first < '0' || first > '9' || second < '0' || second > '9') {
+      return UNKNOWN;
+    }
+    final Command command = INDEX[index(first, second)];
+    return command == null ? UNKNOWN : command;
+  }
+
+  private static int index(char first, char second) {
+    return (first - '0') * 10 + second - '0';
   }
 }
@@ -1,90 +1,174 @@
 package org.folio.edge.sip2.parser;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
 import java.time.OffsetDateTime;
+import java.time.Year;
 import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.temporal.ChronoField;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.folio.edge.sip2.utils.Utils;
 
 /**
- * Maps a SIP date and time to a domain date and time.
- * 
+ * Maps a SIP date and time to a domain date and time. SIP dates are 18 characters in the
+ * format {@code YYYYMMDDZZZZHHMMSS}, where the time zone is either four spaces for the SC's
+ * local time or three spaces followed by a military time zone letter.
+ *
+ * <p>The digits are read directly from the message and local times are resolved against the
+ * cached rules of the SC time zone, using the offset in effect at that date and time. A local
+ * time in a DST gap or overlap resolves the same way as {@link java.time.ZonedDateTime} does.
+ *
  * @author mreno-EBSCO
  *
  */
 public final class DateTimeMapper {
-  private static final String DATE_FORMAT_STRING = "yyyyMMdd";
-  private static final String TIME_FORMAT_STRING = "HHmmss";
+  static final int LENGTH = 18;
 
-  private static final Map<Long, String> TZ_MAP;
+  private static final Map<String, DateTimeMapper> MAPPERS = new ConcurrentHashMap<>();
+  // military time zone letters, indexed by letter - 'A'; 'J' is local time and is not used
+  private static final ZoneOffset[] MILITARY_ZONES = new ZoneOffset[26];
 
   static {
-    final Map<Long, String> zoneLookup = new HashMap<>();
-    zoneLookup.put(1L * 60L * 60L, "   A");
-    zoneLookup.put(2L * 60L * 60L, "   B");
-    zoneLookup.put(3L * 60L * 60L, "   C");
-    zoneLookup.put(4L * 60L * 60L, "   D");
-    zoneLookup.put(5L * 60L * 60L, "   E");
-    zoneLookup.put(6L * 60L * 60L, "   F");
-    zoneLookup.put(7L * 60L * 60L, "   G");
-    zoneLookup.put(8L * 60L * 60L, "   H");
-    zoneLookup.put(9L * 60L * 60L, "   I");
-    zoneLookup.put(10L * 60L * 60L, "   K");
-    zoneLookup.put(11L * 60L * 60L, "   L");
-    zoneLookup.put(12L * 60L * 60L, "   M");
-    zoneLookup.put(-1L * 60L * 60L, "   N");
-    zoneLookup.put(-2L * 60L * 60L, "   O");
-    zoneLookup.put(-3L * 60L * 60L, "   P");
-    zoneLookup.put(-4L * 60L * 60L, "   Q");
-    zoneLookup.put(-5L * 60L * 60L, "   R");
-    zoneLookup.put(-6L * 60L * 60L, "   S");
-    zoneLookup.put(-7L * 60L * 60L, "   T");
-    zoneLookup.put(-8L * 60L * 60L, "   U");
-    zoneLookup.put(-9L * 60L * 60L, "   V");
-    zoneLookup.put(-10L * 60L * 60L, "   W");
-    zoneLookup.put(-11L * 60L * 60L, "   X");
-    zoneLookup.put(-12L * 60L * 60L, "   Y");
-    zoneLookup.put(0L * 60L * 60L, "   Z");
-
-    TZ_MAP = Collections.unmodifiableMap(zoneLookup);
+    final String east = "ABCDEFGHIKLM";
+    final String west = "NOPQRSTUVWXY";
+    for (int hours = 1; hours <= 12; hours++) {
+      MILITARY_ZONES[east.charAt(hours - 1) - 'A'] = ZoneOffset.ofHours(hours);
+      MILITARY_ZONES[west.charAt(hours - 1) - 'A'] = ZoneOffset.ofHours(-hours);
+    }
+    MILITARY_ZONES['Z' - 'A'] = ZoneOffset.UTC;
   }
 
-  private final Map<Long, String> localTzMap;
+  private final ZoneRules rules;
+
+  private DateTimeMapper(ZoneRules rules) {
+    this.rules = rules;
+  }
 
   /**
-   * Construct a {@code DateTimeMapper} with the specified {@code ZoneOffset}.
-   * @param scTimeZone the time zone specified by the SC.
+   * Returns the shared {@code DateTimeMapper} for the specified SC time zone.
+   * @param timezone the time zone of the SC, e.g. "Etc/UTC" or "America/Chicago".
+   * @return the mapper.
    */
-  public DateTimeMapper(ZoneOffset scTimeZone) {
-    final Map<Long, String> localMap = new HashMap<>();
-    localMap.put((long) scTimeZone.getTotalSeconds(), "    ");
-    localTzMap = Collections.unmodifiableMap(localMap);
+  public static DateTimeMapper forTimezone(String timezone) {
+    final DateTimeMapper mapper = MAPPERS.get(timezone);
+    if (mapper != null) {
+      return mapper;
+    }
+    return MAPPERS.computeIfAbsent(timezone,
+        tz -> new DateTimeMapper(Utils.getZoneId(tz).getRules()));
   }
 
   /**
-   * Return a {@code ZoneDateTime} from a SIP formatted date and time.
+   * Return a UTC {@code OffsetDateTime} from a SIP formatted date and time.
    * @param scDateTime the SIP formatted date and time.
    * @return the domain date and time.
    */
   public OffsetDateTime mapDateTime(String scDateTime) {
-    final DateTimeFormatter formatter = new DateTimeFormatterBuilder()
-        .appendPattern(DATE_FORMAT_STRING)
-        // These optional sections are because there will be an overlap
-        // between local TZ and a specified time zone that matches the local
-        // time zone, so we need a map for "    " and a map for all the
-        // specified time zones. There might be a better way to do this.
-        .optionalStart()
-          .appendText(ChronoField.OFFSET_SECONDS, localTzMap)
-        .optionalEnd()
-        .optionalStart()
-          .appendText(ChronoField.OFFSET_SECONDS, TZ_MAP)
-        .optionalEnd()
-        .appendPattern(TIME_FORMAT_STRING)
-        .toFormatter();
-
-    return OffsetDateTime.parse(scDateTime, formatter);
+    if (scDateTime.length() != LENGTH) {
+      throw new DateTimeParseException("Text '" + scDateTime + "' could not be parsed",
+          scDateTime, 0);
+    }
+    return mapDateTime(scDateTime.toCharArray(), 0);
+  }
+
+  /**
+   * Return a UTC {@code OffsetDateTime} from a SIP formatted date and time.
+   * @param chars the message characters.
+   * @param offset the position of the date and time in the message.
+   * @return the domain date and time.
+   */
+  public OffsetDateTime mapDateTime(char[] chars, int offset) {
+    if (offset + LENGTH > chars.length) {
+      throw parseException(chars, offset, null);
+    }
+
+    final int year = parseDigits(chars, offset, 0, 4);
+    final int month = parseDigits(chars, offset, 4, 2);
+    final int day = parseDigits(chars, offset, 6, 2);
+    final int hour = parseDigits(chars, offset, 12, 2);
+    final int minute = parseDigits(chars, offset, 14, 2);
+    final int second = parseDigits(chars, offset, 16, 2);
+
+    final LocalDateTime localDateTime;
+    try {
+      localDateTime = toLocalDateTime(year, month, day, hour, minute, second);
+    } catch (DateTimeException e) {
+      throw parseException(chars, offset, e);
+    }
+
+    final ZoneOffset zoneOffset = parseZone(chars, offset, localDateTime);
+    if (zoneOffset.getTotalSeconds() == 0) {
+      return OffsetDateTime.of(localDateTime, ZoneOffset.UTC);
+    }
+    final long epochSecond = localDateTime.toEpochSecond(zoneOffset);
+    return OffsetDateTime.of(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC),
+        ZoneOffset.UTC);
+  }
+
+  private ZoneOffset parseZone(char[] chars, int offset, LocalDateTime localDateTime) {
+    final int zone = offset + 8;
+    if (chars[zone] != ' ' || chars[zone + 1] != ' ' || chars[zone + 2] != ' ') {
+      throw parseException(chars, offset, null);
+    }
+
+    final char letter = chars[zone + 3];
+    if (letter == ' ') {
+      return localOffset(localDateTime);
+    }
+
+    final ZoneOffset zoneOffset = letter >= 'A' && letter <= 'Z'
+        ? MILITARY_ZONES[letter - 'A'] : null;
+    if (zoneOffset == null) {
+      throw parseException(chars, offset, null);
+    }
+    return zoneOffset;
+  }
+
+  private ZoneOffset localOffset(LocalDateTime localDateTime) {
+    if (rules.isFixedOffset()) {
+      return rules.getOffset(localDateTime);
+    }
+
+    final ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+    // In a gap the time is moved later by the length of the gap, in an overlap the earlier
+    // offset is used; both use the offset before the transition
+    return transition == null
+        ? rules.getOffset(localDateTime) : transition.getOffsetBefore();
+  }
+
+  private static LocalDateTime toLocalDateTime(int year, int month, int day, int hour,
+      int minute, int second) {
+    // smart resolution: days past the end of the month are moved to the last day and
+    // 24:00:00 is midnight of the next day, as with DateTimeFormatter
+    final int lastDay = Month.of(month).length(Year.isLeap(year));
+    final int dayOfMonth = day > lastDay && day <= 31 ? lastDay : day;
+    if (hour == 24 && minute == 0 && second == 0) {
+      return LocalDateTime.of(year, month, dayOfMonth, 0, 0).plusDays(1);
+    }
+    return LocalDateTime.of(year, month, dayOfMonth, hour, minute, second);
+  }
+
+  private static int parseDigits(char[] chars, int offset, int start, int count) {
+    int value = 0;
+    for (int i = offset + start; i < offset + start + count; i++) {
+      final char c = chars[i];
+      if (c < '0' || c > '9') {
+        throw parseException(chars, offset, null);
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  private static DateTimeParseException parseException(char[] chars, int offset,
+      Throwable cause) {
+    final int length = Math.max(0, Math.min(LENGTH, chars.length - offset));
+    final String text = new String(chars, offset, length);
+    return new DateTimeParseException("Text '" + text + "' could not be parsed", text, 0,
+        cause);
   }
 }
@@ -1,7 +1,5 @@
 package org.folio.edge.sip2.parser;
 
-import java.util.Arrays;
-
 /**
  * Valid SIP fields.
  * @author mreno-EBSCO
@@ -32,6 +30,17 @@ public enum Field {
   CO("CO"),
   CP("CP");
 
+  // field identifiers are two upper case letters, indexed by (first - 'A') * 26 + second - 'A'
+  private static final Field[] INDEX = new Field[26 * 26];
+
+  static {
+    for (Field field : values()) {
+      if (field != UNKNOWN) {
+        INDEX[index(field.identifier.charAt(0), field.identifier.charAt(1))] = field;
+      }
+    }
+  }
+
   private final String identifier;
 
   private Field(String identifier) {
@@ -45,9 +54,28 @@ public enum Field {
    * @return the found field enum or {@code UNKNOWN} if not found.
    */
   public static Field find(String identifier) {
-    return Arrays.stream(values())
-        .filter(status -> status.identifier.equals(identifier))
-        .findFirst()
-        .orElse(UNKNOWN);
+    if (identifier == null || identifier.length() != 2) {
+      return UNKNOWN;
+    }
+    return find(identifier.charAt(0), identifier.charAt(1));
+  }
+
+  /**
+   * Find an enum base on the two characters of the field identifier.
+   *
+   * @param first the first character of the field identifier.
+   * @param second the second character of the field identifier.
+   * @return the found field enum or {@code UNKNOWN} if not found.
+   */
+  public static Field find(char first, char second) {
+    if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+      return UNKNOWN;
+    }
+    final Field field = INDEX[index(first, second)];
+    return field == null ? UNKNOWN : field;
+  }
+
+  private static int index(char first, char second) {
+    return (first - 'A') * 26 + second - 'A';
   }
 }
@@ -0,0 +1,19 @@
+package org.folio.edge.sip2.parser;
+
+/**
+ * Read position within the message being parsed. Each parse call owns its cursor, which keeps
+ * the {@link MessageParser} implementations free of mutable state so that a single instance
+ * can be shared between connections.
+ */
+final class MessageCursor {
+  final char [] chars;
+  int position;
+
+  MessageCursor(String message) {
+    this.chars = message.toCharArray();
+  }
+
+  boolean hasRemaining() {
+    return position != chars.length;
+  }
+}
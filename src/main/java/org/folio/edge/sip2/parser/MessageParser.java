@@ -3,27 +3,25 @@ package org.folio.edge.sip2.parser;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.folio.edge.sip2.parser.Field.AB;
-import static org.folio.edge.sip2.parser.Field.UNKNOWN;
 
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.edge.sip2.parser.exceptions.MissingDelimiterException;
 
 /**
- * Base class for message parsing. Contains some common parsing methods.
+ * Base class for message parsing. Contains some common parsing methods. Implementations keep
+ * their read position in a {@link MessageCursor} owned by each parse call, so they are
+ * thread-safe and can be reused for any number of messages. The methods are also used by the
+ * readers and converters of the {@link MessageSchemas}.
  *
  * @author mreno-EBSCO
  *
  */
 public abstract class MessageParser {
   private static final Logger log = LogManager.getLogger();
-  private static final String MISSING_NB_DUE_DATE = " ".repeat(18);
 
-  protected int position;
   protected final Character delimiter;
   protected final String timezone;
 
@@ -34,26 +32,19 @@ public abstract class MessageParser {
       "timezone cannot be null");
   }
 
-  protected Field parseFieldIdentifier(char [] messageChars) {
-    final String fieldIdentifier = new String(new char [] {
-        messageChars[position++], messageChars[position++]
-    });
-
-    final Field field = Field.find(fieldIdentifier);
-
-    if (field == UNKNOWN) {
-      log.warn("Unknown field {}", fieldIdentifier);
-    }
-
-    return field;
+  Field parseFieldIdentifier(MessageCursor cursor) {
+    return Field.find(cursor.chars[cursor.position++], cursor.chars[cursor.position++]);
   }
 
-  protected String parseVariableLengthField(char [] messageChars, Field field) {
-    final int startPosition = position;
+  String parseVariableLengthField(MessageCursor cursor, Field field) {
+    final char [] messageChars = cursor.chars;
+    final int startPosition = cursor.position;
+    int position = startPosition;
     while (position < messageChars.length
         && messageChars[position] != delimiter.charValue()) {
       position++;
     }
+    cursor.position = position;
 
     if (position == messageChars.length
         && messageChars[position - 1] != delimiter.charValue()) {
@@ -65,42 +56,41 @@ public abstract class MessageParser {
     return shouldBeTrimmed(field) ? value.trim() : value;
   }
 
-  protected OffsetDateTime parseDateTimeNB(char [] messageChars) {
-    final String dateTimeString = new String(messageChars, position, 18);
-    position += 18;
+  OffsetDateTime parseDateTimeNB(MessageCursor cursor) {
+    final int start = cursor.position;
+    cursor.position += DateTimeMapper.LENGTH;
 
-    if (MISSING_NB_DUE_DATE.equals(dateTimeString)) {  // return null for 18 space nb due date
+    if (isBlank(cursor.chars, start)) {  // return null for 18 space nb due date
       return null;
     } else {
-      return convertFieldToDateTime(dateTimeString);
+      return getDateTimeMapper().mapDateTime(cursor.chars, start);
     }
   }
 
-  protected OffsetDateTime parseDateTime(char [] messageChars) {
-    final String dateTimeString = new String(messageChars, position, 18);
-    position += 18;
+  OffsetDateTime parseDateTime(MessageCursor cursor) {
+    final int start = cursor.position;
+    cursor.position += DateTimeMapper.LENGTH;
 
-    return convertFieldToDateTime(dateTimeString);
+    return getDateTimeMapper().mapDateTime(cursor.chars, start);
   }
 
-  protected Boolean parseBoolean(char [] messageChars) {
+  Boolean parseBoolean(MessageCursor cursor) {
     final Boolean result;
+    final char value = cursor.chars[cursor.position];
 
-    if (messageChars[position] == 'Y' || messageChars[position] == 'y') {
+    if (value == 'Y' || value == 'y') {
       result = TRUE;
     } else {
       result = FALSE;
     }
 
-    position++; // increment position
+    cursor.position++; // increment position
 
     return result;
   }
 
   protected OffsetDateTime convertFieldToDateTime(String dateTimeString) {
-    OffsetDateTime now = OffsetDateTime.now(ZoneId.of(this.timezone));
-    DateTimeMapper dtMapper = new DateTimeMapper(now.getOffset());
-    return dtMapper.mapDateTime(dateTimeString).withOffsetSameInstant(ZoneOffset.UTC);
+    return getDateTimeMapper().mapDateTime(dateTimeString);
   }
 
   protected Boolean convertFieldToBoolean(String value) {
@@ -116,6 +106,23 @@ public abstract class MessageParser {
     }
   }
 
+  private DateTimeMapper getDateTimeMapper() {
+    // looked up when needed so an invalid time zone only fails messages with dates
+    return DateTimeMapper.forTimezone(timezone);
+  }
+
+  private static boolean isBlank(char [] chars, int start) {
+    if (start + DateTimeMapper.LENGTH > chars.length) {
+      return false;
+    }
+    for (int i = start; i < start + DateTimeMapper.LENGTH; i++) {
+      if (chars[i] != ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static boolean shouldBeTrimmed(Field field) {
     return field == AB;
   }
@@ -0,0 +1,189 @@
+package org.folio.edge.sip2.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Describes the layout of a SC->ACS message: the fixed-length fields in the order they appear
+ * and the variable-length fields the message accepts, along with the request builder setters
+ * they are bound to. Schemas are immutable and are interpreted by {@link SchemaMessageParser}.
+ *
+ * @param <T> the request type
+ * @param <B> the request builder type
+ */
+final class MessageSchema<T, B> {
+  private final String name;
+  private final Supplier<B> builderFactory;
+  private final Function<B, T> buildFunction;
+  private final List<FixedField<B>> fixedFields;
+  // indexed by Field.ordinal(), null for fields the message does not accept
+  private final VariableField<B>[] variableFields;
+  private final boolean hasVariableFields;
+
+  private MessageSchema(SchemaBuilder<T, B> builder) {
+    name = builder.name;
+    builderFactory = builder.builderFactory;
+    buildFunction = builder.buildFunction;
+    fixedFields = List.copyOf(builder.fixedFields);
+    variableFields = builder.variableFields.clone();
+    hasVariableFields = builder.hasVariableFields;
+  }
+
+  /**
+   * Starts the schema of a message.
+   *
+   * @param name the message name, used when logging
+   * @param builderFactory creates a request builder for each parsed message
+   * @param buildFunction builds the request
+   * @return the schema builder
+   */
+  static <T, B> SchemaBuilder<T, B> builder(String name, Supplier<B> builderFactory,
+      Function<B, T> buildFunction) {
+    return new SchemaBuilder<>(name, builderFactory, buildFunction);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  B newBuilder() {
+    return builderFactory.get();
+  }
+
+  T build(B builder) {
+    return buildFunction.apply(builder);
+  }
+
+  List<FixedField<B>> getFixedFields() {
+    return fixedFields;
+  }
+
+  VariableField<B> getVariableField(Field field) {
+    return variableFields[field.ordinal()];
+  }
+
+  boolean hasVariableFields() {
+    return hasVariableFields;
+  }
+
+  /**
+   * Reads a fixed-length field value at the cursor, advancing it past the field.
+   *
+   * @param <V> the value type
+   */
+  @FunctionalInterface
+  interface FixedReader<V> {
+    V read(MessageParser parser, MessageCursor cursor);
+  }
+
+  /**
+   * Converts the text of a variable-length field.
+   *
+   * @param <V> the value type
+   */
+  @FunctionalInterface
+  interface FieldConverter<V> {
+    V convert(MessageParser parser, String value);
+  }
+
+  @FunctionalInterface
+  interface FixedField<B> {
+    void read(MessageParser parser, MessageCursor cursor, B builder);
+  }
+
+  @FunctionalInterface
+  interface VariableField<B> {
+    void bind(MessageParser parser, B builder, String value);
+  }
+
+  /**
+   * Builder for {@code MessageSchema}.
+   */
+  static final class SchemaBuilder<T, B> {
+    private final String name;
+    private final Supplier<B> builderFactory;
+    private final Function<B, T> buildFunction;
+    private final List<FixedField<B>> fixedFields = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final VariableField<B>[] variableFields =
+        (VariableField<B>[]) new VariableField<?>[Field.values().length];
+    private boolean hasVariableFields;
+
+    private SchemaBuilder(String name, Supplier<B> builderFactory,
+        Function<B, T> buildFunction) {
+      this.name = Objects.requireNonNull(name, "name cannot be null");
+      this.builderFactory = Objects.requireNonNull(builderFactory,
+          "builderFactory cannot be null");
+      this.buildFunction = Objects.requireNonNull(buildFunction,
+          "buildFunction cannot be null");
+    }
+
+    /**
+     * Adds the next fixed-length field.
+     *
+     * @param reader reads the field value
+     * @param setter the request builder setter
+     * @return this builder
+     */
+    <V> SchemaBuilder<T, B> fixed(FixedReader<V> reader, BiConsumer<B, V> setter) {
+      fixedFields.add((parser, cursor, builder) ->
+          setter.accept(builder, reader.read(parser, cursor)));
+      return this;
+    }
+
+    /**
+     * Adds the next fixed-length field, converting its text.
+     *
+     * @param width the number of characters in the field
+     * @param converter converts the field text
+     * @param setter the request builder setter
+     * @return this builder
+     */
+    <V> SchemaBuilder<T, B> fixed(int width, Function<String, V> converter,
+        BiConsumer<B, V> setter) {
+      return fixed((parser, cursor) -> {
+        final String value = new String(cursor.chars, cursor.position, width);
+        cursor.position += width;
+        return converter.apply(value);
+      }, setter);
+    }
+
+    /**
+     * Accepts a variable-length text field.
+     *
+     * @param field the field identifier
+     * @param setter the request builder setter
+     * @return this builder
+     */
+    SchemaBuilder<T, B> field(Field field, BiConsumer<B, String> setter) {
+      return field(field, (parser, value) -> value, setter);
+    }
+
+    /**
+     * Accepts a variable-length field, converting its text.
+     *
+     * @param field the field identifier
+     * @param converter converts the field text
+     * @param setter the request builder setter
+     * @return this builder
+     */
+    <V> SchemaBuilder<T, B> field(Field field, FieldConverter<V> converter,
+        BiConsumer<B, V> setter) {
+      if (field == Field.UNKNOWN) {
+        throw new IllegalArgumentException("Cannot bind the UNKNOWN field");
+      }
+      variableFields[field.ordinal()] = (parser, builder, value) ->
+          setter.accept(builder, converter.convert(parser, value));
+      hasVariableFields = true;
+      return this;
+    }
+
+    MessageSchema<T, B> build() {
+      return new MessageSchema<>(this);
+    }
+  }
+}
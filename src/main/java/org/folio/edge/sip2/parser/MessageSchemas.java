@@ -0,0 +1,432 @@
+package org.folio.edge.sip2.parser;
+
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.ADMINISTRATIVE;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.COMPUTER_ACCESS_CHARGE;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.DAMAGE;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.HOLD_FEE;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.OTHER_UNKNOWN;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.OVERDUE;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.PROCESSING;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.RENTAL;
+import static org.folio.edge.sip2.domain.messages.enumerations.FeeType.REPLACEMENT;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldMode.ADD;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldMode.CHANGE;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldMode.DELETE;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldType.ANY_COPY_LOCATION;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldType.ANY_COPY_TITLE;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldType.OTHER;
+import static org.folio.edge.sip2.domain.messages.enumerations.HoldType.SPECIFIC_COPY_TITLE;
+import static org.folio.edge.sip2.domain.messages.enumerations.PaymentType.CASH;
+import static org.folio.edge.sip2.domain.messages.enumerations.PaymentType.CREDIT_CARD;
+import static org.folio.edge.sip2.domain.messages.enumerations.PaymentType.VISA;
+import static org.folio.edge.sip2.domain.messages.enumerations.StatusCode.SC_ABOUT_TO_SHUT_DOWN;
+import static org.folio.edge.sip2.domain.messages.enumerations.StatusCode.SC_OK;
+import static org.folio.edge.sip2.domain.messages.enumerations.StatusCode.SC_OUT_OF_PAPER;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.CHARGED_ITEMS;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.EXTENDED_FEES;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.FINE_ITEMS;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.HOLD_ITEMS;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.OVERDUE_ITEMS;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.RECALL_ITEMS;
+import static org.folio.edge.sip2.domain.messages.enumerations.Summary.UNAVAILABLE_HOLDS;
+import static org.folio.edge.sip2.parser.Field.AA;
+import static org.folio.edge.sip2.parser.Field.AB;
+import static org.folio.edge.sip2.parser.Field.AC;
+import static org.folio.edge.sip2.parser.Field.AD;
+import static org.folio.edge.sip2.parser.Field.AJ;
+import static org.folio.edge.sip2.parser.Field.AL;
+import static org.folio.edge.sip2.parser.Field.AO;
+import static org.folio.edge.sip2.parser.Field.AP;
+import static org.folio.edge.sip2.parser.Field.BI;
+import static org.folio.edge.sip2.parser.Field.BK;
+import static org.folio.edge.sip2.parser.Field.BO;
+import static org.folio.edge.sip2.parser.Field.BP;
+import static org.folio.edge.sip2.parser.Field.BQ;
+import static org.folio.edge.sip2.parser.Field.BS;
+import static org.folio.edge.sip2.parser.Field.BV;
+import static org.folio.edge.sip2.parser.Field.BW;
+import static org.folio.edge.sip2.parser.Field.BY;
+import static org.folio.edge.sip2.parser.Field.CG;
+import static org.folio.edge.sip2.parser.Field.CH;
+import static org.folio.edge.sip2.parser.Field.CN;
+import static org.folio.edge.sip2.parser.Field.CO;
+import static org.folio.edge.sip2.parser.Field.CP;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
+import org.folio.edge.sip2.domain.messages.enumerations.FeeType;
+import org.folio.edge.sip2.domain.messages.enumerations.HoldMode;
+import org.folio.edge.sip2.domain.messages.enumerations.HoldType;
+import org.folio.edge.sip2.domain.messages.enumerations.Language;
+import org.folio.edge.sip2.domain.messages.enumerations.PWDAlgorithm;
+import org.folio.edge.sip2.domain.messages.enumerations.PaymentType;
+import org.folio.edge.sip2.domain.messages.enumerations.StatusCode;
+import org.folio.edge.sip2.domain.messages.enumerations.Summary;
+import org.folio.edge.sip2.domain.messages.enumerations.UIDAlgorithm;
+import org.folio.edge.sip2.domain.messages.requests.BlockPatron;
+import org.folio.edge.sip2.domain.messages.requests.BlockPatron.BlockPatronBuilder;
+import org.folio.edge.sip2.domain.messages.requests.Checkin;
+import org.folio.edge.sip2.domain.messages.requests.Checkin.CheckinBuilder;
+import org.folio.edge.sip2.domain.messages.requests.Checkout;
+import org.folio.edge.sip2.domain.messages.requests.Checkout.CheckoutBuilder;
+import org.folio.edge.sip2.domain.messages.requests.EndPatronSession;
+import org.folio.edge.sip2.domain.messages.requests.EndPatronSession.EndPatronSessionBuilder;
+import org.folio.edge.sip2.domain.messages.requests.FeePaid;
+import org.folio.edge.sip2.domain.messages.requests.FeePaid.FeePaidBuilder;
+import org.folio.edge.sip2.domain.messages.requests.Hold;
+import org.folio.edge.sip2.domain.messages.requests.Hold.HoldBuilder;
+import org.folio.edge.sip2.domain.messages.requests.ItemInformation;
+import org.folio.edge.sip2.domain.messages.requests.ItemInformation.ItemInformationBuilder;
+import org.folio.edge.sip2.domain.messages.requests.ItemStatusUpdate;
+import org.folio.edge.sip2.domain.messages.requests.ItemStatusUpdate.ItemStatusUpdateBuilder;
+import org.folio.edge.sip2.domain.messages.requests.Login;
+import org.folio.edge.sip2.domain.messages.requests.Login.LoginBuilder;
+import org.folio.edge.sip2.domain.messages.requests.PatronEnable;
+import org.folio.edge.sip2.domain.messages.requests.PatronEnable.PatronEnableBuilder;
+import org.folio.edge.sip2.domain.messages.requests.PatronInformation;
+import org.folio.edge.sip2.domain.messages.requests.PatronInformation.PatronInformationBuilder;
+import org.folio.edge.sip2.domain.messages.requests.PatronStatusRequest;
+import org.folio.edge.sip2.domain.messages.requests.PatronStatusRequest.PatronStatusRequestBuilder;
+import org.folio.edge.sip2.domain.messages.requests.Renew;
+import org.folio.edge.sip2.domain.messages.requests.Renew.RenewBuilder;
+import org.folio.edge.sip2.domain.messages.requests.RenewAll;
+import org.folio.edge.sip2.domain.messages.requests.RenewAll.RenewAllBuilder;
+import org.folio.edge.sip2.domain.messages.requests.RequestACSResend;
+import org.folio.edge.sip2.domain.messages.requests.RequestACSResend.RequestACSResendBuilder;
+import org.folio.edge.sip2.domain.messages.requests.SCStatus;
+import org.folio.edge.sip2.domain.messages.requests.SCStatus.SCStatusBuilder;
+
+/**
+ * The schemas of the supported SC->ACS messages. Fixed-length fields are listed in the order
+ * they appear in the message; variable-length fields may appear in any order.
+ */
+final class MessageSchemas {
+  private static final Logger log = LogManager.getLogger();
+
+  static final Integer DEFAULT_MAX_PRINT_WIDTH = Integer.valueOf(80);
+
+  private static final Summary[] SUMMARIES = {
+      HOLD_ITEMS, OVERDUE_ITEMS, CHARGED_ITEMS, FINE_ITEMS, RECALL_ITEMS, UNAVAILABLE_HOLDS,
+      EXTENDED_FEES
+  };
+
+  static final MessageSchema<PatronStatusRequest, PatronStatusRequestBuilder>
+      PATRON_STATUS_REQUEST = MessageSchema.builder("Patron Status Request",
+          PatronStatusRequest::builder, PatronStatusRequestBuilder::build)
+      .fixed(3, MessageSchemas::toLanguage, PatronStatusRequestBuilder::language)
+      .fixed(MessageParser::parseDateTime, PatronStatusRequestBuilder::transactionDate)
+      .field(AO, PatronStatusRequestBuilder::institutionId)
+      .field(AA, PatronStatusRequestBuilder::patronIdentifier)
+      .field(AC, PatronStatusRequestBuilder::terminalPassword)
+      .field(AD, PatronStatusRequestBuilder::patronPassword)
+      .build();
+
+  static final MessageSchema<Checkout, CheckoutBuilder> CHECKOUT = MessageSchema
+      .builder("Checkout", Checkout::builder, CheckoutBuilder::build)
+      .fixed(MessageParser::parseBoolean, CheckoutBuilder::scRenewalPolicy)
+      .fixed(MessageParser::parseBoolean, CheckoutBuilder::noBlock)
+      .fixed(MessageParser::parseDateTime, CheckoutBuilder::transactionDate)
+      .fixed(MessageParser::parseDateTimeNB, CheckoutBuilder::nbDueDate)
+      .field(AO, CheckoutBuilder::institutionId)
+      .field(AA, CheckoutBuilder::patronIdentifier)
+      .field(AB, CheckoutBuilder::itemIdentifier)
+      .field(AC, CheckoutBuilder::terminalPassword)
+      .field(CH, CheckoutBuilder::itemProperties)
+      .field(AD, CheckoutBuilder::patronPassword)
+      .field(BO, MessageParser::convertFieldToBoolean, CheckoutBuilder::feeAcknowledged)
+      .field(BI, MessageParser::convertFieldToBoolean, CheckoutBuilder::cancel)
+      .build();
+
+  static final MessageSchema<Checkin, CheckinBuilder> CHECKIN = MessageSchema
+      .builder("Checkin", Checkin::builder, CheckinBuilder::build)
+      .fixed(MessageParser::parseBoolean, CheckinBuilder::noBlock)
+      .fixed(MessageParser::parseDateTime, CheckinBuilder::transactionDate)
+      .fixed(MessageParser::parseDateTime, CheckinBuilder::returnDate)
+      .field(AP, CheckinBuilder::currentLocation)
+      .field(AO, CheckinBuilder::institutionId)
+      .field(AB, CheckinBuilder::itemIdentifier)
+      .field(AC, CheckinBuilder::terminalPassword)
+      .field(CH, CheckinBuilder::itemProperties)
+      .field(BI, MessageParser::convertFieldToBoolean, CheckinBuilder::cancel)
+      .build();
+
+  static final MessageSchema<BlockPatron, BlockPatronBuilder> BLOCK_PATRON = MessageSchema
+      .builder("Block Patron", BlockPatron::builder, BlockPatronBuilder::build)
+      .fixed(MessageParser::parseBoolean, BlockPatronBuilder::cardRetained)
+      .fixed(MessageParser::parseDateTime, BlockPatronBuilder::transactionDate)
+      .field(AO, BlockPatronBuilder::institutionId)
+      .field(AL, BlockPatronBuilder::blockedCardMsg)
+      .field(AA, BlockPatronBuilder::patronIdentifier)
+      .field(AC, BlockPatronBuilder::terminalPassword)
+      .build();
+
+  static final MessageSchema<SCStatus, SCStatusBuilder> SC_STATUS = MessageSchema
+      .builder("SC Status", SCStatus::builder, SCStatusBuilder::build)
+      .fixed(1, MessageSchemas::toStatusCode, SCStatusBuilder::statusCode)
+      .fixed(3, MessageSchemas::toMaxPrintWidth, SCStatusBuilder::maxPrintWidth)
+      .fixed(4, value -> value, SCStatusBuilder::protocolVersion)
+      .build();
+
+  static final MessageSchema<RequestACSResend, RequestACSResendBuilder> REQUEST_ACS_RESEND =
+      MessageSchema.builder("Request ACS Resend", RequestACSResend::builder,
+          RequestACSResendBuilder::build)
+      .build();
+
+  static final MessageSchema<Login, LoginBuilder> LOGIN = MessageSchema
+      .builder("Login", Login::builder, LoginBuilder::build)
+      .fixed(1, MessageSchemas::toUidAlgorithm, LoginBuilder::uidAlgorithm)
+      .fixed(1, MessageSchemas::toPwdAlgorithm, LoginBuilder::pwdAlgorithm)
+      .field(CN, LoginBuilder::loginUserId)
+      .field(CO, LoginBuilder::loginPassword)
+      .field(CP, LoginBuilder::locationCode)
+      .build();
+
+  static final MessageSchema<PatronInformation, PatronInformationBuilder> PATRON_INFORMATION =
+      MessageSchema.builder("Patron Information", PatronInformation::builder,
+          PatronInformationBuilder::build)
+      .fixed(3, MessageSchemas::toLanguage, PatronInformationBuilder::language)
+      .fixed(MessageParser::parseDateTime, PatronInformationBuilder::transactionDate)
+      .fixed(10, MessageSchemas::toSummary, PatronInformationBuilder::summary)
+      .field(AO, PatronInformationBuilder::institutionId)
+      .field(AA, PatronInformationBuilder::patronIdentifier)
+      .field(AC, PatronInformationBuilder::terminalPassword)
+      .field(AD, PatronInformationBuilder::patronPassword)
+      .field(BP, (parser, value) -> parser.convertFieldToInteger(BP, value),
+          PatronInformationBuilder::startItem)
+      .field(BQ, (parser, value) -> parser.convertFieldToInteger(BQ, value),
+          PatronInformationBuilder::endItem)
+      .build();
+
+  static final MessageSchema<EndPatronSession, EndPatronSessionBuilder> END_PATRON_SESSION =
+      MessageSchema.builder("End Patron Session", EndPatronSession::builder,
+          EndPatronSessionBuilder::build)
+      .fixed(MessageParser::parseDateTime, EndPatronSessionBuilder::transactionDate)
+      .field(AO, EndPatronSessionBuilder::institutionId)
+      .field(AA, EndPatronSessionBuilder::patronIdentifier)
+      .field(AC, EndPatronSessionBuilder::terminalPassword)
+      .field(AD, EndPatronSessionBuilder::patronPassword)
+      .build();
+
+  static final MessageSchema<FeePaid, FeePaidBuilder> FEE_PAID = MessageSchema
+      .builder("Fee Paid", FeePaid::builder, FeePaidBuilder::build)
+      .fixed(MessageParser::parseDateTime, FeePaidBuilder::transactionDate)
+      .fixed(2, MessageSchemas::toFeeType, FeePaidBuilder::feeType)
+      .fixed(2, MessageSchemas::toPaymentType, FeePaidBuilder::paymentType)
+      .fixed(3, MessageSchemas::toCurrencyType, FeePaidBuilder::currencyType)
+      .field(BV, FeePaidBuilder::feeAmount)
+      .field(AO, FeePaidBuilder::institutionId)
+      .field(AA, FeePaidBuilder::patronIdentifier)
+      .field(AC, FeePaidBuilder::terminalPassword)
+      .field(AD, FeePaidBuilder::patronPassword)
+      .field(CG, FeePaidBuilder::feeIdentifier)
+      .field(BK, FeePaidBuilder::transactionId)
+      .build();
+
+  static final MessageSchema<ItemInformation, ItemInformationBuilder> ITEM_INFORMATION =
+      MessageSchema.builder("Item Information", ItemInformation::builder,
+          ItemInformationBuilder::build)
+      .fixed(MessageParser::parseDateTime, ItemInformationBuilder::transactionDate)
+      .field(AO, ItemInformationBuilder::institutionId)
+      .field(AB, ItemInformationBuilder::itemIdentifier)
+      .field(AC, ItemInformationBuilder::terminalPassword)
+      .build();
+
+  static final MessageSchema<ItemStatusUpdate, ItemStatusUpdateBuilder> ITEM_STATUS_UPDATE =
+      MessageSchema.builder("Item Status Update", ItemStatusUpdate::builder,
+          ItemStatusUpdateBuilder::build)
+      .fixed(MessageParser::parseDateTime, ItemStatusUpdateBuilder::transactionDate)
+      .field(AO, ItemStatusUpdateBuilder::institutionId)
+      .field(AB, ItemStatusUpdateBuilder::itemIdentifier)
+      .field(AC, ItemStatusUpdateBuilder::terminalPassword)
+      .field(CH, ItemStatusUpdateBuilder::itemProperties)
+      .build();
+
+  static final MessageSchema<PatronEnable, PatronEnableBuilder> PATRON_ENABLE = MessageSchema
+      .builder("Patron Enable", PatronEnable::builder, PatronEnableBuilder::build)
+      .fixed(MessageParser::parseDateTime, PatronEnableBuilder::transactionDate)
+      .field(AO, PatronEnableBuilder::institutionId)
+      .field(AA, PatronEnableBuilder::patronIdentifier)
+      .field(AC, PatronEnableBuilder::terminalPassword)
+      .field(AD, PatronEnableBuilder::patronPassword)
+      .build();
+
+  static final MessageSchema<Hold, HoldBuilder> HOLD = MessageSchema
+      .builder("Hold", Hold::builder, HoldBuilder::build)
+      .fixed(1, MessageSchemas::toHoldMode, HoldBuilder::holdMode)
+      .fixed(MessageParser::parseDateTime, HoldBuilder::transactionDate)
+      .field(BW, MessageParser::convertFieldToDateTime, HoldBuilder::expirationDate)
+      .field(BS, HoldBuilder::pickupLocation)
+      .field(BY, (parser, value) -> toHoldType(value), HoldBuilder::holdType)
+      .field(AO, HoldBuilder::institutionId)
+      .field(AA, HoldBuilder::patronIdentifier)
+      .field(AD, HoldBuilder::patronPassword)
+      .field(AB, HoldBuilder::itemIdentifier)
+      .field(AJ, HoldBuilder::titleIdentifier)
+      .field(AC, HoldBuilder::terminalPassword)
+      .field(BO, MessageParser::convertFieldToBoolean, HoldBuilder::feeAcknowledged)
+      .build();
+
+  static final MessageSchema<Renew, RenewBuilder> RENEW = MessageSchema
+      .builder("Renew", Renew::builder, RenewBuilder::build)
+      .fixed(MessageParser::parseBoolean, RenewBuilder::thirdPartyAllowed)
+      .fixed(MessageParser::parseBoolean, RenewBuilder::noBlock)
+      .fixed(MessageParser::parseDateTime, RenewBuilder::transactionDate)
+      .fixed(MessageParser::parseDateTimeNB, RenewBuilder::nbDueDate)
+      .field(AO, RenewBuilder::institutionId)
+      .field(AA, RenewBuilder::patronIdentifier)
+      .field(AD, RenewBuilder::patronPassword)
+      .field(AB, RenewBuilder::itemIdentifier)
+      .field(AJ, RenewBuilder::titleIdentifier)
+      .field(AC, RenewBuilder::terminalPassword)
+      .field(CH, RenewBuilder::itemProperties)
+      .field(BO, MessageParser::convertFieldToBoolean, RenewBuilder::feeAcknowledged)
+      .build();
+
+  static final MessageSchema<RenewAll, RenewAllBuilder> RENEW_ALL = MessageSchema
+      .builder("Renew All", RenewAll::builder, RenewAllBuilder::build)
+      .fixed(MessageParser::parseDateTime, RenewAllBuilder::transactionDate)
+      .field(AO, RenewAllBuilder::institutionId)
+      .field(AA, RenewAllBuilder::patronIdentifier)
+      .field(AD, RenewAllBuilder::patronPassword)
+      .field(AC, RenewAllBuilder::terminalPassword)
+      .field(BO, MessageParser::convertFieldToBoolean, RenewAllBuilder::feeAcknowledged)
+      .build();
+
+  private MessageSchemas() {
+    super();
+  }
+
+  private static Language toLanguage(String value) {
+    return LanguageMapper.find(value).getLanguage();
+  }
+
+  private static Summary toSummary(String value) {
+    // only the first requested summary is supported
+    for (int i = 0; i < SUMMARIES.length; i++) {
+      final char c = value.charAt(i);
+      if (c == 'Y' || c == 'y') {
+        return SUMMARIES[i];
+      }
+    }
+    return null; // consider adding Summary.NONE
+  }
+
+  private static StatusCode toStatusCode(String value) {
+    switch (value) {
+      case "0":
+        return SC_OK;
+      case "1":
+        return SC_OUT_OF_PAPER;
+      case "2":
+        return SC_ABOUT_TO_SHUT_DOWN;
+      default:
+        log.error("Unknown status code: {}", value);
+        return null;
+    }
+  }
+
+  private static Integer toMaxPrintWidth(String value) {
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      log.error("Max print width {} outside 000-999 range, defaulting to {}",
+          value, DEFAULT_MAX_PRINT_WIDTH);
+      return DEFAULT_MAX_PRINT_WIDTH;
+    }
+  }
+
+  private static UIDAlgorithm toUidAlgorithm(String value) {
+    if ("0".equals(value)) {
+      return UIDAlgorithm.NO_ENCRYPTION;
+    }
+    log.warn("Unknown UID algorithm {}", value);
+    return null;
+  }
+
+  private static PWDAlgorithm toPwdAlgorithm(String value) {
+    if ("0".equals(value)) {
+      return PWDAlgorithm.NO_ENCRYPTION;
+    }
+    log.warn("Unknown PWD algorithm {}", value);
+    return null;
+  }
+
+  private static FeeType toFeeType(String value) {
+    switch (value) {
+      case "01":
+        return OTHER_UNKNOWN;
+      case "02":
+        return ADMINISTRATIVE;
+      case "03":
+        return DAMAGE;
+      case "04":
+        return OVERDUE;
+      case "05":
+        return PROCESSING;
+      case "06":
+        return RENTAL;
+      case "07":
+        return REPLACEMENT;
+      case "08":
+        return COMPUTER_ACCESS_CHARGE;
+      case "09":
+        return HOLD_FEE;
+      default:
+        log.error("Unknown fee type {}, defaulting to {}", value, OTHER_UNKNOWN);
+        return OTHER_UNKNOWN;
+    }
+  }
+
+  private static PaymentType toPaymentType(String value) {
+    switch (value) {
+      case "00":
+        return CASH;
+      case "01":
+        return VISA;
+      case "02":
+        return CREDIT_CARD;
+      default:
+        log.error("Unknown payment type {}, defaulting to null", value);
+        return null;
+    }
+  }
+
+  private static CurrencyType toCurrencyType(String value) {
+    final CurrencyType currencyType = CurrencyType.fromStringSafe(value);
+    if (currencyType == null) {
+      log.error("Unknown currency type {}, defaulting to null", value);
+    }
+    return currencyType;
+  }
+
+  private static HoldMode toHoldMode(String value) {
+    switch (value) {
+      case "+":
+        return ADD;
+      case "-":
+        return DELETE;
+      case "*":
+        return CHANGE;
+      default:
+        log.error("Unsupported hold mode {}", value);
+        return null;
+    }
+  }
+
+  private static HoldType toHoldType(String value) {
+    switch (value) {
+      case "1":
+        return OTHER;
+      case "2":
+        return ANY_COPY_TITLE;
+      case "3":
+        return SPECIFIC_COPY_TITLE;
+      case "4":
+        return ANY_COPY_LOCATION;
+      default:
+        log.error("Unsupported hold type {}", value);
+        return null;
+    }
+  }
+}
@@ -5,29 +5,16 @@ import static org.folio.edge.sip2.parser.Command.REQUEST_ACS_RESEND;
 import static org.folio.edge.sip2.parser.Command.UNKNOWN;
 
 import java.nio.charset.Charset;
+import java.util.EnumMap;
+import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.folio.edge.sip2.domain.messages.requests.BlockPatron;
-import org.folio.edge.sip2.domain.messages.requests.Checkin;
-import org.folio.edge.sip2.domain.messages.requests.Checkout;
-import org.folio.edge.sip2.domain.messages.requests.EndPatronSession;
-import org.folio.edge.sip2.domain.messages.requests.FeePaid;
-import org.folio.edge.sip2.domain.messages.requests.Hold;
-import org.folio.edge.sip2.domain.messages.requests.ItemInformation;
-import org.folio.edge.sip2.domain.messages.requests.ItemStatusUpdate;
-import org.folio.edge.sip2.domain.messages.requests.Login;
-import org.folio.edge.sip2.domain.messages.requests.PatronEnable;
-import org.folio.edge.sip2.domain.messages.requests.PatronInformation;
-import org.folio.edge.sip2.domain.messages.requests.PatronStatusRequest;
-import org.folio.edge.sip2.domain.messages.requests.Renew;
-import org.folio.edge.sip2.domain.messages.requests.RenewAll;
-import org.folio.edge.sip2.domain.messages.requests.RequestACSResend;
-import org.folio.edge.sip2.domain.messages.requests.SCStatus;
 import org.folio.edge.sip2.parser.Message.MessageBuilder;
 import org.folio.edge.sip2.utils.Utils;
 
 /**
- * A SIP parser that supports v2 of the protocol.
+ * A SIP parser that supports v2 of the protocol. Parsers are immutable and thread-safe; use
+ * {@link ParserRegistry} to share one between connections with the same configuration.
  *
  * @author mreno-EBSCO
  *
@@ -45,6 +32,9 @@ public final class Parser {
   private final Boolean errorDetectionEnabled;
   private final String timezone;
 
+  // the message parsers hold no per-message state, so they are shared by all parse calls
+  private final Map<Command, SchemaMessageParser<?>> messageParsers = new EnumMap<>(Command.class);
+
   private Parser(ParserBuilder builder) {
     charset = builder.charset == null ? DEFAULT_CHARSET : builder.charset;
     delimiter = builder.delimiter == null
@@ -52,6 +42,23 @@ public final class Parser {
     errorDetectionEnabled = builder.errorDetectionEnabled == null
         ? DEFAULT_ERROR_DETECTION_ENABLED : builder.errorDetectionEnabled;
     timezone = Utils.isStringNullOrEmpty(builder.timezone) ? DEFAULT_TIMEZONE : builder.timezone;
+
+    addMessageParser(Command.PATRON_STATUS_REQUEST, MessageSchemas.PATRON_STATUS_REQUEST);
+    addMessageParser(Command.CHECKOUT, MessageSchemas.CHECKOUT);
+    addMessageParser(Command.CHECKIN, MessageSchemas.CHECKIN);
+    addMessageParser(Command.BLOCK_PATRON, MessageSchemas.BLOCK_PATRON);
+    addMessageParser(Command.SC_STATUS, MessageSchemas.SC_STATUS);
+    addMessageParser(Command.REQUEST_ACS_RESEND, MessageSchemas.REQUEST_ACS_RESEND);
+    addMessageParser(Command.LOGIN, MessageSchemas.LOGIN);
+    addMessageParser(Command.PATRON_INFORMATION, MessageSchemas.PATRON_INFORMATION);
+    addMessageParser(Command.END_PATRON_SESSION, MessageSchemas.END_PATRON_SESSION);
+    addMessageParser(Command.FEE_PAID, MessageSchemas.FEE_PAID);
+    addMessageParser(Command.ITEM_INFORMATION, MessageSchemas.ITEM_INFORMATION);
+    addMessageParser(Command.ITEM_STATUS_UPDATE, MessageSchemas.ITEM_STATUS_UPDATE);
+    addMessageParser(Command.PATRON_ENABLE, MessageSchemas.PATRON_ENABLE);
+    addMessageParser(Command.HOLD, MessageSchemas.HOLD);
+    addMessageParser(Command.RENEW, MessageSchemas.RENEW);
+    addMessageParser(Command.RENEW_ALL, MessageSchemas.RENEW_ALL);
   }
 
   public static ParserBuilder builder() {
@@ -65,10 +72,28 @@ public final class Parser {
    * @return the SIP string.
    */
   public Message<Object> parseMessage(String message) {
-    log.debug("Message to parse: {}", message);
+    if (message == null) {
+      return Message.builder()
+          .command(UNKNOWN)
+          .valid(false)
+          .build();
+    }
+
+    return parseMessage(Sip2Frame.of(message, charset));
+  }
 
-    // All messages must have at least a 2 character command code. 
-    if (message == null || message.length() < 2) {
+  /**
+   * Parses a SIP frame into a POJO message. The command code and error detection are read
+   * from the raw bytes of the frame; only the message fields are decoded.
+   *
+   * @param frame the SIP frame.
+   * @return the POJO message.
+   */
+  public Message<Object> parseMessage(Sip2Frame frame) {
+    log.debug("Message to parse: {}", frame::getMessage);
+
+    // All messages must have at least a 2 character command code.
+    if (frame.length() < 2) {
       return Message.builder()
           .command(UNKNOWN)
           .valid(false)
@@ -76,17 +101,18 @@ public final class Parser {
     }
 
     // Try to get the command first so it can be used in error detection
-    final Command command = parseCommandIdentifier(message);
+    final Command command = parseCommandIdentifier(frame);
 
-    final ErrorDetection ed = validateChecksum(message, command);
+    final ErrorDetection ed = validateChecksum(frame, command);
     if (ed.valid) {
+      int end = frame.length();
       if (ed.sequenceNumber != null) {
         // Remove the error detection chars before parsing the message
-        message = message.substring(0, message.length() - (command == REQUEST_ACS_RESEND ? 6 : 9));
+        end -= command == REQUEST_ACS_RESEND ? 6 : 9;
       }
 
       // Remove the command identifier before parsing
-      message = message.substring(2);
+      final String message = frame.getString(2, end);
       final MessageBuilder<Object> builder =  Message.builder()
           .command(command)
           .sequenceNumber(ed.sequenceNumber)
@@ -94,90 +120,12 @@ public final class Parser {
           .checksumString(ed.checksum)
           .timeZone(this.timezone);
 
-      switch (command) {
-        case PATRON_STATUS_REQUEST:
-          final PatronStatusRequest patronStatusRequest  =
-              new PatronStatusRequestMessageParser(delimiter, timezone).parse(message);
-          builder.request(patronStatusRequest);
-          break;
-        case CHECKOUT:
-          final Checkout checkout =
-              new CheckoutMessageParser(delimiter, timezone).parse(message);
-          builder.request(checkout);
-          break;
-        case CHECKIN:
-          final Checkin checkin =
-              new CheckinMessageParser(delimiter, timezone).parse(message);
-          builder.request(checkin);
-          break;
-        case BLOCK_PATRON:
-          final BlockPatron blockPatron =
-              new BlockPatronMessageParser(delimiter, timezone).parse(message);
-          builder.request(blockPatron);
-          break;
-        case SC_STATUS:
-          final SCStatus scStatus =
-              new SCStatusMessageParser(delimiter, timezone).parse(message);
-          builder.request(scStatus);
-          break;
-        case REQUEST_ACS_RESEND:
-          final RequestACSResend requestACSResend =
-              new RequestACSResendMessageParser(delimiter, timezone).parse(message);
-          builder.request(requestACSResend);
-          break;
-        case LOGIN:
-          final Login login =
-              new LoginMessageParser(delimiter, timezone).parse(message);
-          builder.request(login);
-          break;
-        case PATRON_INFORMATION:
-          final PatronInformation patronInformation =
-              new PatronInformationMessageParser(delimiter, timezone).parse(message);
-          builder.request(patronInformation);
-          break;
-        case END_PATRON_SESSION:
-          final EndPatronSession endPatronSession =
-              new EndPatronSessionMessageParser(delimiter, timezone).parse(message);
-          builder.request(endPatronSession);
-          break;
-        case FEE_PAID:
-          final FeePaid feePaid =
-              new FeePaidMessageParser(delimiter, timezone).parse(message);
-          builder.request(feePaid);
-          break;
-        case ITEM_INFORMATION:
-          final ItemInformation itemInformation =
-              new ItemInformationMessageParser(delimiter, timezone).parse(message);
-          builder.request(itemInformation);
-          break;
-        case ITEM_STATUS_UPDATE:
-          final ItemStatusUpdate itemStatusUpdate =
-              new ItemStatusUpdateMessageParser(delimiter, timezone).parse(message);
-          builder.request(itemStatusUpdate);
-          break;
-        case PATRON_ENABLE:
-          final PatronEnable patronEnable =
-              new PatronEnableMessageParser(delimiter, timezone).parse(message);
-          builder.request(patronEnable);
-          break;
-        case HOLD:
-          final Hold hold =
-              new HoldMessageParser(delimiter, timezone).parse(message);
-          builder.request(hold);
-          break;
-        case RENEW:
-          final Renew renew =
-              new RenewMessageParser(delimiter, timezone).parse(message);
-          builder.request(renew);
-          break;
-        case RENEW_ALL:
-          final RenewAll renewAll =
-              new RenewAllMessageParser(delimiter, timezone).parse(message);
-          builder.request(renewAll);
-          break;
-        default:
-          log.info("Command not supported: {}", command);
-          builder.valid(false);
+      final SchemaMessageParser<?> messageParser = messageParsers.get(command);
+      if (messageParser == null) {
+        log.info("Command not supported: {}", command);
+        builder.valid(false);
+      } else {
+        builder.request(messageParser.parse(message));
       }
       return builder.build();
     } else {
@@ -190,7 +138,11 @@ public final class Parser {
     }
   }
 
-  private ErrorDetection validateChecksum(String message, Command command) {
+  private <T> void addMessageParser(Command command, MessageSchema<T, ?> schema) {
+    messageParsers.put(command, new SchemaMessageParser<T>(schema, delimiter, timezone));
+  }
+
+  private ErrorDetection validateChecksum(Sip2Frame frame, Command command) {
     final ErrorDetection ed = new ErrorDetection();
 
     if (errorDetectionEnabled) {
@@ -203,16 +155,16 @@ public final class Parser {
       // 1 char sequence number (non-Request ACS Resend messages)
       // 2 char checksum code
       // 4 char checksum
-      final int len = message.length();
+      final int len = frame.length();
 
       final int minLen = command == REQUEST_ACS_RESEND ? 8 : 11;
-      if (len >= minLen && ((command != REQUEST_ACS_RESEND && message.charAt(len - 9) == 'A'
-          && message.charAt(len - 8) == 'Y') || command == REQUEST_ACS_RESEND)
-          && message.charAt(len - 6) == 'A'
-          && message.charAt(len - 5) == 'Z') {
+      if (len >= minLen && ((command != REQUEST_ACS_RESEND && frame.charAt(len - 9) == 'A'
+          && frame.charAt(len - 8) == 'Y') || command == REQUEST_ACS_RESEND)
+          && frame.charAt(len - 6) == 'A'
+          && frame.charAt(len - 5) == 'Z') {
         final Integer sequenceNumber;
         if (command != REQUEST_ACS_RESEND) {
-          final char sequenceChar = message.charAt(len - 7);
+          final char sequenceChar = frame.charAt(len - 7);
           sequenceNumber = Integer.valueOf(Character.getNumericValue(sequenceChar));
           if (sequenceNumber.intValue() < 0) {
             log.error("Sequence number is not 0-9: {}", sequenceChar);
@@ -226,14 +178,9 @@ public final class Parser {
         // To validate the message, we total the byte values of each character
         // in the message including the checksum identifier, then we add the
         // checksum hex value. If the message is valid, the result will be 0.
-        final byte [] bytes = message.substring(0, len - 4).getBytes(charset);
-
-        int value = 0;
-        for (byte b : bytes) {
-          value += b & 0xff;
-        }
+        int value = frame.sum(0, len - 4);
 
-        final String checksumString = message.substring(len - 4);
+        final String checksumString = frame.getString(len - 4, len);
         final int checksum = Integer.parseUnsignedInt(checksumString, 16);
 
         value += checksum;
@@ -255,8 +202,8 @@ public final class Parser {
     return ed;
   }
 
-  private Command parseCommandIdentifier(String message) {
-    final Command command = Command.find(message.substring(0, 2));
+  private Command parseCommandIdentifier(Sip2Frame frame) {
+    final Command command = frame.getCommand();
 
     log.debug("Found command: {}", command);
 
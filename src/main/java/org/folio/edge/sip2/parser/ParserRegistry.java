@@ -0,0 +1,47 @@
+package org.folio.edge.sip2.parser;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares {@link Parser} instances between connections. A parser only depends on the field
+ * delimiter, charset, error detection and timezone of a connection, and there are only a few
+ * such combinations per deployment, so one parser is built per combination and reused.
+ */
+public final class ParserRegistry {
+  private static final Map<ParserKey, Parser> PARSERS = new ConcurrentHashMap<>();
+
+  private ParserRegistry() {
+    super();
+  }
+
+  /**
+   * Returns the parser for the specified connection configuration, building it on first use.
+   *
+   * @param delimiter the field delimiter
+   * @param charset the name of the charset the SC uses
+   * @param errorDetectionEnabled whether the SC uses error detection
+   * @param timezone the timezone used to interpret SC dates
+   * @return the shared parser
+   */
+  public static Parser getParser(char delimiter, String charset, boolean errorDetectionEnabled,
+      String timezone) {
+    return PARSERS.computeIfAbsent(
+        new ParserKey(delimiter, charset, errorDetectionEnabled, timezone),
+        ParserRegistry::buildParser);
+  }
+
+  private static Parser buildParser(ParserKey key) {
+    return Parser.builder()
+        .delimiter(key.delimiter())
+        .charset(Charset.forName(key.charset()))
+        .errorDetectionEnabled(key.errorDetectionEnabled())
+        .timezone(key.timezone())
+        .build();
+  }
+
+  private record ParserKey(char delimiter, String charset, boolean errorDetectionEnabled,
+      String timezone) {
+  }
+}
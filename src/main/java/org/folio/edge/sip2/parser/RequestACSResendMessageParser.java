@@ -1,29 +0,0 @@
-package org.folio.edge.sip2.parser;
-
-import static org.folio.edge.sip2.domain.messages.requests.RequestACSResend.builder;
-
-import org.folio.edge.sip2.domain.messages.requests.RequestACSResend;
-import org.folio.edge.sip2.domain.messages.requests.RequestACSResend.RequestACSResendBuilder;
-
-/**
- * Parser for the Request ACS Resend message.
- *
- * @author mreno-EBSCO
- *
- */
-public class RequestACSResendMessageParser extends MessageParser {
-  public RequestACSResendMessageParser(Character delimiter, String timezone) {
-    super(delimiter, timezone);
-  }
-
-  /**
-   * Parses the Request ACS Resend message from a SIP string.
-   *
-   * @param message the SIP string.
-   * @return the decoded Request ACS Resend message.
-   */
-  public RequestACSResend parse(String message) {
-    final RequestACSResendBuilder builder = builder();
-    return builder.build();
-  }
-}
@@ -0,0 +1,64 @@
+package org.folio.edge.sip2.parser;
+
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.edge.sip2.parser.MessageSchema.FixedField;
+import org.folio.edge.sip2.parser.MessageSchema.VariableField;
+
+/**
+ * Parses a SC->ACS message as described by its {@link MessageSchema}. The fixed-length fields
+ * are read in order, then the variable-length fields are scanned in a single pass, each one
+ * looked up by its identifier and bound straight to the request builder.
+ *
+ * @param <T> the request type
+ */
+final class SchemaMessageParser<T> extends MessageParser {
+  private static final Logger log = LogManager.getLogger();
+
+  private final MessageSchema<T, ?> schema;
+
+  SchemaMessageParser(MessageSchema<T, ?> schema, Character delimiter, String timezone) {
+    super(delimiter, timezone);
+    this.schema = Objects.requireNonNull(schema, "schema cannot be null");
+  }
+
+  /**
+   * Parses the message from a SIP string.
+   *
+   * @param message the SIP string, without the command identifier.
+   * @return the decoded request.
+   */
+  T parse(String message) {
+    return parse(schema, message);
+  }
+
+  private <B> T parse(MessageSchema<T, B> messageSchema, String message) {
+    final B builder = messageSchema.newBuilder();
+    final MessageCursor cursor = new MessageCursor(message);
+
+    for (FixedField<B> fixedField : messageSchema.getFixedFields()) {
+      fixedField.read(this, cursor, builder);
+    }
+
+    if (messageSchema.hasVariableFields()) {
+      do {
+        final int identifierPosition = cursor.position;
+        final Field field = parseFieldIdentifier(cursor);
+        final String valueString = parseVariableLengthField(cursor, field);
+
+        final VariableField<B> variableField = messageSchema.getVariableField(field);
+        if (variableField == null) {
+          log.warn("Unknown {} field {} with value {}", messageSchema.getName(),
+              new String(cursor.chars, identifierPosition, 2), valueString);
+        } else {
+          variableField.bind(this, builder, valueString);
+        }
+
+        cursor.position++;
+      } while (cursor.hasRemaining());
+    }
+
+    return messageSchema.build(builder);
+  }
+}
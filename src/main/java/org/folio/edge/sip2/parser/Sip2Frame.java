@@ -0,0 +1,123 @@
+package org.folio.edge.sip2.parser;
+
+import io.vertx.core.buffer.Buffer;
+import java.nio.charset.Charset;
+
+/**
+ * A single SIP2 message as received from the SC, without its message delimiter. The message
+ * is kept as raw bytes so the command code, the error detection trailer and the checksum can
+ * be read without decoding it. The text of the message is only decoded when it is requested.
+ *
+ * <p>SIP2 charsets are ASCII compatible, so the command code and the {@code AY}/{@code AZ}
+ * trailer always occupy one byte per character.
+ */
+public final class Sip2Frame {
+  private final Buffer bytes;
+  private final Charset charset;
+  private String message;
+
+  private Sip2Frame(Buffer bytes, Charset charset) {
+    this.bytes = bytes;
+    this.charset = charset;
+  }
+
+  /**
+   * Creates a frame over the received bytes.
+   *
+   * @param bytes the bytes of the message, without the message delimiter
+   * @param charset the charset the SC encodes messages with
+   * @return the frame
+   */
+  public static Sip2Frame of(Buffer bytes, Charset charset) {
+    return new Sip2Frame(bytes, charset);
+  }
+
+  /**
+   * Creates a frame from an already decoded message.
+   *
+   * @param message the message, without the message delimiter
+   * @param charset the charset the SC encodes messages with
+   * @return the frame
+   */
+  public static Sip2Frame of(String message, Charset charset) {
+    final Sip2Frame frame = new Sip2Frame(Buffer.buffer(message.getBytes(charset)), charset);
+    frame.message = message;
+    return frame;
+  }
+
+  public int length() {
+    return bytes.length();
+  }
+
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * Returns the ASCII character at the specified byte position.
+   *
+   * @param index the byte position
+   * @return the character
+   */
+  public char charAt(int index) {
+    return (char) (bytes.getByte(index) & 0xff);
+  }
+
+  /**
+   * Returns the command identified by the first two bytes of the frame.
+   *
+   * @return the command or {@code UNKNOWN}
+   */
+  public Command getCommand() {
+    if (length() < 2) {
+      return Command.UNKNOWN;
+    }
+    return Command.find(charAt(0), charAt(1));
+  }
+
+  /**
+   * Sums the unsigned byte values in the specified range, as required by the SIP2 checksum.
+   *
+   * @param start the first byte position, inclusive
+   * @param end the last byte position, exclusive
+   * @return the sum of the byte values
+   */
+  public int sum(int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      value += bytes.getByte(i) & 0xff;
+    }
+    return value;
+  }
+
+  /**
+   * Decodes the specified range of bytes.
+   *
+   * @param start the first byte position, inclusive
+   * @param end the last byte position, exclusive
+   * @return the decoded string
+   */
+  public String getString(int start, int end) {
+    if (message != null && start == 0 && end == length()) {
+      return message;
+    }
+    return bytes.getString(start, end, charset.name());
+  }
+
+  /**
+   * Returns the whole message, decoding it on first use.
+   *
+   * @return the decoded message
+   */
+  public String getMessage() {
+    if (message == null) {
+      message = bytes.getString(0, length(), charset.name());
+    }
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return getMessage();
+  }
+}
@@ -0,0 +1,87 @@
+package org.folio.edge.sip2.parser;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import java.nio.charset.Charset;
+
+/**
+ * Splits the bytes received on a socket into {@link Sip2Frame}s on the message delimiter.
+ * Complete messages are sliced out of the received buffer without copying; only the bytes of a
+ * message that is still incomplete are retained until the next read.
+ *
+ * <p>Instances are stateful and must only be used for a single connection.
+ */
+public final class Sip2FrameDecoder implements Handler<Buffer> {
+  private final byte[] delimiter;
+  private final Charset charset;
+  private final Handler<Sip2Frame> frameHandler;
+
+  private Buffer pending;
+  private int searchFrom;
+
+  /**
+   * Creates a decoder for a single connection.
+   *
+   * @param messageDelimiter the message delimiter, usually {@code "\r"}
+   * @param charset the charset the SC encodes messages with
+   * @param frameHandler the handler called for each complete message
+   */
+  public Sip2FrameDecoder(String messageDelimiter, Charset charset,
+      Handler<Sip2Frame> frameHandler) {
+    if (messageDelimiter == null || messageDelimiter.isEmpty()) {
+      throw new IllegalArgumentException("Message delimiter cannot be empty");
+    }
+    this.delimiter = messageDelimiter.getBytes(charset);
+    this.charset = charset;
+    this.frameHandler = frameHandler;
+  }
+
+  @Override
+  public void handle(Buffer received) {
+    final Buffer data;
+    if (pending == null) {
+      data = received;
+    } else {
+      data = pending.appendBuffer(received);
+    }
+
+    final int length = data.length();
+    int start = 0;
+    int delimiterIndex = indexOfDelimiter(data, searchFrom, length);
+    while (delimiterIndex >= 0) {
+      frameHandler.handle(Sip2Frame.of(data.slice(start, delimiterIndex), charset));
+      start = delimiterIndex + delimiter.length;
+      delimiterIndex = indexOfDelimiter(data, start, length);
+    }
+
+    if (start < length) {
+      // copy the tail so appending the next read never writes into the received buffer
+      pending = data.getBuffer(start, length);
+      // the delimiter may be split between reads, so resume just before the retained tail
+      searchFrom = Math.max(0, pending.length() - delimiter.length + 1);
+    } else {
+      pending = null;
+      searchFrom = 0;
+    }
+  }
+
+  private int indexOfDelimiter(Buffer data, int from, int length) {
+    final int last = length - delimiter.length;
+    final byte first = delimiter[0];
+    for (int i = from; i <= last; i++) {
+      if (data.getByte(i) == first && matchesDelimiter(data, i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean matchesDelimiter(Buffer data, int index) {
+    for (int j = 1; j < delimiter.length; j++) {
+      if (data.getByte(index + j) != delimiter[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,187 @@
+package org.folio.edge.sip2.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import io.vertx.core.buffer.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes SIP2 responses for a single connection. The response is encoded once by a charset
+ * encoder into an array the connection reuses, the checksum is accumulated from the encoded
+ * bytes, and the bytes are copied once into the {@link Buffer} written to the socket.
+ *
+ * <p>The {@code Buffer} is not reused: the socket shares its bytes until they are flushed, and
+ * a resend writes the same {@code Buffer} again, so every response needs its own. An encoder
+ * belongs to one connection and is only used on its event loop.
+ */
+public final class Sip2ResponseEncoder {
+  private static final byte[] HEX_DIGITS = {
+      '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+  // AY + sequence number (at most 11 characters) + AZ + 4 hex digits
+  private static final int MAX_TRAILER_LENGTH = 19;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final CharsetEncoder encoder;
+  private final String messageDelimiter;
+  private final byte[] delimiter;
+  private final boolean errorDetectionEnabled;
+  private final byte[] trailer = new byte[MAX_TRAILER_LENGTH];
+  private ByteBuffer encoded = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+  /**
+   * Creates an encoder for a single connection.
+   *
+   * @param charset the charset the SC expects responses in
+   * @param messageDelimiter the message delimiter, usually {@code "\r"}
+   * @param errorDetectionEnabled whether the SC uses error detection
+   */
+  public Sip2ResponseEncoder(Charset charset, String messageDelimiter,
+      boolean errorDetectionEnabled) {
+    // replaced like String.getBytes does, so the bytes sent do not change
+    this.encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.messageDelimiter = messageDelimiter;
+    this.delimiter = messageDelimiter.getBytes(charset);
+    this.errorDetectionEnabled = errorDetectionEnabled;
+  }
+
+  /**
+   * Encodes a response, appending the error detection trailer when enabled and the message
+   * delimiter.
+   *
+   * @param response the response rendered by a handler
+   * @param sequenceNumber the sequence number of the request
+   * @param isScResend {@code true} for the SC Resend message which has no sequence number
+   * @return the encoded response
+   */
+  public EncodedResponse encode(String response, Integer sequenceNumber, boolean isScResend) {
+    final int bodyLength = encodeBody(response);
+    final byte[] body = encoded.array();
+
+    if (!errorDetectionEnabled) {
+      final Buffer buffer = Buffer.buffer(bodyLength + delimiter.length)
+          .appendBytes(body, 0, bodyLength)
+          .appendBytes(delimiter);
+      return new EncodedResponse(buffer, response, "", messageDelimiter);
+    }
+
+    int length = 0;
+    // SC Resend messages never include a sequence number, but will include the checksum
+    if (!isScResend) {
+      trailer[length++] = 'A';
+      trailer[length++] = 'Y';
+      length = appendSequenceNumber(trailer, length, sequenceNumber);
+    }
+    trailer[length++] = 'A';
+    trailer[length++] = 'Z';
+
+    int sum = 0;
+    for (int i = 0; i < bodyLength; i++) {
+      sum += body[i] & 0xff;
+    }
+    for (int i = 0; i < length; i++) {
+      sum += trailer[i];
+    }
+
+    final int checksum = -sum & 0xffff;
+    trailer[length++] = HEX_DIGITS[(checksum >> 12) & 0xf];
+    trailer[length++] = HEX_DIGITS[(checksum >> 8) & 0xf];
+    trailer[length++] = HEX_DIGITS[(checksum >> 4) & 0xf];
+    trailer[length++] = HEX_DIGITS[checksum & 0xf];
+
+    final Buffer buffer = Buffer.buffer(bodyLength + length + delimiter.length)
+        .appendBytes(body, 0, bodyLength)
+        .appendBytes(trailer, 0, length)
+        .appendBytes(delimiter);
+
+    // the trailer is plain ASCII in every SIP2 charset
+    return new EncodedResponse(buffer, response, new String(trailer, 0, length, US_ASCII),
+        messageDelimiter);
+  }
+
+  /**
+   * Encodes the response into the reused array, growing it when the response does not fit.
+   *
+   * @return the number of encoded bytes
+   */
+  private int encodeBody(String response) {
+    final CharBuffer chars = CharBuffer.wrap(response);
+    encoder.reset();
+    encoded.clear();
+    CoderResult result = encoder.encode(chars, encoded, true);
+    while (result.isOverflow()) {
+      grow();
+      result = encoder.encode(chars, encoded, true);
+    }
+    result = encoder.flush(encoded);
+    while (result.isOverflow()) {
+      grow();
+      result = encoder.flush(encoded);
+    }
+    return encoded.position();
+  }
+
+  private void grow() {
+    final ByteBuffer larger = ByteBuffer.allocate(encoded.capacity() * 2);
+    encoded.flip();
+    larger.put(encoded);
+    encoded = larger;
+  }
+
+  private static int appendSequenceNumber(byte[] trailer, int offset, Integer sequenceNumber) {
+    if (sequenceNumber != null && sequenceNumber >= 0 && sequenceNumber <= 9) {
+      trailer[offset] = (byte) ('0' + sequenceNumber);
+      return offset + 1;
+    }
+
+    // not expected from a parsed request, but written as before
+    int length = offset;
+    for (final char c : String.valueOf(sequenceNumber).toCharArray()) {
+      trailer[length++] = (byte) c;
+    }
+    return length;
+  }
+
+  /**
+   * A response ready to be written to the socket along with its text, which is kept for the
+   * message history used by ACS resend requests. The text is only joined from the response, the
+   * trailer and the delimiter when it is read.
+   */
+  public static final class EncodedResponse {
+    private final Buffer buffer;
+    private final String response;
+    private final String trailer;
+    private final String delimiter;
+    private String message;
+
+    EncodedResponse(Buffer buffer, String response, String trailer, String delimiter) {
+      this.buffer = buffer;
+      this.response = response;
+      this.trailer = trailer;
+      this.delimiter = delimiter;
+    }
+
+    public Buffer getBuffer() {
+      return buffer;
+    }
+
+    /**
+     * Returns the text of the response as it was written to the socket.
+     *
+     * @return the response with its trailer and delimiter
+     */
+    public String getMessage() {
+      if (message == null) {
+        message = response + trailer + delimiter;
+      }
+      return message;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.edge.sip2.repositories;
+
+import static java.util.Objects.requireNonNull;
+
+import io.vertx.core.Future;
+import java.time.Duration;
+import org.folio.edge.sip2.cache.FolioResponseCache;
+import org.folio.edge.sip2.utils.Sip2LogAdapter;
+
+/**
+ * Resource provider that answers the GET requests of reference data from the
+ * {@link FolioResponseCache} and passes everything else on to another provider. Requests that
+ * create or change data are never cached.
+ */
+public class CachingResourceProvider implements IResourceProvider<IRequestData> {
+
+  private static final Sip2LogAdapter log =
+      Sip2LogAdapter.getLogger(CachingResourceProvider.class);
+
+  private final IResourceProvider<IRequestData> resourceProvider;
+  private final FolioResponseCache responseCache;
+
+  /**
+   * Construct a caching resource provider.
+   *
+   * @param resourceProvider the provider that the requests are passed on to
+   * @param responseCache the cache of the responses
+   */
+  public CachingResourceProvider(IResourceProvider<IRequestData> resourceProvider,
+      FolioResponseCache responseCache) {
+    this.resourceProvider = requireNonNull(resourceProvider, "resourceProvider cannot be null");
+    this.responseCache = requireNonNull(responseCache, "responseCache cannot be null");
+  }
+
+  @Override
+  public Future<IResource> retrieveResource(IRequestData requestData) {
+    var sessionData = requestData.getSessionData();
+    final Duration ttl = sessionData == null ? null : responseCache.getTtl(requestData.getPath());
+    // a response with only some of its fields must not be used for the whole one
+    if (ttl == null || requestData.getResponseFields() != null) {
+      return resourceProvider.retrieveResource(requestData);
+    }
+
+    final String tenant = sessionData.getTenant();
+    final String username = sessionData.getUsername();
+    final FolioResource cached = responseCache.get(tenant, username, requestData.getPath(),
+        requestData.getHeaders());
+    if (cached != null) {
+      log.debug(sessionData, "Using cached response of {}", requestData::getPath);
+      return Future.succeededFuture(cached);
+    }
+
+    // the response is copied into the cache before the caller gets it, so the caller may change it
+    return resourceProvider.retrieveResource(requestData).onSuccess(resource -> {
+      if (resource instanceof FolioResource folioResource) {
+        responseCache.put(tenant, username, requestData.getPath(), requestData.getHeaders(),
+            folioResource, ttl);
+      }
+    });
+  }
+
+  @Override
+  public Future<IResource> createResource(IRequestData fromData) {
+    return resourceProvider.createResource(fromData);
+  }
+
+  @Override
+  public Future<IResource> editResource(IRequestData fromData) {
+    return resourceProvider.editResource(fromData);
+  }
+
+  @Override
+  public Future<IResource> deleteResource(IRequestData resource) {
+    return resourceProvider.deleteResource(resource);
+  }
+
+  @Override
+  public Future<Boolean> doPinCheck(IRequestData fromData) {
+    return resourceProvider.doPinCheck(fromData);
+  }
+}
@@ -7,6 +7,7 @@ import static org.folio.edge.sip2.utils.JsonUtils.getSubChildString;
 import static org.folio.edge.sip2.utils.Utils.DEFAULT_USER_LOANS_LIMIT;
 import static org.folio.edge.sip2.utils.Utils.TITLE_NOT_FOUND;
 import static org.folio.edge.sip2.utils.Utils.appendQueryLimits;
+import static org.folio.edge.sip2.utils.Utils.getEnvOrDefault;
 
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.folio.edge.sip2.domain.messages.enumerations.MediaType;
 import org.folio.edge.sip2.domain.messages.requests.Checkin;
 import org.folio.edge.sip2.domain.messages.requests.Checkout;
@@ -37,6 +39,8 @@ import org.folio.edge.sip2.domain.messages.responses.RenewResponse;
 import org.folio.edge.sip2.repositories.domain.PatronPasswordVerificationRecords;
 import org.folio.edge.sip2.repositories.domain.User;
 import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.utils.CqlQuery;
+import org.folio.edge.sip2.utils.JsonFieldExtractor;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 import org.folio.edge.sip2.utils.Utils;
 import org.folio.okapi.common.refreshtoken.client.ClientException;
@@ -59,17 +63,44 @@ public class CirculationRepository {
   public static final String ITEM_BARCODE = "itemBarcode";
   public static final String SERVICE_POINT_ID = "servicePointId";
   public static final String ITEM_ID = "itemId";
+  // a patron may have hundreds of loans, only the fields used for them are decoded
+  private static final JsonFieldExtractor LOAN_FIELDS =
+      JsonFieldExtractor.of("totalRecords", "loans[].itemId", "loans[].item.barcode");
+  private static final JsonFieldExtractor OVERDUE_LOAN_FIELDS =
+      JsonFieldExtractor.of("totalRecords", "loans[].item.barcode");
+  private static final JsonFieldExtractor ITEM_REQUEST_FIELDS =
+      JsonFieldExtractor.of("totalRecords", "requests[].itemId", "requests[].item.barcode");
+  static final String ITEM_REQUESTS_CHUNK_SIZE_PROPERTY = "sip2ItemRequestsChunkSize";
+  static final String ITEM_REQUESTS_CHUNK_SIZE_ENV_VAR = "SIP2_ITEM_REQUESTS_CHUNK_SIZE";
+  static final int DEFAULT_ITEM_REQUESTS_CHUNK_SIZE = 50;
+  static final String ITEM_REQUESTS_CONCURRENCY_PROPERTY = "sip2ItemRequestsConcurrency";
+  static final String ITEM_REQUESTS_CONCURRENCY_ENV_VAR = "SIP2_ITEM_REQUESTS_CONCURRENCY";
+  static final int DEFAULT_ITEM_REQUESTS_CONCURRENCY = 2;
+  private static final int ITEM_REQUESTS_LIMIT = 1000;
   private final IResourceProvider<IRequestData> resourceProvider;
   private final PasswordVerifier passwordVerifier;
   private final ItemRepository itemRepository;
   private final UsersRepository usersRepository;
   private final Clock clock;
+  private final int itemRequestsChunkSize;
+  private final int itemRequestsConcurrency;
 
 
   @Inject
   CirculationRepository(IResourceProvider<IRequestData> resourceProvider,
       PasswordVerifier passwordVerifier, ItemRepository itemRepository,
       UsersRepository usersRepository, Clock clock) {
+    this(resourceProvider, passwordVerifier, itemRepository, usersRepository, clock,
+        getEnvOrDefault(ITEM_REQUESTS_CHUNK_SIZE_PROPERTY, ITEM_REQUESTS_CHUNK_SIZE_ENV_VAR,
+            DEFAULT_ITEM_REQUESTS_CHUNK_SIZE, Integer::parseInt),
+        getEnvOrDefault(ITEM_REQUESTS_CONCURRENCY_PROPERTY, ITEM_REQUESTS_CONCURRENCY_ENV_VAR,
+            DEFAULT_ITEM_REQUESTS_CONCURRENCY, Integer::parseInt));
+  }
+
+  CirculationRepository(IResourceProvider<IRequestData> resourceProvider,
+      PasswordVerifier passwordVerifier, ItemRepository itemRepository,
+      UsersRepository usersRepository, Clock clock, int itemRequestsChunkSize,
+      int itemRequestsConcurrency) {
     this.resourceProvider = Objects.requireNonNull(resourceProvider,
         "Resource provider cannot be null");
     this.passwordVerifier = Objects.requireNonNull(passwordVerifier,
@@ -79,6 +110,8 @@ public class CirculationRepository {
     this.usersRepository = Objects.requireNonNull(usersRepository,
       "Users Repository cannot be null");
     this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    this.itemRequestsChunkSize = Math.max(1, itemRequestsChunkSize);
+    this.itemRequestsConcurrency = Math.max(1, itemRequestsConcurrency);
   }
 
   /**
@@ -410,6 +443,76 @@ public class CirculationRepository {
     return result.otherwise(() -> null).map(IResource::getResource);
   }
 
+  /**
+   * Gets open requests for several items. The items are looked up in chunks, with one request
+   * to FOLIO per chunk and a bounded number of requests in flight, rather than one request per
+   * item.
+   *
+   * @param itemIds the UUIDs of the items
+   * @param requestType the request type (can be null)
+   * @param sessionData the session data
+   * @return the open requests by item id, with only their item id and item barcode; items
+   *     without open requests, or whose chunk could not be retrieved, are left out
+   */
+  public Future<Map<String, List<JsonObject>>> getRequestsByItemIds(List<String> itemIds,
+      String requestType, SessionData sessionData) {
+    final List<String> ids = itemIds.stream().filter(Objects::nonNull).distinct().toList();
+    final List<List<String>> chunks = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += itemRequestsChunkSize) {
+      chunks.add(ids.subList(i, Math.min(ids.size(), i + itemRequestsChunkSize)));
+    }
+
+    final JsonObject[] responses = new JsonObject[chunks.size()];
+    final AtomicInteger nextChunk = new AtomicInteger();
+    final List<Future<Void>> lookups = new ArrayList<>();
+    for (int i = 0; i < Math.min(itemRequestsConcurrency, chunks.size()); i++) {
+      lookups.add(getRequestsOfChunks(chunks, nextChunk, responses, requestType, sessionData));
+    }
+
+    return Future.all(lookups).map(v -> groupRequestsByItemId(responses));
+  }
+
+  // each lookup takes the next chunk, until all chunks were taken
+  private Future<Void> getRequestsOfChunks(List<List<String>> chunks, AtomicInteger nextChunk,
+      JsonObject[] responses, String requestType, SessionData sessionData) {
+    final int index = nextChunk.getAndIncrement();
+    if (index >= chunks.size()) {
+      return Future.succeededFuture();
+    }
+
+    final RequestsRequestData requestsRequestData = new RequestsRequestData(ITEM_ID,
+        chunks.get(index), requestType, null, ITEM_REQUESTS_LIMIT, getBaseHeaders(), sessionData,
+        ITEM_REQUEST_FIELDS);
+    return resourceProvider.retrieveResource(requestsRequestData)
+        .otherwiseEmpty()
+        .compose(resource -> {
+          final JsonObject response = resource == null ? null : resource.getResource();
+          if (response != null && response.getInteger("totalRecords", 0) > ITEM_REQUESTS_LIMIT) {
+            log.warn(sessionData, "Only {} of {} open requests of {} items were retrieved",
+                ITEM_REQUESTS_LIMIT, response.getInteger("totalRecords"), chunks.get(index).size());
+          }
+          responses[index] = response;
+          return getRequestsOfChunks(chunks, nextChunk, responses, requestType, sessionData);
+        });
+  }
+
+  private static Map<String, List<JsonObject>> groupRequestsByItemId(JsonObject[] responses) {
+    final Map<String, List<JsonObject>> requestsByItemId = new HashMap<>();
+    for (JsonObject response : responses) {
+      if (response == null) {
+        continue;
+      }
+      for (Object request : response.getJsonArray("requests", new JsonArray())) {
+        final JsonObject requestJson = (JsonObject) request;
+        final String itemId = requestJson.getString(ITEM_ID);
+        if (itemId != null) {
+          requestsByItemId.computeIfAbsent(itemId, k -> new ArrayList<>()).add(requestJson);
+        }
+      }
+    }
+    return requestsByItemId;
+  }
+
   /**
    * Get loans for the specified patron.
    *
@@ -417,7 +520,7 @@ public class CirculationRepository {
    * @param startItem the first item to return
    * @param endItem the last item to return
    * @param sessionData session data
-   * @return the loans the patron has open
+   * @return the loans the patron has open, with only their item id and item barcode
    */
   public Future<JsonObject> getLoansByUserId(String userId, Integer startItem, Integer endItem,
       SessionData sessionData) {
@@ -440,7 +543,7 @@ public class CirculationRepository {
    * @param startItem the first item to return
    * @param endItem the last item to return
    * @param sessionData session info
-   * @return the list of over due items for this patron
+   * @return the list of over due items for this patron, with only their item barcode
    */
   public Future<JsonObject> getOverdueLoansByUserId(String userId, OffsetDateTime dueDate,
       Integer startItem, Integer endItem, SessionData sessionData) {
@@ -523,8 +626,9 @@ public class CirculationRepository {
 
   private class RequestsRequestData extends CirculationRequestData {
     private final String idField;
-    private final String idValue;
+    private final List<String> idValues;
     private final String requestType;
+    private final JsonFieldExtractor responseFields;
 
     private RequestsRequestData(
         String idField,
@@ -534,18 +638,35 @@ public class CirculationRepository {
         Integer endItem,
         Map<String, String> headers,
         SessionData sessionData) {
+      this(idField, List.of(idValue), requestType, startItem, endItem, headers, sessionData,
+          null);
+    }
+
+    private RequestsRequestData(
+        String idField,
+        List<String> idValues,
+        String requestType,
+        Integer startItem,
+        Integer endItem,
+        Map<String, String> headers,
+        SessionData sessionData,
+        JsonFieldExtractor responseFields) {
       super(null, startItem, endItem, headers, sessionData);
       this.idField = idField;
-      this.idValue = idValue;
+      this.idValues = idValues;
       this.requestType = requestType;
+      this.responseFields = responseFields;
     }
 
     @Override
     public String getPath() {
-      final StringBuilder qSb = new StringBuilder()
-          .append(idField)
-          .append("==");
-      StringUtil.appendCqlEncoded(qSb, idValue);
+      final StringBuilder qSb = new StringBuilder();
+      if (idValues.size() == 1) {
+        qSb.append(idField).append("==");
+        StringUtil.appendCqlEncoded(qSb, idValues.get(0));
+      } else {
+        qSb.append(CqlQuery.exactMatchAny(idField, idValues).getQuery());
+      }
       qSb.append(" and status=\"Open\"");
       if (requestType != null) {
         qSb.append(" and requestType==");
@@ -557,6 +678,11 @@ public class CirculationRepository {
 
       return appendQueryLimits(urlSb, super.startItem, super.endItem).toString();
     }
+
+    @Override
+    public JsonFieldExtractor getResponseFields() {
+      return responseFields;
+    }
   }
 
   private class LoansRequestData extends CirculationRequestData {
@@ -580,6 +706,11 @@ public class CirculationRepository {
           .append(PercentCodec.encode(query));
       return appendQueryLimits(urlSb, super.startItem, super.endItem).toString();
     }
+
+    @Override
+    public JsonFieldExtractor getResponseFields() {
+      return LOAN_FIELDS;
+    }
   }
 
   private class OverdueLoansRequestData extends CirculationRequestData {
@@ -610,7 +741,12 @@ public class CirculationRepository {
           .append("/circulation/loans?query=")
           .append(PercentCodec.encode(qSb.toString()));
 
-      return appendQueryLimits(path, null, null).toString();
+      return appendQueryLimits(path, super.startItem, super.endItem).toString();
+    }
+
+    @Override
+    public JsonFieldExtractor getResponseFields() {
+      return OVERDUE_LOAN_FIELDS;
     }
   }
 
@@ -1014,10 +1150,11 @@ public class CirculationRepository {
       String patronPassword,
       SessionData sessionData
   ) {
-    if (sessionData.isUsePinForPatronVerification()) {
-      return usersRepository.verifyPatronPin(patronIdentifier, patronPassword, sessionData);
-    }
-    return passwordVerifier.verifyPatronPassword(patronIdentifier, patronPassword, sessionData);
+    return PatronSnapshot.of(sessionData, patronIdentifier, patronPassword)
+        .getVerification(() -> sessionData.isUsePinForPatronVerification()
+            ? usersRepository.verifyPatronPin(patronIdentifier, patronPassword, sessionData)
+            : passwordVerifier.verifyPatronPassword(patronIdentifier, patronPassword,
+                sessionData));
   }
 
 }
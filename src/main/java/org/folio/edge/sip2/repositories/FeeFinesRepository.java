@@ -26,6 +26,7 @@ import org.folio.edge.sip2.domain.messages.requests.FeePaid;
 import org.folio.edge.sip2.domain.messages.responses.FeePaidResponse;
 import org.folio.edge.sip2.repositories.domain.User;
 import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.utils.JsonFieldExtractor;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 import org.folio.edge.sip2.utils.Utils;
 import org.folio.util.PercentCodec;
@@ -44,6 +45,10 @@ public class FeeFinesRepository {
   private static final String ACCOUNTS_KEY = "accounts";
   private static final String ACCOUNTS_QUERY_URL = "/accounts?query=";
   private static final String LIMIT_PARAM = "&limit=1000";
+  private static final JsonFieldExtractor FEE_AMOUNT_FIELDS =
+      JsonFieldExtractor.of("accounts[].remaining");
+  private static final JsonFieldExtractor ACCOUNT_TOTALS_FIELDS =
+      JsonFieldExtractor.of("totalRecords", "accounts[].remaining");
   private final IResourceProvider<IRequestData> resourceProvider;
   private final UsersRepository usersRepository;
   private Clock clock;
@@ -100,7 +105,8 @@ public class FeeFinesRepository {
    *
    * @param userId the user's ID
    * @param sessionData session data
-   * @return the accounts list in raw JSON or {@code null} if there was an error
+   * @return the accounts list in raw JSON, with only the remaining amount of each account, or
+   *     {@code null} if there was an error
    */
   public Future<JsonObject> getFeeAmountByUserId(
       String userId,
@@ -112,7 +118,8 @@ public class FeeFinesRepository {
     headers.put(HEADER_ACCEPT, MIMETYPE_JSON);
 
     final FeePaymentAccountsRequestData getFeePaymentAccountsRequestData =
-        new FeePaymentAccountsRequestData(userId, headers, null, sessionData);
+        new FeePaymentAccountsRequestData(userId, headers, null, sessionData,
+            FEE_AMOUNT_FIELDS);
     final Future<IResource> result =
         resourceProvider.retrieveResource(getFeePaymentAccountsRequestData);
 
@@ -155,6 +162,32 @@ public class FeeFinesRepository {
       });
   }
 
+  /**
+   * Get the count and the total remaining amount of a patron's accounts, without the details
+   * that are only needed to list them.
+   *
+   * @param userId the user's ID
+   * @param sessionData session data
+   * @return the accounts list in raw JSON, with only the total number of records and the
+   *     remaining amount of each account, or {@code null} if there was an error
+   */
+  public Future<JsonObject> getAccountTotalsByUserId(
+      String userId,
+      SessionData sessionData) {
+    Objects.requireNonNull(userId, "userId cannot be null");
+    Objects.requireNonNull(sessionData, "sessionData cannot be null");
+
+    final GetAccountByUserIdRequestData getAccountByUserIdRequestData =
+        new GetAccountByUserIdRequestData(userId, getBaseHeaders(), sessionData,
+            ACCOUNT_TOTALS_FIELDS);
+    final Future<IResource> result =
+        resourceProvider.retrieveResource(getAccountByUserIdRequestData);
+
+    return result
+        .otherwise(() -> null)
+        .map(IResource::getResource);
+  }
+
   /**
    * Get a listing of feeFines objects.
    *
@@ -272,16 +305,27 @@ public class FeeFinesRepository {
     private final Map<String, String> headers;
     private final String accountIdentifier;
     private final SessionData sessionData;
+    private final JsonFieldExtractor responseFields;
 
     protected FeePaymentAccountsRequestData(
         String userId,
         Map<String, String> headers,
         String accountIdentifier,
         SessionData sessionData) {
+      this(userId, headers, accountIdentifier, sessionData, null);
+    }
+
+    protected FeePaymentAccountsRequestData(
+        String userId,
+        Map<String, String> headers,
+        String accountIdentifier,
+        SessionData sessionData,
+        JsonFieldExtractor responseFields) {
       this.userId = userId;
       this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
       this.accountIdentifier = accountIdentifier;
       this.sessionData = sessionData;
+      this.responseFields = responseFields;
     }
 
     @Override
@@ -304,6 +348,11 @@ public class FeeFinesRepository {
     public SessionData getSessionData() {
       return sessionData;
     }
+
+    @Override
+    public JsonFieldExtractor getResponseFields() {
+      return responseFields;
+    }
   }
 
   protected static class FeePaymentRequestData implements IRequestData {
@@ -377,12 +426,20 @@ public class FeeFinesRepository {
     private final String userId;
     private final Map<String, String> headers;
     private final SessionData sessionData;
+    private final JsonFieldExtractor responseFields;
 
     protected GetAccountByUserIdRequestData(String userId, Map<String, String> headers,
                                                SessionData sessionData) {
+      this(userId, headers, sessionData, null);
+    }
+
+    protected GetAccountByUserIdRequestData(String userId, Map<String, String> headers,
+                                               SessionData sessionData,
+                                               JsonFieldExtractor responseFields) {
       this.userId = userId;
       this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
       this.sessionData = sessionData;
+      this.responseFields = responseFields;
     }
 
     @Override
@@ -403,6 +460,11 @@ public class FeeFinesRepository {
     public SessionData getSessionData() {
       return sessionData;
     }
+
+    @Override
+    public JsonFieldExtractor getResponseFields() {
+      return responseFields;
+    }
   }
 
   protected static class GetFeeFinesByIdsRequestData implements IRequestData {
@@ -593,7 +655,9 @@ public class FeeFinesRepository {
       JsonArray accountArray = accountJson.getJsonArray(ACCOUNTS_KEY);
       JsonArray feeFinesArray = feeFinesJson.getJsonArray("feefines");
       if (feeFinesArray != null && accountArray != null) {
-        for (Object ob : accountArray) {
+        // the accounts read may be shared with other reads of the command, so a copy is filled
+        JsonObject populatedJson = accountJson.copy();
+        for (Object ob : populatedJson.getJsonArray(ACCOUNTS_KEY)) {
           JsonObject account = (JsonObject)ob;
           String feeFineId = account.getString("feeFineId","");
           for (Object ob2 : feeFinesArray) {
@@ -604,6 +668,7 @@ public class FeeFinesRepository {
             }
           }
         }
+        return populatedJson;
       }
     }
     return accountJson;
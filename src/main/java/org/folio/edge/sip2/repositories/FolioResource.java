@@ -1,6 +1,7 @@
 package org.folio.edge.sip2.repositories;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -32,4 +33,14 @@ public class FolioResource implements IResource {
   public String getAuthenticationToken() {
     return metadata.get("x-okapi-token");
   }
+
+  /**
+   * Copies the resource, so that the copy can be changed without affecting this one.
+   *
+   * @return the copy
+   */
+  public FolioResource copy() {
+    return new FolioResource(resource == null ? null : resource.copy(),
+        metadata == null ? null : HttpHeaders.headers().addAll(metadata));
+  }
 }
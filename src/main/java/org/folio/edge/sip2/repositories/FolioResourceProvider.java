@@ -8,9 +8,12 @@ import static io.vertx.core.http.HttpResponseExpectation.contentType;
 import static io.vertx.core.http.impl.headers.Http1xHeaders.httpHeaders;
 import static io.vertx.ext.web.codec.BodyCodec.jsonObject;
 
+import io.vertx.core.Context;
 import io.vertx.core.Expectation;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpResponseExpectation;
 import io.vertx.core.http.HttpResponseHead;
@@ -22,7 +25,13 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import org.folio.edge.sip2.cache.FolioCircuitBreaker;
+import org.folio.edge.sip2.cache.FolioRequestKey;
+import org.folio.edge.sip2.cache.RequestCoalescer;
+import org.folio.edge.sip2.cache.RequestHedger;
 import org.folio.edge.sip2.exception.MissingAccessTokenThrowable;
+import org.folio.edge.sip2.metrics.FolioCallMetrics;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 import org.folio.okapi.common.XOkapiHeaders;
@@ -38,10 +47,15 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
   private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(FolioResourceProvider.class);
   public static final List<String> EXPECTED_CONTENT_TYPES =
       List.of("application/json", "application/json; charset=utf-8");
+  static final String DEADLINE_EXCEEDED_MESSAGE = "Request deadline exceeded";
 
   private final String okapiUrl;
   private final WebClient client;
   private final LoginRepository loginRepository;
+  private final RequestCoalescer<FolioRequestKey, FolioResource> getCoalescer;
+  private final FolioCircuitBreaker circuitBreaker;
+  private final RequestHedger getHedger;
+  private final FolioCallMetrics callMetrics = FolioCallMetrics.get();
 
   /**
    * Construct a FOLIO resource provider with the specified parameters.
@@ -49,14 +63,36 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
    * @param okapiUrl  the URL for okapi
    * @param webClient the WebClient instance
    */
+  public FolioResourceProvider(LoginRepository loginRepository, String okapiUrl,
+      WebClient webClient) {
+    this(loginRepository, okapiUrl, webClient, null, null, null);
+  }
+
+  /**
+   * Construct a FOLIO resource provider with the specified parameters.
+   *
+   * @param okapiUrl  the URL for okapi
+   * @param webClient the WebClient instance
+   * @param getCoalescer shares identical GET requests in flight, {@code null} to not share them
+   * @param circuitBreaker fails calls at once while FOLIO is failing or busy, {@code null} to
+   *     always send them
+   * @param getHedger sends a second GET request when the first one is slow, {@code null} to
+   *     never send one
+   */
   @Inject
   public FolioResourceProvider(
       LoginRepository loginRepository,
       @Named("okapiUrl") String okapiUrl,
-      @Named("webClient") WebClient webClient) {
+      @Named("webClient") WebClient webClient,
+      RequestCoalescer<FolioRequestKey, FolioResource> getCoalescer,
+      FolioCircuitBreaker circuitBreaker,
+      RequestHedger getHedger) {
     this.loginRepository = loginRepository;
     this.okapiUrl = okapiUrl;
     this.client = webClient;
+    this.getCoalescer = getCoalescer;
+    this.circuitBreaker = circuitBreaker;
+    this.getHedger = getHedger;
   }
 
   @Override
@@ -65,10 +101,24 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
     Objects.requireNonNull(sessionData, "SessionData cannot be null");
     log.debug(sessionData, "Retrieving resource {}", requestData::getPath);
 
-    return initHttpRequest(GET, requestData)
-        .flatMap(HttpRequest::send)
-        .expecting(getHttpRequestExpectations(sessionData, SC_OK))
-        .map(response -> toIResource(sessionData, response))
+    if (getCoalescer == null || !getCoalescer.isEnabled()) {
+      return loginRepository.getSessionAccessToken(sessionData)
+          .flatMap(accessToken -> sendGet(requestData, accessToken))
+          .expecting(getHttpRequestExpectations(sessionData, SC_OK))
+          .map(response -> toIResource(sessionData, response))
+          .recover(error -> handleErrorResponse(sessionData, error));
+    }
+
+    // the connections waiting for the same GET share its response, the request id and the
+    // error log of the connection that sent it
+    return loginRepository.getSessionAccessToken(sessionData)
+        .compose(accessToken -> getCoalescer.execute(
+            new FolioRequestKey(sessionData.getTenant(), requestData.getPath(),
+                requestData.getHeaders(), accessToken, requestData.getResponseFields()),
+            () -> sendGet(requestData, accessToken)
+                .expecting(getHttpRequestExpectations(sessionData, SC_OK))
+                .map(response -> new FolioResource(response.body(), response.headers()))))
+        .map(resource -> logResource(sessionData, resource))
         .recover(error -> handleErrorResponse(sessionData, error));
   }
 
@@ -82,7 +132,7 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
     var sessionData = requestData.getSessionData();
     log.debug(sessionData, "Doing pin verification at {}", requestData::getPath);
     return initHttpRequest(POST, requestData)
-        .flatMap(request -> request.sendJsonObject(requestData.getBody()))
+        .flatMap(request -> send(POST, requestData, request))
         .expecting(SC_SUCCESS.wrappingFailure(
             (head, err) -> getHttpRequestError(sessionData, head, err)))
         .map(Boolean.TRUE)
@@ -97,7 +147,7 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
         () -> requestData.getBody().encode());
 
     return initHttpRequest(POST, requestData)
-        .flatMap(request -> request.sendJsonObject(requestData.getBody()))
+        .flatMap(request -> send(POST, requestData, request))
         .expecting(getHttpRequestExpectations(sessionData, SC_SUCCESS))
         .map(response -> toIResource(sessionData, response))
         .onFailure(error -> log.error(sessionData, "Request failed", error));
@@ -120,12 +170,82 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
     }
 
     return loginRepository.getSessionAccessToken(sessionData)
-        .map(accessToken -> client.requestAbs(method, okapiUrl + data.getPath())
-            .as(jsonObject())
-            .putHeaders(getDataHeaders(data))
-            .putHeader(XOkapiHeaders.TOKEN, accessToken)
-            .putHeader(XOkapiHeaders.TENANT, sessionData.getTenant())
-            .putHeader(XOkapiHeaders.REQUEST_ID, sessionData.getRequestId()));
+        .map(accessToken -> createHttpRequest(method, data, accessToken));
+  }
+
+  private HttpRequest<JsonObject> createHttpRequest(HttpMethod method, IRequestData data,
+      String accessToken) {
+    var sessionData = data.getSessionData();
+    var responseFields = data.getResponseFields();
+    return client.requestAbs(method, okapiUrl + data.getPath())
+        .as(responseFields == null ? jsonObject() : responseFields.bodyCodec())
+        .putHeaders(getDataHeaders(data))
+        .putHeader(XOkapiHeaders.TOKEN, accessToken)
+        .putHeader(XOkapiHeaders.TENANT, sessionData.getTenant())
+        .putHeader(XOkapiHeaders.REQUEST_ID, sessionData.getRequestId());
+  }
+
+  private Future<HttpResponse<JsonObject>> sendGet(IRequestData data, String accessToken) {
+    // a hedge is an identical request, so only GET requests are hedged
+    Supplier<Future<HttpResponse<JsonObject>>> attempt =
+        () -> send(GET, data, createHttpRequest(GET, data, accessToken));
+    if (getHedger == null || !getHedger.isEnabled()) {
+      return attempt.get();
+    }
+    return getHedger.execute(FolioCallMetrics.getPathTemplate(data.getPath()), attempt);
+  }
+
+  private Future<HttpResponse<JsonObject>> send(HttpMethod method, IRequestData data,
+      HttpRequest<JsonObject> request) {
+    var sessionData = data.getSessionData();
+    if (sessionData.hasDeadline()) {
+      // the connection is dropped when it stays silent past the deadline of the SIP2 command
+      var remainingMillis = sessionData.getRemainingMillis();
+      if (remainingMillis <= 0) {
+        log.warn(sessionData, "Deadline exceeded, not sending request {}", data::getPath);
+        return Future.failedFuture(new FolioRequestThrowable(DEADLINE_EXCEEDED_MESSAGE));
+      }
+      request.idleTimeout(remainingMillis);
+    }
+
+    var tenant = sessionData.getTenant();
+    Supplier<Future<HttpResponse<JsonObject>>> call = method == GET
+        ? () -> callMetrics.time(method, data.getPath(), tenant, request::send)
+        : () -> callMetrics.time(method, data.getPath(), tenant,
+            () -> request.sendJsonObject(data.getBody()));
+    var response = circuitBreaker == null
+        ? call.get() : circuitBreaker.execute(tenant, data.getPath(), call);
+    return sessionData.hasDeadline() ? withDeadline(data, response) : response;
+  }
+
+  /**
+   * Fails the request when the SIP2 command it is made for runs out of time. The idle timeout
+   * only fires once no bytes arrive, so a response that keeps trickling in would otherwise run
+   * past the deadline. A response arriving after the deadline is dropped.
+   */
+  private static <T> Future<T> withDeadline(IRequestData data, Future<T> response) {
+    final Context context = Vertx.currentContext();
+    if (context == null || response.isComplete()) {
+      return response;
+    }
+
+    final var sessionData = data.getSessionData();
+    final Promise<T> result = Promise.promise();
+    final long timerId = context.owner().setTimer(
+        Math.max(1, sessionData.getRemainingMillis()), id -> {
+          if (result.tryFail(new FolioRequestThrowable(DEADLINE_EXCEEDED_MESSAGE))) {
+            log.warn(sessionData, "Deadline exceeded, abandoning request {}", data::getPath);
+          }
+        });
+    response.onComplete(ar -> {
+      context.owner().cancelTimer(timerId);
+      if (ar.succeeded()) {
+        result.tryComplete(ar.result());
+      } else {
+        result.tryFail(ar.cause());
+      }
+    });
+    return result.future();
   }
 
   private static IResource toIResource(SessionData sessionData, HttpResponse<JsonObject> response) {
@@ -133,6 +253,11 @@ public class FolioResourceProvider implements IResourceProvider<IRequestData> {
     return new FolioResource(response.body(), response.headers());
   }
 
+  private static IResource logResource(SessionData sessionData, FolioResource resource) {
+    log.info(sessionData, "FOLIO response body: {}", () -> resource.getResource().encode());
+    return resource;
+  }
+
   private static Expectation<HttpResponseHead> getHttpRequestExpectations(
       SessionData sd, HttpResponseExpectation expectedStatus) {
     return expectedStatus
@@ -4,6 +4,7 @@ import io.vertx.core.json.JsonObject;
 import java.util.Collections;
 import java.util.Map;
 import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.utils.JsonFieldExtractor;
 
 /**
  * Data used for making the resource request.
@@ -25,4 +26,13 @@ public interface IRequestData {
   default SessionData getSessionData() {
     return null;
   }
+
+  /**
+   * Returns the fields of the response body that are used, so that the others are not decoded.
+   *
+   * @return the extractor of the fields, or {@code null} to decode the whole body
+   */
+  default JsonFieldExtractor getResponseFields() {
+    return null;
+  }
 }
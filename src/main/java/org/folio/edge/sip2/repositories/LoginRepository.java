@@ -3,6 +3,7 @@ package org.folio.edge.sip2.repositories;
 import static com.google.common.net.HttpHeaders.COOKIE;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.core.http.HttpResponseExpectation.SC_CREATED;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -15,6 +16,7 @@ import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
 import io.netty.handler.codec.http.cookie.DefaultCookie;
 import io.vertx.core.Expectation;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpResponseHead;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
@@ -22,13 +24,18 @@ import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.codec.BodyCodec;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.edge.sip2.cache.KioskTokenPool;
 import org.folio.edge.sip2.domain.integration.login.FolioLoginResponse;
 import org.folio.edge.sip2.domain.messages.requests.Login;
 import org.folio.edge.sip2.domain.messages.responses.LoginResponse;
 import org.folio.edge.sip2.exception.MissingAccessTokenThrowable;
+import org.folio.edge.sip2.metrics.FolioCallMetrics;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
 
@@ -42,20 +49,40 @@ public class LoginRepository {
 
   private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(LoginRepository.class);
   public static final int TOKEN_OFFSET_SECONDS = 90;
+  // shared tokens are refreshed in the background this long before requests would do it
+  static final int REFRESH_AHEAD_SECONDS = 60;
+  static final int REFRESH_MAX_JITTER_SECONDS = 30;
+  private static final String LOGIN_PATH = "/authn/login-with-expiry";
+  private static final String REFRESH_PATH = "/authn/refresh";
 
   private final String okapiUrl;
   private final WebClient client;
+  private final KioskTokenPool tokenPool;
+  private final FolioCallMetrics callMetrics = FolioCallMetrics.get();
+
+  /**
+   * Construct a login repository that keeps the tokens of each session to itself.
+   *
+   * @param okapiUrl  the URL for okapi
+   * @param webClient the WebClient instance
+   */
+  LoginRepository(String okapiUrl, WebClient webClient) {
+    this(okapiUrl, webClient, null);
+  }
 
   /**
    * Construct a FOLIO resource provider with the specified parameters.
    *
    * @param okapiUrl  the URL for okapi
    * @param webClient the WebClient instance
+   * @param tokenPool the tokens shared by sessions of the same SC login, or {@code null}
    */
   @Inject
-  LoginRepository(@Named("okapiUrl") String okapiUrl, @Named("webClient") WebClient webClient) {
+  LoginRepository(@Named("okapiUrl") String okapiUrl, @Named("webClient") WebClient webClient,
+      KioskTokenPool tokenPool) {
     this.okapiUrl = okapiUrl;
     this.client = webClient;
+    this.tokenPool = tokenPool;
   }
 
   /**
@@ -69,7 +96,7 @@ public class LoginRepository {
     var user = login.getLoginUserId();
     var password = login.getLoginPassword();
 
-    return performLogin(sessionData, user, password, true)
+    return loginSession(sessionData, user, password)
         .map(loginResponse -> setLoginResponseToSessionData(sessionData, loginResponse))
         .map(FolioLoginResponse::getAccessToken)
         .recover(error -> recoverFailedLogin(sessionData))
@@ -92,16 +119,103 @@ public class LoginRepository {
     var now = OffsetDateTime.now(UTC);
     var approxExpiration = lr.getAccessTokenExpiration().minusSeconds(TOKEN_OFFSET_SECONDS);
     if (now.isAfter(approxExpiration)) {
-      var approxRefreshExp = lr.getRefreshTokenExpiration().minusSeconds(TOKEN_OFFSET_SECONDS);
-      var folioLoginResponse = now.isAfter(approxRefreshExp)
-          ? performLogin(sd, sd.getUsername(), sd.getPassword(), false)
-          : refreshToken(sd);
-      return folioLoginResponse.map(FolioLoginResponse::getAccessToken);
+      if (tokenPool != null) {
+        return renewPooledToken(sd, now).map(FolioLoginResponse::getAccessToken);
+      }
+      return renewToken(sd, now).map(FolioLoginResponse::getAccessToken);
     }
 
+    if (tokenPool != null) {
+      tokenPool.markUsed(lr);
+    }
     return succeededFuture(lr.getAccessToken());
   }
 
+  private Future<FolioLoginResponse> loginSession(SessionData sd, String user, String password) {
+    if (tokenPool == null || StringUtils.isAnyBlank(user, password)) {
+      return performLogin(sd, user, password, true);
+    }
+
+    var pooled = tokenPool.get(sd.getTenant(), user, password);
+    if (pooled != null) {
+      log.info(sd, "login:: Using the access token shared by the SC login");
+      return succeededFuture(pooled);
+    }
+    return tokenPool.load(sd.getTenant(), user, password,
+            () -> performLogin(sd, user, password, true))
+        .onSuccess(token -> scheduleBackgroundRefresh(sd, user, password, token));
+  }
+
+  private Future<FolioLoginResponse> renewPooledToken(SessionData sd, OffsetDateTime now) {
+    // another connection of the same SC login may already have renewed the token
+    var pooled = tokenPool.get(sd.getTenant(), sd.getUsername(), sd.getPassword());
+    if (pooled != null) {
+      sd.setLoginResponse(pooled);
+      return succeededFuture(pooled);
+    }
+
+    return tokenPool.load(sd.getTenant(), sd.getUsername(), sd.getPassword(), () -> {
+      tokenPool.recordRefresh(false);
+      return renewToken(sd, now);
+    }).onSuccess(token -> {
+      sd.setLoginResponse(token);
+      scheduleBackgroundRefresh(sd, sd.getUsername(), sd.getPassword(), token);
+    });
+  }
+
+  /**
+   * Schedules the refresh of a shared token shortly before requests would have to refresh it.
+   * The time is jittered so that the tokens of many SC logins are not refreshed at once. Only
+   * one refresh is scheduled per token, and it is skipped when no connection used the token
+   * in the meantime or the token was already replaced.
+   */
+  private void scheduleBackgroundRefresh(SessionData sd, String username, String password,
+      FolioLoginResponse token) {
+    var context = Vertx.currentContext();
+    if (context == null || token.getAccessTokenExpiration() == null) {
+      return;
+    }
+
+    var refreshAt = token.getAccessTokenExpiration()
+        .minusSeconds(TOKEN_OFFSET_SECONDS + REFRESH_AHEAD_SECONDS)
+        .minusNanos(ThreadLocalRandom.current()
+            .nextLong(TimeUnit.SECONDS.toNanos(REFRESH_MAX_JITTER_SECONDS)));
+    var delay = Duration.between(OffsetDateTime.now(UTC), refreshAt).toMillis();
+    if (delay <= 0 || !tokenPool.scheduleRefresh(token)) {
+      return;
+    }
+
+    log.debug(sd, "login:: Access token refresh scheduled in {} ms", delay);
+    var tenant = sd.getTenant();
+    context.owner().setTimer(delay, id -> refreshInBackground(tenant, username, password,
+        token, SessionData.createSession(tenant, sd.getFieldDelimiter(),
+            sd.isErrorDetectionEnabled(), sd.getCharset())));
+  }
+
+  private void refreshInBackground(String tenant, String username, String password,
+      FolioLoginResponse token, SessionData sd) {
+    if (!tokenPool.takeScheduledRefresh(token)
+        || tokenPool.peek(tenant, username, password) != token) {
+      return;
+    }
+
+    sd.setUsername(username);
+    sd.setPassword(password);
+    sd.setLoginResponse(token);
+    tokenPool.load(tenant, username, password, () -> {
+      tokenPool.recordRefresh(true);
+      return renewToken(sd, OffsetDateTime.now(UTC));
+    }).onSuccess(newToken -> scheduleBackgroundRefresh(sd, username, password, newToken));
+  }
+
+  private Future<FolioLoginResponse> renewToken(SessionData sd, OffsetDateTime now) {
+    var lr = sd.getLoginResponse();
+    var approxRefreshExp = lr.getRefreshTokenExpiration().minusSeconds(TOKEN_OFFSET_SECONDS);
+    return now.isAfter(approxRefreshExp)
+        ? performLogin(sd, sd.getUsername(), sd.getPassword(), false)
+        : refreshToken(sd);
+  }
+
   /**
    * Performs a login for a patron without using cached credentials.
    *
@@ -138,11 +252,12 @@ public class LoginRepository {
     }
 
     log.debug(sd, "login:: performing login for user");
-    return client.postAbs(okapiUrl + "/authn/login-with-expiry")
+    var request = client.postAbs(okapiUrl + LOGIN_PATH)
         .as(BodyCodec.jsonObject())
         .putHeader(TENANT, sd.getTenant())
-        .putHeader(REQUEST_ID, sd.getRequestId())
-        .sendJsonObject(getLoginRequestBody(username, password))
+        .putHeader(REQUEST_ID, sd.getRequestId());
+    return callMetrics.time(POST, LOGIN_PATH, sd.getTenant(),
+            () -> request.sendJsonObject(getLoginRequestBody(username, password)))
         .expecting(getLoginExpectations(sd))
         .map(LoginRepository::extractFolioAccessToken)
         .onSuccess(loginResponse -> handleSuccessLogin(sd, isPatron, loginResponse))
@@ -160,12 +275,12 @@ public class LoginRepository {
   private Future<FolioLoginResponse> refreshToken(SessionData sessionData) {
     log.debug(sessionData, "refreshToken:: performing refresh token operation");
     var accessToken = sessionData.getLoginResponse().getAccessToken();
-    return client.postAbs(okapiUrl + "/authn/refresh")
+    var request = client.postAbs(okapiUrl + REFRESH_PATH)
         .as(BodyCodec.jsonObject())
         .putHeader(COOKIE, new DefaultCookie(COOKIE_ACCESS_TOKEN, accessToken).toString())
         .putHeader(TENANT, sessionData.getTenant())
-        .putHeader(REQUEST_ID, sessionData.getRequestId())
-        .send()
+        .putHeader(REQUEST_ID, sessionData.getRequestId());
+    return callMetrics.time(POST, REFRESH_PATH, sessionData.getTenant(), request::send)
         .expecting(getRefreshExpectations(sessionData))
         .map(LoginRepository::extractFolioAccessToken)
         .onSuccess(loginResponse -> handleSuccessRefresh(sessionData, loginResponse))
@@ -0,0 +1,121 @@
+package org.folio.edge.sip2.repositories;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import org.folio.edge.sip2.cache.FolioRequestKey;
+import org.folio.edge.sip2.cache.RequestMemo;
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.utils.Sip2LogAdapter;
+
+/**
+ * Resource provider that answers a GET request from the {@link RequestMemo} of the SIP2 command
+ * it is made for, when the command already made the identical request, and passes everything
+ * else on to another provider. Every repository that reads the same resource twice for one
+ * command, e.g. the loans of a patron for both the charged items count and the recalls, sends
+ * only one request. Requests that create or change data forget the remembered results of the
+ * command and the blocks of the {@link PatronSnapshot} of the session, so the data is read again
+ * after it was changed.
+ *
+ * <p>The memo comes with the {@link SessionData} of the command, so a command that is still
+ * running when the next one arrives keeps its own memo. The result of a request that was sent
+ * is shared with the later callers of the command, which get copies of it, so a repository must
+ * not change the resource it read; it changes a copy instead.
+ */
+public class MemoizingResourceProvider implements IResourceProvider<IRequestData> {
+
+  static final String METRICS_NAME = "org.folio.edge.sip2.folio.get.memo";
+
+  private static final Sip2LogAdapter log =
+      Sip2LogAdapter.getLogger(MemoizingResourceProvider.class);
+
+  private final IResourceProvider<IRequestData> resourceProvider;
+  private final Counter sentCounter;
+  private final Counter savedCounter;
+
+  /**
+   * Construct a memoizing resource provider.
+   *
+   * @param resourceProvider the provider that the requests are passed on to
+   * @param registry the registry of the counter of sent and saved requests
+   */
+  public MemoizingResourceProvider(IResourceProvider<IRequestData> resourceProvider,
+      MeterRegistry registry) {
+    this.resourceProvider = requireNonNull(resourceProvider, "resourceProvider cannot be null");
+    sentCounter = Counter.builder(METRICS_NAME).tag("result", "sent").register(registry);
+    savedCounter = Counter.builder(METRICS_NAME).tag("result", "saved").register(registry);
+  }
+
+  /**
+   * Creates the memo of the requests of one SIP2 command.
+   *
+   * @return the memo
+   */
+  public static RequestMemo<FolioRequestKey, IResource> createMemo() {
+    return new RequestMemo<>(resource -> resource instanceof FolioResource folioResource
+        ? folioResource.copy() : resource);
+  }
+
+  @Override
+  public Future<IResource> retrieveResource(IRequestData requestData) {
+    final SessionData sessionData = requestData.getSessionData();
+    final RequestMemo<FolioRequestKey, IResource> memo =
+        sessionData == null ? null : sessionData.getRequestMemo();
+    if (memo == null) {
+      return resourceProvider.retrieveResource(requestData);
+    }
+
+    // the requests of a command are all made with the access token of its session
+    final FolioRequestKey key = new FolioRequestKey(sessionData.getTenant(),
+        requestData.getPath(), requestData.getHeaders(), null, requestData.getResponseFields());
+    final Future<IResource> remembered = memo.get(key);
+    if (remembered != null) {
+      log.debug(sessionData, "Using the response of the same request of this command: {}",
+          requestData::getPath);
+      savedCounter.increment();
+      return remembered;
+    }
+
+    sentCounter.increment();
+    return memo.put(key, resourceProvider.retrieveResource(requestData));
+  }
+
+  @Override
+  public Future<IResource> createResource(IRequestData fromData) {
+    forget(fromData);
+    return resourceProvider.createResource(fromData);
+  }
+
+  @Override
+  public Future<IResource> editResource(IRequestData fromData) {
+    forget(fromData);
+    return resourceProvider.editResource(fromData);
+  }
+
+  @Override
+  public Future<IResource> deleteResource(IRequestData resource) {
+    forget(resource);
+    return resourceProvider.deleteResource(resource);
+  }
+
+  @Override
+  public Future<Boolean> doPinCheck(IRequestData fromData) {
+    return resourceProvider.doPinCheck(fromData);
+  }
+
+  private static void forget(IRequestData requestData) {
+    final SessionData sessionData = requestData.getSessionData();
+    final RequestMemo<FolioRequestKey, IResource> memo =
+        sessionData == null ? null : sessionData.getRequestMemo();
+    if (memo != null) {
+      memo.clear();
+    }
+    // e.g. a checkout or a paid fee may change the automated blocks of the patron
+    final PatronSnapshot snapshot = sessionData == null ? null : sessionData.getPatronSnapshot();
+    if (snapshot != null) {
+      snapshot.forgetBlocks();
+    }
+  }
+}
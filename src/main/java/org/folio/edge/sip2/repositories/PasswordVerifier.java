@@ -7,6 +7,8 @@ import io.vertx.core.Future;
 import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.Objects;
+import org.folio.edge.sip2.cache.PatronVerificationCache;
+import org.folio.edge.sip2.cache.PatronVerificationCache.Check;
 import org.folio.edge.sip2.repositories.domain.PatronPasswordVerificationRecords;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.utils.Sip2LogAdapter;
@@ -21,13 +23,27 @@ public class PasswordVerifier {
   private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(PasswordVerifier.class);
   private final UsersRepository usersRepository;
   private final LoginRepository loginRepository;
+  private final PatronVerificationCache verificationCache;
 
-  @Inject
   PasswordVerifier(UsersRepository usersRepository, LoginRepository loginRepository) {
+    this(usersRepository, loginRepository, null);
+  }
+
+  /**
+   * Construct a password verifier.
+   *
+   * @param usersRepository the users repository
+   * @param loginRepository the login repository
+   * @param verificationCache reuses recent patron logins, {@code null} to always log in
+   */
+  @Inject
+  PasswordVerifier(UsersRepository usersRepository, LoginRepository loginRepository,
+      PatronVerificationCache verificationCache) {
     this.usersRepository = Objects.requireNonNull(usersRepository,
         "Users repository cannot be null");
     this.loginRepository = Objects.requireNonNull(loginRepository,
         "Login repository cannot be null");
+    this.verificationCache = verificationCache;
   }
 
   /**
@@ -89,6 +105,15 @@ public class PasswordVerifier {
               .build());
         }
         log.debug(sessionData, "Got extendedUser {}", extendedUser);
+        final String tenant = sessionData.getTenant();
+        if (verificationCache != null && verificationCache.isVerified(tenant,
+            patronIdentifier, Check.LOGIN, patronPassword)) {
+          log.debug(sessionData, "Patron logged in recently with the same password");
+          return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
+              .extendedUser(extendedUser)
+              .passwordVerified(TRUE)
+              .build());
+        }
         log.debug(sessionData, "Calling patronLoginNoCache with username {}",
             extendedUser.getUser().getUsername());
         return loginRepository.patronLoginNoCache(extendedUser.getUser().getUsername(),
@@ -96,12 +121,18 @@ public class PasswordVerifier {
           .compose(token -> {
             if (token != null) {
               log.debug(sessionData, "Valid token");
+              if (verificationCache != null) {
+                verificationCache.put(tenant, patronIdentifier, Check.LOGIN, patronPassword);
+              }
               return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
                   .extendedUser(extendedUser)
                   .passwordVerified(TRUE)
                   .build());
             } else {
               log.debug(sessionData, "Null token");
+              if (verificationCache != null) {
+                verificationCache.evict(tenant, patronIdentifier, Check.LOGIN);
+              }
               return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
                   .extendedUser(extendedUser)
                   .errorMessages(Collections.singletonList(sessionData.getLoginErrorMessage()))
@@ -109,6 +140,9 @@ public class PasswordVerifier {
                   .build());
             }
           }, throwable -> { //If there was an error, return false for verification
+              if (verificationCache != null) {
+                verificationCache.evict(tenant, patronIdentifier, Check.LOGIN);
+              }
               return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
                   .extendedUser(extendedUser)
                   .errorMessages(Collections.singletonList("Unable to login"))
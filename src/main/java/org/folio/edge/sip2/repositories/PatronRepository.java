@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -38,6 +39,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.folio.edge.sip2.domain.messages.PatronAccountInfo;
 import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
 import org.folio.edge.sip2.domain.messages.enumerations.PatronStatus;
+import org.folio.edge.sip2.domain.messages.enumerations.Summary;
 import org.folio.edge.sip2.domain.messages.requests.EndPatronSession;
 import org.folio.edge.sip2.domain.messages.requests.PatronInformation;
 import org.folio.edge.sip2.domain.messages.requests.PatronStatusRequest;
@@ -240,7 +242,9 @@ public class PatronRepository {
               .build());
         }
       })
-        .map(verification -> EndSessionResponse.builder()
+      // the transaction of the patron ends, the next command looks the patron up again
+      .onComplete(ar -> PatronSnapshot.end(sessionData))
+      .map(verification -> EndSessionResponse.builder()
           .endSession(!FALSE.equals(verification.getPasswordVerified()))
           .transactionDate(OffsetDateTime.now(clock))
           .institutionId(endPatronSession.getInstitutionId())
@@ -263,49 +267,61 @@ public class PatronRepository {
     addPersonalData(personal, patronInformation.getPatronIdentifier(), builder);
     final Integer startItem = patronInformation.getStartItem();
     final Integer endItem = patronInformation.getEndItem();
+    final Summary summary = patronInformation.getSummary();
+    final PatronInformationPlan plan = PatronInformationPlan.of(summary, startItem, endItem);
     // Get manual and automated blocks data to build patron status
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData,
+        patronInformation.getPatronIdentifier(), patronInformation.getPatronPassword());
     final Future<PatronInformationResponseBuilder> patronStatusFuture = Future.all(
-        feeFinesRepository.getManualBlocksByUserId(userId, sessionData),
-        feeFinesRepository.getAutomatedBlocksByUserId(userId, sessionData))
+        snapshot.getManualBlocks(userId,
+            () -> feeFinesRepository.getManualBlocksByUserId(userId, sessionData)),
+        snapshot.getAutomatedBlocks(userId,
+            () -> feeFinesRepository.getAutomatedBlocksByUserId(userId, sessionData)))
         .map(cf -> buildPatronStatus(cf.resultAt(0), cf.resultAt(1), builder));
-    // Add fine count
-    final Future<PatronInformationResponseBuilder> accountFuture = feeFinesRepository
-        .getAccountDataByUserId(userId, sessionData)
-        .map(accounts -> {
-          totalAmount(sessionData, accounts, builder);
-          populateFinesCount(accounts, builder);
-          addFineItems(accounts, patronInformation.getSummary() == FINE_ITEMS, builder);
-          return addExtendedAccountInfo(accounts,
-              patronInformation.getSummary() == EXTENDED_FEES, builder);
+    // Add fine count, the accounts are only fetched whole when they are listed
+    final Future<JsonObject> accounts = plan.accountDetails()
+        ? feeFinesRepository.getAccountDataByUserId(userId, sessionData)
+        : feeFinesRepository.getAccountTotalsByUserId(userId, sessionData);
+    final Future<PatronInformationResponseBuilder> accountFuture = accounts
+        .map(accountsJson -> {
+          totalAmount(sessionData, accountsJson, builder);
+          populateFinesCount(accountsJson, builder);
+          addFineItems(accountsJson, summary == FINE_ITEMS, builder);
+          return addExtendedAccountInfo(accountsJson, summary == EXTENDED_FEES, builder);
         });
 
-    // Add charged count
-    final Future<PatronInformationResponseBuilder> loansFuture = circulationRepository
-        .getLoansByUserId(userId, null, DEFAULT_USER_LOANS_LIMIT, sessionData)
-        .map(loans -> {
-          populateChargedCount(loans, builder);
-          return addCharged(loans, patronInformation.getSummary() == CHARGED_ITEMS, builder);
+    // Add charged count, the same loans are used to find the recalls
+    final Future<JsonObject> allLoansFuture = circulationRepository
+        .getLoansByUserId(userId, null, DEFAULT_USER_LOANS_LIMIT, sessionData);
+    final Future<JsonObject> chargedItemsFuture = plan.chargedItems() == null
+        ? allLoansFuture
+        : circulationRepository.getLoansByUserId(userId, plan.chargedItems().startItem(),
+            plan.chargedItems().endItem(), sessionData);
+    final Future<PatronInformationResponseBuilder> loansFuture = Future.all(allLoansFuture,
+        chargedItemsFuture)
+        .map(cf -> {
+          populateChargedCount(cf.resultAt(0), builder);
+          return addCharged(cf.resultAt(1), summary == CHARGED_ITEMS, builder);
         });
 
     // Get holds data (count and items) and store it in the builder
     final Future<PatronInformationResponseBuilder> holdsFuture = circulationRepository
-        .getRequestsByUserId(userId, "Hold", startItem, endItem, sessionData).map(
+        .getRequestsByUserId(userId, "Hold", plan.holds().startItem(), plan.holds().endItem(),
+            sessionData).map(
             holds -> {
-              addUnavailableHolds(holds, patronInformation.getSummary() == UNAVAILABLE_HOLDS,
-                  builder);
-              return addHolds(holds, patronInformation.getSummary() == HOLD_ITEMS, builder);
+              addUnavailableHolds(holds, summary == UNAVAILABLE_HOLDS, builder);
+              return addHolds(holds, summary == HOLD_ITEMS, builder);
             });
     // Get overdue loans data (count and items) and store it in the builder
     // Due date needs to be UTC since it is being used in CQL for time comparison in the DB.
     final Future<PatronInformationResponseBuilder> overdueFuture =
         circulationRepository.getOverdueLoansByUserId(userId, OffsetDateTime.now(clock),
-            startItem, endItem, sessionData).map(
-                overdues -> addOverdueItems(overdues,
-                    patronInformation.getSummary() == OVERDUE_ITEMS, builder));
+            plan.overdueItems().startItem(), plan.overdueItems().endItem(), sessionData).map(
+                overdues -> addOverdueItems(overdues, summary == OVERDUE_ITEMS, builder));
     // Get recalled items data (count and items) and store it in the builder
     final Future<PatronInformationResponseBuilder> recallsFuture =
-        getRecalls(userId, sessionData).compose(recalls -> addRecalls(recalls, startItem, endItem,
-            patronInformation.getSummary() == RECALL_ITEMS, builder));
+        getRecalls(allLoansFuture, sessionData).map(recalls -> addRecalls(recalls, startItem,
+            endItem, summary == RECALL_ITEMS, builder));
     // When all operations complete, build and return the final PatronInformationResponse
     return Future.all(patronStatusFuture, accountFuture, holdsFuture,
         overdueFuture, recallsFuture, loansFuture)
@@ -350,9 +366,13 @@ public class PatronRepository {
         .getFeeAmountByUserId(userId, sessionData)
         .map(accounts -> totalAmount(sessionData, accounts, builder));
 
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData,
+        patronStatus.getPatronIdentifier(), patronStatus.getPatronPassword());
     final Future<PatronStatusResponseBuilder> blocksFuture = Future.all(
-        feeFinesRepository.getManualBlocksByUserId(userId, sessionData),
-        feeFinesRepository.getAutomatedBlocksByUserId(userId, sessionData))
+        snapshot.getManualBlocks(userId,
+            () -> feeFinesRepository.getManualBlocksByUserId(userId, sessionData)),
+        snapshot.getAutomatedBlocks(userId,
+            () -> feeFinesRepository.getAutomatedBlocksByUserId(userId, sessionData)))
         .map(cf -> {
           var manualBlocks = (JsonObject) cf.resultAt(0);
           var automatedBlocks = (JsonObject) cf.resultAt(1);
@@ -699,22 +719,19 @@ public class PatronRepository {
     return builder.overdueItemsCount(overdueItemsCount).overdueItems(overdueItems);
   }
 
-  @SuppressWarnings("rawtypes")
-  private Future<PatronInformationResponseBuilder> addRecalls(List<Future<JsonObject>> recalls,
+  private PatronInformationResponseBuilder addRecalls(Map<String, List<JsonObject>> recalls,
       Integer startItem, Integer endItem, boolean details,
       PatronInformationResponseBuilder builder) {
-    return Future.all(new ArrayList<>(recalls)).map(result -> {
-      final int recallItemsCount = Math.min(countRecallItems(recalls), 9999);
-      final List<String> recallItems;
+    final int recallItemsCount = Math.min(recalls.size(), 9999);
+    final List<String> recallItems;
 
-      if (details) {
-        recallItems = getRecallItems(recalls, startItem, endItem);
-      } else {
-        recallItems = null;
-      }
+    if (details) {
+      recallItems = getRecallItems(recalls, startItem, endItem);
+    } else {
+      recallItems = null;
+    }
 
-      return builder.recallItemsCount(recallItemsCount).recallItems(recallItems);
-    });
+    return builder.recallItemsCount(recallItemsCount).recallItems(recallItems);
   }
 
   private PatronInformationResponseBuilder addExtendedAccountInfo(JsonObject accounts,
@@ -865,27 +882,13 @@ public class PatronRepository {
     return getBarcodesForOpenAccounts(accountArray);
   }
 
-  private int countRecallItems(List<Future<JsonObject>> recallItems) {
-    return (int) recallItems.stream()
-        .map(Future::result)
-        .filter(Objects::nonNull)
-        .filter(jo -> getTotalRecords(jo) > 0)
-        .count();
-  }
-
-  private List<String> getRecallItems(List<Future<JsonObject>> recallItems, Integer startItem,
-      Integer endItem) {
+  private List<String> getRecallItems(Map<String, List<JsonObject>> recallItems,
+      Integer startItem, Integer endItem) {
     final int skip = startItem == null ? 0 : startItem.intValue() - 1;
     final int maxSize = endItem == null ? 9999 : endItem.intValue() - skip;
-    return recallItems.stream()
-        .map(Future::result)
+    return recallItems.values().stream()
+        .map(requests -> getChildString(requests.get(0), FIELD_ITEM, FIELD_BARCODE))
         .filter(Objects::nonNull)
-        .filter(jo -> getTotalRecords(jo) > 0)
-        .map(jo -> jo.getJsonArray(FIELD_REQUESTS, new JsonArray()).stream().findAny()
-            .map(o -> (JsonObject) o)
-            .map(jsonObject -> getChildString(jsonObject, FIELD_ITEM, FIELD_BARCODE)))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
         .sorted(Comparator.naturalOrder())
         .skip(skip)
         .limit(maxSize)
@@ -918,30 +921,80 @@ public class PatronRepository {
             Collectors.joining(" "), result -> result.isEmpty() ? null : result));
   }
 
-  private Future<List<Future<JsonObject>>> getRecalls(String userId, SessionData sessionData) {
-    final Future<JsonObject> loansFuture =
-        circulationRepository.getLoansByUserId(userId, null, DEFAULT_USER_LOANS_LIMIT, sessionData);
-
-    return loansFuture.map(jo -> {
+  private Future<Map<String, List<JsonObject>>> getRecalls(Future<JsonObject> loansFuture,
+      SessionData sessionData) {
+    return loansFuture.compose(jo -> {
       final JsonArray loans = jo == null ? new JsonArray()
           : jo.getJsonArray(FIELD_LOANS, new JsonArray());
-      return loans.stream()
-          .map(o -> (JsonObject) o)
-          .map(loan -> circulationRepository.getRequestsByItemId(loan.getString("itemId"),
-              "Recall", null, null, sessionData))
-          .collect(Collectors.toList());
+      final List<String> itemIds = loans.stream()
+          .map(o -> ((JsonObject) o).getString("itemId"))
+          .filter(Objects::nonNull)
+          .toList();
+      if (itemIds.isEmpty()) {
+        return Future.succeededFuture(Map.of());
+      }
+      // the recalls of all loaned items are looked up in a few chunked requests
+      return circulationRepository.getRequestsByItemIds(itemIds, "Recall", sessionData);
     });
   }
 
+  /**
+   * The FOLIO queries of a Patron Information request. Only the list selected by the summary is
+   * fetched, paged with the start and end item. The other lists are only counted, with queries
+   * for no records that still return their {@code totalRecords}.
+   *
+   * @param holds the page of holds
+   * @param overdueItems the page of overdue loans
+   * @param chargedItems the page of loans to list, {@code null} to list the loans that are
+   *     fetched to count them and find their recalls
+   * @param accountDetails whether the accounts are fetched with the details needed to list them
+   */
+  record PatronInformationPlan(Page holds, Page overdueItems, Page chargedItems,
+      boolean accountDetails) {
+
+    // FOLIO returns the totalRecords of a query for no records
+    static final Page COUNT_ONLY = new Page(null, 0);
+
+    /**
+     * Plans the queries for a summary.
+     *
+     * @param summary the summary type of the request, {@code null} for no list
+     * @param startItem the first item of the list, {@code null} for the first one
+     * @param endItem the last item of the list, {@code null} for the FOLIO default
+     * @return the plan
+     */
+    static PatronInformationPlan of(Summary summary, Integer startItem, Integer endItem) {
+      final Page page = new Page(startItem, endItem);
+      final boolean holds = summary == HOLD_ITEMS || summary == UNAVAILABLE_HOLDS;
+      final boolean chargedPage = summary == CHARGED_ITEMS
+          && (startItem != null || endItem != null);
+      return new PatronInformationPlan(
+          holds ? page : COUNT_ONLY,
+          summary == OVERDUE_ITEMS ? page : COUNT_ONLY,
+          chargedPage ? page : null,
+          summary == FINE_ITEMS || summary == EXTENDED_FEES);
+    }
+  }
+
+  /**
+   * A page of a list, as the 1-based start and end item that are sent to FOLIO as its
+   * {@code offset} and {@code limit}.
+   *
+   * @param startItem the first item, {@code null} for the first one
+   * @param endItem the last item, {@code null} for the FOLIO default
+   */
+  record Page(Integer startItem, Integer endItem) { }
+
   private Future<PatronPasswordVerificationRecords> verifyPinOrPassword(
       String patronIdentifier,
       String patronPassword,
       SessionData sessionData
   ) {
-    if (sessionData.isUsePinForPatronVerification()) {
-      return usersRepository.verifyPatronPin(patronIdentifier, patronPassword, sessionData);
-    }
-    return passwordVerifier.verifyPatronPassword(patronIdentifier, patronPassword, sessionData);
+    return PatronSnapshot.of(sessionData, patronIdentifier, patronPassword)
+        .getVerification(() -> sessionData.isUsePinForPatronVerification()
+            ? usersRepository.verifyPatronPin(patronIdentifier, patronPassword, sessionData)
+            : passwordVerifier.verifyPatronPassword(patronIdentifier, patronPassword,
+                sessionData));
   }
 }
 
@@ -0,0 +1,163 @@
+package org.folio.edge.sip2.repositories;
+
+import static java.lang.Boolean.FALSE;
+import static org.folio.edge.sip2.utils.Utils.getEnvOrDefault;
+
+import io.vertx.core.Future;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.folio.edge.sip2.cache.SecretDigests;
+import org.folio.edge.sip2.repositories.domain.PatronPasswordVerificationRecords;
+import org.folio.edge.sip2.session.SessionData;
+
+/**
+ * What is known about the patron of the current transaction of a session, e.g. a self-checkout
+ * kiosk that sends Patron Status, several Checkouts and End Patron Session for one patron. The
+ * verification of the patron, with the user it found, and the blocks of the patron are looked up
+ * once and reused by the following commands of the transaction instead of resolving the patron
+ * again for every command.
+ *
+ * <p>A snapshot belongs to one session and one patron identifier and password. It is replaced
+ * when a command names another patron or password, dropped by End Patron Session and not used
+ * once its short time to live passed. Failed lookups and failed verifications are not kept.
+ */
+public class PatronSnapshot {
+
+  static final String TTL_PROPERTY = "sip2PatronSnapshotTtl";
+  static final String TTL_ENV_VAR = "SIP2_PATRON_SNAPSHOT_TTL";
+  static final long DEFAULT_TTL_MILLIS = 30_000L;
+
+  private static final long TTL_MILLIS = getEnvOrDefault(TTL_PROPERTY, TTL_ENV_VAR,
+      DEFAULT_TTL_MILLIS, Long::parseLong);
+  private static final String VERIFICATION = "verification";
+  private static final String MANUAL_BLOCKS = "manualBlocks/";
+  private static final String AUTOMATED_BLOCKS = "automatedBlocks/";
+
+  private final String patronIdentifier;
+  private final byte[] passwordDigest;
+  private final long expiresAt;
+  private final Map<String, Future<?>> results = new HashMap<>();
+
+  private PatronSnapshot(String patronIdentifier, String patronPassword, long expiresAt) {
+    this.patronIdentifier = patronIdentifier;
+    // only a keyed digest of the password is kept to recognize it again
+    this.passwordDigest = SecretDigests.digest(patronPassword);
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * Returns the snapshot of a patron of the session, starting a new one unless the session
+   * already has a current snapshot of the same patron and password.
+   *
+   * @param sessionData the session
+   * @param patronIdentifier the patron identifier of the command
+   * @param patronPassword the patron password or PIN of the command
+   * @return the snapshot of the patron
+   */
+  public static PatronSnapshot of(SessionData sessionData, String patronIdentifier,
+      String patronPassword) {
+    return of(sessionData, patronIdentifier, patronPassword, TTL_MILLIS, System.nanoTime());
+  }
+
+  static PatronSnapshot of(SessionData sessionData, String patronIdentifier,
+      String patronPassword, long ttlMillis, long nowNanos) {
+    final PatronSnapshot current = sessionData.getPatronSnapshot();
+    if (current != null && current.isOf(patronIdentifier, patronPassword, nowNanos)) {
+      return current;
+    }
+
+    final PatronSnapshot snapshot = new PatronSnapshot(patronIdentifier, patronPassword,
+        nowNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0)));
+    // a time to live of 0 disables the snapshots, every command looks the patron up again
+    sessionData.setPatronSnapshot(ttlMillis > 0 ? snapshot : null);
+    return snapshot;
+  }
+
+  /**
+   * Drops the snapshot of the session, e.g. once the patron ended the transaction.
+   *
+   * @param sessionData the session
+   */
+  public static void end(SessionData sessionData) {
+    sessionData.setPatronSnapshot(null);
+  }
+
+  /**
+   * Returns the verification of the patron, verifying the patron unless it was verified before.
+   * Only a verification that found the user and did not reject the password is kept.
+   *
+   * @param verifier verifies the patron
+   * @return the verification
+   */
+  public Future<PatronPasswordVerificationRecords> getVerification(
+      Supplier<Future<PatronPasswordVerificationRecords>> verifier) {
+    return get(VERIFICATION, verifier,
+        verification -> verification != null && verification.getUser() != null
+            && !FALSE.equals(verification.getPasswordVerified()));
+  }
+
+  /**
+   * Returns the manual blocks of a user, looking them up unless they were looked up before.
+   *
+   * @param userId the user id of the patron
+   * @param lookup looks the blocks up
+   * @param <T> the blocks type
+   * @return the blocks
+   */
+  public <T> Future<T> getManualBlocks(String userId, Supplier<Future<T>> lookup) {
+    return get(MANUAL_BLOCKS + userId, lookup, blocks -> true);
+  }
+
+  /**
+   * Returns the automated blocks of a user, looking them up unless they were looked up before.
+   *
+   * @param userId the user id of the patron
+   * @param lookup looks the blocks up
+   * @param <T> the blocks type
+   * @return the blocks
+   */
+  public <T> Future<T> getAutomatedBlocks(String userId, Supplier<Future<T>> lookup) {
+    return get(AUTOMATED_BLOCKS + userId, lookup, blocks -> true);
+  }
+
+  /**
+   * Forgets the blocks of the patron, e.g. after a checkout that may have changed them. The
+   * verification of the patron is kept.
+   */
+  public synchronized void forgetBlocks() {
+    results.keySet().removeIf(key -> !VERIFICATION.equals(key));
+  }
+
+  boolean isOf(String patronIdentifier, String patronPassword, long nowNanos) {
+    return nowNanos - expiresAt < 0
+        && Objects.equals(this.patronIdentifier, patronIdentifier)
+        && MessageDigest.isEqual(passwordDigest, SecretDigests.digest(patronPassword));
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized <T> Future<T> get(String key, Supplier<Future<T>> lookup,
+      Predicate<T> keep) {
+    final Future<T> known = (Future<T>) results.get(key);
+    if (known != null) {
+      return known;
+    }
+
+    final Future<T> result = lookup.get();
+    results.put(key, result);
+    result.onComplete(ar -> {
+      if (ar.failed() || !keep.test(ar.result())) {
+        remove(key, result);
+      }
+    });
+    return result;
+  }
+
+  private synchronized void remove(String key, Future<?> result) {
+    results.remove(key, result);
+  }
+}
@@ -18,6 +18,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.folio.edge.sip2.cache.AcsConfigKey;
+import org.folio.edge.sip2.cache.AsyncLoadingCache;
+import org.folio.edge.sip2.cache.FolioCircuitBreaker;
 import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
 import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
 import org.folio.edge.sip2.repositories.domain.AcsConfig;
@@ -35,6 +38,7 @@ public class SettingsRepository {
   private static final String ACS_TENANT_CONFIG_KEY = "acsTenantConfig";
   private static final String SC_STATION_CONFIG_KEY = "selfCheckoutConfig";
   private static final String LOCALE_SETTINGS_KEY = "localeSettings";
+  private static final String CIRCULATION_PATH = "/circulation";
   private static final String FAILED_TO_FIND_SETTING_MSG_TEMPLATE =
       "Failed to find configuration: {}";
 
@@ -42,20 +46,53 @@ public class SettingsRepository {
   private final Sip2LogAdapter log;
   private final ConfigurationRepository configurationRepository;
   private final IResourceProvider<IRequestData> resourceProvider;
+  private final AsyncLoadingCache<AcsConfigKey, AcsConfig> acsConfigCache;
+  private final FolioCircuitBreaker circuitBreaker;
+
+  /**
+   * Constructs a new SettingsRepository that loads the settings on every request.
+   *
+   * @param resourceProvider the resource provider for request data, must not be null
+   * @param clock            the clock instance, must not be null
+   */
+  public SettingsRepository(IResourceProvider<IRequestData> resourceProvider, Clock clock,
+      ConfigurationRepository configurationRepository) {
+    this(resourceProvider, clock, configurationRepository, null);
+  }
+
+  /**
+   * Constructs a new SettingsRepository that always reports the ACS as on-line.
+   *
+   * @param resourceProvider the resource provider for request data, must not be null
+   * @param clock            the clock instance, must not be null
+   * @param acsConfigCache   the cache of the parsed settings, or {@code null} to not cache them
+   */
+  public SettingsRepository(IResourceProvider<IRequestData> resourceProvider, Clock clock,
+      ConfigurationRepository configurationRepository,
+      AsyncLoadingCache<AcsConfigKey, AcsConfig> acsConfigCache) {
+    this(resourceProvider, clock, configurationRepository, acsConfigCache, null);
+  }
 
   /**
    * Constructs a new SettingsRepository.
    *
    * @param resourceProvider the resource provider for request data, must not be null
    * @param clock            the clock instance, must not be null
+   * @param acsConfigCache   the cache of the parsed settings, or {@code null} to not cache them
+   * @param circuitBreaker   reports the ACS as off-line while the circuit of the circulation
+   *                         calls is open, or {@code null} to always report it as on-line
    */
   @Inject
   public SettingsRepository(IResourceProvider<IRequestData> resourceProvider, Clock clock,
-      ConfigurationRepository configurationRepository) {
+      ConfigurationRepository configurationRepository,
+      AsyncLoadingCache<AcsConfigKey, AcsConfig> acsConfigCache,
+      FolioCircuitBreaker circuitBreaker) {
     this.resourceProvider = requireNonNull(resourceProvider, "resourceProvider cannot be null");
     this.configurationRepository = requireNonNull(
         configurationRepository, "configurationRepository cannot be null");
     this.clock = requireNonNull(clock, "Clock cannot be null");
+    this.acsConfigCache = acsConfigCache;
+    this.circuitBreaker = circuitBreaker;
     log = Sip2LogAdapter.getLogger(SettingsRepository.class);
   }
 
@@ -66,6 +103,22 @@ public class SettingsRepository {
    * @return a Future containing the ACSStatus built from the retrieved settings
    */
   public Future<ACSStatus> getACSStatus(SessionData sessionData) {
+    return getAcsConfig(sessionData)
+        .flatMap(acsConfig -> processAcsConfig(sessionData, acsConfig));
+  }
+
+  private Future<AcsConfig> getAcsConfig(SessionData sessionData) {
+    if (acsConfigCache == null) {
+      return loadAcsConfig(sessionData);
+    }
+
+    // the settings only depend on the tenant and the SC location, and kiosks ask for them
+    // with every SC Status, so they are shared by all sessions of the same location
+    var key = new AcsConfigKey(sessionData.getTenant(), sessionData.getScLocation());
+    return acsConfigCache.get(key, () -> loadAcsConfig(sessionData));
+  }
+
+  private Future<AcsConfig> loadAcsConfig(SessionData sessionData) {
     log.debug(sessionData, "getACSStatus:: retrieving from mod-settings: {}", sessionData);
     var params = getSettingsConfigKeys(sessionData);
     var settingsRequestData = new SettingsRequestData(QUERY_LIMIT, sessionData, params);
@@ -76,7 +129,6 @@ public class SettingsRepository {
             .map(resource -> getSettingsAsMap(sessionData, resource, localeConfig))
             .flatMap(settings -> getMissingSettingsFromConfiguration(sessionData, settings, params))
             .flatMap(configsByKey -> parseFoundConfiguration(sessionData, configsByKey))
-            .flatMap(acsConfig -> processAcsConfig(sessionData, acsConfig))
             .onFailure(e -> log.error(sessionData, "Error loading data from 'mod-settings'", e)));
   }
 
@@ -150,6 +202,7 @@ public class SettingsRepository {
     addLocaleConfig(sessionData, acsConfig);
     addTenantConfig(sessionData, acsConfig, builder);
     addScStationConfig(acsConfig, builder);
+    addCirculationStatus(sessionData, builder);
     builder.institutionId(sessionData.getTenant());
 
     return succeededFuture(builder.build());
@@ -193,6 +246,16 @@ public class SettingsRepository {
     }
   }
 
+  private void addCirculationStatus(SessionData sd, ACSStatus.ACSStatusBuilder builder) {
+    // the kiosk stops sending circulation commands that would fail anyway
+    if (circuitBreaker != null && circuitBreaker.isOpen(sd.getTenant(), CIRCULATION_PATH)) {
+      log.warn(sd, "Circulation calls to FOLIO are failing, reporting the ACS as off-line");
+      builder.onLineStatus(false);
+      builder.checkinOk(false);
+      builder.checkoutOk(false);
+    }
+  }
+
   private Map<String, Object> groupSettingsByKey(SessionData sessionData, JsonArray settingsItems) {
     var settingsByKey = new LinkedHashMap<String, Object>();
     for (var settingsItem : settingsItems) {
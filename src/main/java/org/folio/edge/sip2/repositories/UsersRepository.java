@@ -8,6 +8,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import org.folio.edge.sip2.cache.PatronVerificationCache;
+import org.folio.edge.sip2.cache.PatronVerificationCache.Check;
 import org.folio.edge.sip2.repositories.domain.ExtendedUser;
 import org.folio.edge.sip2.repositories.domain.PatronPasswordVerificationRecords;
 import org.folio.edge.sip2.repositories.domain.User;
@@ -27,11 +29,24 @@ public class UsersRepository {
   private static final Sip2LogAdapter log = Sip2LogAdapter.getLogger(UsersRepository.class);
 
   private final IResourceProvider<IRequestData> resourceProvider;
+  private final PatronVerificationCache verificationCache;
 
-  @Inject
   UsersRepository(IResourceProvider<IRequestData> resourceProvider) {
+    this(resourceProvider, null);
+  }
+
+  /**
+   * Construct a users repository.
+   *
+   * @param resourceProvider the provider of the FOLIO resources
+   * @param verificationCache reuses recent PIN checks, {@code null} to always check the PIN
+   */
+  @Inject
+  UsersRepository(IResourceProvider<IRequestData> resourceProvider,
+      PatronVerificationCache verificationCache) {
     this.resourceProvider = Objects.requireNonNull(resourceProvider,
         "Resource provider cannot be null");
+    this.verificationCache = verificationCache;
   }
 
   /**
@@ -311,18 +326,33 @@ public class UsersRepository {
           .passwordVerified(Boolean.FALSE)
           .build());
       }
+      final String tenant = sessionData.getTenant();
+      if (verificationCache != null
+          && verificationCache.isVerified(tenant, identifier, Check.PIN, pin)) {
+        log.debug(sessionData, "Pin was verified recently");
+        return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
+          .extendedUser(extendedUser)
+          .passwordVerified(Boolean.TRUE)
+          .build());
+      }
       PinVerifyRequestData pinVerifyRequestData
           = new PinVerifyRequestData(extendedUser.getUser().getId(), pin, headers, sessionData);
       log.debug(sessionData, "Attempting to verify pin");
       Future<Boolean> pinResult = resourceProvider.doPinCheck(pinVerifyRequestData);
       return pinResult
         .compose(pinCheckResult -> {
+          if (verificationCache != null) {
+            verificationCache.put(tenant, identifier, Check.PIN, pin);
+          }
           return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
             .extendedUser(extendedUser)
             .passwordVerified(Boolean.TRUE)
             .build());
         }, throwable -> { //Return false on error
             log.debug(sessionData, "Error on pin check");
+            if (verificationCache != null) {
+              verificationCache.evict(tenant, identifier, Check.PIN);
+            }
             return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
                 .extendedUser(extendedUser)
                 .errorMessages(Collections.singletonList("Error verifying PIN"))
@@ -5,91 +5,49 @@ import static java.lang.String.format;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Delegate;
 import lombok.extern.log4j.Log4j2;
+import org.folio.edge.sip2.cache.FolioRequestKey;
+import org.folio.edge.sip2.cache.RequestMemo;
 import org.folio.edge.sip2.domain.PreviousMessage;
 import org.folio.edge.sip2.domain.integration.login.FolioLoginResponse;
 import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
+import org.folio.edge.sip2.parser.Parser;
+import org.folio.edge.sip2.parser.ParserRegistry;
+import org.folio.edge.sip2.repositories.IResource;
+import org.folio.edge.sip2.repositories.PatronSnapshot;
 
-@Data
+/**
+ * The data of a SIP2 connection. Each command is executed with its own {@code SessionData},
+ * see {@link #forCommand(long, long, RequestMemo)}, which shares the state of the connection but
+ * has its own deadline and request memo, so a command that is still running when the next one
+ * arrives keeps them.
+ */
 @Log4j2
-@EqualsAndHashCode
-@RequiredArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SessionData {
-  private final char fieldDelimiter;
-  private final boolean errorDetectionEnabled;
-  private final String charset;
-  private final String requestId;
-  private String tenant;
-  private String loginErrorMessage;
-  private Object errorResponseMessage;
-  private String scLocation;
-  private int maxPrintWidth = -1; // since 0 is valid
-  private String username;
-  private String password; // should we really save this?
-  private String authenticationToken;
-  private PreviousMessage previousMessage;
-  private String timeZone;
-  private String currency;
-  private boolean patronPasswordVerificationRequired;
-  private List<String> rejectedCheckinStatusList;
-  private boolean configurationLoaded;
-  private boolean usePinForPatronVerification;
-  private boolean alwaysCheckPatronPassword;
-  private FolioLoginResponse loginResponse;
-
   private static final String DEFAULT_CURRENCY = "USD";
   private static final String DEFAULT_TIMEZONE = "Etc/UTC";
 
-  private SessionData(String tenant, char fieldDelimiter,
-                      boolean errorDetectionEnabled, String charset) {
-    this.tenant = tenant;
-    this.requestId = generateRequestId();
-    this.fieldDelimiter = fieldDelimiter;
-    this.errorDetectionEnabled = errorDetectionEnabled;
-    this.charset = charset;
-    this.rejectedCheckinStatusList = new ArrayList<>();
-    this.configurationLoaded = false;
-    this.usePinForPatronVerification = false;
-    this.alwaysCheckPatronPassword = true;
-  }
-
-  /**
-   * Check to see if a given status is invalid for checkin.
-   *
-   * @param status The status to check
-   * @return True if the status is okay to checkin
-   */
-  public boolean isValidCheckinStatus(String status) {
-    //Case-insensitive search of whether we have the status in question
-    return this.rejectedCheckinStatusList.stream().noneMatch(status::equalsIgnoreCase);
-  }
-
-  /**
-   * Set the list of item statuses to reject checkin on.
-   * @param list The list of statuses
-   */
-  public void setInvalidCheckinStatusList(List<String> list) {
-    this.rejectedCheckinStatusList = list;
-  }
-
-  public String getTimeZone() {
-    return timeZone != null ? timeZone : DEFAULT_TIMEZONE;
-  }
-
-  /**
-   * Set the time zone.
-   * timeZone The timeZone value.
-   */
-  public void setTimeZone(String timeZone) {
-    if (timeZone == null) {
-      log.warn("The timezone value is null and therefore "
-          + "default value {} will be used.", DEFAULT_TIMEZONE);
-    }
-    this.timeZone = timeZone;
-  }
+  @Delegate
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final State state;
+  // System.nanoTime() by which the command must be answered, null for no deadline
+  private final Long deadline;
+  // results of the FOLIO reads of the command, null outside of a command
+  @Getter
+  private final RequestMemo<FolioRequestKey, IResource> requestMemo;
 
   /**
    * Initialize a new session.
@@ -103,32 +61,37 @@ public class SessionData {
   public static SessionData createSession(String tenant, char fieldDelimiter,
                                           boolean errorDetectionEnabled, String charset) {
     log.debug("New session created");
-    return new SessionData(tenant, fieldDelimiter, errorDetectionEnabled,
-      charset);
+    return new SessionData(new State(tenant, fieldDelimiter, errorDetectionEnabled, charset),
+        null, null);
   }
 
   /**
-   * Gets the currency for the session.
-   * Returns the session currency if set, otherwise returns the default currency.
+   * Returns the session data a command of this session is executed with.
    *
-   * @return the currency code as a String
+   * @param receivedNanos the {@link System#nanoTime()} the command was received
+   * @param timeoutMillis the time the command must be answered in, {@code 0} for no deadline
+   * @param requestMemo the memo of the FOLIO reads of the command, {@code null} for none
+   * @return the session data of the command
    */
-  public String getCurrency() {
-    return currency != null ? currency : DEFAULT_CURRENCY;
+  public SessionData forCommand(long receivedNanos, long timeoutMillis,
+      RequestMemo<FolioRequestKey, IResource> requestMemo) {
+    return new SessionData(state, timeoutMillis > 0
+        ? receivedNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : null, requestMemo);
+  }
+
+  public boolean hasDeadline() {
+    return deadline != null;
   }
 
   /**
-   * Setter for currency.
+   * Returns the time left to answer the command.
    *
-   * @param currency The currency value to set the session to
+   * @return the milliseconds left, {@code 0} or less once the deadline passed, or
+   *     {@link Long#MAX_VALUE} when the command has no deadline
    */
-  public void setCurrency(CurrencyType currency) {
-    if (currency == null) {
-      log.warn("Null currency value, therefore default value {} will be used", DEFAULT_CURRENCY);
-      return;
-    }
-
-    this.currency = currency.name();
+  public long getRemainingMillis() {
+    return deadline == null
+        ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
   }
 
   private static String generateRequestId() {
@@ -137,12 +100,139 @@ public class SessionData {
   }
 
   /**
-   * Sets the tenant for the session and logs the change.
-   *
-   * @param tenant the new tenant identifier
+   * The state of a connection, shared by the session data of all its commands.
    */
-  public void setTenant(String tenant) {
-    log.debug("Tenant is updated in session data: old='{}', new='{}'", this.tenant, tenant);
-    this.tenant = tenant;
+  @Data
+  private static final class State {
+    private final char fieldDelimiter;
+    private final boolean errorDetectionEnabled;
+    private final String charset;
+    private final String requestId;
+    private String tenant;
+    private String loginErrorMessage;
+    private Object errorResponseMessage;
+    private String scLocation;
+    private int maxPrintWidth = -1; // since 0 is valid
+    private String username;
+    private String password; // should we really save this?
+    private String authenticationToken;
+    private PreviousMessage previousMessage;
+    private String timeZone;
+    private String currency;
+    private boolean patronPasswordVerificationRequired;
+    private List<String> rejectedCheckinStatusList;
+    private boolean configurationLoaded;
+    private boolean usePinForPatronVerification;
+    private boolean alwaysCheckPatronPassword;
+    private FolioLoginResponse loginResponse;
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile Parser parser;
+    // the patron of the current transaction, null while no patron is known
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile PatronSnapshot patronSnapshot;
+
+    private State(String tenant, char fieldDelimiter,
+                  boolean errorDetectionEnabled, String charset) {
+      this.tenant = tenant;
+      this.requestId = generateRequestId();
+      this.fieldDelimiter = fieldDelimiter;
+      this.errorDetectionEnabled = errorDetectionEnabled;
+      this.charset = charset;
+      this.rejectedCheckinStatusList = new ArrayList<>();
+      this.configurationLoaded = false;
+      this.usePinForPatronVerification = false;
+      this.alwaysCheckPatronPassword = true;
+    }
+
+    /**
+     * Check to see if a given status is invalid for checkin.
+     *
+     * @param status The status to check
+     * @return True if the status is okay to checkin
+     */
+    public boolean isValidCheckinStatus(String status) {
+      //Case-insensitive search of whether we have the status in question
+      return this.rejectedCheckinStatusList.stream().noneMatch(status::equalsIgnoreCase);
+    }
+
+    /**
+     * Set the list of item statuses to reject checkin on.
+     * @param list The list of statuses
+     */
+    public void setInvalidCheckinStatusList(List<String> list) {
+      this.rejectedCheckinStatusList = list;
+    }
+
+    public String getTimeZone() {
+      return timeZone != null ? timeZone : DEFAULT_TIMEZONE;
+    }
+
+    /**
+     * Set the time zone.
+     * timeZone The timeZone value.
+     */
+    public void setTimeZone(String timeZone) {
+      if (timeZone == null) {
+        log.warn("The timezone value is null and therefore "
+            + "default value {} will be used.", DEFAULT_TIMEZONE);
+      }
+      this.timeZone = timeZone;
+      // drop the parser for the old timezone, the next message picks up the matching one
+      this.parser = null;
+    }
+
+    /**
+     * Returns the shared parser matching this session's delimiter, charset, error detection and
+     * timezone.
+     *
+     * @return the parser for messages received in this session
+     */
+    public Parser getParser() {
+      Parser current = parser;
+      if (current == null) {
+        current = ParserRegistry.getParser(fieldDelimiter, charset, errorDetectionEnabled,
+            getTimeZone());
+        parser = current;
+      }
+      return current;
+    }
+
+    /**
+     * Gets the currency for the session.
+     * Returns the session currency if set, otherwise returns the default currency.
+     *
+     * @return the currency code as a String
+     */
+    public String getCurrency() {
+      return currency != null ? currency : DEFAULT_CURRENCY;
+    }
+
+    /**
+     * Setter for currency.
+     *
+     * @param currency The currency value to set the session to
+     */
+    public void setCurrency(CurrencyType currency) {
+      if (currency == null) {
+        log.warn("Null currency value, therefore default value {} will be used",
+            DEFAULT_CURRENCY);
+        return;
+      }
+
+      this.currency = currency.name();
+    }
+
+    /**
+     * Sets the tenant for the session and logs the change.
+     *
+     * @param tenant the new tenant identifier
+     */
+    public void setTenant(String tenant) {
+      log.debug("Tenant is updated in session data: old='{}', new='{}'", this.tenant, tenant);
+      this.tenant = tenant;
+    }
   }
 }
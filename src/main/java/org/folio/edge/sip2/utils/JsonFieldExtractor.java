@@ -0,0 +1,214 @@
+package org.folio.edge.sip2.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.codec.BodyCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Extracts only some fields of a JSON object with a streaming parser, so that large FOLIO
+ * responses are not decoded into full trees when a few of their fields are needed.
+ *
+ * <p>Fields are given as paths, e.g. {@code totalRecords}, {@code loans[].item.barcode} or
+ * {@code accounts[].remaining}. The {@code []} suffix is optional and only documents that the
+ * field is an array: the rest of the path is selected in every element of an array. A path
+ * that ends at an object or array keeps it whole. The extracted object has the same shape as
+ * the original one, without the fields that were not selected, so it is read in the same way.
+ */
+public final class JsonFieldExtractor {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Set<String> fields;
+  private final Selection selection = new Selection();
+
+  private JsonFieldExtractor(Set<String> fields) {
+    this.fields = fields;
+    for (String field : fields) {
+      Selection current = selection;
+      for (String name : field.split("\\.")) {
+        current = current.children.computeIfAbsent(name.endsWith("[]")
+            ? name.substring(0, name.length() - 2) : name, k -> new Selection());
+      }
+      current.whole = true;
+    }
+  }
+
+  /**
+   * Creates an extractor of fields.
+   *
+   * @param fields the paths of the fields to extract
+   * @return the extractor
+   */
+  public static JsonFieldExtractor of(String... fields) {
+    if (fields.length == 0) {
+      throw new IllegalArgumentException("fields cannot be empty");
+    }
+    return new JsonFieldExtractor(new TreeSet<>(Arrays.asList(fields)));
+  }
+
+  /**
+   * Extracts the fields from a JSON object.
+   *
+   * @param body the encoded JSON object
+   * @return the object with only the extracted fields, or {@code null} if the body is empty
+   * @throws DecodeException if the body is not a JSON object
+   */
+  public JsonObject extract(Buffer body) {
+    if (body == null || body.length() == 0) {
+      return null;
+    }
+    // the parser reads the buffer in chunks, so the body is not copied into one more array
+    try (JsonParser parser = JSON_FACTORY.createParser(new BufferInputStream(body))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("JSON object expected");
+      }
+      final JsonObject result = (JsonObject) read(parser, selection);
+      if (parser.nextToken() != null) {
+        throw new DecodeException("Unexpected content after the JSON object");
+      }
+      return result;
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Returns a codec that extracts the fields from a response body.
+   *
+   * @return the body codec
+   */
+  public BodyCodec<JsonObject> bodyCodec() {
+    return BodyCodec.create(this::extract);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof JsonFieldExtractor other && fields.equals(other.fields);
+  }
+
+  @Override
+  public int hashCode() {
+    return fields.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return fields.toString();
+  }
+
+  private static Object read(JsonParser parser, Selection selection) throws IOException {
+    if (selection.whole) {
+      return readValue(parser);
+    }
+    switch (parser.currentToken()) {
+      case START_OBJECT -> {
+        final JsonObject object = new JsonObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String name = parser.currentName();
+          final Selection child = selection.children.get(name);
+          parser.nextToken();
+          if (child == null) {
+            parser.skipChildren();
+          } else {
+            object.put(name, read(parser, child));
+          }
+        }
+        return object;
+      }
+      case START_ARRAY -> {
+        final JsonArray array = new JsonArray();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          array.add(read(parser, selection));
+        }
+        return array;
+      }
+      default -> {
+        return readValue(parser);
+      }
+    }
+  }
+
+  private static Object readValue(JsonParser parser) throws IOException {
+    // the same types that Vert.x decodes JSON values to
+    return switch (parser.currentToken()) {
+      case START_OBJECT -> {
+        final JsonObject object = new JsonObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String name = parser.currentName();
+          parser.nextToken();
+          object.put(name, readValue(parser));
+        }
+        yield object;
+      }
+      case START_ARRAY -> {
+        final JsonArray array = new JsonArray();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          array.add(readValue(parser));
+        }
+        yield array;
+      }
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_NULL -> null;
+      default -> throw new DecodeException("Unexpected token " + parser.currentToken());
+    };
+  }
+
+  /**
+   * Reads a buffer without copying it into an array first.
+   */
+  private static final class BufferInputStream extends InputStream {
+    private final Buffer buffer;
+    private int position;
+
+    private BufferInputStream(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return position < buffer.length() ? buffer.getByte(position++) & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      final int count = Math.min(length, buffer.length() - position);
+      if (count <= 0) {
+        return -1;
+      }
+      buffer.getBytes(position, position + count, bytes, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.length() - position;
+    }
+  }
+
+  /**
+   * The fields selected in an object, or the whole value.
+   */
+  private static final class Selection {
+    private final Map<String, Selection> children = new HashMap<>();
+    private boolean whole;
+  }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.folio.edge.sip2.repositories.IResource;
 import org.folio.edge.sip2.repositories.RequestThrowable;
@@ -26,6 +27,8 @@ public final class Utils {
   public static final Integer DEFAULT_USER_LOANS_LIMIT = 500;
   public static final String TITLE_NOT_FOUND = "TITLE NOT FOUND";
 
+  private static final Map<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
   private Utils() {
     super();
   }
@@ -81,7 +84,21 @@ public final class Utils {
    * @return a converted OffsetDatetime instance in the desired TZ
    */
   public static OffsetDateTime convertDateTime(OffsetDateTime instance, String timeZone) {
-    return OffsetDateTime.ofInstant(instance.toInstant(), ZoneId.of(timeZone));
+    return OffsetDateTime.ofInstant(instance.toInstant(), getZoneId(timeZone));
+  }
+
+  /**
+   * Returns the {@code ZoneId} for a time zone, caching it so the time zone is only looked up
+   * once.
+   * @param timeZone e.g. "Etc/UTC" or "Europe/Stockholm"
+   * @return the zone id
+   */
+  public static ZoneId getZoneId(String timeZone) {
+    final ZoneId zoneId = ZONE_IDS.get(timeZone);
+    if (zoneId != null) {
+      return zoneId;
+    }
+    return ZONE_IDS.computeIfAbsent(timeZone, ZoneId::of);
   }
 
   /**
@@ -1,14 +1,19 @@
 package org.folio.edge.sip2.utils;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.PoolOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.core.net.PfxOptions;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.edge.sip2.metrics.HttpClientPoolMetrics;
 
 
 public class WebClientUtils {
@@ -18,19 +23,24 @@ public class WebClientUtils {
   public static final String SYS_PEM_KEY_CERT_OPTIONS = "pemKeyCertOptions";
   public static final String SYS_PFX_KEY_CERT_OPTIONS = "pfxKeyCertOptions";
   public static final String SYS_CERT_PATHS = "certPaths";
+  public static final String SYS_WEB_CLIENT_OPTIONS = "webClientOptions";
+  public static final String SYS_WEB_CLIENT_POOL_OPTIONS = "webClientPoolOptions";
+  public static final String SYS_WEB_CLIENT_WARM_UP = "webClientWarmUp";
   private static final Logger log = LogManager.getLogger();
 
   private WebClientUtils() {
   }
 
   /**
-   * Create WebClient with TLS.
+   * Create WebClient with TLS, and the client and pool options of the configuration.
    * @param vertx instance
    * @param config json config
    * @return WebClient
    */
   public static WebClient create(Vertx vertx, JsonObject config) {
-    WebClientOptions options = new WebClientOptions();
+    JsonObject clientOptions = config.getJsonObject(SYS_WEB_CLIENT_OPTIONS);
+    WebClientOptions options = clientOptions == null
+        ? new WebClientOptions() : new WebClientOptions(clientOptions);
     JsonObject netServerOptions = config.getJsonObject(SYS_NET_SERVER_OPTIONS);
 
     if (netServerOptions != null) {
@@ -45,7 +55,7 @@ public class WebClientUtils {
             .setVerifyHost(false);
 
         log.info("Creating WebClient with TLS on (using PFX truststore)...");
-        return WebClient.create(vertx, options);
+        return createWebClient(vertx, options, config);
       }
 
       if (pem != null) {
@@ -61,11 +71,52 @@ public class WebClientUtils {
             .setVerifyHost(false);
 
         log.info("Creating WebClient with TLS on (using PEM truststore)...");
-        return WebClient.create(vertx, options);
+        return createWebClient(vertx, options, config);
       }
     }
 
     log.info("Creating WebClient with TLS off...");
-    return WebClient.create(vertx, options);
+    return createWebClient(vertx, options, config);
+  }
+
+  /**
+   * Opens pooled connections ahead of the first requests by sending concurrent HEAD requests,
+   * whose responses are ignored.
+   * @param webClient the web client
+   * @param url the URL of the server
+   * @param connections the number of connections to open, at most the pool size
+   * @return completed when all requests are done, never failed
+   */
+  public static Future<Void> warmUp(WebClient webClient, String url, int connections) {
+    if (url == null || connections <= 0) {
+      return Future.succeededFuture();
+    }
+
+    List<Future<?>> requests = new ArrayList<>(connections);
+    for (int i = 0; i < connections; i++) {
+      requests.add(webClient.headAbs(url).send());
+    }
+    return Future.join(requests).transform(result -> {
+      if (result.succeeded()) {
+        log.info("Opened {} connections to {}", connections, url);
+      } else {
+        log.warn("Failed to open {} connections to {}: {}", connections, url,
+            result.cause().getMessage());
+      }
+      return Future.<Void>succeededFuture();
+    });
+  }
+
+  private static WebClient createWebClient(Vertx vertx, WebClientOptions options,
+      JsonObject config) {
+    JsonObject poolConfig = config.getJsonObject(SYS_WEB_CLIENT_POOL_OPTIONS);
+    PoolOptions poolOptions = poolConfig == null ? new PoolOptions() : new PoolOptions(poolConfig);
+    HttpClientPoolMetrics poolMetrics = HttpClientPoolMetrics.get();
+
+    return WebClient.wrap(vertx.httpClientBuilder()
+        .with(options)
+        .with(poolOptions)
+        .withConnectHandler(poolMetrics::connectionOpened)
+        .build(), options);
   }
 }
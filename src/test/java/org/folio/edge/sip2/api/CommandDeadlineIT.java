@@ -0,0 +1,118 @@
+package org.folio.edge.sip2.api;
+
+import static java.lang.System.getProperty;
+import static java.util.Objects.requireNonNull;
+import static org.folio.edge.sip2.api.support.TestUtils.getRandomPort;
+import static org.folio.edge.sip2.support.wiremock.WiremockContainerExtension.WM_URL_PROPERTY;
+import static org.folio.edge.sip2.handlers.ISip2RequestHandler.DEADLINE_SCREEN_MESSAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.folio.edge.sip2.api.support.TestUtils;
+import org.folio.edge.sip2.support.Sip2Commands;
+import org.folio.edge.sip2.support.Sip2Session;
+import org.folio.edge.sip2.support.Sip2SessionConfiguration;
+import org.folio.edge.sip2.support.response.ScStatusResponseParser;
+import org.folio.edge.sip2.support.tags.IntegrationTest;
+import org.folio.edge.sip2.support.wiremock.EnableWiremock;
+import org.folio.edge.sip2.support.wiremock.WiremockStubs;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@EnableWiremock
+@IntegrationTest
+@ExtendWith(VertxExtension.class)
+class CommandDeadlineIT {
+
+  @Test
+  @WiremockStubs({
+      "/wiremock/stubs/mod-settings/200-get-locale(delayed).json",
+      "/wiremock/stubs/mod-settings/200-get-settings.json",
+      "/wiremock/stubs/mod-login/201-post-acs-login.json",
+  })
+  @DisplayName("Should answer a command that ran out of time with an off-line ACS Status")
+  void scStatus_negative_deadlineExceeded(Vertx vertx, VertxTestContext testContext) {
+    var port = getRandomPort();
+
+    TestUtils.withDeployedModule(vertx, testContext, sip2Configuration(port), () -> {
+      var executor = Executors.newSingleThreadExecutor();
+      try {
+        executor.submit(() -> {
+          try (var session = new Sip2Session(getSessionConfig(port))) {
+            var login = session.executeCommand(
+                Sip2Commands.login("test_username", "test_password",
+                    "1a62fa88-e887-4454-a345-24b4a01095fa"));
+            assertTrue(login.getResponseMessage().startsWith("941"));
+
+            var start = System.nanoTime();
+            var status = session.executeCommand(Sip2Commands.status());
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // a well-formed ACS Status, a 96 would make the SC send the command again
+            assertTrue(status.isChecksumValid(), status.getResponseMessage());
+            var acsStatus = new ScStatusResponseParser('|', "Etc/UTC")
+                .parse(status.getResponseMessage());
+            assertFalse(acsStatus.getOnLineStatus());
+            assertFalse(acsStatus.getCheckinOk());
+            assertFalse(acsStatus.getCheckoutOk());
+            assertEquals(0, acsStatus.getTimeoutPeriod());
+            assertEquals("testtenant", acsStatus.getInstitutionId());
+            assertEquals(List.of(DEADLINE_SCREEN_MESSAGE), acsStatus.getScreenMessage());
+            assertTrue(elapsed.compareTo(Duration.ofMillis(900)) < 0, elapsed.toString());
+          }
+          return null;
+        }).get();
+      } finally {
+        executor.shutdownNow();
+      }
+    });
+  }
+
+  private static JsonObject sip2Configuration(int port) {
+    var tenant = new JsonObject()
+        .put("scSubnet", "0.0.0.0/0")
+        .put("tenant", "testtenant")
+        .put("errorDetectionEnabled", true)
+        .put("messageDelimiter", "\r")
+        .put("fieldDelimiter", "|")
+        .put("charset", "ISO-8859-1");
+
+    var storesConfiguration = new JsonObject()
+        .put("type", "json")
+        .put("format", "json")
+        .put("config", new JsonObject().put("scTenants", new JsonArray(List.of(tenant))));
+
+    return new JsonObject()
+        .put("okapiUrl", requireNonNull(getProperty(WM_URL_PROPERTY)))
+        .put("port", port)
+        .put("verticleInstances", 1)
+        .put("acsConfigCacheTtl", 0)
+        .put("folioResponseCacheTtls", new JsonObject())
+        .put("commandTimeouts", new JsonObject().put("SC_STATUS", 300))
+        .put("tenantConfigRetrieverOptions", new JsonObject()
+            .put("scanPeriod", 1000)
+            .put("stores", new JsonArray(List.of(storesConfiguration))));
+  }
+
+  private static Sip2SessionConfiguration getSessionConfig(int port) {
+    return Sip2SessionConfiguration.builder()
+        .port(port)
+        .hostname("localhost")
+        .useSsl(false)
+        .socketTimeout(Duration.ofSeconds(5))
+        .charset(StandardCharsets.ISO_8859_1)
+        .errorProtectionEnabled(true)
+        .build();
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.edge.sip2.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
@@ -30,6 +31,67 @@ class HealthCheckIT extends AbstractErrorDetectionDisabledTest {
         }));
   }
 
+  @Test
+  void acsConfigCache_positive_invalidate(
+      Vertx vertx, VertxTestContext testContext) {
+
+    HttpClient client = vertx.createHttpClient();
+    client.request(HttpMethod.DELETE, healthCheckPort, "localhost",
+            "/admin/cache/acs-config?tenant=diku")
+        .compose(request -> request.putHeader("X-Sip2-Admin-Token", ADMIN_TOKEN).send())
+        .onComplete(testContext.succeeding(response -> {
+          assertEquals(200, response.statusCode());
+          response.bodyHandler(body -> {
+            assertTrue(body.toString().startsWith("Invalidated "));
+            testContext.completeNow();
+          });
+        }));
+  }
+
+  @Test
+  void acsConfigCache_negative_invalidAdminToken(
+      Vertx vertx, VertxTestContext testContext) {
+
+    HttpClient client = vertx.createHttpClient();
+    client.request(HttpMethod.DELETE, healthCheckPort, "localhost", "/admin/cache/acs-config")
+        .compose(request -> request.putHeader("X-Sip2-Admin-Token", "wrong").send())
+        .onComplete(testContext.succeeding(response -> {
+          assertEquals(401, response.statusCode());
+          testContext.completeNow();
+        }));
+  }
+
+  @Test
+  void folioResponseCache_positive_invalidate(
+      Vertx vertx, VertxTestContext testContext) {
+
+    HttpClient client = vertx.createHttpClient();
+    client.request(HttpMethod.DELETE, healthCheckPort, "localhost",
+            "/admin/cache/folio-responses?tenant=diku")
+        .compose(request -> request.putHeader("X-Sip2-Admin-Token", ADMIN_TOKEN).send())
+        .onComplete(testContext.succeeding(response -> {
+          assertEquals(200, response.statusCode());
+          response.bodyHandler(body -> {
+            assertEquals("Invalidated 0 FOLIO responses", body.toString());
+            testContext.completeNow();
+          });
+        }));
+  }
+
+  @Test
+  void folioResponseCache_negative_missingAdminToken(
+      Vertx vertx, VertxTestContext testContext) {
+
+    HttpClient client = vertx.createHttpClient();
+    client.request(HttpMethod.DELETE, healthCheckPort, "localhost",
+            "/admin/cache/folio-responses")
+        .compose(HttpClientRequest::send)
+        .onComplete(testContext.succeeding(response -> {
+          assertEquals(401, response.statusCode());
+          testContext.completeNow();
+        }));
+  }
+
   @Test
   void healthCheck_negative_invalidPath(
       Vertx vertx, VertxTestContext testContext) {
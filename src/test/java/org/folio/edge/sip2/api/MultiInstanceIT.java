@@ -0,0 +1,170 @@
+package org.folio.edge.sip2.api;
+
+import static java.lang.System.getProperty;
+import static java.util.Objects.requireNonNull;
+import static org.folio.edge.sip2.api.support.TestUtils.getRandomPort;
+import static org.folio.edge.sip2.support.wiremock.WiremockContainerExtension.WM_URL_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.folio.edge.sip2.api.support.TestUtils;
+import org.folio.edge.sip2.support.Sip2Commands;
+import org.folio.edge.sip2.support.Sip2Session;
+import org.folio.edge.sip2.support.Sip2SessionConfiguration;
+import org.folio.edge.sip2.support.tags.IntegrationTest;
+import org.folio.edge.sip2.support.tags.PerformanceTest;
+import org.folio.edge.sip2.support.wiremock.EnableWiremock;
+import org.folio.edge.sip2.support.wiremock.WiremockStubs;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves concurrent sessions with several {@code MainVerticle} instances sharing one port. With
+ * the {@code performance-tests} profile it also reports the SC Status throughput reached for each
+ * instance count, e.g. {@code mvn verify -P performance-tests -Dit.test=MultiInstanceIT}.
+ */
+@EnableWiremock
+@IntegrationTest
+@ExtendWith(VertxExtension.class)
+class MultiInstanceIT {
+
+  private static final Logger log = LoggerFactory.getLogger(MultiInstanceIT.class);
+
+  private static final int CLIENTS = 16;
+  private static final int MESSAGES_PER_CLIENT = 50;
+  private static final int BENCHMARK_MESSAGES_PER_CLIENT = 2_000;
+
+  @ParameterizedTest
+  @ValueSource(ints = { 1, 2, 4 })
+  @WiremockStubs({
+      "/wiremock/stubs/mod-settings/200-get-locale.json",
+      "/wiremock/stubs/mod-settings/200-get-settings.json",
+      "/wiremock/stubs/mod-login/201-post-acs-login.json",
+  })
+  @DisplayName("Should serve concurrent sessions with several verticle instances")
+  void status_positive_severalInstances(int instances, Vertx vertx, VertxTestContext testContext) {
+    var port = getRandomPort();
+
+    TestUtils.withDeployedModule(vertx, testContext, sip2Configuration(port, instances), () -> {
+      var executor = Executors.newFixedThreadPool(CLIENTS);
+      try {
+        var results = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < CLIENTS; i++) {
+          results.add(executor.submit(statusClient(port, MESSAGES_PER_CLIENT)));
+        }
+
+        int messages = 0;
+        for (var result : results) {
+          messages += result.get();
+        }
+        assertEquals(CLIENTS * MESSAGES_PER_CLIENT, messages);
+      } finally {
+        executor.shutdownNow();
+      }
+    });
+  }
+
+  @PerformanceTest
+  @ParameterizedTest
+  @ValueSource(ints = { 1, 2, 4 })
+  @WiremockStubs({
+      "/wiremock/stubs/mod-settings/200-get-locale.json",
+      "/wiremock/stubs/mod-settings/200-get-settings.json",
+      "/wiremock/stubs/mod-login/201-post-acs-login.json",
+  })
+  @DisplayName("Should report the SC Status throughput of several verticle instances")
+  void statusThroughput_positive(int instances, Vertx vertx, VertxTestContext testContext) {
+    var port = getRandomPort();
+
+    TestUtils.withDeployedModule(vertx, testContext, sip2Configuration(port, instances), () -> {
+      var executor = Executors.newFixedThreadPool(CLIENTS);
+      try {
+        var results = new ArrayList<Future<Integer>>();
+        var start = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+          results.add(executor.submit(statusClient(port, BENCHMARK_MESSAGES_PER_CLIENT)));
+        }
+
+        int messages = 0;
+        for (var result : results) {
+          messages += result.get();
+        }
+        var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000d;
+        assertEquals(CLIENTS * BENCHMARK_MESSAGES_PER_CLIENT, messages);
+
+        log.info("{} instance(s): {} SC Status messages in {} s ({} commands/s)", instances,
+            messages, String.format("%.3f", elapsedSeconds), Math.round(messages / elapsedSeconds));
+      } finally {
+        executor.shutdownNow();
+      }
+    });
+  }
+
+  private static Callable<Integer> statusClient(int port, int messages) {
+    return () -> {
+      try (var session = new Sip2Session(getSessionConfig(port))) {
+        var login = session.executeCommand(
+            Sip2Commands.login("test_username", "test_password",
+                "1a62fa88-e887-4454-a345-24b4a01095fa"));
+        assertTrue(login.isSuccessfulExchange());
+
+        for (int i = 0; i < messages; i++) {
+          var result = session.executeCommand(Sip2Commands.status());
+          assertTrue(result.isSuccessfulExchange());
+          assertTrue(result.getResponseMessage().startsWith("98"));
+        }
+      }
+      return messages;
+    };
+  }
+
+  private static JsonObject sip2Configuration(int port, int instances) {
+    var tenant = new JsonObject()
+        .put("scSubnet", "0.0.0.0/0")
+        .put("tenant", "testtenant")
+        .put("errorDetectionEnabled", true)
+        .put("messageDelimiter", "\r")
+        .put("fieldDelimiter", "|")
+        .put("charset", "ISO-8859-1");
+
+    var storesConfiguration = new JsonObject()
+        .put("type", "json")
+        .put("format", "json")
+        .put("config", new JsonObject().put("scTenants", new JsonArray(List.of(tenant))));
+
+    return new JsonObject()
+        .put("okapiUrl", requireNonNull(getProperty(WM_URL_PROPERTY)))
+        .put("port", port)
+        .put("verticleInstances", instances)
+        .put("tenantConfigRetrieverOptions", new JsonObject()
+            .put("scanPeriod", 1000)
+            .put("stores", new JsonArray(List.of(storesConfiguration))));
+  }
+
+  private static Sip2SessionConfiguration getSessionConfig(int port) {
+    return Sip2SessionConfiguration.builder()
+        .port(port)
+        .hostname("localhost")
+        .useSsl(false)
+        .socketTimeout(Duration.ofSeconds(5))
+        .charset(StandardCharsets.ISO_8859_1)
+        .errorProtectionEnabled(true)
+        .build();
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.edge.sip2.api.support;
 
 import static java.lang.System.getProperty;
 import static java.util.Objects.requireNonNull;
+import static org.folio.edge.sip2.MainVerticle.SYS_FOLIO_RESPONSE_CACHE_TTLS;
 import static org.folio.edge.sip2.api.support.TestUtils.getRandomPort;
 import static org.folio.edge.sip2.support.Sip2TestCommand.sip2Exchange;
 import static org.folio.edge.sip2.support.wiremock.WiremockContainerExtension.WM_URL_PROPERTY;
@@ -40,6 +41,7 @@ public abstract class BaseIntegrationTest {
 
   protected static final String TEST_USERNAME = "test_username";
   protected static final String TEST_PASSWORD = "test_password";
+  protected static final String ADMIN_TOKEN = "test_admin_token";
 
   protected static VertxModule module;
   protected static SelfSignedCertificate certificate;
@@ -66,6 +68,10 @@ public abstract class BaseIntegrationTest {
 
     sipConfig.put("port", mainVerticlePort);
     sipConfig.put("okapiUrl", requireNonNull(getProperty(WM_URL_PROPERTY)));
+    // the FOLIO stubs change from test to test, so their responses must not be cached
+    if (!sipConfig.containsKey(SYS_FOLIO_RESPONSE_CACHE_TTLS)) {
+      sipConfig.put(SYS_FOLIO_RESPONSE_CACHE_TTLS, new JsonObject());
+    }
 
     if (isTlsEnabledForTest(testInfo) && !hasCustomTlsConfig(sipConfig)) {
       certificate = SelfSignedCertificate.create();
@@ -75,6 +81,7 @@ public abstract class BaseIntegrationTest {
     }
 
     System.setProperty("healthCheckPort", String.valueOf(healthCheckPort));
+    System.setProperty("sip2AdminToken", ADMIN_TOKEN);
 
     module = new VertxModule(vertx, sipConfig);
     module.deployModule()
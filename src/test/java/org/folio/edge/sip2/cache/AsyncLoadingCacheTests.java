@@ -0,0 +1,179 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AsyncLoadingCacheTests {
+
+  private final MutableClock clock = new MutableClock();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final AsyncLoadingCache<String, String> cache = new AsyncLoadingCache<>("test",
+      Duration.ofSeconds(60), Duration.ofSeconds(300), 2, clock);
+
+  @Test
+  void testFreshValueIsNotReloaded() {
+    assertEquals("value-1", cache.get("a", this::load).result());
+
+    clock.advance(Duration.ofSeconds(59));
+
+    assertEquals("value-1", cache.get("a", this::load).result());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testStaleValueIsReturnedWhileReloading() {
+    cache.get("a", this::load);
+    clock.advance(Duration.ofSeconds(61));
+
+    final Promise<String> reload = Promise.promise();
+    assertEquals("value-1", cache.get("a", () -> reload.future()).result());
+    // the reload is still running, so the stale value is returned again
+    assertEquals("value-1", cache.get("a", this::load).result());
+    assertEquals(1, loads.get());
+
+    reload.complete("value-2");
+
+    assertEquals("value-2", cache.get("a", this::load).result());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testStaleValueIsKeptWhenReloadFails() {
+    cache.get("a", this::load);
+    clock.advance(Duration.ofSeconds(61));
+
+    assertEquals("value-1",
+        cache.get("a", () -> Future.failedFuture(new IllegalStateException("down"))).result());
+    assertEquals("value-1", cache.get("a", () -> Future.failedFuture("down")).result());
+  }
+
+  @Test
+  void testExpiredValueIsLoadedAgain() {
+    cache.get("a", this::load);
+    clock.advance(Duration.ofSeconds(361));
+
+    final Promise<String> reload = Promise.promise();
+    final Future<String> result = cache.get("a", () -> reload.future());
+    assertFalse(result.isComplete());
+
+    reload.complete("value-2");
+
+    assertEquals("value-2", result.result());
+  }
+
+  @Test
+  void testConcurrentCallersShareOneLoad() {
+    final Promise<String> load = Promise.promise();
+    final Future<String> first = cache.get("a", () -> load.future());
+    final Future<String> second = cache.get("a", this::load);
+
+    assertFalse(first.isComplete());
+    assertFalse(second.isComplete());
+
+    load.complete("shared");
+
+    assertEquals("shared", first.result());
+    assertEquals("shared", second.result());
+    assertEquals(0, loads.get());
+  }
+
+  @Test
+  void testFailedLoadIsNotCached() {
+    final Future<String> failed = cache.get("a", () -> {
+      throw new IllegalStateException("down");
+    });
+
+    assertTrue(failed.failed());
+    assertEquals("value-1", cache.get("a", this::load).result());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testInvalidatedValuesAreLoadedAgain() {
+    cache.get("a", this::load);
+    cache.get("b", this::load);
+
+    assertEquals(1, cache.invalidate("a"::equals));
+    assertEquals(1, cache.size());
+
+    assertEquals("value-3", cache.get("a", this::load).result());
+    assertEquals("value-2", cache.get("b", this::load).result());
+    assertEquals(2, cache.invalidateAll());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testLoadRunningWhenInvalidatedIsNotCached() {
+    final Promise<String> load = Promise.promise();
+    final Future<String> result = cache.get("a", () -> load.future());
+
+    cache.invalidateAll();
+    load.complete("outdated");
+
+    assertSame("outdated", result.result());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testLoadOfAnotherKeyIsCachedWhenAKeyIsInvalidated() {
+    final Promise<String> load = Promise.promise();
+    cache.get("a", () -> load.future());
+
+    cache.invalidate("b"::equals);
+    load.complete("current");
+
+    assertEquals(1, cache.size());
+    assertEquals("current", cache.get("a", this::load).result());
+    assertEquals(0, loads.get());
+  }
+
+  @Test
+  void testLeastRecentlyUsedValueIsEvictedAtCapacity() {
+    cache.get("a", this::load);
+    cache.get("b", this::load);
+    cache.get("a", this::load);
+    cache.get("c", this::load);
+
+    assertEquals(2, cache.size());
+    assertEquals("value-1", cache.get("a", this::load).result());
+    assertEquals("value-4", cache.get("b", this::load).result());
+  }
+
+  @Test
+  void testEldestValueIsEvictedAtCapacity() {
+    cache.get("a", this::load);
+    clock.advance(Duration.ofSeconds(1));
+    cache.get("b", this::load);
+    clock.advance(Duration.ofSeconds(1));
+    cache.get("c", this::load);
+
+    assertEquals(2, cache.size());
+    assertEquals("value-4", cache.get("a", this::load).result());
+    assertEquals("value-3", cache.get("c", this::load).result());
+  }
+
+  @Test
+  void testZeroTtlDisablesCache() {
+    final AsyncLoadingCache<String, String> disabled = new AsyncLoadingCache<>("test",
+        Duration.ZERO, Duration.ofSeconds(300), 2, clock);
+
+    assertFalse(disabled.isEnabled());
+    assertEquals("value-1", disabled.get("a", this::load).result());
+    assertEquals("value-2", disabled.get("a", this::load).result());
+    assertEquals(0, disabled.size());
+  }
+
+  private Future<String> load() {
+    return Future.succeededFuture("value-" + loads.incrementAndGet());
+  }
+}
@@ -0,0 +1,172 @@
+package org.folio.edge.sip2.cache;
+
+import static org.folio.edge.sip2.cache.FolioCircuitBreaker.REJECTED_METRICS_NAME;
+import static org.folio.edge.sip2.cache.FolioCircuitBreaker.STATE_METRICS_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.edge.sip2.repositories.FolioRequestThrowable;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class FolioCircuitBreakerTests {
+
+  private static final String TENANT = "diku";
+  private static final String CHECKOUT_PATH = "/circulation/check-out-by-barcode";
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private final MutableClock clock = new MutableClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicInteger sent = new AtomicInteger();
+
+  @Test
+  void testGetPathGroup() {
+    assertEquals("circulation", FolioCircuitBreaker.getPathGroup(CHECKOUT_PATH));
+    assertEquals("users", FolioCircuitBreaker.getPathGroup("/users?query=barcode==1"));
+    assertEquals("bl-users", FolioCircuitBreaker.getPathGroup("/bl-users/by-id/1"));
+    assertEquals("", FolioCircuitBreaker.getPathGroup(null));
+  }
+
+  @Test
+  void testCallsArePassedOnWhenDisabled() {
+    var circuitBreaker = circuitBreaker(0, 0);
+
+    for (int i = 0; i < 5; i++) {
+      circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(500));
+    }
+
+    assertFalse(circuitBreaker.isEnabled());
+    assertEquals(5, sent.get());
+    assertFalse(circuitBreaker.isOpen(TENANT, CHECKOUT_PATH));
+  }
+
+  @Test
+  void testCircuitOpensAfterFailuresInARow() {
+    var circuitBreaker = circuitBreaker(3, 0);
+
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(500));
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(503));
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> fail());
+    assertFalse(circuitBreaker.isOpen(TENANT, CHECKOUT_PATH));
+
+    circuitBreaker.execute(TENANT, "/circulation/check-in-by-barcode", () -> respond(500));
+    var rejected = circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+
+    assertTrue(circuitBreaker.isOpen(TENANT, CHECKOUT_PATH));
+    assertFalse(circuitBreaker.isOpen(TENANT, "/users"));
+    assertFalse(circuitBreaker.isOpen("other", CHECKOUT_PATH));
+    assertEquals(5, sent.get());
+    assertTrue(rejected.cause() instanceof FolioRequestThrowable);
+    assertEquals(FolioCircuitBreaker.UNAVAILABLE_MESSAGE, rejected.cause().getMessage());
+    assertEquals(2, stateOf(TENANT, "circulation"));
+    assertEquals(1, rejectedCount("open"));
+  }
+
+  @Test
+  void testClientErrorsDoNotOpenCircuit() {
+    var circuitBreaker = circuitBreaker(2, 0);
+
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(422));
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(404));
+
+    assertFalse(circuitBreaker.isOpen(TENANT, CHECKOUT_PATH));
+  }
+
+  @Test
+  void testSucceededTrialClosesCircuit() {
+    var circuitBreaker = circuitBreaker(1, 0);
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(500));
+
+    clock.advance(OPEN_DURATION);
+    var trial = Promise.<HttpResponse<JsonObject>>promise();
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, trial::future);
+    var rejected = circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+
+    assertEquals(1, stateOf(TENANT, "circulation"));
+    assertTrue(rejected.failed());
+
+    trial.complete(response(200));
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+
+    assertEquals(0, stateOf(TENANT, "circulation"));
+    assertEquals(2, sent.get());
+  }
+
+  @Test
+  void testFailedTrialOpensCircuitAgain() {
+    var circuitBreaker = circuitBreaker(1, 0);
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(500));
+
+    clock.advance(OPEN_DURATION);
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> fail());
+    clock.advance(OPEN_DURATION.minusSeconds(1));
+    var rejected = circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+
+    assertTrue(rejected.failed());
+    assertTrue(circuitBreaker.isOpen(TENANT, CHECKOUT_PATH));
+    assertEquals(2, sent.get());
+  }
+
+  @Test
+  void testBulkheadLimitsCallsInFlight() {
+    var circuitBreaker = circuitBreaker(0, 2);
+    var first = Promise.<HttpResponse<JsonObject>>promise();
+    var second = Promise.<HttpResponse<JsonObject>>promise();
+
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, first::future);
+    circuitBreaker.execute(TENANT, CHECKOUT_PATH, second::future);
+    var rejected = circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200));
+    var otherGroup = circuitBreaker.execute(TENANT, "/users", () -> respond(200));
+
+    assertEquals(FolioCircuitBreaker.BUSY_MESSAGE, rejected.cause().getMessage());
+    assertTrue(otherGroup.succeeded());
+    assertEquals(1, rejectedCount("bulkhead"));
+
+    first.complete(response(200));
+
+    assertTrue(circuitBreaker.execute(TENANT, CHECKOUT_PATH, () -> respond(200)).succeeded());
+  }
+
+  private FolioCircuitBreaker circuitBreaker(int failureThreshold, int maxConcurrentCalls) {
+    return new FolioCircuitBreaker(failureThreshold, OPEN_DURATION, maxConcurrentCalls, clock,
+        registry);
+  }
+
+  private Future<HttpResponse<JsonObject>> respond(int statusCode) {
+    sent.incrementAndGet();
+    return Future.succeededFuture(response(statusCode));
+  }
+
+  private Future<HttpResponse<JsonObject>> fail() {
+    sent.incrementAndGet();
+    return Future.failedFuture(new IllegalStateException("Connection refused"));
+  }
+
+  private double stateOf(String tenant, String group) {
+    return registry.get(STATE_METRICS_NAME).tags("tenant", tenant, "group", group)
+        .gauge().value();
+  }
+
+  private double rejectedCount(String reason) {
+    return registry.get(REJECTED_METRICS_NAME).tags("reason", reason).counter().count();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<JsonObject> response(int statusCode) {
+    final HttpResponse<JsonObject> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(statusCode);
+    return response;
+  }
+}
@@ -0,0 +1,124 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.folio.edge.sip2.cache.FolioResponseCache.TtlRule;
+import org.folio.edge.sip2.repositories.FolioResource;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class FolioResponseCacheTests {
+
+  private static final String METRICS_NAME = "org.folio.edge.sip2.folio.response.cache";
+  private static final String HOLDINGS_PATH = "/holdings-storage/holdings/1";
+  private static final Duration TTL = Duration.ofSeconds(60);
+
+  private final MutableClock clock = new MutableClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final FolioResponseCache cache = new FolioResponseCache(List.of(
+      rule("/locale", 300),
+      rule("/holdings-storage/holdings/[^/?]+", 60),
+      rule("/circulation/.*", 60),
+      rule("/users.*", 0)), 2, clock, registry);
+
+  @Test
+  void testTtlOfFirstMatchingRuleIsUsed() {
+    assertEquals(Duration.ofSeconds(300), cache.getTtl("/locale"));
+    assertEquals(TTL, cache.getTtl(HOLDINGS_PATH));
+    assertNull(cache.getTtl("/holdings-storage/holdings?query=id==1"));
+    assertNull(cache.getTtl("/inventory/instances/1"));
+  }
+
+  @Test
+  void testCirculationAndDisabledPathsAreNotCached() {
+    assertNull(cache.getTtl("/circulation/loans?query=userId==1"));
+    assertNull(cache.getTtl("/users?query=barcode==1"));
+  }
+
+  @Test
+  void testResponseIsCachedUntilTtl() {
+    cache.put("diku", "kiosk", HOLDINGS_PATH, Map.of(), resource("a"), TTL);
+
+    clock.advance(Duration.ofSeconds(59));
+    assertEquals("a", cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of()).getResource()
+        .getString("id"));
+
+    clock.advance(Duration.ofSeconds(1));
+    assertNull(cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of()));
+    assertEquals(1.0, registry.counter(METRICS_NAME, "result", "hit").count());
+    assertEquals(1.0, registry.counter(METRICS_NAME, "result", "miss").count());
+  }
+
+  @Test
+  void testEveryCallerGetsItsOwnCopy() {
+    final FolioResource resource = resource("a");
+    cache.put("diku", "kiosk", HOLDINGS_PATH, Map.of(), resource, TTL);
+    resource.getResource().put("changed", true);
+
+    final FolioResource first = cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of());
+    first.getResource().put("changed", true);
+    final FolioResource second = cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of());
+
+    assertFalse(second.getResource().containsKey("changed"));
+    assertNotSame(first.getResource(), second.getResource());
+  }
+
+  @Test
+  void testResponsesAreNotSharedBetweenTenantsLoginsOrHeaders() {
+    cache.put("diku", "kiosk", HOLDINGS_PATH, Map.of(), resource("a"), TTL);
+
+    assertNull(cache.get("college", "kiosk", HOLDINGS_PATH, Map.of()));
+    assertNull(cache.get("diku", "other", HOLDINGS_PATH, Map.of()));
+    assertNull(cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of("x-okapi-user-id", "1")));
+  }
+
+  @Test
+  void testLeastRecentlyUsedResponseOfTenantIsEvicted() {
+    cache.put("diku", "kiosk", "/locale", Map.of(), resource("locale"), TTL);
+    cache.put("diku", "kiosk", HOLDINGS_PATH, Map.of(), resource("a"), TTL);
+    cache.get("diku", "kiosk", "/locale", Map.of());
+    cache.put("diku", "kiosk", "/holdings-storage/holdings/2", Map.of(), resource("b"), TTL);
+    cache.put("college", "kiosk", HOLDINGS_PATH, Map.of(), resource("c"), TTL);
+
+    assertNull(cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of()));
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  void testInvalidate() {
+    cache.put("diku", "kiosk", HOLDINGS_PATH, Map.of(), resource("a"), TTL);
+    cache.put("college", "kiosk", HOLDINGS_PATH, Map.of(), resource("b"), TTL);
+
+    assertEquals(1, cache.invalidate("diku"));
+    assertNull(cache.get("diku", "kiosk", HOLDINGS_PATH, Map.of()));
+    assertEquals(1, cache.invalidate(null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testCacheWithoutRulesIsDisabled() {
+    assertTrue(cache.isEnabled());
+    assertFalse(new FolioResponseCache(List.of(rule("/locale", 0)), 2, clock, registry)
+        .isEnabled());
+  }
+
+  private static TtlRule rule(String pattern, int seconds) {
+    return new TtlRule(Pattern.compile(pattern), Duration.ofSeconds(seconds));
+  }
+
+  private static FolioResource resource(String id) {
+    return new FolioResource(new JsonObject().put("id", id), MultiMap.caseInsensitiveMultiMap());
+  }
+}
@@ -0,0 +1,129 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.folio.edge.sip2.domain.integration.login.FolioLoginResponse;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KioskTokenPoolTests {
+
+  private static final Instant NOW = Instant.parse("2024-01-02T03:04:05Z");
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final KioskTokenPool pool = new KioskTokenPool(2, Duration.ofSeconds(90),
+      Clock.fixed(NOW, ZoneOffset.UTC), registry);
+
+  @Test
+  void testTokenIsSharedBySameLogin() {
+    final FolioLoginResponse token = token("token", 600);
+    pool.load("diku", "kiosk", "secret", () -> Future.succeededFuture(token));
+
+    assertSame(token, pool.get("diku", "kiosk", "secret"));
+    assertEquals(1.0, registry.counter("org.folio.edge.sip2.token.pool", "result", "hit")
+        .count());
+  }
+
+  @Test
+  void testTokenIsNotSharedWithOtherCredentialsOrTenant() {
+    pool.load("diku", "kiosk", "secret", () -> Future.succeededFuture(token("token", 600)));
+
+    assertNull(pool.get("diku", "kiosk", "wrong"));
+    assertNull(pool.get("diku", "other", "secret"));
+    assertNull(pool.get("college", "kiosk", "secret"));
+    assertEquals(3.0, registry.counter("org.folio.edge.sip2.token.pool", "result", "miss")
+        .count());
+  }
+
+  @Test
+  void testTokenExpiringSoonIsNotHandedOut() {
+    pool.load("diku", "kiosk", "secret", () -> Future.succeededFuture(token("token", 60)));
+
+    assertNull(pool.get("diku", "kiosk", "secret"));
+  }
+
+  @Test
+  void testConcurrentLoginsShareOneRequest() {
+    final Promise<FolioLoginResponse> login = Promise.promise();
+    final Future<FolioLoginResponse> first = pool.load("diku", "kiosk", "secret",
+        () -> login.future());
+    final Future<FolioLoginResponse> second = pool.load("diku", "kiosk", "secret",
+        () -> Future.failedFuture("not expected"));
+
+    assertFalse(second.isComplete());
+    final FolioLoginResponse token = token("token", 600);
+    login.complete(token);
+
+    assertSame(token, first.result());
+    assertSame(token, second.result());
+    assertEquals(1.0, registry.counter("org.folio.edge.sip2.token.pool.loads").count());
+  }
+
+  @Test
+  void testFailedLoginIsNotPooled() {
+    final Future<FolioLoginResponse> result = pool.load("diku", "kiosk", "secret",
+        () -> Future.failedFuture("401 Unauthorized"));
+
+    assertTrue(result.failed());
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  void testLeastRecentlyUsedLoginIsEvicted() {
+    pool.load("diku", "kiosk-1", "secret", () -> Future.succeededFuture(token("token-1", 600)));
+    pool.load("diku", "kiosk-2", "secret", () -> Future.succeededFuture(token("token-2", 600)));
+    pool.get("diku", "kiosk-1", "secret");
+    pool.load("diku", "kiosk-3", "secret", () -> Future.succeededFuture(token("token-3", 600)));
+
+    assertEquals(2, pool.size());
+    assertNull(pool.get("diku", "kiosk-2", "secret"));
+    assertEquals("token-1", pool.get("diku", "kiosk-1", "secret").getAccessToken());
+  }
+
+  @Test
+  void testScheduledRefreshIsDoneOnlyForUsedToken() {
+    final FolioLoginResponse used = token("used", 600);
+    final FolioLoginResponse idle = token("idle", 600);
+
+    assertTrue(pool.scheduleRefresh(used));
+    assertFalse(pool.scheduleRefresh(used));
+    assertTrue(pool.scheduleRefresh(idle));
+    pool.markUsed(used);
+
+    assertTrue(pool.takeScheduledRefresh(used));
+    assertFalse(pool.takeScheduledRefresh(idle));
+    // a refresh is taken only once
+    assertFalse(pool.takeScheduledRefresh(used));
+  }
+
+  @Test
+  void testRefreshesAreCountedByPath() {
+    pool.recordRefresh(true);
+    pool.recordRefresh(true);
+    pool.recordRefresh(false);
+
+    assertEquals(2.0, registry.counter("org.folio.edge.sip2.token.refresh",
+        "path", "background").count());
+    assertEquals(1.0, registry.counter("org.folio.edge.sip2.token.refresh",
+        "path", "request").count());
+  }
+
+  private static FolioLoginResponse token(String accessToken, int expiresInSeconds) {
+    final OffsetDateTime now = OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC);
+    return new FolioLoginResponse(accessToken, now.plusSeconds(expiresInSeconds),
+        now.plusHours(1));
+  }
+}
@@ -0,0 +1,33 @@
+package org.folio.edge.sip2.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock that only moves when a test advances it.
+ */
+class MutableClock extends Clock {
+  private Instant instant = Instant.parse("2024-01-02T03:04:05Z");
+
+  void advance(Duration duration) {
+    instant = instant.plus(duration);
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return ZoneOffset.UTC;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return this;
+  }
+
+  @Override
+  public Instant instant() {
+    return instant;
+  }
+}
@@ -0,0 +1,94 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.folio.edge.sip2.cache.PatronVerificationCache.Check;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PatronVerificationCacheTests {
+
+  private static final String METRICS_NAME = "org.folio.edge.sip2.patron.verification.cache";
+
+  private final MutableClock clock = new MutableClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void testVerifiedCredentialsAreReused() {
+    final PatronVerificationCache cache = cache(true, 10);
+
+    assertFalse(cache.isVerified("diku", "1234", Check.LOGIN, "secret"));
+    cache.put("diku", "1234", Check.LOGIN, "secret");
+
+    assertTrue(cache.isVerified("diku", "1234", Check.LOGIN, "secret"));
+    assertFalse(cache.isVerified("diku", "1234", Check.LOGIN, "other"));
+    assertFalse(cache.isVerified("diku", "1234", Check.PIN, "secret"));
+    assertFalse(cache.isVerified("other", "1234", Check.LOGIN, "secret"));
+    assertFalse(cache.isVerified("diku", "5678", Check.LOGIN, "secret"));
+    assertEquals(1.0, count("login", "hit"));
+    assertEquals(4.0, count("login", "miss"));
+    assertEquals(1.0, count("pin", "miss"));
+  }
+
+  @Test
+  void testVerificationsExpire() {
+    final PatronVerificationCache cache = cache(true, 10);
+    cache.put("diku", "1234", Check.PIN, "0000");
+
+    clock.advance(Duration.ofSeconds(60));
+
+    assertFalse(cache.isVerified("diku", "1234", Check.PIN, "0000"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testEvictForgetsVerification() {
+    final PatronVerificationCache cache = cache(true, 10);
+    cache.put("diku", "1234", Check.LOGIN, "secret");
+
+    cache.evict("diku", "1234", Check.LOGIN);
+
+    assertFalse(cache.isVerified("diku", "1234", Check.LOGIN, "secret"));
+  }
+
+  @Test
+  void testLeastRecentlyUsedIsEvictedAtCapacity() {
+    final PatronVerificationCache cache = cache(true, 2);
+    cache.put("diku", "1", Check.LOGIN, "secret");
+    cache.put("diku", "2", Check.LOGIN, "secret");
+    assertTrue(cache.isVerified("diku", "1", Check.LOGIN, "secret"));
+
+    cache.put("diku", "3", Check.LOGIN, "secret");
+
+    assertEquals(2, cache.size());
+    assertTrue(cache.isVerified("diku", "1", Check.LOGIN, "secret"));
+    assertFalse(cache.isVerified("diku", "2", Check.LOGIN, "secret"));
+  }
+
+  @Test
+  void testDisabledCacheAndBlankSecretsAreNotCached() {
+    final PatronVerificationCache disabled = cache(false, 10);
+    disabled.put("diku", "1234", Check.LOGIN, "secret");
+    assertFalse(disabled.isEnabled());
+    assertEquals(0, disabled.size());
+
+    final PatronVerificationCache cache = cache(true, 10);
+    cache.put("diku", "1234", Check.LOGIN, " ");
+    assertEquals(0, cache.size());
+    assertFalse(cache.isVerified("diku", "1234", Check.LOGIN, " "));
+  }
+
+  private PatronVerificationCache cache(boolean enabled, int capacity) {
+    return new PatronVerificationCache(enabled, Duration.ofSeconds(60), capacity, clock,
+        registry);
+  }
+
+  private double count(String check, String result) {
+    return registry.get(METRICS_NAME).tags("check", check, "result", result).counter().count();
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RequestCoalescerTests {
+
+  private static final String METRICS_NAME = "test.coalescing";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final RequestCoalescer<String, JsonObject> coalescer =
+      new RequestCoalescer<>(METRICS_NAME, true, JsonObject::copy, registry);
+
+  @Test
+  void testIdenticalRequestsShareOneRequest() {
+    final Promise<JsonObject> request = Promise.promise();
+    final AtomicInteger sent = new AtomicInteger();
+
+    final Future<JsonObject> first = coalescer.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return request.future();
+    });
+    final Future<JsonObject> second = coalescer.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return Future.succeededFuture(new JsonObject());
+    });
+    assertEquals(1, coalescer.size());
+
+    final JsonObject response = new JsonObject().put("locale", "en-US");
+    request.complete(response);
+
+    assertEquals(1, sent.get());
+    assertSame(response, first.result());
+    assertEquals(response, second.result());
+    assertEquals(0, coalescer.size());
+    assertEquals(1.0, registry.counter(METRICS_NAME, "result", "sent").count());
+    assertEquals(1.0, registry.counter(METRICS_NAME, "result", "coalesced").count());
+  }
+
+  @Test
+  void testJoinedCallersGetTheirOwnCopy() {
+    final Promise<JsonObject> request = Promise.promise();
+    final Future<JsonObject> first = coalescer.execute("/locale", request::future)
+        .map(response -> response.put("changed", true));
+    final Future<JsonObject> second = coalescer.execute("/locale", RequestCoalescerTests::pending);
+    final Future<JsonObject> third = coalescer.execute("/locale", RequestCoalescerTests::pending);
+
+    request.complete(new JsonObject().put("locale", "en-US"));
+
+    assertTrue(first.result().containsKey("changed"));
+    assertEquals(new JsonObject().put("locale", "en-US"), second.result());
+    assertNotSame(second.result(), third.result());
+  }
+
+  @Test
+  void testDifferentRequestsAreSentSeparately() {
+    final AtomicInteger sent = new AtomicInteger();
+    coalescer.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return pending();
+    });
+    coalescer.execute("/settings/entries", () -> {
+      sent.incrementAndGet();
+      return pending();
+    });
+
+    assertEquals(2, sent.get());
+  }
+
+  @Test
+  void testCompletedRequestIsNotShared() {
+    final AtomicInteger sent = new AtomicInteger();
+    coalescer.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return Future.succeededFuture(new JsonObject());
+    });
+    coalescer.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return Future.succeededFuture(new JsonObject());
+    });
+
+    assertEquals(2, sent.get());
+  }
+
+  @Test
+  void testFailureFailsAllCallers() {
+    final Promise<JsonObject> request = Promise.promise();
+    final Future<JsonObject> first = coalescer.execute("/locale", request::future);
+    final Future<JsonObject> second = coalescer.execute("/locale", request::future);
+
+    request.fail("timeout");
+
+    assertEquals("timeout", first.cause().getMessage());
+    assertEquals("timeout", second.cause().getMessage());
+    assertEquals(0, coalescer.size());
+  }
+
+  @Test
+  void testDisabledCoalescerSendsEveryRequest() {
+    final RequestCoalescer<String, JsonObject> disabled =
+        new RequestCoalescer<>(METRICS_NAME, false, JsonObject::copy, registry);
+    final Promise<JsonObject> request = Promise.promise();
+    final AtomicInteger sent = new AtomicInteger();
+
+    disabled.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return request.future();
+    });
+    disabled.execute("/locale", () -> {
+      sent.incrementAndGet();
+      return request.future();
+    });
+
+    assertEquals(2, sent.get());
+    assertEquals(0, disabled.size());
+  }
+
+  private static Future<JsonObject> pending() {
+    return Promise.<JsonObject>promise().future();
+  }
+}
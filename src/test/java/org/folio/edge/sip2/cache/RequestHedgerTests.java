@@ -0,0 +1,162 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@UnitTest
+@ExtendWith(VertxExtension.class)
+class RequestHedgerTests {
+
+  private static final String METRICS_NAME = "test.hedging";
+  private static final String KEY = "/users";
+  private static final Duration MIN_DELAY = Duration.ofMillis(20);
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final List<Promise<String>> sent = new ArrayList<>();
+
+  @Test
+  void testDisabledHedgerSendsOnce() {
+    var hedger = hedger(false, 1);
+
+    warmUp(hedger);
+
+    assertNull(hedger.getHedgeDelay(KEY));
+    assertEquals(RequestHedger.MIN_SAMPLES, sent.size());
+  }
+
+  @Test
+  void testHedgeDelayIsKnownAfterEnoughSamples() {
+    var hedger = hedger(true, 1);
+
+    for (int i = 1; i < RequestHedger.MIN_SAMPLES; i++) {
+      hedger.execute(KEY, () -> Future.succeededFuture("value"));
+    }
+    assertNull(hedger.getHedgeDelay(KEY));
+
+    hedger.execute(KEY, () -> Future.succeededFuture("value"));
+    assertEquals(MIN_DELAY, hedger.getHedgeDelay(KEY));
+    assertNull(hedger.getHedgeDelay("/items"));
+  }
+
+  @Test
+  void testSlowRequestIsHedged(Vertx vertx, VertxTestContext testContext) {
+    var hedger = hedger(true, 1);
+    warmUp(hedger);
+
+    vertx.runOnContext(v -> hedger.execute(KEY, () -> send().future())
+        .onComplete(testContext.succeeding(value -> testContext.verify(() -> {
+          assertEquals("value-2", value);
+          assertEquals(RequestHedger.MIN_SAMPLES + 2, sent.size());
+          assertEquals(1, count("hedged"));
+          assertEquals(1, count("won"));
+          testContext.completeNow();
+        }))));
+    vertx.setTimer(200, id -> sent.get(sent.size() - 1).complete("value-2"));
+  }
+
+  @Test
+  void testFirstResponseWins(Vertx vertx, VertxTestContext testContext) {
+    var hedger = hedger(true, 1);
+    warmUp(hedger);
+
+    vertx.runOnContext(v -> hedger.execute(KEY, () -> send().future())
+        .onComplete(testContext.succeeding(value -> testContext.verify(() -> {
+          assertEquals("value-1", value);
+          assertEquals(0, count("won"));
+          testContext.completeNow();
+        }))));
+    vertx.setTimer(200, id -> {
+      sent.get(RequestHedger.MIN_SAMPLES).complete("value-1");
+      sent.get(sent.size() - 1).complete("value-2");
+    });
+  }
+
+  @Test
+  void testFailureWaitsForTheHedge(Vertx vertx, VertxTestContext testContext) {
+    var hedger = hedger(true, 1);
+    warmUp(hedger);
+
+    vertx.runOnContext(v -> hedger.execute(KEY, () -> send().future())
+        .onComplete(testContext.failing(error -> testContext.verify(() -> {
+          assertEquals("second down", error.getMessage());
+          testContext.completeNow();
+        }))));
+    vertx.setTimer(200, id -> {
+      sent.get(RequestHedger.MIN_SAMPLES).fail("first down");
+      sent.get(sent.size() - 1).fail("second down");
+    });
+  }
+
+  @Test
+  void testHedgesAreLimitedByBudget(Vertx vertx, VertxTestContext testContext) {
+    // the warm-up and the two requests earn more than one hedge, but less than two
+    var hedger = hedger(true, 1.0 / 16);
+    warmUp(hedger);
+
+    vertx.runOnContext(v -> {
+      var first = hedger.execute(KEY, () -> send().future());
+      var second = hedger.execute(KEY, () -> send().future());
+      vertx.setTimer(200, id -> testContext.verify(() -> {
+        assertEquals(RequestHedger.MIN_SAMPLES + 3, sent.size());
+        assertEquals(1, count("hedged"));
+        assertEquals(1, count("overBudget"));
+        sent.forEach(promise -> promise.tryComplete("value"));
+        assertTrue(first.succeeded());
+        assertTrue(second.succeeded());
+        testContext.completeNow();
+      }));
+    });
+  }
+
+  @Test
+  void testRequestOffContextIsNotHedged() {
+    var hedger = hedger(true, 1);
+    warmUp(hedger);
+
+    var result = hedger.execute(KEY, () -> send().future());
+
+    assertNotNull(hedger.getHedgeDelay(KEY));
+    assertEquals(RequestHedger.MIN_SAMPLES + 1, sent.size());
+    sent.get(RequestHedger.MIN_SAMPLES).complete("value");
+    assertEquals("value", result.result());
+  }
+
+  private RequestHedger hedger(boolean enabled, double budgetRatio) {
+    return new RequestHedger(METRICS_NAME, enabled, 95, MIN_DELAY, budgetRatio, registry);
+  }
+
+  private void warmUp(RequestHedger hedger) {
+    for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+      hedger.execute(KEY, () -> {
+        final Promise<String> promise = send();
+        promise.complete("value");
+        return promise.future();
+      });
+    }
+  }
+
+  private Promise<String> send() {
+    final Promise<String> promise = Promise.promise();
+    sent.add(promise);
+    return promise;
+  }
+
+  private double count(String result) {
+    return registry.get(METRICS_NAME).tags("result", result).counter().count();
+  }
+}
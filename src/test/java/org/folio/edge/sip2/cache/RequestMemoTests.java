@@ -0,0 +1,76 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RequestMemoTests {
+
+  private final RequestMemo<String, JsonObject> memo = new RequestMemo<>(JsonObject::copy);
+
+  @Test
+  void testRepeatedRequestIsAnsweredFromMemo() {
+    final JsonObject response = new JsonObject().put("totalRecords", 1);
+
+    assertNull(memo.get("/loans"));
+    final Future<JsonObject> first = memo.put("/loans", Future.succeededFuture(response));
+    final Future<JsonObject> second = memo.get("/loans");
+
+    assertSame(response, first.result());
+    assertEquals(response, second.result());
+    assertNotSame(response, second.result());
+    assertNull(memo.get("/requests"));
+    assertEquals(1, memo.getSaved());
+  }
+
+  @Test
+  void testRepeatingCallersGetTheirOwnCopy() {
+    final Promise<JsonObject> request = Promise.promise();
+    final JsonObject response = new JsonObject().put("totalRecords", 1);
+    final Future<JsonObject> first = memo.put("/loans", request.future());
+    final Future<JsonObject> second = memo.get("/loans");
+
+    request.complete(response);
+    second.result().put("changed", true);
+    final Future<JsonObject> third = memo.get("/loans");
+
+    assertSame(response, first.result());
+    assertFalse(response.containsKey("changed"));
+    assertNotSame(second.result(), third.result());
+    assertEquals(new JsonObject().put("totalRecords", 1), third.result());
+    assertEquals(2, memo.getSaved());
+  }
+
+  @Test
+  void testFailedRequestIsForgotten() {
+    final Promise<JsonObject> request = Promise.promise();
+    memo.put("/loans", request.future());
+    final Future<JsonObject> joined = memo.get("/loans");
+
+    request.fail("down");
+
+    assertEquals("down", joined.cause().getMessage());
+    assertNull(memo.get("/loans"));
+    assertEquals(0, memo.size());
+  }
+
+  @Test
+  void testClearForgetsAllResults() {
+    memo.put("/loans", Future.succeededFuture(new JsonObject()));
+    memo.put("/requests", Future.succeededFuture(new JsonObject()));
+
+    memo.clear();
+
+    assertEquals(0, memo.size());
+    assertNull(memo.get("/loans"));
+  }
+}
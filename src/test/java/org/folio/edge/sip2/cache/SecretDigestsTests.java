@@ -0,0 +1,28 @@
+package org.folio.edge.sip2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.security.MessageDigest;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SecretDigestsTests {
+
+  @Test
+  void testSameSecretHasSameDigest() {
+    final byte[] digest = SecretDigests.digest("secret");
+
+    assertEquals(32, digest.length);
+    assertArrayEquals(digest, SecretDigests.digest("secret"));
+    assertFalse(MessageDigest.isEqual(digest, SecretDigests.digest("Secret")));
+  }
+
+  @Test
+  void testNullSecretHasNoDigest() {
+    assertNull(SecretDigests.digest(null));
+  }
+}
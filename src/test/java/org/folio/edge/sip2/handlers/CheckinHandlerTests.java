@@ -2,9 +2,11 @@ package org.folio.edge.sip2.handlers;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.folio.edge.sip2.handlers.ISip2RequestHandler.DEADLINE_SCREEN_MESSAGE;
 import static org.folio.edge.sip2.parser.Command.CHECKIN_RESPONSE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -15,11 +17,14 @@ import io.vertx.junit5.VertxTestContext;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.requests.Checkin;
 import org.folio.edge.sip2.domain.messages.responses.CheckinResponse;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.support.tags.UnitTest;
@@ -33,6 +38,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CheckinHandlerTests {
 
   private final FreemarkerRepository freemarkerRepository = new FreemarkerRepository();
+  private final ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(Locale.ROOT, Set.of());
 
   @Test
   void canExecuteASampleCheckinUsingHandler(
@@ -72,7 +79,8 @@ class CheckinHandlerTests {
             .build()));
 
     final CheckinHandler handler = new CheckinHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -124,7 +132,8 @@ class CheckinHandlerTests {
             .build()));
 
     final CheckinHandler handler = new CheckinHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -174,7 +183,8 @@ class CheckinHandlerTests {
             .build()));
 
     final CheckinHandler handler = new CheckinHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -192,11 +202,30 @@ class CheckinHandlerTests {
         })));
   }
 
+  @Test
+  void canGetDeadlineResponse(@Mock CirculationRepository mockCirculationRepository) {
+    final Checkin checkin = Checkin.builder()
+        .transactionDate(OffsetDateTime.now())
+        .institutionId("diku")
+        .itemIdentifier("1234567890")
+        .build();
+    final CheckinHandler handler = new CheckinHandler(mockCirculationRepository,
+        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE),
+        responseWriterRepository);
+
+    final String response =
+        handler.getDeadlineResponse(checkin, TestUtils.getMockedSessionData());
+
+    assertTrue(response.startsWith("100NUN"));
+    assertEquals("AOdiku|AB1234567890|AQ|AF" + DEADLINE_SCREEN_MESSAGE + "|CS|CV|CT|",
+        response.substring(24));
+  }
+
   @Test
   void cannotCreateHandlerDueToMissingCirculationRepository() {
     final NullPointerException thrown = assertThrows(
         NullPointerException.class,
-        () -> new CheckinHandler(null, null));
+        () -> new CheckinHandler(null, null, null));
 
     assertEquals("CirculationRepository cannot be null", thrown.getMessage());
   }
@@ -204,7 +233,7 @@ class CheckinHandlerTests {
   @Test
   void cannotCreateHandlerDueToMissingTemplate(@Mock CirculationRepository mock) {
     final NullPointerException thrown = assertThrows(NullPointerException.class,
-        () -> new CheckinHandler(mock, null));
+        () -> new CheckinHandler(mock, null, responseWriterRepository));
 
     assertEquals("Template cannot be null", thrown.getMessage());
   }
@@ -14,10 +14,13 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Set;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.requests.Checkout;
 import org.folio.edge.sip2.domain.messages.responses.CheckoutResponse;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.CirculationRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.support.tags.UnitTest;
@@ -32,6 +35,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CheckoutHandlerTests {
 
   private final FreemarkerRepository freemarkerRepository = new FreemarkerRepository();
+  private final ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(Locale.ROOT, Set.of());
 
   @Test
   void canExecuteASampleCheckoutUsingHandler(
@@ -73,7 +78,8 @@ class CheckoutHandlerTests {
             .build()));
 
     final CheckoutHandler handler = new CheckoutHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -121,7 +127,8 @@ class CheckoutHandlerTests {
         .thenReturn(Future.failedFuture(new ClientException("Incorrect Username")));
 
     final CheckoutHandler handler = new CheckoutHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
     sessionData.setPatronPasswordVerificationRequired(TRUE);
@@ -187,7 +194,8 @@ class CheckoutHandlerTests {
             .build()));
 
     final CheckoutHandler handler = new CheckoutHandler(mockCirculationRepository,
-        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -208,7 +216,7 @@ class CheckoutHandlerTests {
   void cannotCreateHandlerDueToMissingCirculationRepository() {
     final NullPointerException thrown = assertThrows(
         NullPointerException.class,
-        () -> new CheckinHandler(null, null));
+        () -> new CheckinHandler(null, null, null));
 
     assertEquals("CirculationRepository cannot be null", thrown.getMessage());
   }
@@ -216,7 +224,7 @@ class CheckoutHandlerTests {
   @Test
   void cannotCreateHandlerDueToMissingTemplate(@Mock CirculationRepository mock) {
     final NullPointerException thrown = assertThrows(NullPointerException.class,
-        () -> new CheckinHandler(mock, null));
+        () -> new CheckinHandler(mock, null, responseWriterRepository));
 
     assertEquals("Template cannot be null", thrown.getMessage());
   }
@@ -2,6 +2,7 @@ package org.folio.edge.sip2.handlers;
 
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.edge.sip2.handlers.ISip2RequestHandler.DEADLINE_SCREEN_MESSAGE;
 import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -125,6 +126,25 @@ class FeePaidHandlerTests {
     assertThat(result).contains("FA0.01", "FG0.05");
   }
 
+  @Test
+  void canGetDeadlineResponse(@Mock FeeFinesRepository mockFeeFinesRepository) {
+    final FeePaid feePaid = FeePaid.builder()
+        .transactionDate(OffsetDateTime.now())
+        .institutionId("diku")
+        .patronIdentifier("1029384756")
+        .transactionId("7e15ba2d")
+        .build();
+    final FeePaidHandler handler = new FeePaidHandler(mockFeeFinesRepository,
+        freemarkerRepository.getFreemarkerTemplate(Command.FEE_PAID_RESPONSE));
+
+    final String response =
+        handler.getDeadlineResponse(feePaid, TestUtils.getMockedSessionData());
+
+    assertThat(response)
+        .startsWith("38N")
+        .endsWith("AOdiku|AA1029384756|BK7e15ba2d|AF" + DEADLINE_SCREEN_MESSAGE + "|");
+  }
+
   @Test
   void renderFeePaidResponse_positive_sip2LocaleSystemPropertyIsRespected() {
     System.setProperty("sip2TemplateLocale", "de-DE");
@@ -1,8 +1,10 @@
 package org.folio.edge.sip2.handlers;
 
+import static org.folio.edge.sip2.handlers.ISip2RequestHandler.DEADLINE_SCREEN_MESSAGE;
 import static org.folio.edge.sip2.parser.Command.ITEM_INFORMATION_RESPONSE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -110,6 +112,24 @@ class ItemInformationHandlerTests {
         })));
   }
 
+  @Test
+  void canGetDeadlineResponse(@Mock ItemRepository mockItemRepository) {
+    final ItemInformation itemInformation = ItemInformation.builder()
+        .transactionDate(OffsetDateTime.now())
+        .institutionId("diku")
+        .itemIdentifier("1234567890")
+        .build();
+    final ItemInformationHandler handler = new ItemInformationHandler(mockItemRepository,
+        freemarkerRepository.getFreemarkerTemplate(ITEM_INFORMATION_RESPONSE));
+
+    final String response =
+        handler.getDeadlineResponse(itemInformation, TestUtils.getMockedSessionData());
+
+    assertTrue(response.startsWith("18010001"));
+    assertTrue(response.contains("AB1234567890|"));
+    assertTrue(response.endsWith("AF" + DEADLINE_SCREEN_MESSAGE + "|"));
+  }
+
   @Test
   void cannotCreateHandlerDueToMissingItemRepository() {
     final NullPointerException thrown = assertThrows(
@@ -18,8 +18,10 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.folio.edge.sip2.domain.messages.enumerations.PWDAlgorithm;
 import org.folio.edge.sip2.domain.messages.enumerations.UIDAlgorithm;
 import org.folio.edge.sip2.domain.messages.requests.Login;
@@ -29,6 +31,7 @@ import org.folio.edge.sip2.exception.TenantNotResolvedThrowable;
 import org.folio.edge.sip2.handlers.freemarker.FormatDateTimeMethodModel;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.LoginRepository;
 import org.folio.edge.sip2.repositories.SettingsRepository;
 import org.folio.edge.sip2.service.config.TenantConfigurationService;
@@ -57,6 +60,8 @@ class LoginHandlerTests {
   @Mock private SettingsRepository mockSettingsRepository;
   @Mock private TenantConfigurationService mockTenantConfigurationService;
   @Spy private Template template = freemarkerRepository.getFreemarkerTemplate(LOGIN_RESPONSE);
+  @Spy private ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(Locale.ROOT, Set.of());
   @Captor private ArgumentCaptor<SessionData> sessionDataCaptor;
 
   @Test
@@ -248,7 +253,7 @@ class LoginHandlerTests {
   void cannotCreateHandlerDueToMissingLoginRepository() {
     final NullPointerException thrown = assertThrows(
         NullPointerException.class,
-        () -> new LoginHandler(null, null, null, null, null));
+        () -> new LoginHandler(null, null, null, null, null, null));
 
     assertEquals("LoginRepository cannot be null", thrown.getMessage());
   }
@@ -257,7 +262,8 @@ class LoginHandlerTests {
   void cannotCreateHandlerDueToMissingTemplate() {
     final NullPointerException thrown = assertThrows(NullPointerException.class,
         () -> new LoginHandler(mockLoginRepository, mockSettingsRepository,
-            sip2TenantService, mockTenantConfigurationService, null));
+            sip2TenantService, mockTenantConfigurationService, null,
+            new ResponseWriterRepository(Locale.ROOT, Set.of())));
 
     assertEquals("Template cannot be null", thrown.getMessage());
   }
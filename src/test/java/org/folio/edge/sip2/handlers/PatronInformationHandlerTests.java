@@ -22,11 +22,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
 import org.folio.edge.sip2.domain.messages.requests.PatronInformation;
 import org.folio.edge.sip2.domain.messages.responses.PatronInformationResponse;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.repositories.PatronRepository;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.support.tags.UnitTest;
@@ -41,6 +43,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PatronInformationHandlerTests {
 
   private final FreemarkerRepository freemarkerRepository = new FreemarkerRepository();
+  private final ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(Locale.ROOT, Set.of());
 
   @Test
   void canExecuteASamplePatronInformationUsingHandler(
@@ -114,7 +118,8 @@ class PatronInformationHandlerTests {
             .build()));
 
     final PatronInformationHandler handler = new PatronInformationHandler(mockPatronRepository,
-        freemarkerRepository.getFreemarkerTemplate(PATRON_INFORMATION_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(PATRON_INFORMATION_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -178,7 +183,8 @@ class PatronInformationHandlerTests {
         .thenReturn(Future.failedFuture(new ClientException("Incorrect Username")));
 
     final PatronInformationHandler handler = new PatronInformationHandler(mockPatronRepository,
-        freemarkerRepository.getFreemarkerTemplate(PATRON_INFORMATION_RESPONSE));
+        freemarkerRepository.getFreemarkerTemplate(PATRON_INFORMATION_RESPONSE),
+        responseWriterRepository);
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -230,7 +236,7 @@ class PatronInformationHandlerTests {
   void cannotCreateHandlerDueToMissingPatronRepository() {
     final NullPointerException thrown = assertThrows(
         NullPointerException.class,
-        () -> new PatronInformationHandler(null, null));
+        () -> new PatronInformationHandler(null, null, null));
 
     assertEquals("PatronRepository cannot be null", thrown.getMessage());
   }
@@ -238,7 +244,8 @@ class PatronInformationHandlerTests {
   @Test
   void cannotCreateHandlerDueToMissingTemplate(@Mock PatronRepository mockPatronRepository) {
     final NullPointerException thrown = assertThrows(NullPointerException.class,
-        () -> new PatronInformationHandler(mockPatronRepository, null));
+        () -> new PatronInformationHandler(mockPatronRepository, null,
+            responseWriterRepository));
 
     assertEquals("Template cannot be null", thrown.getMessage());
   }
@@ -1,5 +1,6 @@
 package org.folio.edge.sip2.handlers;
 
+import static org.folio.edge.sip2.handlers.ISip2RequestHandler.DEADLINE_SCREEN_MESSAGE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,12 +12,16 @@ import io.vertx.junit5.VertxTestContext;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.enumerations.Messages;
 import org.folio.edge.sip2.domain.messages.enumerations.StatusCode;
 import org.folio.edge.sip2.domain.messages.requests.SCStatus;
+import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
 import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.handlers.writers.ResponseWriterRepository;
 import org.folio.edge.sip2.parser.Command;
 import org.folio.edge.sip2.repositories.ConfigurationRepository;
 import org.folio.edge.sip2.repositories.DefaultResourceProvider;
@@ -36,6 +41,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 class SCStatusHandlerTests {
 
   private final FreemarkerRepository repository = new FreemarkerRepository();
+  private final ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(Locale.ROOT, Set.of());
   private static final String DEFAULT_ACS_CONFIG_TEST_FILE = "json/DefaultACSConfiguration.json";
 
   @Test
@@ -140,6 +147,50 @@ class SCStatusHandlerTests {
         })));
   }
 
+  @Test
+  void canReuseRenderedAcsStatusForAnotherDate() {
+    var handler = getScStatusHandler("json/AcsLocale.json", "json/DefaultACSSettings.json");
+    var sessionData = TestUtils.getMockedSessionData();
+    sessionData.setTimeZone("America/Chicago");
+    var first = acsStatusBuilder()
+        .dateTimeSync(OffsetDateTime.parse("2024-01-02T03:04:05Z"))
+        .build();
+    var second = acsStatusBuilder()
+        .dateTimeSync(OffsetDateTime.parse("2024-07-08T09:10:11Z"))
+        .build();
+
+    assertEquals("98YYNYNN005003" + "20240101    210405" + "2.00AOdiku|AMlibrary|"
+        + "BXNYYNNNNNNNNNNNNN|ANTL01|AFWelcome|",
+        handler.renderACSStatus(first, sessionData));
+    assertEquals("98YYNYNN005003" + "20240708    041011" + "2.00AOdiku|AMlibrary|"
+        + "BXNYYNNNNNNNNNNNNN|ANTL01|AFWelcome|",
+        handler.renderACSStatus(second, sessionData));
+    assertEquals(1, handler.getRenderedStatusCount());
+
+    // other settings are rendered again
+    var changed = acsStatusBuilder()
+        .libraryName("other library")
+        .dateTimeSync(OffsetDateTime.parse("2024-07-08T09:10:11Z"))
+        .build();
+    assertEquals("98YYNYNN005003" + "20240708    041011" + "2.00AOdiku|AMother library|"
+        + "BXNYYNNNNNNNNNNNNN|ANTL01|AFWelcome|",
+        handler.renderACSStatus(changed, sessionData));
+    assertEquals(2, handler.getRenderedStatusCount());
+  }
+
+  @Test
+  void canGetOffLineDeadlineResponse() {
+    var handler = getScStatusHandler("json/AcsLocale.json", "json/DefaultACSSettings.json");
+    var sessionData = TestUtils.getMockedSessionData();
+    sessionData.setScLocation("TL01");
+
+    var response = handler.getDeadlineResponse(getMockedSCStatusMessage(), sessionData);
+
+    assertTrue(response.startsWith("98NNNNNN000999"));
+    assertEquals("2.00AOdikutest|AM|BXNNNNNNNNNNNNNNNN|ANTL01|AF"
+        + DEADLINE_SCREEN_MESSAGE + "|", response.substring(32));
+  }
+
   @Test
   void canGetValidPackagedSupportedMessages() {
     Set<Messages> supportedMessages = new HashSet<>();
@@ -181,7 +232,25 @@ class SCStatusHandlerTests {
     var settingsRepository = new SettingsRepository(
         settingsProvider, TestUtils.getUtcFixedClock(), configRepository);
 
-    return new SCStatusHandler(settingsRepository, template);
+    return new SCStatusHandler(settingsRepository, template, responseWriterRepository);
+  }
+
+  private static ACSStatus.ACSStatusBuilder acsStatusBuilder() {
+    return ACSStatus.builder()
+        .onLineStatus(true)
+        .checkinOk(true)
+        .checkoutOk(false)
+        .acsRenewalPolicy(true)
+        .statusUpdateOk(false)
+        .offLineOk(false)
+        .timeoutPeriod(5)
+        .retriesAllowed(3)
+        .protocolVersion("2.00")
+        .institutionId("diku")
+        .libraryName("library")
+        .supportedMessages(Set.of(Messages.CHECKOUT, Messages.CHECKIN))
+        .terminalLocation("TL01")
+        .screenMessage(List.of("Welcome"));
   }
 
   private SCStatus getMockedSCStatusMessage() {
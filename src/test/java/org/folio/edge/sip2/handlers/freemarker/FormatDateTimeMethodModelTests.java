@@ -0,0 +1,37 @@
+package org.folio.edge.sip2.handlers.freemarker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class FormatDateTimeMethodModelTests {
+  private static final DateTimeFormatter FORMATTER =
+      DateTimeFormatter.ofPattern(FormatDateTimeMethodModel.SIP_DATE_TIME_PATTERN);
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2024-01-02T03:04:05Z", "1999-12-31T23:59:59-06:00", "2024-07-15T10:00:00+02:00",
+      "0001-01-01T00:00:00Z", "9999-12-31T23:59:59Z", "2024-03-10T02:30:00.999-05:00"
+  })
+  void testSipDateTimeMatchesFormatter(String value) {
+    final OffsetDateTime dateTime = OffsetDateTime.parse(value);
+
+    assertEquals(FORMATTER.format(dateTime),
+        FormatDateTimeMethodModel.formatSipDateTime(dateTime));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, -1, 10000 })
+  void testYearsOutsideSipRangeUseFormatter(int year) {
+    final OffsetDateTime dateTime = OffsetDateTime.of(year, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    assertEquals(FORMATTER.format(dateTime),
+        FormatDateTimeMethodModel.formatSipDateTime(dateTime));
+  }
+}
@@ -1,10 +1,17 @@
 package org.folio.edge.sip2.handlers.freemarker;
 
+import static java.lang.Boolean.TRUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import freemarker.template.Template;
+import java.time.OffsetDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.folio.edge.sip2.domain.messages.responses.CheckinResponse;
 import org.folio.edge.sip2.parser.Command;
+import org.folio.edge.sip2.session.SessionData;
 import org.folio.edge.sip2.support.tags.UnitTest;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +35,78 @@ class FreemarkerUtilsTests {
     assertEquals("", result);
   }
 
+  @Test
+  void canExecuteFreemarkerTemplateWithSharedFormatDateTime() {
+    final SessionData sessionData = SessionData.createSession("diku", '|', false, "IBM850");
+    final Template checkinTemplate = repository.getFreemarkerTemplate(Command.CHECKIN_RESPONSE);
+
+    // formatDateTime is not part of the data, it is shared by the configuration
+    final String result = FreemarkerUtils.executeFreemarkerTemplate(sessionData,
+        checkinRoot(sessionData, "item-1"), checkinTemplate);
+
+    assertEquals("101NUN20240102    030405AOdiku|ABitem-1|AQ|", result);
+  }
+
+  @Test
+  void canReuseWriterForConsecutiveTemplates() {
+    final SessionData sessionData = SessionData.createSession("diku", '|', false, "IBM850");
+    final Template checkinTemplate = repository.getFreemarkerTemplate(Command.CHECKIN_RESPONSE);
+
+    final String first = FreemarkerUtils.executeFreemarkerTemplate(sessionData,
+        checkinRoot(sessionData, "x".repeat(200)), checkinTemplate);
+    // a failed template leaves nothing behind for the next one
+    assertEquals("", FreemarkerUtils.executeFreemarkerTemplate(sessionData,
+        new Date(), checkinTemplate));
+    final String second = FreemarkerUtils.executeFreemarkerTemplate(sessionData,
+        checkinRoot(sessionData, "item-1"), checkinTemplate);
+
+    assertTrue(first.contains("AB" + "x".repeat(200) + "|"));
+    assertEquals("101NUN20240102    030405AOdiku|ABitem-1|AQ|", second);
+  }
+
+  @Test
+  void canReleaseWriterOfNestedTemplate() {
+    final ResponseBufferWriter outer = ResponseBufferWriter.acquire();
+    final ResponseBufferWriter nested = ResponseBufferWriter.acquire();
+    try {
+      outer.write("outer");
+      nested.write("nested");
+
+      assertEquals("outer", outer.toString());
+      assertEquals("nested", nested.toString());
+    } finally {
+      nested.release();
+      outer.release();
+    }
+
+    assertEquals("", ResponseBufferWriter.acquire().toString());
+  }
+
+  @Test
+  void canDropWriterBufferThatGrewTooLarge() {
+    final ResponseBufferWriter writer = ResponseBufferWriter.acquire();
+    writer.write("x".repeat(ResponseBufferWriter.MAX_RETAINED_CAPACITY + 1));
+    writer.release();
+
+    final ResponseBufferWriter next = ResponseBufferWriter.acquire();
+    try {
+      assertEquals(ResponseBufferWriter.INITIAL_CAPACITY, next.capacity());
+    } finally {
+      next.release();
+    }
+  }
+
+  private static Map<String, Object> checkinRoot(SessionData sessionData,
+      String itemIdentifier) {
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("timezone", sessionData.getTimeZone());
+    root.put("checkinResponse", CheckinResponse.builder()
+        .ok(TRUE)
+        .transactionDate(OffsetDateTime.parse("2024-01-02T03:04:05Z"))
+        .institutionId("diku")
+        .itemIdentifier(itemIdentifier)
+        .build());
+    return root;
+  }
 }
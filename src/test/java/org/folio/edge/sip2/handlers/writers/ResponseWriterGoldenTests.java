@@ -0,0 +1,451 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.folio.edge.sip2.handlers.freemarker.FreemarkerUtils.executeFreemarkerTemplate;
+import static org.folio.edge.sip2.handlers.writers.ResponseWriterUtils.executeResponseWriter;
+import static org.folio.edge.sip2.parser.Command.ACS_STATUS;
+import static org.folio.edge.sip2.parser.Command.CHECKIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.CHECKOUT_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.LOGIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.PATRON_INFORMATION_RESPONSE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.folio.edge.sip2.domain.messages.PatronAccountInfo;
+import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
+import org.folio.edge.sip2.domain.messages.enumerations.FeeType;
+import org.folio.edge.sip2.domain.messages.enumerations.Language;
+import org.folio.edge.sip2.domain.messages.enumerations.MediaType;
+import org.folio.edge.sip2.domain.messages.enumerations.Messages;
+import org.folio.edge.sip2.domain.messages.enumerations.PatronStatus;
+import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
+import org.folio.edge.sip2.domain.messages.responses.CheckinResponse;
+import org.folio.edge.sip2.domain.messages.responses.CheckoutResponse;
+import org.folio.edge.sip2.domain.messages.responses.LoginResponse;
+import org.folio.edge.sip2.domain.messages.responses.PatronInformationResponse;
+import org.folio.edge.sip2.handlers.SCStatusHandler.PackagedSupportedMessages;
+import org.folio.edge.sip2.handlers.freemarker.FreemarkerRepository;
+import org.folio.edge.sip2.parser.Command;
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Golden tests for the direct response writers: the Freemarker templates are the reference
+ * and every writer must produce exactly the same message for the same response and session.
+ */
+@UnitTest
+class ResponseWriterGoldenTests {
+  private static final FreemarkerRepository freemarkerRepository = new FreemarkerRepository();
+  private static final ResponseWriterRepository responseWriterRepository =
+      new ResponseWriterRepository(freemarkerRepository.getLocale(),
+          ResponseWriterRepository.parseCommands(ResponseWriterRepository.ALL));
+
+  private static final OffsetDateTime TRANSACTION_DATE =
+      OffsetDateTime.parse("2024-03-10T07:30:15Z");
+  private static final OffsetDateTime DUE_DATE = OffsetDateTime.parse("2024-11-03T06:30:00Z");
+  private static final String LONG_VALUE = "0123456789".repeat(30);
+  private static final String DELIMITED_VALUE = "a|b^c|d";
+  private static final String ACCENTED_VALUE = "Biblioth\u00e8que \u00e9tudiante";
+  private static final String SUPPLEMENTARY_VALUE = "\uD83D\uDCDA".repeat(300);
+  private static final List<String> MESSAGES = Arrays.asList("Thank you!", LONG_VALUE,
+      "x".repeat(600), SUPPLEMENTARY_VALUE, DELIMITED_VALUE, "");
+
+  @Test
+  void testLoginGoldenMessage() {
+    final SessionData sessionData = session('|', "Etc/UTC", 100);
+
+    assertEquals("941", write(LOGIN_RESPONSE, LoginResponse.of(TRUE), sessionData));
+    assertEquals("940", write(LOGIN_RESPONSE, LoginResponse.of(FALSE), sessionData));
+  }
+
+  @ParameterizedTest
+  @MethodSource("sessions")
+  void testLoginMatchesTemplate(SessionData sessionData) {
+    for (Boolean ok : Arrays.asList(TRUE, FALSE, null)) {
+      final LoginResponse response = LoginResponse.of(ok);
+      assertEquals(renderLogin(response, sessionData),
+          write(LOGIN_RESPONSE, response, sessionData));
+    }
+  }
+
+  @Test
+  void testCheckoutGoldenMessage() {
+    final CheckoutResponse response = CheckoutResponse.builder()
+        .ok(FALSE)
+        .renewalOk(FALSE)
+        .transactionDate(OffsetDateTime.parse("2024-01-02T03:04:05Z"))
+        .institutionId("inst")
+        .patronIdentifier("patron")
+        .itemIdentifier("item")
+        .titleIdentifier("")
+        .build();
+
+    assertEquals("120NUU20240102    030405AOinst|AApatron|ABitem|AJ|AH|",
+        write(CHECKOUT_RESPONSE, response, session('|', "Etc/UTC", 100)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("sessions")
+  void testCheckoutMatchesTemplate(SessionData sessionData) {
+    for (CheckoutResponse response : checkoutResponses()) {
+      assertEquals(renderCheckout(response, sessionData),
+          write(CHECKOUT_RESPONSE, response, sessionData));
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(FeeType.class)
+  void testCheckoutCodesMatchTemplate(FeeType feeType) {
+    final SessionData sessionData = session('|', "Etc/UTC", 100);
+    for (MediaType mediaType : MediaType.values()) {
+      final CheckoutResponse response = checkoutBuilder()
+          .feeType(feeType)
+          .mediaType(mediaType)
+          .securityInhibit(feeType.ordinal() % 2 == 0)
+          .build();
+      assertEquals(renderCheckout(response, sessionData),
+          write(CHECKOUT_RESPONSE, response, sessionData));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("sessions")
+  void testCheckinMatchesTemplate(SessionData sessionData) {
+    for (CheckinResponse response : checkinResponses()) {
+      assertEquals(renderCheckin(response, sessionData),
+          write(CHECKIN_RESPONSE, response, sessionData));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("sessions")
+  void testAcsStatusMatchesTemplate(SessionData sessionData) {
+    for (ACSStatus response : acsStatuses()) {
+      assertEquals(renderAcsStatus(response, sessionData),
+          write(ACS_STATUS, response, sessionData));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("sessions")
+  void testPatronInformationMatchesTemplate(SessionData sessionData) {
+    for (PatronInformationResponse response : patronInformationResponses()) {
+      assertEquals(renderPatronInformation(response, sessionData),
+          write(PATRON_INFORMATION_RESPONSE, response, sessionData));
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Language.class)
+  void testPatronInformationCodesMatchTemplate(Language language) {
+    final SessionData sessionData = session('|', "Etc/UTC", 100);
+    final PatronStatus[] statuses = PatronStatus.values();
+    final PatronInformationResponse response = patronInformationBuilder()
+        .language(language)
+        .patronStatus(EnumSet.of(statuses[language.ordinal() % statuses.length]))
+        .currencyType(CurrencyType.values()[language.ordinal()])
+        .build();
+
+    assertEquals(renderPatronInformation(response, sessionData),
+        write(PATRON_INFORMATION_RESPONSE, response, sessionData));
+  }
+
+  @Test
+  void testMissingRequiredFieldWritesNothing() {
+    final SessionData sessionData = session('|', "Etc/UTC", 100);
+    final CheckoutResponse response = checkoutBuilder().institutionId(null).build();
+
+    assertEquals("", renderCheckout(response, sessionData));
+    assertEquals("", write(CHECKOUT_RESPONSE, response, sessionData));
+  }
+
+  static Stream<SessionData> sessions() {
+    return Stream.of(
+        session('|', "Etc/UTC", 100),
+        session('^', "America/New_York", 40),
+        session('|', "Asia/Kolkata", -1),
+        session('|', "Pacific/Chatham", 1));
+  }
+
+  private static SessionData session(char delimiter, String timezone, int maxPrintWidth) {
+    final SessionData sessionData = SessionData.createSession("diku", delimiter, false,
+        "IBM850");
+    sessionData.setTimeZone(timezone);
+    sessionData.setMaxPrintWidth(maxPrintWidth);
+    return sessionData;
+  }
+
+  private static CheckoutResponse.CheckoutResponseBuilder checkoutBuilder() {
+    return CheckoutResponse.builder()
+        .ok(TRUE)
+        .renewalOk(FALSE)
+        .transactionDate(TRANSACTION_DATE)
+        .institutionId("diku")
+        .patronIdentifier("1234567890")
+        .itemIdentifier("item-1")
+        .titleIdentifier("A title");
+  }
+
+  private static List<CheckoutResponse> checkoutResponses() {
+    return List.of(
+        checkoutBuilder().build(),
+        checkoutBuilder()
+            .magneticMedia(TRUE)
+            .desensitize(FALSE)
+            .institutionId(DELIMITED_VALUE)
+            .patronIdentifier(ACCENTED_VALUE)
+            .itemIdentifier(LONG_VALUE)
+            .titleIdentifier(SUPPLEMENTARY_VALUE)
+            .dueDate(DUE_DATE)
+            .feeType(FeeType.HOLD_FEE)
+            .securityInhibit(TRUE)
+            .currencyType(CurrencyType.USD)
+            .feeAmount("1.25")
+            .mediaType(MediaType.BOOK_WITH_AUDIO_TAPE)
+            .itemProperties(DELIMITED_VALUE)
+            .transactionId(LONG_VALUE)
+            .screenMessage(MESSAGES)
+            .printLine(MESSAGES)
+            .build(),
+        checkoutBuilder()
+            .titleIdentifier("")
+            .feeAmount("")
+            .itemProperties("")
+            .transactionId("")
+            .screenMessage(List.of())
+            .printLine(List.of())
+            .build(),
+        checkoutBuilder().renewalOk(null).build(),
+        checkoutBuilder().transactionDate(null).build());
+  }
+
+  private static CheckinResponse.CheckinResponseBuilder checkinBuilder() {
+    return CheckinResponse.builder()
+        .ok(TRUE)
+        .transactionDate(TRANSACTION_DATE)
+        .institutionId("diku")
+        .itemIdentifier("item-1");
+  }
+
+  private static List<CheckinResponse> checkinResponses() {
+    return List.of(
+        checkinBuilder().build(),
+        checkinBuilder()
+            .ok(FALSE)
+            .resensitize(TRUE)
+            .magneticMedia(FALSE)
+            .alert(TRUE)
+            .institutionId(LONG_VALUE)
+            .itemIdentifier(DELIMITED_VALUE)
+            .permanentLocation(ACCENTED_VALUE)
+            .titleIdentifier(SUPPLEMENTARY_VALUE)
+            .sortBin("bin 7")
+            .patronIdentifier("1234567890")
+            .mediaType(MediaType.CD_CDROM)
+            .itemProperties("fragile")
+            .screenMessage(MESSAGES)
+            .printLine(MESSAGES)
+            .callNumber("QA76.73 .J38")
+            .alertType("02")
+            .pickupServicePoint(DELIMITED_VALUE)
+            .build(),
+        checkinBuilder()
+            .resensitize(FALSE)
+            .alert(FALSE)
+            .permanentLocation("")
+            .titleIdentifier("")
+            .sortBin("")
+            .patronIdentifier("")
+            .itemProperties("")
+            .screenMessage(List.of())
+            .callNumber("")
+            .build(),
+        checkinBuilder().ok(null).build(),
+        checkinBuilder().itemIdentifier(null).build());
+  }
+
+  private static ACSStatus.ACSStatusBuilder acsStatusBuilder() {
+    return ACSStatus.builder()
+        .onLineStatus(TRUE)
+        .checkinOk(TRUE)
+        .checkoutOk(TRUE)
+        .acsRenewalPolicy(FALSE)
+        .statusUpdateOk(FALSE)
+        .offLineOk(FALSE)
+        .timeoutPeriod(5)
+        .retriesAllowed(3)
+        .dateTimeSync(TRANSACTION_DATE)
+        .protocolVersion("2.00")
+        .institutionId("diku")
+        .libraryName("Datalogisk Institut")
+        .supportedMessages(EnumSet.allOf(Messages.class))
+        .terminalLocation("SE10");
+  }
+
+  private static List<ACSStatus> acsStatuses() {
+    return List.of(
+        acsStatusBuilder().build(),
+        acsStatusBuilder()
+            .onLineStatus(FALSE)
+            .timeoutPeriod(1000)
+            .retriesAllowed(0)
+            .institutionId(DELIMITED_VALUE)
+            .libraryName(LONG_VALUE)
+            .terminalLocation(ACCENTED_VALUE)
+            .supportedMessages(EnumSet.of(Messages.CHECKIN, Messages.LOGIN, Messages.RENEW_ALL))
+            .screenMessage(MESSAGES)
+            .build(),
+        acsStatusBuilder()
+            .supportedMessages(EnumSet.noneOf(Messages.class))
+            .screenMessage(List.of("Offline soon"))
+            .printLine(MESSAGES)
+            .build(),
+        acsStatusBuilder().timeoutPeriod(null).build(),
+        acsStatusBuilder().protocolVersion(null).build());
+  }
+
+  private static PatronInformationResponse.PatronInformationResponseBuilder
+      patronInformationBuilder() {
+    return PatronInformationResponse.builder()
+        .patronStatus(EnumSet.noneOf(PatronStatus.class))
+        .language(Language.ENGLISH)
+        .transactionDate(TRANSACTION_DATE)
+        .institutionId("diku")
+        .patronIdentifier("1234567890")
+        .personalName("Doe, Jane");
+  }
+
+  private static List<PatronInformationResponse> patronInformationResponses() {
+    return List.of(
+        patronInformationBuilder().build(),
+        patronInformationBuilder()
+            .patronStatus(EnumSet.allOf(PatronStatus.class))
+            .language(Language.TAIWANESE)
+            .holdItemsCount(0)
+            .overdueItemsCount(-4)
+            .chargedItemsCount(9999)
+            .fineItemsCount(10000)
+            .recallItemsCount(42)
+            .unavailableHoldsCount(7)
+            .institutionId(DELIMITED_VALUE)
+            .patronIdentifier(LONG_VALUE)
+            .personalName(ACCENTED_VALUE)
+            .holdItemsLimit(-1)
+            .overdueItemsLimit(12345)
+            .chargedItemsLimit(25)
+            .validPatron(TRUE)
+            .validPatronPassword(FALSE)
+            .currencyType(CurrencyType.EUR)
+            .feeAmount("12.50")
+            .feeLimit("100.00")
+            .holdItems(Arrays.asList("hold 1", DELIMITED_VALUE, null))
+            .overdueItems(List.of("overdue 1"))
+            .chargedItems(List.of(LONG_VALUE, "charged 2"))
+            .fineItems(List.of("fine 1"))
+            .recallItems(List.of("recall 1"))
+            .unavailableHoldItems(List.of("unavailable 1"))
+            .homeAddress("1 Main St")
+            .emailAddress("jane@example.org")
+            .homePhoneNumber("555-1234")
+            .screenMessage(MESSAGES)
+            .printLine(MESSAGES)
+            .borrowerType("staff")
+            .borrowerTypeDescription(DELIMITED_VALUE)
+            .patronAccountList(accounts())
+            .build(),
+        patronInformationBuilder()
+            .feeAmount("")
+            .feeLimit("")
+            .homeAddress("")
+            .emailAddress("")
+            .homePhoneNumber("")
+            .borrowerType("")
+            .screenMessage(List.of())
+            .build(),
+        patronInformationBuilder().language(null).build(),
+        patronInformationBuilder().personalName(null).build());
+  }
+
+  private static List<PatronAccountInfo> accounts() {
+    final List<PatronAccountInfo> accounts = new ArrayList<>();
+    final double[] amounts = { 0, 0.005, 1.015, 2.5, 1234567.891, -3.75 };
+    for (int i = 0; i < amounts.length; i++) {
+      final PatronAccountInfo account = new PatronAccountInfo();
+      account.setId("account-" + i);
+      account.setFeeFineRemaining(amounts[i]);
+      account.setItemBarcode(i % 2 == 0 ? "item-" + i : null);
+      account.setFeeCreationDate(TRANSACTION_DATE.minusHours(i * 5L));
+      account.setItemTitle(i == 1 ? LONG_VALUE : DELIMITED_VALUE);
+      account.setFeeFineId("fee-" + i);
+      account.setFeeFineType("Overdue fine");
+      accounts.add(account);
+    }
+    accounts.add(new PatronAccountInfo());
+    return accounts;
+  }
+
+  private static <T> String write(Command command, T response, SessionData sessionData) {
+    final ResponseWriter<T> writer = responseWriterRepository.getResponseWriter(command);
+    return executeResponseWriter(sessionData, response, writer);
+  }
+
+  private static Map<String, Object> root(SessionData sessionData) {
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("timezone", sessionData.getTimeZone());
+    return root;
+  }
+
+  private static String renderLogin(LoginResponse response, SessionData sessionData) {
+    final Map<String, Object> root = new HashMap<>();
+    root.put("delimiter", sessionData.getFieldDelimiter());
+    root.put("loginResponse", response);
+    return executeFreemarkerTemplate(sessionData, root,
+        freemarkerRepository.getFreemarkerTemplate(LOGIN_RESPONSE));
+  }
+
+  private static String renderCheckout(CheckoutResponse response, SessionData sessionData) {
+    final Map<String, Object> root = root(sessionData);
+    root.put("checkoutResponse", response);
+    return executeFreemarkerTemplate(sessionData, root,
+        freemarkerRepository.getFreemarkerTemplate(CHECKOUT_RESPONSE));
+  }
+
+  private static String renderCheckin(CheckinResponse response, SessionData sessionData) {
+    final Map<String, Object> root = root(sessionData);
+    root.put("checkinResponse", response);
+    return executeFreemarkerTemplate(sessionData, root,
+        freemarkerRepository.getFreemarkerTemplate(CHECKIN_RESPONSE));
+  }
+
+  private static String renderAcsStatus(ACSStatus response, SessionData sessionData) {
+    final Map<String, Object> root = root(sessionData);
+    root.put("PackagedSupportedMessages",
+        new PackagedSupportedMessages(response.getSupportedMessages()));
+    root.put("ACSStatus", response);
+    root.put("maxLength", sessionData.getMaxPrintWidth());
+    return executeFreemarkerTemplate(sessionData, root,
+        freemarkerRepository.getFreemarkerTemplate(ACS_STATUS));
+  }
+
+  private static String renderPatronInformation(PatronInformationResponse response,
+      SessionData sessionData) {
+    final Map<String, Object> root = root(sessionData);
+    root.put("patronInformationResponse", response);
+    root.put("maxLength", sessionData.getMaxPrintWidth());
+    return executeFreemarkerTemplate(sessionData, root,
+        freemarkerRepository.getFreemarkerTemplate(PATRON_INFORMATION_RESPONSE));
+  }
+}
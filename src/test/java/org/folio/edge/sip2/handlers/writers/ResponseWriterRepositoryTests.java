@@ -0,0 +1,58 @@
+package org.folio.edge.sip2.handlers.writers;
+
+import static org.folio.edge.sip2.parser.Command.ACS_STATUS;
+import static org.folio.edge.sip2.parser.Command.CHECKIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.CHECKOUT_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.LOGIN_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.PATRON_INFORMATION_RESPONSE;
+import static org.folio.edge.sip2.parser.Command.RENEW_RESPONSE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.vertx.core.json.JsonArray;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import org.folio.edge.sip2.parser.Command;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ResponseWriterRepositoryTests {
+
+  @Test
+  void testParseCommands() {
+    assertEquals(EnumSet.of(CHECKOUT_RESPONSE, CHECKIN_RESPONSE),
+        ResponseWriterRepository.parseCommands(
+            new JsonArray().add(" checkout_response").add("CHECKIN_RESPONSE ").add("")));
+    assertEquals(EnumSet.of(LOGIN_RESPONSE), ResponseWriterRepository.parseCommands(
+        new JsonArray().add("LOGIN_RESPONSE").add("NOT_A_COMMAND")));
+    assertEquals(EnumSet.of(LOGIN_RESPONSE, CHECKOUT_RESPONSE, CHECKIN_RESPONSE, ACS_STATUS,
+        PATRON_INFORMATION_RESPONSE),
+        ResponseWriterRepository.parseCommands(new JsonArray().add("all")));
+    assertEquals(EnumSet.noneOf(Command.class), ResponseWriterRepository.parseCommands(null));
+  }
+
+  @Test
+  void testTemplatesAreUsedByDefault() {
+    final ResponseWriterRepository repository =
+        new ResponseWriterRepository(Locale.ROOT, Set.of());
+
+    for (Command command : Command.values()) {
+      assertNull(repository.getResponseWriter(command));
+    }
+  }
+
+  @Test
+  void testOnlySelectedResponsesAreWrittenDirectly() {
+    final ResponseWriterRepository repository = new ResponseWriterRepository(Locale.ROOT,
+        EnumSet.of(CHECKOUT_RESPONSE, ACS_STATUS, RENEW_RESPONSE));
+
+    assertNotNull(repository.getResponseWriter(CHECKOUT_RESPONSE));
+    assertNotNull(repository.getResponseWriter(ACS_STATUS));
+    assertNull(repository.getResponseWriter(CHECKIN_RESPONSE));
+    // there is no direct writer for renew, so its template is still used
+    assertNull(repository.getResponseWriter(RENEW_RESPONSE));
+  }
+}
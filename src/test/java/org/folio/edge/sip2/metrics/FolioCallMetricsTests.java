@@ -0,0 +1,98 @@
+package org.folio.edge.sip2.metrics;
+
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static org.folio.edge.sip2.metrics.FolioCallMetrics.CALLS_NAME;
+import static org.folio.edge.sip2.metrics.FolioCallMetrics.ERRORS_NAME;
+import static org.folio.edge.sip2.metrics.FolioCallMetrics.TIMER_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+class FolioCallMetricsTests {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final FolioCallMetrics callMetrics = new FolioCallMetrics(registry);
+
+  @Test
+  void testGetPathTemplate() {
+    assertEquals("/bl-users/by-id/{id}", FolioCallMetrics.getPathTemplate(
+        "/bl-users/by-id/2205005b-ca51-4a04-87fd-938eefa8f6de"));
+    assertEquals("/users", FolioCallMetrics.getPathTemplate(
+        "/users?limit=1&query=barcode%3D%3D1234"));
+    assertEquals("/accounts/{id}/pay", FolioCallMetrics.getPathTemplate(
+        "/accounts/0e3a2d4c-5d3b-4a4a-9a4e-0f2f1c2e3d4b/pay"));
+    assertEquals("/holdings-storage/holdings/{id}", FolioCallMetrics.getPathTemplate(
+        "/holdings-storage/holdings/1234"));
+    assertEquals("/circulation/check-out-by-barcode", FolioCallMetrics.getPathTemplate(
+        "/circulation/check-out-by-barcode"));
+    assertEquals("/", FolioCallMetrics.getPathTemplate(null));
+  }
+
+  @Test
+  void testCallIsTimedByTemplateMethodAndStatus() {
+    callMetrics.time(GET, "/bl-users/by-id/2205005b-ca51-4a04-87fd-938eefa8f6de", "diku",
+        () -> Future.succeededFuture(response(200)));
+
+    assertEquals(1, registry.get(TIMER_NAME)
+        .tags("path", "/bl-users/by-id/{id}", "method", "GET", "status", "2xx")
+        .timer().count());
+    assertNull(registry.find(TIMER_NAME).tagKeys("tenant").timer());
+    assertEquals(1, registry.get(CALLS_NAME).tags("tenant", "diku", "status", "2xx")
+        .counter().count());
+    assertNull(registry.find(ERRORS_NAME).counter());
+  }
+
+  @Test
+  void testErrorsAreCounted() {
+    callMetrics.time(POST, "/circulation/check-out-by-barcode", "diku",
+        () -> Future.succeededFuture(response(422)));
+    callMetrics.time(POST, "/circulation/check-out-by-barcode", null,
+        () -> Future.failedFuture(new IllegalStateException("Connection reset")));
+
+    assertEquals(1, registry.get(ERRORS_NAME).tags("error", "4xx", "tenant", "diku")
+        .counter().count());
+    assertEquals(1, registry.get(ERRORS_NAME)
+        .tags("error", "IllegalStateException", "tenant", "unknown").counter().count());
+    assertNotNull(registry.get(TIMER_NAME).tags("status", "none").timer());
+  }
+
+  @Test
+  void testNumberOfPathsIsBounded() {
+    for (int i = 0; i < FolioCallMetrics.MAX_PATHS + 10; i++) {
+      callMetrics.time(GET, "/path-" + i, "diku", () -> Future.succeededFuture(response(200)));
+    }
+
+    assertEquals(10, registry.get(TIMER_NAME).tags("path", FolioCallMetrics.OTHER)
+        .timer().count());
+    assertEquals(FolioCallMetrics.MAX_PATHS + 1, registry.find(TIMER_NAME).timers().size());
+  }
+
+  @Test
+  void testNumberOfTimersDoesNotGrowWithTenants() {
+    for (int i = 0; i < FolioCallMetrics.MAX_TENANTS + 10; i++) {
+      callMetrics.time(GET, "/users", "tenant" + i, () -> Future.succeededFuture(response(200)));
+    }
+
+    assertEquals(1, registry.find(TIMER_NAME).timers().size());
+    assertEquals(FolioCallMetrics.MAX_TENANTS + 10, registry.get(TIMER_NAME).timer().count());
+    assertEquals(10, registry.get(CALLS_NAME).tags("tenant", FolioCallMetrics.OTHER)
+        .counter().count());
+    assertEquals(FolioCallMetrics.MAX_TENANTS + 1, registry.find(CALLS_NAME).counters().size());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<JsonObject> response(int statusCode) {
+    final HttpResponse<JsonObject> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(statusCode);
+    return response;
+  }
+}
@@ -0,0 +1,62 @@
+package org.folio.edge.sip2.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+class HttpClientPoolMetricsTests {
+
+  private static final String GAUGE_NAME = "org.folio.edge.sip2.folio.client.connections";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final HttpClientPoolMetrics poolMetrics = new HttpClientPoolMetrics(registry);
+
+  @Test
+  void testConnectionIsCountedUntilClosed(Vertx vertx, VertxTestContext testContext) {
+    final Promise<HttpServerRequest> received = Promise.promise();
+    final HttpClient httpClient = vertx.httpClientBuilder()
+        .withConnectHandler(poolMetrics::connectionOpened)
+        .build();
+    final WebClient webClient = WebClient.wrap(httpClient);
+
+    vertx.createHttpServer()
+        .requestHandler(received::complete)
+        .listen(0)
+        .onComplete(testContext.succeeding(server -> {
+          final var response = webClient.get(server.actualPort(), "localhost", "/").send();
+
+          received.future().onComplete(testContext.succeeding(request -> {
+            testContext.verify(() -> {
+              assertEquals(1, poolMetrics.getConnections());
+              assertEquals(1.0, registry.get(GAUGE_NAME).gauge().value());
+            });
+            request.response().end("OK");
+          }));
+
+          // the close handler of the connection runs after the client is closed
+          response
+              .compose(r -> httpClient.close())
+              .onComplete(testContext.succeeding(v -> vertx.setPeriodic(10, id -> {
+                if (poolMetrics.getConnections() == 0) {
+                  vertx.cancelTimer(id);
+                  closeAndComplete(server, testContext);
+                }
+              })));
+        }));
+  }
+
+  private static void closeAndComplete(HttpServer server, VertxTestContext testContext) {
+    server.close().onComplete(v -> testContext.completeNow());
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.edge.sip2.metrics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.micrometer.core.instrument.Timer;
@@ -15,6 +16,11 @@ class MetricsTests {
     assertNotNull(m);
   }
 
+  @Test
+  void testGetRegistryReturnsTheSameLocalRegistry() {
+    assertSame(Metrics.getRegistry(), Metrics.getRegistry());
+  }
+
   @Test
   void testSocketError() {
     final Metrics m = Metrics.getMetrics(1234);
@@ -60,6 +66,14 @@ class MetricsTests {
     assertEquals(4, m.invalidMessageErrorCount());
   }
 
+  @Test
+  void testDeadlineError() {
+    final Metrics m = Metrics.getMetrics(1234);
+    m.deadlineError();
+    m.deadlineError();
+    assertEquals(2, m.deadlineErrorCount());
+  }
+
   @Test
   void testSample() {
     final Metrics m = Metrics.getMetrics(1234);
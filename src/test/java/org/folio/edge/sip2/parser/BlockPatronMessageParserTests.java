@@ -14,8 +14,8 @@ import org.junit.jupiter.api.Test;
 class BlockPatronMessageParserTests {
   @Test
   void testParse() {
-    BlockPatronMessageParser parser =
-        new BlockPatronMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<BlockPatron> parser =
+        new SchemaMessageParser<>(MessageSchemas.BLOCK_PATRON, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
         .ofPattern("yyyyMMdd    HHmmss");
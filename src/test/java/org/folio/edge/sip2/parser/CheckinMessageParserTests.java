@@ -20,8 +20,8 @@ class CheckinMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "SomeBook", "  SomeBook", "SomeBook ", "  SomeBook  " })
   void testParse(String itemIdentifier) {
-    CheckinMessageParser parser =
-        new CheckinMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Checkin> parser =
+        new SchemaMessageParser<>(MessageSchemas.CHECKIN, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final OffsetDateTime returnDate = transactionDate.plusMinutes(5);
@@ -21,8 +21,8 @@ class CheckoutMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "SomeBook", "  SomeBook", "SomeBook ", "  SomeBook  " })
   void testParse(String itemIdentifier) {
-    CheckoutMessageParser parser =
-        new CheckoutMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Checkout> parser =
+        new SchemaMessageParser<>(MessageSchemas.CHECKOUT, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final OffsetDateTime nbDueDate = transactionDate.plusDays(30);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -50,8 +50,8 @@ class CheckoutMessageParserTests {
 
   @Test
   void testParseBlankNbDueDate() {
-    CheckoutMessageParser parser =
-        new CheckoutMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Checkout> parser =
+        new SchemaMessageParser<>(MessageSchemas.CHECKOUT, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
         .ofPattern("yyyyMMdd    HHmmss");
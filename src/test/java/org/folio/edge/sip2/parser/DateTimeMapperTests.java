@@ -0,0 +1,108 @@
+package org.folio.edge.sip2.parser;
+
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DateTimeMapperTests {
+  private static final DateTimeFormatter FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd    HHmmss");
+
+  @Test
+  void testMappersAreSharedPerTimezone() {
+    assertSame(DateTimeMapper.forTimezone("America/Chicago"),
+        DateTimeMapper.forTimezone("America/Chicago"));
+  }
+
+  @Test
+  void testLocalTimeInUtc() {
+    assertEquals(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, UTC),
+        DateTimeMapper.forTimezone("Etc/UTC").mapDateTime("20240102    030405"));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      // offsets in effect at the date, not at the time of parsing
+      "Europe/Stockholm, 20240115    120000, 2024-01-15T11:00:00Z",
+      "Europe/Stockholm, 20240715    120000, 2024-07-15T10:00:00Z",
+      // DST gap: the time is moved later by the length of the gap
+      "America/Chicago, 20240310    023000, 2024-03-10T08:30:00Z",
+      // DST overlap: the earlier offset is used
+      "America/Chicago, 20241103    013000, 2024-11-03T06:30:00Z",
+      "Asia/Tokyo, 20241231    235959, 2024-12-31T14:59:59Z"
+  })
+  void testLocalTimeUsesZoneRules(String timezone, String sipDateTime, String expected) {
+    assertEquals(OffsetDateTime.parse(expected),
+        DateTimeMapper.forTimezone(timezone).mapDateTime(sipDateTime));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Etc/UTC", "America/New_York", "America/Chicago", "Europe/Stockholm",
+      "Australia/Lord_Howe", "Pacific/Chatham"
+  })
+  void testLocalTimeMatchesZonedDateTime(String timezone) {
+    final ZoneId zoneId = ZoneId.of(timezone);
+    final DateTimeMapper mapper = DateTimeMapper.forTimezone(timezone);
+    // every half hour through a year covers both DST transitions
+    LocalDateTime local = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < 366 * 48; i++) {
+      final String sipDateTime = FORMATTER.format(local);
+      final OffsetDateTime expected = local.atZone(zoneId).toOffsetDateTime()
+          .withOffsetSameInstant(UTC);
+
+      assertEquals(expected, mapper.mapDateTime(sipDateTime), sipDateTime);
+      local = local.plusMinutes(30);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "20240102   A030405, 2024-01-02T02:04:05Z",
+      "20240102   M030405, 2024-01-01T15:04:05Z",
+      "20240102   N030405, 2024-01-02T04:04:05Z",
+      "20240102   Y030405, 2024-01-02T15:04:05Z",
+      "20240102   Z030405, 2024-01-02T03:04:05Z"
+  })
+  void testMilitaryTimeZones(String sipDateTime, String expected) {
+    assertEquals(OffsetDateTime.parse(expected),
+        DateTimeMapper.forTimezone("America/Chicago").mapDateTime(sipDateTime));
+  }
+
+  @Test
+  void testMapFromMessageCharacters() {
+    final char[] chars = "YN20240102    030405AOinstitution|".toCharArray();
+
+    assertEquals(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, UTC),
+        DateTimeMapper.forTimezone("Etc/UTC").mapDateTime(chars, 2));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2024010     030405", "20240102   J030405", "20240102   a030405",
+      "20240102 Z  030405", "20241302    030405", "20240102    250000",
+      "20240102    0304", "2024-01-02T03:04:05Z"
+  })
+  void testInvalidDateTime(String sipDateTime) {
+    final DateTimeMapper mapper = DateTimeMapper.forTimezone("Etc/UTC");
+
+    assertThrows(DateTimeParseException.class, () -> mapper.mapDateTime(sipDateTime));
+  }
+
+  @Test
+  void testDayPastEndOfMonthIsResolvedSmartly() {
+    assertEquals(OffsetDateTime.of(2024, 2, 29, 12, 0, 0, 0, UTC),
+        DateTimeMapper.forTimezone("Etc/UTC").mapDateTime("20240231    120000"));
+  }
+}
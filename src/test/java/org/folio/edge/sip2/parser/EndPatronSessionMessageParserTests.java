@@ -13,8 +13,9 @@ import org.junit.jupiter.api.Test;
 class EndPatronSessionMessageParserTests {
   @Test
   void testParse() {
-    EndPatronSessionMessageParser parser =
-        new EndPatronSessionMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<EndPatronSession> parser =
+        new SchemaMessageParser<>(MessageSchemas.END_PATRON_SESSION, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
         .ofPattern("yyyyMMdd    HHmmss");
@@ -29,7 +29,7 @@ class FeePaidMessageParserTest {
   @DisplayName("parse_parameterized_currencyType")
   void parse_parameterized_currencyType(@SuppressWarnings("unused") String name,
       String sipMessage, CurrencyType expected) {
-    var parser = new FeePaidMessageParser('|', TestUtils.UTCTimeZone);
+    var parser = new SchemaMessageParser<>(MessageSchemas.FEE_PAID, '|', TestUtils.UTCTimeZone);
     var transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     var transactionDateStr = DATE_TIME_FORMATTER.format(transactionDate);
 
@@ -45,7 +45,7 @@ class FeePaidMessageParserTest {
   @DisplayName("parse_parameterized_currencyType")
   void parse_parameterized_feeType(@SuppressWarnings("unused") String name,
       String sipMessage, FeeType feeType) {
-    var parser = new FeePaidMessageParser('|', TestUtils.UTCTimeZone);
+    var parser = new SchemaMessageParser<>(MessageSchemas.FEE_PAID, '|', TestUtils.UTCTimeZone);
     var transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     var transactionDateStr = DATE_TIME_FORMATTER.format(transactionDate);
 
@@ -61,7 +61,7 @@ class FeePaidMessageParserTest {
   @DisplayName("parse_parameterized_paymentType")
   void parse_parameterized_paymentType(@SuppressWarnings("unused") String name,
       String sipMessage, PaymentType paymentType) {
-    var parser = new FeePaidMessageParser('|', TestUtils.UTCTimeZone);
+    var parser = new SchemaMessageParser<>(MessageSchemas.FEE_PAID, '|', TestUtils.UTCTimeZone);
     var transactionDate = TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     var transactionDateStr = DATE_TIME_FORMATTER.format(transactionDate);
 
@@ -21,8 +21,8 @@ class HoldMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "Some Book", "  Some Book", "Some Book ", "  Some Book  " })
   void testParse(String itemIdentifier) {
-    HoldMessageParser parser =
-        new HoldMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Hold> parser =
+        new SchemaMessageParser<>(MessageSchemas.HOLD, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final OffsetDateTime expirationDate = transactionDate.plusDays(30);
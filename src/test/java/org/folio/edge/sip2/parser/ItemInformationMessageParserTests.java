@@ -19,8 +19,9 @@ class ItemInformationMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "SomeBook", "  SomeBook", "SomeBook ", "  SomeBook  " })
   void testParse(String itemIdentifier) {
-    ItemInformationMessageParser parser =
-        new ItemInformationMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<ItemInformation> parser =
+        new SchemaMessageParser<>(MessageSchemas.ITEM_INFORMATION, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -19,8 +19,9 @@ class ItemStatusUpdateMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "SomeBook", "  SomeBook", "SomeBook ", "  SomeBook  " })
   void testParse(String itemIdentifier) {
-    ItemStatusUpdateMessageParser parser =
-        new ItemStatusUpdateMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<ItemStatusUpdate> parser =
+        new SchemaMessageParser<>(MessageSchemas.ITEM_STATUS_UPDATE, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
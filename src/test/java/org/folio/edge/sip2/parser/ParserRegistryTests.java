@@ -0,0 +1,57 @@
+package org.folio.edge.sip2.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.folio.edge.sip2.domain.messages.requests.Checkout;
+import org.junit.jupiter.api.Test;
+
+class ParserRegistryTests {
+
+  @Test
+  void testSameConfigurationSharesParser() {
+    final Parser parser = ParserRegistry.getParser('|', "IBM850", false, "Etc/UTC");
+
+    assertSame(parser, ParserRegistry.getParser('|', "IBM850", false, "Etc/UTC"));
+  }
+
+  @Test
+  void testDifferentConfigurationGetsOwnParser() {
+    final Parser parser = ParserRegistry.getParser('|', "IBM850", false, "Etc/UTC");
+
+    assertNotSame(parser, ParserRegistry.getParser('^', "IBM850", false, "Etc/UTC"));
+    assertNotSame(parser, ParserRegistry.getParser('|', "ISO-8859-1", false, "Etc/UTC"));
+    assertNotSame(parser, ParserRegistry.getParser('|', "IBM850", true, "Etc/UTC"));
+    assertNotSame(parser, ParserRegistry.getParser('|', "IBM850", false, "America/Chicago"));
+  }
+
+  @Test
+  void testSharedParserIsThreadSafe() throws Exception {
+    final Parser parser = ParserRegistry.getParser('|', "IBM850", false, "Etc/UTC");
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        final String itemIdentifier = "item" + i;
+        results.add(executor.submit(() -> {
+          final Message<Object> message = parser.parseMessage("11YN20240101    120000"
+              + "                  AOuniversity_id|AApatron_id|AB" + itemIdentifier
+              + "|AC|");
+          return ((Checkout) message.getRequest()).getItemIdentifier();
+        }));
+      }
+
+      for (int i = 0; i < results.size(); i++) {
+        assertEquals("item" + i, results.get(i).get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -13,8 +13,9 @@ import org.junit.jupiter.api.Test;
 class PatronEnableMessageParserTests {
   @Test
   void testParse() {
-    PatronEnableMessageParser parser =
-        new PatronEnableMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<PatronEnable> parser =
+        new SchemaMessageParser<>(MessageSchemas.PATRON_ENABLE, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
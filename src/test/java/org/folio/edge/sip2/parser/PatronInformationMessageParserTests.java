@@ -27,8 +27,9 @@ class PatronInformationMessageParserTests {
   @ParameterizedTest
   @MethodSource("providePatronInformationSummary")
   void testParse(String summaryString, Summary summary) {
-    PatronInformationMessageParser parser =
-        new PatronInformationMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<PatronInformation> parser =
+        new SchemaMessageParser<>(MessageSchemas.PATRON_INFORMATION, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -52,8 +53,9 @@ class PatronInformationMessageParserTests {
 
   @Test
   void testParseIgnoresUnknownField() {
-    PatronInformationMessageParser parser =
-        new PatronInformationMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<PatronInformation> parser =
+        new SchemaMessageParser<>(MessageSchemas.PATRON_INFORMATION, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -14,8 +14,8 @@ import org.junit.jupiter.api.Test;
 class RenewAllMessageParserTests {
   @Test
   void testParse() {
-    RenewAllMessageParser parser =
-        new RenewAllMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<RenewAll> parser =
+        new SchemaMessageParser<>(MessageSchemas.RENEW_ALL, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -21,8 +21,8 @@ class RenewMessageParserTests {
   @ParameterizedTest(name = "[{index}] itemIdentifier=''{0}''")
   @ValueSource(strings = { "Some Book", "  Some Book", "Some Book ", "  Some Book  " })
   void testParse(String itemIdentifier) {
-    RenewMessageParser parser =
-        new RenewMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Renew> parser =
+        new SchemaMessageParser<>(MessageSchemas.RENEW, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final OffsetDateTime nbDueDate = transactionDate.plusDays(30);
@@ -51,8 +51,8 @@ class RenewMessageParserTests {
 
   @Test
   void testParseBlankNbDueDate() {
-    RenewMessageParser parser =
-        new RenewMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<Renew> parser =
+        new SchemaMessageParser<>(MessageSchemas.RENEW, valueOf('|'), TestUtils.UTCTimeZone);
     final OffsetDateTime transactionDate =
         TestUtils.getOffsetDateTimeUtc().truncatedTo(SECONDS);
     final DateTimeFormatter formatter = DateTimeFormatter
@@ -10,8 +10,9 @@ import org.junit.jupiter.api.Test;
 class RequestACSResendMessageParserTests {
   @Test
   void testParse() {
-    RequestACSResendMessageParser parser =
-        new RequestACSResendMessageParser(valueOf('|'), TestUtils.UTCTimeZone);
+    SchemaMessageParser<RequestACSResend> parser =
+        new SchemaMessageParser<>(MessageSchemas.REQUEST_ACS_RESEND, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final RequestACSResend requestACSResend = parser.parse("");
 
     // This is about the best we can do here.
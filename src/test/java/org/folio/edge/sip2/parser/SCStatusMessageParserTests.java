@@ -11,8 +11,9 @@ import org.junit.jupiter.api.Test;
 class SCStatusMessageParserTests {
   @Test
   void testParse() {
-    SCStatusMessageParser parser = new SCStatusMessageParser(valueOf('|'),
-        TestUtils.UTCTimeZone);
+    SchemaMessageParser<SCStatus> parser =
+        new SchemaMessageParser<>(MessageSchemas.SC_STATUS, valueOf('|'),
+            TestUtils.UTCTimeZone);
     final SCStatus scStatus = parser.parse("01202.00");
 
     assertEquals(SC_OK, scStatus.getStatusCode());
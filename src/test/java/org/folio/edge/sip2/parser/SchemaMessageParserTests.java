@@ -0,0 +1,79 @@
+package org.folio.edge.sip2.parser;
+
+import static java.lang.Character.valueOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.folio.edge.sip2.api.support.TestUtils;
+import org.folio.edge.sip2.domain.messages.requests.Checkout;
+import org.folio.edge.sip2.domain.messages.requests.Login;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SchemaMessageParserTests {
+
+  @ParameterizedTest
+  @EnumSource(Field.class)
+  void testFieldIndexFindsEveryField(Field field) {
+    if (field == Field.UNKNOWN) {
+      assertEquals(Field.UNKNOWN, Field.find(""));
+    } else {
+      final String identifier = field.name();
+      assertEquals(field, Field.find(identifier));
+      assertEquals(field, Field.find(identifier.charAt(0), identifier.charAt(1)));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "ZZ", "XX", "ab", "A1", "|A", "A", "ABC" })
+  void testFieldIndexReturnsUnknown(String identifier) {
+    assertEquals(Field.UNKNOWN, Field.find(identifier));
+  }
+
+  @Test
+  void testCommandIndex() {
+    assertEquals(Command.CHECKOUT, Command.find('1', '1'));
+    assertEquals(Command.RENEW_ALL_RESPONSE, Command.find("66"));
+    assertEquals(Command.UNKNOWN, Command.find('0', '0'));
+    assertEquals(Command.UNKNOWN, Command.find('A', 'A'));
+    assertEquals(Command.UNKNOWN, Command.find("1"));
+  }
+
+  @Test
+  void testFieldsOutsideTheSchemaAreSkipped() {
+    final SchemaMessageParser<Login> parser = new SchemaMessageParser<>(MessageSchemas.LOGIN,
+        valueOf('|'), TestUtils.UTCTimeZone);
+
+    final Login login = parser.parse("00AOuniversity_id|CNuser_id|XXunknown|COpassw0rd|");
+
+    assertEquals("user_id", login.getLoginUserId());
+    assertEquals("passw0rd", login.getLoginPassword());
+    assertNull(login.getLocationCode());
+  }
+
+  @Test
+  void testSchemaParsesManyMessages() {
+    final SchemaMessageParser<Checkout> parser = new SchemaMessageParser<>(
+        MessageSchemas.CHECKOUT, valueOf('|'), TestUtils.UTCTimeZone);
+
+    for (int i = 0; i < 1000; i++) {
+      final Checkout checkout = parser.parse("YN20240101    120000" + " ".repeat(18)
+          + "AOuniversity_id|AApatron_id|AB item" + i + " |AC|BOY|");
+
+      assertEquals("patron_id", checkout.getPatronIdentifier());
+      assertEquals("item" + i, checkout.getItemIdentifier());
+      assertNull(checkout.getNbDueDate());
+      assertEquals(Boolean.TRUE, checkout.getFeeAcknowledged());
+    }
+  }
+
+  @Test
+  void testUnknownFieldCannotBeBound() {
+    assertThrows(IllegalArgumentException.class,
+        () -> MessageSchema.builder("Login", Login::builder, Login.LoginBuilder::build)
+            .field(Field.UNKNOWN, Login.LoginBuilder::loginUserId));
+  }
+}
@@ -0,0 +1,116 @@
+package org.folio.edge.sip2.parser;
+
+import static java.lang.Boolean.TRUE;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.folio.edge.sip2.parser.Command.LOGIN;
+import static org.folio.edge.sip2.parser.Command.SC_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.buffer.Buffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.edge.sip2.domain.messages.requests.Login;
+import org.junit.jupiter.api.Test;
+
+class Sip2FrameDecoderTests {
+  private static final Charset IBM850 = Charset.forName("IBM850");
+
+  @Test
+  void testMultipleFramesInOneRead() {
+    final List<Sip2Frame> frames = new ArrayList<>();
+    final Sip2FrameDecoder decoder = new Sip2FrameDecoder("\r", ISO_8859_1, frames::add);
+
+    decoder.handle(Buffer.buffer("9300CNuser_id|COpassw0rd|\r9900302.00\r"));
+
+    assertEquals(2, frames.size());
+    assertEquals(LOGIN, frames.get(0).getCommand());
+    assertEquals("9300CNuser_id|COpassw0rd|", frames.get(0).getMessage());
+    assertEquals(SC_STATUS, frames.get(1).getCommand());
+    assertEquals("9900302.00", frames.get(1).getMessage());
+  }
+
+  @Test
+  void testFrameSplitAcrossReads() {
+    final List<Sip2Frame> frames = new ArrayList<>();
+    final Sip2FrameDecoder decoder = new Sip2FrameDecoder("\r", ISO_8859_1, frames::add);
+
+    decoder.handle(Buffer.buffer("9300CNuser"));
+    assertTrue(frames.isEmpty());
+    decoder.handle(Buffer.buffer("_id|COpassw0rd|\r99003"));
+    decoder.handle(Buffer.buffer("02.00\r"));
+
+    assertEquals(2, frames.size());
+    assertEquals("9300CNuser_id|COpassw0rd|", frames.get(0).getMessage());
+    assertEquals("9900302.00", frames.get(1).getMessage());
+  }
+
+  @Test
+  void testMultiCharacterDelimiterSplitAcrossReads() {
+    final List<Sip2Frame> frames = new ArrayList<>();
+    final Sip2FrameDecoder decoder = new Sip2FrameDecoder("\r\n", ISO_8859_1, frames::add);
+
+    decoder.handle(Buffer.buffer("9900302.00\r"));
+    assertTrue(frames.isEmpty());
+    decoder.handle(Buffer.buffer("\n9900302.00\r\n"));
+
+    assertEquals(2, frames.size());
+    assertEquals("9900302.00", frames.get(0).getMessage());
+    assertEquals("9900302.00", frames.get(1).getMessage());
+  }
+
+  @Test
+  void testEmptyDelimiterIsRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new Sip2FrameDecoder("", ISO_8859_1, frame -> { }));
+  }
+
+  @Test
+  void testParseFrameWithErrorDetection() {
+    final List<Sip2Frame> frames = new ArrayList<>();
+    final Sip2FrameDecoder decoder = new Sip2FrameDecoder("\r", IBM850, frames::add);
+    decoder.handle(Buffer.buffer("9300CNuser_id|COpassw0rd|AY1AZF594\r"));
+
+    final Parser parser = Parser.builder().errorDetectionEnabled(TRUE).build();
+    final Message<Object> message = parser.parseMessage(frames.get(0));
+
+    assertTrue(message.isValid());
+    assertEquals(LOGIN, message.getCommand());
+    assertEquals(1, message.getSequenceNumber());
+    assertEquals("F594", message.getChecksumsString());
+    final Login login = (Login) message.getRequest();
+    assertEquals("user_id", login.getLoginUserId());
+    assertEquals("passw0rd", login.getLoginPassword());
+  }
+
+  @Test
+  void testParseFrameWithNonAsciiFieldAndChecksum() {
+    final String body = "9300CNus\u00e9r|COpassw0rd|AY1AZ";
+    final byte[] bytes = body.getBytes(IBM850);
+    int sum = 0;
+    for (byte b : bytes) {
+      sum += b & 0xff;
+    }
+    final String message = body + String.format("%04X", -sum & 0xffff);
+
+    final Parser parser = Parser.builder().charset(IBM850).errorDetectionEnabled(TRUE).build();
+    final Message<Object> parsed = parser.parseMessage(
+        Sip2Frame.of(Buffer.buffer(message.getBytes(IBM850)), IBM850));
+
+    assertTrue(parsed.isValid());
+    assertEquals("us\u00e9r", ((Login) parsed.getRequest()).getLoginUserId());
+  }
+
+  @Test
+  void testParseFrameWithBadChecksum() {
+    final Parser parser = Parser.builder().errorDetectionEnabled(TRUE).build();
+    final Message<Object> message = parser.parseMessage(
+        Sip2Frame.of(Buffer.buffer("9300CNuser_id|COpassw0rd|AY1AZF595"), IBM850));
+
+    assertFalse(message.isValid());
+    assertEquals("F595", message.getChecksumsString());
+  }
+}
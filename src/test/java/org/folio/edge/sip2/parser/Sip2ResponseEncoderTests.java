@@ -0,0 +1,99 @@
+package org.folio.edge.sip2.parser;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.Charset;
+import org.folio.edge.sip2.parser.Sip2ResponseEncoder.EncodedResponse;
+import org.junit.jupiter.api.Test;
+
+class Sip2ResponseEncoderTests {
+  private static final Charset IBM850 = Charset.forName("IBM850");
+
+  @Test
+  void testEncodeWithoutErrorDetection() {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(IBM850, "\r", false);
+
+    final EncodedResponse encoded = encoder.encode("941", 1, false);
+
+    assertEquals("941\r", encoded.getMessage());
+    assertArrayEquals("941\r".getBytes(IBM850), encoded.getBuffer().getBytes());
+  }
+
+  @Test
+  void testEncodeScResend() {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(ISO_8859_1, "\r", true);
+
+    final EncodedResponse encoded = encoder.encode("96", null, true);
+
+    assertEquals("96AZFEF6\r", encoded.getMessage());
+    assertArrayEquals("96AZFEF6\r".getBytes(ISO_8859_1), encoded.getBuffer().getBytes());
+  }
+
+  @Test
+  void testEncodeCheckoutResponseMatchesStringChecksum() {
+    final String response = "121NNY20240101    120000AOdikutest|AA1234567890|"
+        + "AB0987654321|AJTh\u00e9 Title of the \u00c9dition|AH20240115    235959|";
+    assertEncodedLikeStringPath(response, 3);
+  }
+
+  @Test
+  void testEncodePatronInformationResponseMatchesStringChecksum() {
+    final StringBuilder sb = new StringBuilder("64              00120240101    120000")
+        .append("000000000001000000000000AOdikutest|AA1234567890|AEJos\u00e9 Patron|");
+    for (int i = 0; i < 50; i++) {
+      sb.append("AU").append("item-").append(i).append('|');
+    }
+    assertEncodedLikeStringPath(sb.toString(), 9);
+  }
+
+  @Test
+  void testEncodeWithMultiCharacterDelimiter() {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(ISO_8859_1, "\r\n", true);
+
+    final EncodedResponse encoded = encoder.encode("96", null, true);
+
+    assertEquals("96AZFEF6\r\n", encoded.getMessage());
+  }
+
+  @Test
+  void testEncoderIsReusedForLongerAndShorterResponses() {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(IBM850, "\r", false);
+    final String longResponse = "64" + "\u00e9".repeat(5000);
+
+    final EncodedResponse first = encoder.encode(longResponse, 1, false);
+    final EncodedResponse second = encoder.encode("941", 2, false);
+
+    assertArrayEquals((longResponse + "\r").getBytes(IBM850), first.getBuffer().getBytes());
+    assertArrayEquals("941\r".getBytes(IBM850), second.getBuffer().getBytes());
+  }
+
+  @Test
+  void testUnmappableCharactersAreReplacedLikeGetBytes() {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(ISO_8859_1, "\r", false);
+    final String response = "AJ\u4e2d\u6587 Title|";
+
+    final EncodedResponse encoded = encoder.encode(response, 1, false);
+
+    assertArrayEquals((response + "\r").getBytes(ISO_8859_1), encoded.getBuffer().getBytes());
+    assertSame(encoded.getMessage(), encoded.getMessage());
+  }
+
+  private static void assertEncodedLikeStringPath(String response, int sequenceNumber) {
+    final Sip2ResponseEncoder encoder = new Sip2ResponseEncoder(IBM850, "\r", true);
+
+    final EncodedResponse encoded = encoder.encode(response, sequenceNumber, false);
+
+    final String withTrailer = response + "AY" + sequenceNumber + "AZ";
+    int sum = 0;
+    for (final byte b : withTrailer.getBytes(IBM850)) {
+      sum += b & 0xff;
+    }
+    final String expected = withTrailer + String.format("%04X", -sum & 0xffff) + "\r";
+
+    assertEquals(expected, encoded.getMessage());
+    assertArrayEquals(expected.getBytes(IBM850), encoded.getBuffer().getBytes());
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.edge.sip2.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.folio.edge.sip2.cache.FolioResponseCache;
+import org.folio.edge.sip2.cache.FolioResponseCache.TtlRule;
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CachingResourceProviderTests {
+
+  private static final String LOCALE_PATH = "/locale";
+
+  @Mock private IResourceProvider<IRequestData> folioProvider;
+  private CachingResourceProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    var responseCache = new FolioResponseCache(
+        List.of(new TtlRule(Pattern.compile(LOCALE_PATH), Duration.ofSeconds(300))),
+        10, Clock.systemUTC(), new SimpleMeterRegistry());
+    provider = new CachingResourceProvider(folioProvider, responseCache);
+  }
+
+  @Test
+  void retrieveResource_positive_cachedPathIsRetrievedOnce() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource("en-US")));
+
+    var first = provider.retrieveResource(requestData(LOCALE_PATH));
+    first.result().getResource().put("changed", true);
+    var second = provider.retrieveResource(requestData(LOCALE_PATH));
+
+    verify(folioProvider, times(1)).retrieveResource(any());
+    assertEquals("en-US", second.result().getResource().getString("locale"));
+    assertFalse(second.result().getResource().containsKey("changed"));
+  }
+
+  @Test
+  void retrieveResource_positive_otherPathIsNotCached() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource("en-US")));
+
+    provider.retrieveResource(requestData("/circulation/loans?query=userId==1"));
+    provider.retrieveResource(requestData("/circulation/loans?query=userId==1"));
+
+    verify(folioProvider, times(2)).retrieveResource(any());
+  }
+
+  @Test
+  void retrieveResource_negative_failureIsNotCached() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.failedFuture(new FolioRequestThrowable("Failed")))
+        .thenReturn(Future.succeededFuture(resource("en-US")));
+
+    var first = provider.retrieveResource(requestData(LOCALE_PATH));
+    var second = provider.retrieveResource(requestData(LOCALE_PATH));
+
+    assertEquals("Failed", first.cause().getMessage());
+    assertEquals("en-US", second.result().getResource().getString("locale"));
+  }
+
+  @Test
+  void createResource_positive_isPassedOn() {
+    var requestData = requestData("/circulation/check-out-by-barcode");
+    when(folioProvider.createResource(requestData))
+        .thenReturn(Future.succeededFuture(resource("en-US")));
+
+    provider.createResource(requestData);
+    provider.createResource(requestData);
+
+    verify(folioProvider, times(2)).createResource(requestData);
+  }
+
+  private static IResource resource(String locale) {
+    return new FolioResource(new JsonObject().put("locale", locale),
+        MultiMap.caseInsensitiveMultiMap());
+  }
+
+  private static IRequestData requestData(String path) {
+    var sessionData = SessionData.createSession("diku", '|', false, "IBM850");
+    sessionData.setUsername("kiosk");
+    return new IRequestData() {
+      @Override
+      public String getPath() {
+        return path;
+      }
+
+      @Override
+      public SessionData getSessionData() {
+        return sessionData;
+      }
+    };
+  }
+}
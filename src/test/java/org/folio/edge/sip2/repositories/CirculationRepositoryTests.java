@@ -20,6 +20,7 @@ import static org.mockito.Mockito.when;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 import io.vertx.core.json.Json;
@@ -27,13 +28,19 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.enumerations.MediaType;
@@ -52,6 +59,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -1664,6 +1672,45 @@ class CirculationRepositoryTests {
         })));
   }
 
+  @ParameterizedTest
+  @CsvSource(value = {
+      "null, 0, &limit=0",
+      "11, 20, &offset=10&limit=10"
+  }, nullValues = "null")
+  void canGetOverdueLoansPageByUserId(Integer startItem, Integer endItem, String expectedLimits,
+      Vertx vertx,
+      VertxTestContext testContext,
+      @Mock IResourceProvider<IRequestData> mockFolioProvider,
+      @Mock PasswordVerifier mockPasswordVerifier,
+      @Mock ItemRepository itemRepository,
+      @Mock UsersRepository usersRepository) {
+    final Clock clock = TestUtils.getUtcFixedClock();
+    final String userId = UUID.randomUUID().toString();
+    final String dueDate = OffsetDateTime.now(clock).format(ISO_OFFSET_DATE_TIME);
+
+    final String expectedPath = "/circulation/loans?query="
+        + PercentCodec.encode("(userId==\"" + userId + "\" and status.name=\"Open\" and dueDate<"
+        + dueDate + ")") + expectedLimits;
+
+    when(mockFolioProvider.retrieveResource(
+        argThat((IRequestData data) -> data.getPath().equals(expectedPath))))
+        .thenReturn(Future.succeededFuture(new FolioResource(
+            new JsonObject().put("loans", new JsonArray()).put("totalRecords", 3),
+            MultiMap.caseInsensitiveMultiMap())));
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+
+    final CirculationRepository circulationRepository = new CirculationRepository(
+        mockFolioProvider, mockPasswordVerifier, itemRepository, usersRepository, clock);
+    circulationRepository.getOverdueLoansByUserId(userId, OffsetDateTime.now(clock), startItem,
+        endItem, sessionData).onComplete(testContext.succeeding(loansResponse ->
+            testContext.verify(() -> {
+              assertNotNull(loansResponse);
+              assertEquals(3, loansResponse.getInteger("totalRecords"));
+              testContext.completeNow();
+            })));
+  }
+
   @Test
   void cannotGetOverdueLoansByUserId(Vertx vertx,
       VertxTestContext testContext,
@@ -1763,6 +1810,127 @@ class CirculationRepositoryTests {
             })));
   }
 
+  @Test
+  void canGetRequestsByItemIdsInChunks(Vertx vertx,
+      VertxTestContext testContext,
+      @Mock IResourceProvider<IRequestData> mockFolioProvider,
+      @Mock PasswordVerifier mockPasswordVerifier,
+      @Mock ItemRepository itemRepository,
+      @Mock UsersRepository usersRepository) {
+    final Clock clock = TestUtils.getUtcFixedClock();
+    final List<String> itemIds = List.of(UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    final List<String> paths = new ArrayList<>();
+
+    when(mockFolioProvider.retrieveResource(any())).thenAnswer(invocation -> {
+      final IRequestData data = invocation.getArgument(0);
+      paths.add(data.getPath());
+      return Future.succeededFuture(recallsOf(data));
+    });
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+
+    final CirculationRepository circulationRepository = new CirculationRepository(
+        mockFolioProvider, mockPasswordVerifier, itemRepository, usersRepository, clock, 2, 1);
+    circulationRepository.getRequestsByItemIds(itemIds, "Recall", sessionData)
+        .onComplete(testContext.succeeding(requestsByItemId -> testContext.verify(() -> {
+          assertEquals(List.of("/circulation/requests?query="
+              + PercentCodec.encode("itemId==(\"" + itemIds.get(0) + "\" or \""
+              + itemIds.get(1) + "\") and status=\"Open\" and requestType==\"Recall\"")
+              + "&limit=1000",
+              "/circulation/requests?query="
+              + PercentCodec.encode("itemId==\"" + itemIds.get(2) + "\""
+              + " and status=\"Open\" and requestType==\"Recall\"")
+              + "&limit=1000"), paths);
+          assertEquals(3, requestsByItemId.size());
+          for (String itemId : itemIds) {
+            assertEquals(1, requestsByItemId.get(itemId).size());
+            assertEquals("barcode-" + itemId, requestsByItemId.get(itemId).get(0)
+                .getJsonObject("item").getString("barcode"));
+          }
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void getRequestsByItemIdsLeavesOutFailedChunks(Vertx vertx,
+      VertxTestContext testContext,
+      @Mock IResourceProvider<IRequestData> mockFolioProvider,
+      @Mock PasswordVerifier mockPasswordVerifier,
+      @Mock ItemRepository itemRepository,
+      @Mock UsersRepository usersRepository) {
+    final Clock clock = TestUtils.getUtcFixedClock();
+    final String failedItemId = UUID.randomUUID().toString();
+    final String itemId = UUID.randomUUID().toString();
+
+    when(mockFolioProvider.retrieveResource(any())).thenAnswer(invocation -> {
+      final IRequestData data = invocation.getArgument(0);
+      return data.getPath().contains(failedItemId)
+          ? Future.failedFuture(new VertxException("getRequestsByItemIds", false))
+          : Future.succeededFuture(recallsOf(data));
+    });
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+
+    final CirculationRepository circulationRepository = new CirculationRepository(
+        mockFolioProvider, mockPasswordVerifier, itemRepository, usersRepository, clock, 1, 2);
+    circulationRepository.getRequestsByItemIds(List.of(failedItemId, itemId), "Recall",
+        sessionData).onComplete(testContext.succeeding(
+            requestsByItemId -> testContext.verify(() -> {
+              assertEquals(Set.of(itemId), requestsByItemId.keySet());
+              testContext.completeNow();
+            })));
+  }
+
+  @Test
+  void getRequestsByItemIdsOfPatronWith500Loans(Vertx vertx,
+      VertxTestContext testContext,
+      @Mock IResourceProvider<IRequestData> mockFolioProvider,
+      @Mock PasswordVerifier mockPasswordVerifier,
+      @Mock ItemRepository itemRepository,
+      @Mock UsersRepository usersRepository) {
+    final Clock clock = TestUtils.getUtcFixedClock();
+    final List<String> itemIds = Stream.generate(() -> UUID.randomUUID().toString())
+        .limit(500)
+        .toList();
+    final AtomicInteger requests = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    // every FOLIO request takes a few milliseconds, like a real one
+    when(mockFolioProvider.retrieveResource(any())).thenAnswer(invocation -> {
+      final IRequestData data = invocation.getArgument(0);
+      requests.incrementAndGet();
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      final Promise<IResource> response = Promise.promise();
+      vertx.setTimer(5, id -> {
+        inFlight.decrementAndGet();
+        response.complete(recallsOf(data));
+      });
+      return response.future();
+    });
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+
+    final CirculationRepository circulationRepository = new CirculationRepository(
+        mockFolioProvider, mockPasswordVerifier, itemRepository, usersRepository, clock,
+        CirculationRepository.DEFAULT_ITEM_REQUESTS_CHUNK_SIZE,
+        CirculationRepository.DEFAULT_ITEM_REQUESTS_CONCURRENCY);
+    final long start = System.nanoTime();
+    circulationRepository.getRequestsByItemIds(itemIds, "Recall", sessionData)
+        .onComplete(testContext.succeeding(requestsByItemId -> testContext.verify(() -> {
+          final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+          // one request per item would be 500 requests in flight at once
+          assertEquals(500 / CirculationRepository.DEFAULT_ITEM_REQUESTS_CHUNK_SIZE,
+              requests.get());
+          assertEquals(CirculationRepository.DEFAULT_ITEM_REQUESTS_CONCURRENCY,
+              maxInFlight.get());
+          assertEquals(500, requestsByItemId.size());
+          assertTrue(elapsedMillis < 5_000, "took " + elapsedMillis + " ms");
+          testContext.completeNow();
+        })));
+  }
+
   @Test
   void canGetRequestsByUserId(Vertx vertx,
       VertxTestContext testContext,
@@ -1862,4 +2030,18 @@ class CirculationRepositoryTests {
     assertNull(circulationRepository.getPatronBarcodeFromCheckin(
         new JsonObject().put("loan", new JsonObject())));
   }
+
+  // one open recall for each item in the query of the request data
+  private static IResource recallsOf(IRequestData data) {
+    final Matcher matcher = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}"
+        + "-[0-9a-f]{12}").matcher(URLDecoder.decode(data.getPath(), StandardCharsets.UTF_8));
+    final JsonArray requests = new JsonArray();
+    while (matcher.find()) {
+      requests.add(new JsonObject()
+          .put("itemId", matcher.group())
+          .put("item", new JsonObject().put("barcode", "barcode-" + matcher.group())));
+    }
+    return new FolioResource(new JsonObject().put("requests", requests)
+        .put("totalRecords", requests.size()), MultiMap.caseInsensitiveMultiMap());
+  }
 }
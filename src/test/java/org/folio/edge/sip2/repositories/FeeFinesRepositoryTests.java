@@ -13,6 +13,8 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
@@ -611,6 +613,38 @@ class FeeFinesRepositoryTests {
     );
   }
 
+  @Test
+  void canGetAccountTotalsByUserId(Vertx vertx,
+      VertxTestContext testContext,
+      @Mock IResourceProvider<IRequestData> mockFolioProvider,
+      @Mock UsersRepository mockUsersRepository) {
+
+    final Clock clock = TestUtils.getUtcFixedClock();
+    final String userId = "658d7aa7-0dce-4428-a1d0-fd287bbc8476";
+    final JsonObject queryAccountResponse = new JsonObject()
+        .put("accounts", new JsonArray().add(new JsonObject().put("remaining", 20.43)))
+        .put("totalRecords", 1);
+    final String expectedPath = "/accounts?query="
+        + PercentCodec.encode("userId==\"" + userId + "\"") + "&limit=1000";
+
+    when(mockFolioProvider.retrieveResource(
+        argThat((IRequestData data) -> data.getPath().equals(expectedPath)
+            && data.getResponseFields() != null)))
+        .thenReturn(Future.succeededFuture(new FolioResource(queryAccountResponse,
+            MultiMap.caseInsensitiveMultiMap().add("x-okapi-token", "1234"))));
+    final FeeFinesRepository feeFinesRepository = new FeeFinesRepository(
+        mockFolioProvider, mockUsersRepository, clock);
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+    feeFinesRepository.getAccountTotalsByUserId(userId, sessionData).onComplete(
+        testContext.succeeding(accounts -> testContext.verify(() -> {
+          // the fee fine types are not looked up
+          verify(mockFolioProvider, times(1)).retrieveResource(any());
+          assertEquals(queryAccountResponse, accounts);
+          testContext.completeNow();
+        }))
+    );
+  }
+
   @Test
   void cannotPerformFeePaidCommandWithOverpay(Vertx vertx,
       VertxTestContext testContext,
@@ -15,13 +15,19 @@ import static org.folio.okapi.common.XOkapiHeaders.TOKEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientResponse;
@@ -33,7 +39,12 @@ import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.impl.HttpResponseImpl;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import org.folio.edge.sip2.cache.FolioCircuitBreaker;
+import org.folio.edge.sip2.cache.FolioRequestKey;
+import org.folio.edge.sip2.cache.RequestCoalescer;
 import org.folio.edge.sip2.exception.MissingAccessTokenThrowable;
 import org.folio.edge.sip2.session.SessionData;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,6 +99,29 @@ class FolioResourceProviderTest {
     }));
   }
 
+  @Test
+  void retrieveResource_positive_identicalGetsShareOneRequest() {
+    var coalescer = new RequestCoalescer<FolioRequestKey, FolioResource>(
+        "test.coalescing", true, FolioResource::copy, new SimpleMeterRegistry());
+    var coalescingProvider = new FolioResourceProvider(
+        loginRepository, OKAPI_URL, webClient, coalescer, null, null);
+    var requestData = testRequestData();
+    var response = Promise.<HttpResponse<JsonObject>>promise();
+
+    prepareRequestMocks(GET, requestData);
+    when(jsonRequest.send()).thenReturn(response.future());
+    when(loginRepository.getSessionAccessToken(any())).thenReturn(succeededFuture(ACCESS_TOKEN));
+
+    var first = coalescingProvider.retrieveResource(requestData);
+    var second = coalescingProvider.retrieveResource(testRequestData());
+    response.complete(httpResponse(200, "OK", new JsonObject().put("test", "value")));
+
+    verify(jsonRequest, times(1)).send();
+    assertEquals("value", first.result().getResource().getString("test"));
+    assertEquals("value", second.result().getResource().getString("test"));
+    assertNotSame(first.result().getResource(), second.result().getResource());
+  }
+
   @Test
   void retrieveResource_negative_accessTokenMissing(VertxTestContext testContext) {
     var requestData = testRequestData();
@@ -211,6 +245,66 @@ class FolioResourceProviderTest {
     }));
   }
 
+  @Test
+  void createResource_negative_openCircuitFailsWithoutSending() {
+    var circuitBreaker = new FolioCircuitBreaker(1, Duration.ofSeconds(30), 0,
+        Clock.systemUTC(), new SimpleMeterRegistry());
+    var guardedProvider = new FolioResourceProvider(
+        loginRepository, OKAPI_URL, webClient, null, circuitBreaker, null);
+    var requestData = testRequestDataWithBody(REQUEST_PATH, new JsonObject());
+    var httpResponse = httpResponse(500, "Internal Server Error", new JsonObject());
+
+    prepareRequestMocks(POST, requestData);
+    when(jsonRequest.sendJsonObject(any())).thenReturn(succeededFuture(httpResponse));
+    when(loginRepository.getSessionAccessToken(any())).thenReturn(succeededFuture(ACCESS_TOKEN));
+
+    var first = guardedProvider.createResource(requestData);
+    var second = guardedProvider.createResource(requestData);
+
+    verify(jsonRequest, times(1)).sendJsonObject(any());
+    assertEquals("Failed to perform request: 500 Internal Server Error",
+        first.cause().getMessage());
+    assertInstanceOf(FolioRequestThrowable.class, second.cause());
+    assertEquals("FOLIO is temporarily unavailable, please try again later",
+        second.cause().getMessage());
+  }
+
+  @Test
+  void retrieveResource_negative_deadlineExceeded() {
+    var sessionData = SessionData.createSession(TENANT_ID, '|', true, "UTF-8")
+        .forCommand(System.nanoTime() - 2_000_000_000L, 1000, null);
+    var requestData = new TestRequestData(REQUEST_PATH, null, sessionData);
+
+    prepareRequestMocks(GET, requestData);
+    when(loginRepository.getSessionAccessToken(any())).thenReturn(succeededFuture(ACCESS_TOKEN));
+
+    var result = provider.retrieveResource(requestData);
+
+    verify(jsonRequest, times(0)).send();
+    assertInstanceOf(FolioRequestThrowable.class, result.cause());
+    assertEquals(FolioResourceProvider.DEADLINE_EXCEEDED_MESSAGE, result.cause().getMessage());
+  }
+
+  @Test
+  void retrieveResource_negative_deadlinePassesWhileWaiting(Vertx vertx,
+      VertxTestContext testContext) {
+    var sessionData = SessionData.createSession(TENANT_ID, '|', true, "UTF-8")
+        .forCommand(System.nanoTime(), 100, null);
+    var requestData = new TestRequestData(REQUEST_PATH, null, sessionData);
+
+    prepareRequestMocks(GET, requestData);
+    when(jsonRequest.send()).thenReturn(Promise.<HttpResponse<JsonObject>>promise().future());
+    when(loginRepository.getSessionAccessToken(any())).thenReturn(succeededFuture(ACCESS_TOKEN));
+
+    vertx.runOnContext(v -> provider.retrieveResource(requestData).onComplete(
+        testContext.failing(throwable -> testContext.verify(() -> {
+          verify(jsonRequest).idleTimeout(anyLong());
+          assertInstanceOf(FolioRequestThrowable.class, throwable);
+          assertEquals(FolioResourceProvider.DEADLINE_EXCEEDED_MESSAGE, throwable.getMessage());
+          testContext.completeNow();
+        }))));
+  }
+
   @Test
   void doPinCheck_positive(VertxTestContext testContext) {
     var requestData = testRequestDataWithBody("/pin-verify", new JsonObject().put("pin", "1234"));
@@ -360,9 +454,13 @@ class FolioResourceProviderTest {
     private final SessionData sessionData;
 
     TestRequestData(String path, JsonObject body) {
+      this(path, body, SessionData.createSession(TENANT_ID, '|', true, "UTF-8"));
+    }
+
+    TestRequestData(String path, JsonObject body, SessionData sessionData) {
       this.path = path;
       this.body = body;
-      this.sessionData = SessionData.createSession(TENANT_ID, '|', true, "UTF-8");
+      this.sessionData = sessionData;
     }
 
     @Override
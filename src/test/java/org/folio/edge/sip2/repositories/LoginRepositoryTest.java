@@ -13,8 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.json.JsonObject;
@@ -25,9 +29,14 @@ import io.vertx.ext.web.client.impl.HttpResponseImpl;
 import io.vertx.ext.web.codec.BodyCodec;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.folio.edge.sip2.cache.KioskTokenPool;
 import org.folio.edge.sip2.domain.integration.login.FolioLoginResponse;
 import org.folio.edge.sip2.domain.messages.enumerations.PWDAlgorithm;
 import org.folio.edge.sip2.domain.messages.enumerations.UIDAlgorithm;
@@ -330,6 +339,69 @@ class LoginRepositoryTest {
     }));
   }
 
+  @Test
+  void login_positive_tokenSharedBySessionsOfSameLogin(VertxTestContext testContext) {
+    var tokenPool = tokenPool();
+    var pooledRepository = new LoginRepository(OKAPI_URL, webClient, tokenPool);
+    var firstSession = sessionData();
+    var secondSession = sessionData();
+
+    prepareLoginRequestMocks(firstSession, loginResponse201(List.of(accessTokenCookie())));
+    pooledRepository.login(loginBody(), firstSession)
+        .compose(result -> pooledRepository.login(loginBody(), secondSession))
+        .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+          assertEquals(LoginResponse.of(TRUE), result);
+          assertEquals(JWT, secondSession.getLoginResponse().getAccessToken());
+          assertEquals(1, tokenPool.size());
+          verify(webClient, times(1)).postAbs(OKAPI_URL + "/authn/login-with-expiry");
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void getSessionAccessToken_positive_tokenRenewedByAnotherSession(
+      VertxTestContext testContext) {
+    var tokenPool = tokenPool();
+    var pooledRepository = new LoginRepository(OKAPI_URL, webClient, tokenPool);
+    var sessionData = sessionData(USERNAME, PASSWORD);
+    var expired = OffsetDateTime.now().minusMinutes(5);
+    sessionData.setLoginResponse(new FolioLoginResponse(EXPIRED_JWT, expired, expired));
+    var renewed = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+    tokenPool.load(TENANT_ID, USERNAME, PASSWORD,
+        () -> succeededFuture(new FolioLoginResponse(JWT, renewed, renewed)));
+
+    pooledRepository.getSessionAccessToken(sessionData)
+        .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+          assertEquals(JWT, result);
+          assertEquals(JWT, sessionData.getLoginResponse().getAccessToken());
+          verifyNoInteractions(webClient);
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void getSessionAccessToken_positive_refreshOnRequestPathIsCounted(
+      VertxTestContext testContext) {
+    var registry = new SimpleMeterRegistry();
+    var tokenPool = new KioskTokenPool(10, Duration.ofSeconds(LoginRepository.TOKEN_OFFSET_SECONDS),
+        Clock.fixed(Instant.parse("2024-12-01T00:00:00Z"), ZoneOffset.UTC), registry);
+    var pooledRepository = new LoginRepository(OKAPI_URL, webClient, tokenPool);
+    var sessionData = sessionData(USERNAME, PASSWORD);
+    var accessExp = OffsetDateTime.now().minusMinutes(5);
+    var refreshExp = OffsetDateTime.now().plusMinutes(15);
+    sessionData.setLoginResponse(new FolioLoginResponse(EXPIRED_JWT, accessExp, refreshExp));
+
+    prepareRefreshRequestMocks(sessionData, loginResponse201(List.of(accessTokenCookie())));
+    pooledRepository.getSessionAccessToken(sessionData)
+        .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+          assertEquals(JWT, result);
+          assertEquals(JWT, tokenPool.peek(TENANT_ID, USERNAME, PASSWORD).getAccessToken());
+          assertEquals(1.0, registry.counter("org.folio.edge.sip2.token.refresh",
+              "path", "request").count());
+          testContext.completeNow();
+        })));
+  }
+
   private void prepareLoginRequestMocks(SessionData sd, HttpResponse<JsonObject> httpResponse) {
     when(webClient.postAbs(OKAPI_URL + "/authn/login-with-expiry")).thenReturn(httpRequest);
     when(httpRequest.as(BodyCodec.jsonObject())).thenReturn(jsonRequest);
@@ -347,6 +419,13 @@ class LoginRepositoryTest {
     when(jsonRequest.send()).thenReturn(succeededFuture(httpResponse));
   }
 
+  private static KioskTokenPool tokenPool() {
+    // the tokens of the mocked responses expire on 2025-01-01
+    var clock = Clock.fixed(Instant.parse("2024-12-01T00:00:00Z"), ZoneOffset.UTC);
+    return new KioskTokenPool(10, Duration.ofSeconds(LoginRepository.TOKEN_OFFSET_SECONDS),
+        clock, new SimpleMeterRegistry());
+  }
+
   private static Login loginBody() {
     return Login.builder()
         .uidAlgorithm(UIDAlgorithm.NO_ENCRYPTION)
@@ -0,0 +1,126 @@
+package org.folio.edge.sip2.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MemoizingResourceProviderTests {
+
+  private static final String LOANS_PATH = "/circulation/loans?query=userId==1&limit=1000";
+
+  @Mock private IResourceProvider<IRequestData> folioProvider;
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final SessionData session = SessionData.createSession("diku", '|', false, "IBM850");
+  private SessionData sessionData;
+  private MemoizingResourceProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    provider = new MemoizingResourceProvider(folioProvider, registry);
+    sessionData = session.forCommand(System.nanoTime(), 0,
+        MemoizingResourceProvider.createMemo());
+  }
+
+  @Test
+  void retrieveResource_positive_identicalReadOfCommandIsSentOnce() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource(2)));
+
+    var first = provider.retrieveResource(requestData(LOANS_PATH));
+    var second = provider.retrieveResource(requestData(LOANS_PATH));
+    second.result().getResource().put("changed", true);
+    var third = provider.retrieveResource(requestData(LOANS_PATH));
+
+    verify(folioProvider, times(1)).retrieveResource(any());
+    assertEquals(2, third.result().getResource().getInteger("totalRecords"));
+    assertFalse(first.result().getResource().containsKey("changed"));
+    assertFalse(third.result().getResource().containsKey("changed"));
+    assertEquals(1.0, count("sent"));
+    assertEquals(2.0, count("saved"));
+  }
+
+  @Test
+  void retrieveResource_positive_otherCommandSendsAgain() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource(2)));
+
+    provider.retrieveResource(requestData(LOANS_PATH));
+    sessionData = session.forCommand(System.nanoTime(), 0,
+        MemoizingResourceProvider.createMemo());
+    provider.retrieveResource(requestData(LOANS_PATH));
+
+    verify(folioProvider, times(2)).retrieveResource(any());
+  }
+
+  @Test
+  void retrieveResource_positive_withoutCommandIsNotMemoized() {
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource(2)));
+    var memo = sessionData.getRequestMemo();
+    sessionData = session;
+
+    provider.retrieveResource(requestData(LOANS_PATH));
+    provider.retrieveResource(requestData(LOANS_PATH));
+
+    verify(folioProvider, times(2)).retrieveResource(any());
+    assertEquals(0, memo.size());
+  }
+
+  @Test
+  void createResource_positive_readsAreSentAgainAfterChange() {
+    var checkout = requestData("/circulation/check-out-by-barcode");
+    when(folioProvider.retrieveResource(any()))
+        .thenReturn(Future.succeededFuture(resource(2)))
+        .thenReturn(Future.succeededFuture(resource(3)));
+    when(folioProvider.createResource(checkout))
+        .thenReturn(Future.succeededFuture(resource(1)));
+
+    provider.retrieveResource(requestData(LOANS_PATH));
+    provider.createResource(checkout);
+    var second = provider.retrieveResource(requestData(LOANS_PATH));
+
+    verify(folioProvider, times(2)).retrieveResource(any());
+    assertEquals(3, second.result().getResource().getInteger("totalRecords"));
+  }
+
+  private double count(String result) {
+    return registry.get(MemoizingResourceProvider.METRICS_NAME).tags("result", result)
+        .counter().count();
+  }
+
+  private static IResource resource(int totalRecords) {
+    return new FolioResource(new JsonObject().put("totalRecords", totalRecords),
+        MultiMap.caseInsensitiveMultiMap());
+  }
+
+  private IRequestData requestData(String path) {
+    return new IRequestData() {
+      @Override
+      public String getPath() {
+        return path;
+      }
+
+      @Override
+      public SessionData getSessionData() {
+        return sessionData;
+      }
+    };
+  }
+}
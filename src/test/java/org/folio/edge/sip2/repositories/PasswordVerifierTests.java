@@ -8,15 +8,21 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import org.folio.edge.sip2.api.support.TestUtils;
+import org.folio.edge.sip2.cache.PatronVerificationCache;
 import org.folio.edge.sip2.repositories.domain.ExtendedUser;
 import org.folio.edge.sip2.repositories.domain.User;
 import org.folio.edge.sip2.session.SessionData;
@@ -124,6 +130,48 @@ class PasswordVerifierTests {
         })));
   }
 
+  @Test
+  void canReuseRecentPatronLogin(
+      VertxTestContext testContext,
+      @Mock UsersRepository mockUsersRepository,
+      @Mock LoginRepository mockLoginRepository) {
+    final String patronIdentifier = "1234567890";
+
+    final String userResponseJson = getJsonFromFile("json/user_response.json");
+    final User userResponse = Json.decodeValue(userResponseJson, User.class);
+    final ExtendedUser extendedUser = new ExtendedUser();
+    extendedUser.setUser(userResponse);
+    when(mockUsersRepository.getUserById(eq(patronIdentifier), any()))
+        .thenReturn(Future.succeededFuture(extendedUser));
+    when(mockLoginRepository.patronLoginNoCache(eq("leslie"), any(), any()))
+        .thenReturn(Future.succeededFuture("testToken"))
+        .thenReturn(Future.succeededFuture(null));
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+    sessionData.setPatronPasswordVerificationRequired(true);
+
+    final PatronVerificationCache verificationCache = new PatronVerificationCache(true,
+        Duration.ofSeconds(60), 10, Clock.systemUTC(), new SimpleMeterRegistry());
+    final PasswordVerifier passwordVerifier = new PasswordVerifier(mockUsersRepository,
+        mockLoginRepository, verificationCache);
+    passwordVerifier.verifyPatronPassword(patronIdentifier, "0989", sessionData)
+        .compose(v -> passwordVerifier.verifyPatronPassword(patronIdentifier, "0989",
+            sessionData))
+        .onComplete(testContext.succeeding(verification -> testContext.verify(() -> {
+          assertTrue(verification.getPasswordVerified());
+          assertEquals("leslie", verification.getUser().getUsername());
+          verify(mockLoginRepository, times(1)).patronLoginNoCache(any(), any(), any());
+
+          // a rejected login forgets the verification
+          passwordVerifier.verifyPatronPassword(patronIdentifier, "wrong", sessionData)
+              .onComplete(testContext.succeeding(rejected -> testContext.verify(() -> {
+                assertFalse(rejected.getPasswordVerified());
+                assertEquals(0, verificationCache.size());
+                testContext.completeNow();
+              })));
+        })));
+  }
+
   @Test
   void canVerifyPasswordNotRequiredWithUserById(
       Vertx vertx,
@@ -20,6 +20,10 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.vertx.core.Future;
@@ -37,7 +41,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.folio.edge.sip2.api.support.TestUtils;
 import org.folio.edge.sip2.domain.messages.enumerations.CurrencyType;
@@ -176,7 +182,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -185,11 +191,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(
         eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords
@@ -293,7 +296,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -302,11 +305,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockUsersRepository.verifyPatronPin(
         eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords
@@ -370,7 +370,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -379,11 +379,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(
         eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords
@@ -488,7 +485,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -497,11 +494,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(
         eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords
@@ -605,7 +599,7 @@ public class PatronRepositoryTests {
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
 
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
 
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
@@ -621,11 +615,8 @@ public class PatronRepositoryTests {
     doReturn(Future.succeededFuture(extendedUser))
         .when(mockUsersRepository).getUserById(anyString(), any());
 
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
 
     final SessionData sessionData = TestUtils.getMockedSessionData();
 
@@ -702,7 +693,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -711,11 +702,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-          .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -816,7 +804,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -825,11 +813,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-          .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -928,7 +913,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -937,11 +922,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(
             PatronPasswordVerificationRecords.builder()
@@ -1355,8 +1337,13 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
-        .thenReturn(Future.succeededFuture(accountResponse));
+    if (summary == Summary.FINE_ITEMS) {
+      when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+          .thenReturn(Future.succeededFuture(accountResponse));
+    } else {
+      when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
+          .thenReturn(Future.succeededFuture(accountResponse));
+    }
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
     when(mockCirculationRepository.getRequestsByUserId(
@@ -1364,11 +1351,13 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-            Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    if (summary == Summary.CHARGED_ITEMS) {
+      // the listed loans are paged by FOLIO
+      when(mockCirculationRepository.getLoansByUserId(any(), eq(1), eq(10), any()))
+          .thenReturn(Future.succeededFuture(openLoansResponse));
+    }
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -1481,11 +1470,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).passwordVerified(TRUE).build()));
@@ -1569,11 +1555,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).passwordVerified(TRUE).build()));
@@ -1640,7 +1623,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(overdueResponse));
@@ -1649,15 +1632,11 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        eq("4593bdb8-f056-4a75-9c75-7b04c3a1dd64"), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        eq("02114831-1c8f-4594-beb9-1bf23f65054c"), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse1));
-    when(mockCirculationRepository.getRequestsByItemId(
-        eq("c70f966b-435f-4879-a7d1-3f66e6699191"), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse2));
+    when(mockCirculationRepository.getRequestsByItemIds(
+        eq(List.of("4593bdb8-f056-4a75-9c75-7b04c3a1dd64", "c70f966b-435f-4879-a7d1-3f66e6699191",
+            "02114831-1c8f-4594-beb9-1bf23f65054c")), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(
+            recallsByItemId(recallsResponse, recallsResponse1, recallsResponse2)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -2015,7 +1994,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(null));
@@ -2077,6 +2056,103 @@ public class PatronRepositoryTests {
         })));
   }
 
+  @Test
+  void patronInformationWithoutSummaryOnlyCountsLists(Vertx vertx, VertxTestContext testContext,
+      @Mock UsersRepository mockUsersRepository,
+      @Mock CirculationRepository mockCirculationRepository,
+      @Mock FeeFinesRepository mockFeeFinesRepository,
+      @Mock PasswordVerifier mockPasswordVerifier) {
+    final Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    final String patronIdentifier = "1234567890";
+    final PatronInformation patronInformation = PatronInformation.builder()
+        .language(ENGLISH)
+        .transactionDate(OffsetDateTime.now())
+        .summary(null)
+        .institutionId("diku")
+        .patronIdentifier(patronIdentifier)
+        .terminalPassword("1234")
+        .patronPassword("0989")
+        .startItem(Integer.valueOf(1))
+        .endItem(Integer.valueOf(10))
+        .build();
+
+    final User userResponse = Json.decodeValue(getJsonFromFile("json/user_response.json"),
+        User.class);
+    final ExtendedUser extendedUser = new ExtendedUser();
+    extendedUser.setUser(userResponse);
+    extendedUser.setPatronGroup("patrons","The Library Patrons", "12335");
+    final JsonObject overdueResponse =
+        new JsonObject(getJsonFromFile("json/overdue_response.json"));
+    final JsonObject holdsResponse =
+        new JsonObject(getJsonFromFile("json/holds_requests_response.json"));
+    final JsonObject openLoansResponse =
+        new JsonObject(getJsonFromFile("json/open_loans_response.json"));
+    final JsonObject accountResponse =
+        new JsonObject(getJsonFromFile("json/account_request_response.json"));
+
+    when(mockFeeFinesRepository.getManualBlocksByUserId(any(), any()))
+        .thenReturn(Future.succeededFuture(null));
+    when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
+        .thenReturn(Future.succeededFuture(null));
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
+        .thenReturn(Future.succeededFuture(accountResponse));
+    when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), isNull(), eq(0), any()))
+        .thenReturn(Future.succeededFuture(overdueResponse));
+    when(mockCirculationRepository.getRequestsByUserId(
+        any(), eq("Hold"), isNull(), eq(0), any()))
+        .thenReturn(Future.succeededFuture(holdsResponse));
+    when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
+        .thenReturn(Future.succeededFuture(openLoansResponse));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(Map.of()));
+    when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
+        .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
+        .extendedUser(extendedUser).build()));
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+
+    final PatronRepository patronRepository = new PatronRepository(mockUsersRepository,
+        mockCirculationRepository, mockFeeFinesRepository, mockPasswordVerifier, clock);
+    patronRepository.performPatronInformationCommand(patronInformation, sessionData).onComplete(
+        testContext.succeeding(patronInformationResponse -> testContext.verify(() -> {
+          assertEquals(2, patronInformationResponse.getHoldItemsCount());
+          assertEquals(1, patronInformationResponse.getOverdueItemsCount());
+          assertEquals(3, patronInformationResponse.getChargedItemsCount());
+          assertEquals(1, patronInformationResponse.getFineItemsCount());
+          assertEquals("1.0", patronInformationResponse.getFeeAmount());
+          verify(mockCirculationRepository, times(1)).getLoansByUserId(any(), any(), any(),
+              any());
+          verify(mockFeeFinesRepository, never()).getAccountDataByUserId(any(), any());
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void testPatronInformationPlan() {
+    final var countOnly = PatronRepository.PatronInformationPlan.COUNT_ONLY;
+    final var page = new PatronRepository.Page(1, 10);
+
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, null, false),
+        PatronRepository.PatronInformationPlan.of(null, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(page, countOnly, null, false),
+        PatronRepository.PatronInformationPlan.of(Summary.HOLD_ITEMS, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(page, countOnly, null, false),
+        PatronRepository.PatronInformationPlan.of(Summary.UNAVAILABLE_HOLDS, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, page, null, false),
+        PatronRepository.PatronInformationPlan.of(Summary.OVERDUE_ITEMS, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, page, false),
+        PatronRepository.PatronInformationPlan.of(Summary.CHARGED_ITEMS, 1, 10));
+    // without a page the loans that are fetched to be counted are listed
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, null, false),
+        PatronRepository.PatronInformationPlan.of(Summary.CHARGED_ITEMS, null, null));
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, null, true),
+        PatronRepository.PatronInformationPlan.of(Summary.FINE_ITEMS, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, null, true),
+        PatronRepository.PatronInformationPlan.of(Summary.EXTENDED_FEES, 1, 10));
+    assertEquals(new PatronRepository.PatronInformationPlan(countOnly, countOnly, null, false),
+        PatronRepository.PatronInformationPlan.of(Summary.RECALL_ITEMS, 1, 10));
+  }
+
   @Test
   public void canPatronInformationWithNoSummaryRecallDetails(Vertx vertx,
       VertxTestContext testContext,
@@ -2110,7 +2186,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(manualBlocksResponse));
     when(mockFeeFinesRepository.getAutomatedBlocksByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(null));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(null));
@@ -2120,9 +2196,8 @@ public class PatronRepositoryTests {
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(new JsonObject().put("loans",
             new JsonArray().add(new JsonObject().put("itemId", "1234")))));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(null));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(Map.of()));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("0989"), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -2214,7 +2289,7 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(null));
     final String accountResponseJson = getJsonFromFile("json/account_request_response.json");
     final JsonObject accountResponse = new JsonObject(accountResponseJson);
-    when(mockFeeFinesRepository.getAccountDataByUserId(any(), any()))
+    when(mockFeeFinesRepository.getAccountTotalsByUserId(any(), any()))
         .thenReturn(Future.succeededFuture(accountResponse));
     when(mockCirculationRepository.getOverdueLoansByUserId(any(), any(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(null));
@@ -2317,6 +2392,66 @@ public class PatronRepositoryTests {
         })));
   }
 
+  @Test
+  void patronTransactionReusesPatronSnapshotUntilEndSession(
+      VertxTestContext testContext,
+      @Mock UsersRepository mockUsersRepository,
+      @Mock CirculationRepository mockCirculationRepository,
+      @Mock FeeFinesRepository mockFeeFinesRepository,
+      @Mock PasswordVerifier mockPasswordVerifier) {
+    final String patronIdentifier = "1029384756";
+    final String userId = "99a81cee-d439-42c8-9860-2bd1de881c4a";
+    final ExtendedUser extendedUser = new ExtendedUser();
+    extendedUser.setUser(new User.Builder().id(userId).barcode(patronIdentifier).build());
+    final PatronStatusRequest patronStatus = PatronStatusRequest.builder()
+        .patronIdentifier(patronIdentifier)
+        .patronPassword("1234")
+        .institutionId("diku")
+        .transactionDate(OffsetDateTime.now())
+        .build();
+    final EndPatronSession endPatronSession = EndPatronSession.builder()
+        .transactionDate(OffsetDateTime.now())
+        .institutionId("diku")
+        .patronIdentifier(patronIdentifier)
+        .patronPassword("1234")
+        .build();
+
+    when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq("1234"), any()))
+        .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
+            .extendedUser(extendedUser).passwordVerified(TRUE).build()));
+    when(mockFeeFinesRepository.getFeeAmountByUserId(eq(userId), any()))
+        .thenReturn(Future.succeededFuture(new JsonObject().put("accounts", new JsonArray())));
+    when(mockFeeFinesRepository.getManualBlocksByUserId(eq(userId), any()))
+        .thenReturn(Future.succeededFuture(new JsonObject()
+            .put("manualblocks", new JsonArray()).put("totalRecords", 0)));
+    when(mockFeeFinesRepository.getAutomatedBlocksByUserId(eq(userId), any()))
+        .thenReturn(Future.succeededFuture(new JsonObject()
+            .put("automatedPatronBlocks", new JsonArray())));
+
+    final SessionData sessionData = TestUtils.getMockedSessionData();
+    final PatronRepository patronRepository = new PatronRepository(mockUsersRepository,
+        mockCirculationRepository, mockFeeFinesRepository, mockPasswordVerifier,
+        TestUtils.getUtcFixedClock());
+
+    patronRepository.performPatronStatusCommand(patronStatus, sessionData)
+        .compose(v -> patronRepository.performPatronStatusCommand(patronStatus, sessionData))
+        .compose(v -> patronRepository.performEndPatronSessionCommand(endPatronSession,
+            sessionData))
+        .compose(endSessionResponse -> {
+          assertTrue(endSessionResponse.getEndSession());
+          assertNull(sessionData.getPatronSnapshot());
+          return patronRepository.performPatronStatusCommand(patronStatus, sessionData);
+        })
+        .onComplete(testContext.succeeding(patronStatusResponse -> testContext.verify(() -> {
+          assertTrue(patronStatusResponse.getValidPatron());
+          verify(mockPasswordVerifier, times(2)).verifyPatronPassword(any(), any(), any());
+          verify(mockFeeFinesRepository, times(2)).getManualBlocksByUserId(any(), any());
+          verify(mockFeeFinesRepository, times(2)).getAutomatedBlocksByUserId(any(), any());
+          verify(mockFeeFinesRepository, times(3)).getFeeAmountByUserId(any(), any());
+          testContext.completeNow();
+        })));
+  }
+
   @Test
   void canPatronEndSessionRequirePassword(
       Vertx vertx,
@@ -2640,11 +2775,8 @@ public class PatronRepositoryTests {
         .thenReturn(Future.succeededFuture(holdsResponse));
     when(mockCirculationRepository.getLoansByUserId(any(), any(), eq(TEST_USER_LOANS_LIMIT), any()))
         .thenReturn(Future.succeededFuture(openLoansResponse));
-    when(mockCirculationRepository.getRequestsByItemId(
-        any(), eq("Recall"), any(), any(), any()))
-        .thenReturn(Future.succeededFuture(recallsResponse),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())),
-        Future.succeededFuture(new JsonObject().put("requests", new JsonArray())));
+    when(mockCirculationRepository.getRequestsByItemIds(any(), eq("Recall"), any()))
+        .thenReturn(Future.succeededFuture(recallsByItemId(recallsResponse)));
     when(mockPasswordVerifier.verifyPatronPassword(eq(patronIdentifier), eq(password), any()))
         .thenReturn(Future.succeededFuture(PatronPasswordVerificationRecords.builder()
         .extendedUser(extendedUser).build()));
@@ -3118,4 +3250,12 @@ public class PatronRepositoryTests {
   private static Stream<String> provideBlankPasswords() {
     return Stream.of(null, "   ");
   }
+
+  // the open requests of the responses grouped by item, like the chunked lookup returns them
+  private static Map<String, List<JsonObject>> recallsByItemId(JsonObject... responses) {
+    return Stream.of(responses)
+        .flatMap(response -> response.getJsonArray("requests").stream())
+        .map(JsonObject.class::cast)
+        .collect(Collectors.groupingBy(request -> request.getString("itemId")));
+  }
 }
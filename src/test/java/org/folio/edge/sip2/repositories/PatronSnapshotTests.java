@@ -0,0 +1,115 @@
+package org.folio.edge.sip2.repositories;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.edge.sip2.repositories.domain.ExtendedUser;
+import org.folio.edge.sip2.repositories.domain.PatronPasswordVerificationRecords;
+import org.folio.edge.sip2.repositories.domain.User;
+import org.folio.edge.sip2.session.SessionData;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PatronSnapshotTests {
+
+  private static final long TTL_MILLIS = 30_000L;
+
+  private final SessionData sessionData = SessionData.createSession("diku", '|', false,
+      "IBM850");
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  @Test
+  void testSamePatronReusesSnapshot() {
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS, 0);
+    final PatronPasswordVerificationRecords first = snapshot.getVerification(
+        () -> verify(TRUE)).result();
+
+    final PatronSnapshot again = PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS,
+        TimeUnit.SECONDS.toNanos(10));
+
+    assertSame(snapshot, again);
+    assertSame(first, again.getVerification(() -> verify(TRUE)).result());
+    assertEquals(1, verifications.get());
+  }
+
+  @Test
+  void testOtherPatronPasswordOrExpiryStartsNewSnapshot() {
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS, 0);
+
+    assertNotSame(snapshot, PatronSnapshot.of(sessionData, "5678", "0000", TTL_MILLIS, 0));
+    assertNotSame(sessionData.getPatronSnapshot(),
+        PatronSnapshot.of(sessionData, "5678", "9999", TTL_MILLIS, 0));
+    assertNotSame(sessionData.getPatronSnapshot(),
+        PatronSnapshot.of(sessionData, "5678", null, TTL_MILLIS, 0));
+    final PatronSnapshot current = sessionData.getPatronSnapshot();
+    assertNotSame(current, PatronSnapshot.of(sessionData, "5678", null, TTL_MILLIS,
+        TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS)));
+  }
+
+  @Test
+  void testRejectedVerificationIsNotKept() {
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS, 0);
+
+    snapshot.getVerification(() -> verify(FALSE));
+    snapshot.getVerification(() -> Future.failedFuture("down"));
+    snapshot.getVerification(() -> verify(TRUE));
+    snapshot.getVerification(() -> verify(TRUE));
+
+    assertEquals(2, verifications.get());
+  }
+
+  @Test
+  void testForgetBlocksKeepsVerification() {
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS, 0);
+    final AtomicInteger lookups = new AtomicInteger();
+    snapshot.getVerification(() -> verify(TRUE));
+    snapshot.getManualBlocks("1", () -> blocks(lookups));
+    snapshot.getManualBlocks("1", () -> blocks(lookups));
+    snapshot.getAutomatedBlocks("1", () -> blocks(lookups));
+
+    snapshot.forgetBlocks();
+    snapshot.getManualBlocks("1", () -> blocks(lookups));
+    snapshot.getVerification(() -> verify(TRUE));
+
+    assertEquals(3, lookups.get());
+    assertEquals(1, verifications.get());
+  }
+
+  @Test
+  void testEndAndDisabledSnapshotsAreNotKept() {
+    PatronSnapshot.of(sessionData, "1234", "0000", TTL_MILLIS, 0);
+    PatronSnapshot.end(sessionData);
+    assertNull(sessionData.getPatronSnapshot());
+
+    final PatronSnapshot snapshot = PatronSnapshot.of(sessionData, "1234", "0000", 0, 0);
+    snapshot.getVerification(() -> verify(TRUE));
+    PatronSnapshot.of(sessionData, "1234", "0000", 0, 0).getVerification(() -> verify(TRUE));
+
+    assertNull(sessionData.getPatronSnapshot());
+    assertEquals(2, verifications.get());
+  }
+
+  private Future<PatronPasswordVerificationRecords> verify(Boolean passwordVerified) {
+    verifications.incrementAndGet();
+    final ExtendedUser extendedUser = new ExtendedUser();
+    extendedUser.setUser(new User.Builder().id("1").build());
+    return Future.succeededFuture(PatronPasswordVerificationRecords.builder()
+        .extendedUser(extendedUser)
+        .passwordVerified(passwordVerified)
+        .build());
+  }
+
+  private static Future<JsonObject> blocks(AtomicInteger lookups) {
+    lookups.incrementAndGet();
+    return Future.succeededFuture(new JsonObject().put("totalRecords", 0));
+  }
+}
@@ -8,21 +8,29 @@ import static org.folio.edge.sip2.api.support.TestUtils.getMockedSessionData;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.folio.edge.sip2.api.support.TestUtils;
+import org.folio.edge.sip2.cache.AcsConfigKey;
+import org.folio.edge.sip2.cache.AsyncLoadingCache;
+import org.folio.edge.sip2.cache.FolioCircuitBreaker;
 import org.folio.edge.sip2.domain.messages.enumerations.Messages;
 import org.folio.edge.sip2.domain.messages.responses.ACSStatus;
+import org.folio.edge.sip2.repositories.domain.AcsConfig;
 import org.folio.edge.sip2.session.SessionData;
 import org.folio.okapi.common.UrlDecoder;
 import org.junit.jupiter.api.Test;
@@ -250,6 +258,62 @@ class SettingsRepositoryTest {
         })));
   }
 
+  @Test
+  void getACSStatus_positive_cachedSettingsSharedBySessions(VertxTestContext testContext) {
+    var settingsResponse = new JsonObject()
+        .put("items", new JsonArray(List.of(acsTenantConfigValue(), scConfigValue())))
+        .put("resultInfo", new JsonObject().put("totalRecords", 2));
+
+    when(resourceProvider.retrieveResource(any()))
+        .thenReturn(succeededFuture(SettingsRepositoryTest::tenantLocale))
+        .thenReturn(succeededFuture(() -> settingsResponse));
+
+    var cache = new AsyncLoadingCache<AcsConfigKey, AcsConfig>("test",
+        Duration.ofMinutes(1), Duration.ofMinutes(5), 10, clock);
+    var cachingRepository = new SettingsRepository(
+        resourceProvider, clock, configurationRepository, cache);
+
+    var firstSession = getMockedSessionData();
+    var secondSession = getMockedSessionData();
+    cachingRepository.getACSStatus(firstSession)
+        .compose(status -> cachingRepository.getACSStatus(secondSession))
+        .onComplete(testContext.succeeding(status -> testContext.verify(() -> {
+          validateStatusAndSessionData(status, secondSession);
+          assertThat(secondSession.getTimeZone()).isEqualTo("America/New_York");
+          verify(resourceProvider, times(2)).retrieveResource(any());
+          assertThat(cache.size()).isEqualTo(1);
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void getACSStatus_positive_offLineWhileCirculationCircuitIsOpen(VertxTestContext testContext) {
+    var settingsResponse = new JsonObject()
+        .put("items", new JsonArray(List.of(acsTenantConfigValue(), scConfigValue())))
+        .put("resultInfo", new JsonObject().put("totalRecords", 2));
+
+    when(resourceProvider.retrieveResource(any()))
+        .thenReturn(succeededFuture(SettingsRepositoryTest::tenantLocale))
+        .thenReturn(succeededFuture(() -> settingsResponse));
+
+    var sessionData = getMockedSessionData();
+    var circuitBreaker = new FolioCircuitBreaker(1, Duration.ofSeconds(30), 0, clock,
+        new SimpleMeterRegistry());
+    circuitBreaker.execute(sessionData.getTenant(), "/circulation/check-out-by-barcode",
+        () -> failedFuture(new FolioRequestThrowable("Connection refused")));
+    var guardedRepository = new SettingsRepository(
+        resourceProvider, clock, configurationRepository, null, circuitBreaker);
+
+    guardedRepository.getACSStatus(sessionData).onComplete(
+        testContext.succeeding(status -> testContext.verify(() -> {
+          assertFalse(status.getOnLineStatus());
+          assertFalse(status.getCheckinOk());
+          assertFalse(status.getCheckoutOk());
+          assertThat(status.getLibraryName()).isEqualTo("diku");
+          testContext.completeNow();
+        })));
+  }
+
   private void validateStatusAndSessionData(ACSStatus status, SessionData sessionData) {
     var currentTs = OffsetDateTime.now(clock).truncatedTo(SECONDS);
     assertThat(status)
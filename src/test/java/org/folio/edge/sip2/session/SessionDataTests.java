@@ -3,11 +3,17 @@ package org.folio.edge.sip2.session;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.TimeUnit;
 import org.folio.edge.sip2.domain.PreviousMessage;
+import org.folio.edge.sip2.parser.Parser;
+import org.folio.edge.sip2.repositories.MemoizingResourceProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -134,6 +140,19 @@ class SessionDataTests {
     assertEquals("Etc/UTC", sessionData.getTimeZone());
   }
 
+  @Test
+  void testGetParserFollowsTimeZone() {
+    final Parser parser = sessionData.getParser();
+    assertSame(parser, sessionData.getParser());
+    assertEquals(timeZone, parser.parseMessage("9900302.00AY1AZFCA5").getTimezone());
+
+    sessionData.setTimeZone("America/Chicago");
+
+    final Parser swapped = sessionData.getParser();
+    assertNotSame(parser, swapped);
+    assertEquals("America/Chicago", swapped.parseMessage("9900302.00AY1AZFCA5").getTimezone());
+  }
+
 
   @Test
   void testGetPatronPasswordVerificationRequired() {
@@ -183,4 +202,51 @@ class SessionDataTests {
     assertNotNull(newSessionData.getTimeZone());
     assertFalse(newSessionData.isPatronPasswordVerificationRequired());
   }
+
+  @Test
+  void testDeadline() {
+    assertFalse(sessionData.hasDeadline());
+    assertEquals(Long.MAX_VALUE, sessionData.getRemainingMillis());
+
+    final long received = System.nanoTime();
+    final SessionData command = sessionData.forCommand(received, 5000, null);
+    assertTrue(command.hasDeadline());
+    assertTrue(command.getRemainingMillis() <= 5000);
+    assertTrue(command.getRemainingMillis() > 4000);
+    assertFalse(sessionData.hasDeadline());
+
+    final SessionData late = sessionData.forCommand(received - TimeUnit.SECONDS.toNanos(10),
+        5000, null);
+    assertTrue(late.getRemainingMillis() <= 0);
+    // the next command does not change the deadline of the previous one
+    assertTrue(command.getRemainingMillis() > 4000);
+
+    assertFalse(sessionData.forCommand(received, 0, null).hasDeadline());
+  }
+
+  @Test
+  void testCommandSharesSessionState() {
+    final SessionData command = sessionData.forCommand(System.nanoTime(), 5000, null);
+    assertEquals(sessionData, command);
+    assertSame(sessionData.getParser(), command.getParser());
+
+    command.setAuthenticationToken(authenticationToken);
+    assertEquals(authenticationToken, sessionData.getAuthenticationToken());
+  }
+
+  @Test
+  void testRequestMemo() {
+    assertNull(sessionData.getRequestMemo());
+
+    final var first = MemoizingResourceProvider.createMemo();
+    final var second = MemoizingResourceProvider.createMemo();
+    final SessionData command = sessionData.forCommand(System.nanoTime(), 0, first);
+    assertSame(first, command.getRequestMemo());
+
+    // the next command does not change the memo of the previous one
+    final SessionData next = sessionData.forCommand(System.nanoTime(), 0, second);
+    assertSame(second, next.getRequestMemo());
+    assertSame(first, command.getRequestMemo());
+    assertNull(sessionData.getRequestMemo());
+  }
 }
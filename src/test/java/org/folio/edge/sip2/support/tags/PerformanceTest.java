@@ -0,0 +1,15 @@
+package org.folio.edge.sip2.support.tags;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Marks test as performance test, which only runs with the {@code performance-tests} profile.
+ */
+@Tag("performance")
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD})
+public @interface PerformanceTest {}
@@ -0,0 +1,133 @@
+package org.folio.edge.sip2.utils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.folio.edge.sip2.support.tags.PerformanceTest;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares decoding the loans of a patron with 500 loans into a full {@code JsonObject} with
+ * extracting only the fields Patron Information uses. It only runs with the
+ * {@code performance-tests} profile, e.g. {@code mvn test -P performance-tests
+ * -Dtest=JsonFieldExtractorBenchmarkTests}.
+ *
+ * <p>For each way it logs the mean time of a decode, the bytes allocated by a decode and the
+ * heap retained by a decoded response.
+ */
+@PerformanceTest
+class JsonFieldExtractorBenchmarkTests {
+
+  private static final Logger log = LoggerFactory.getLogger(JsonFieldExtractorBenchmarkTests.class);
+
+  private static final int LOANS = 500;
+  private static final int WARM_UP = 2_000;
+  private static final int ITERATIONS = 5_000;
+  private static final int RETAINED = 200;
+
+  @Test
+  void extractorAllocatesAndRetainsLessThanFullDecode() {
+    final Buffer body = loans(LOANS).toBuffer();
+    final JsonFieldExtractor extractor = JsonFieldExtractor.of("totalRecords",
+        "loans[].itemId", "loans[].item.barcode");
+
+    log.info("{} loans, {} bytes", LOANS, body.length());
+    final Result full = run("JsonObject", body, JsonObject::new);
+    final Result extracted = run("JsonFieldExtractor", body, extractor::extract);
+
+    assertTrue(extracted.allocated() < full.allocated(),
+        "the extractor must allocate less than a full decode");
+    assertTrue(extracted.retained() < full.retained(),
+        "the extractor must retain less than a full decode");
+  }
+
+  private static Result run(String name, Buffer body, Function<Buffer, JsonObject> decoder) {
+    for (int i = 0; i < WARM_UP; i++) {
+      decoder.apply(body);
+    }
+
+    final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().threadId();
+    final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+    final long start = System.nanoTime();
+    int fields = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      fields += decoder.apply(body).size();
+    }
+    final long elapsed = System.nanoTime() - start;
+    final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    final long heapBefore = usedHeap();
+    final List<JsonObject> retained = new ArrayList<>(RETAINED);
+    for (int i = 0; i < RETAINED; i++) {
+      retained.add(decoder.apply(body));
+    }
+    final long heapAfter = usedHeap();
+
+    final Result result = new Result(elapsed / ITERATIONS, allocated / ITERATIONS,
+        (heapAfter - heapBefore) / retained.size());
+    log.info("{}: {} us/op, {} bytes allocated/op, {} bytes retained/op", name,
+        String.format("%.1f", result.nanos() / 1_000.0), result.allocated(), result.retained());
+    assertTrue(fields > 0, "nothing was decoded");
+    return result;
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    final Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  // loans shaped like the ones returned by /circulation/loans
+  private static JsonObject loans(int count) {
+    final String userId = UUID.randomUUID().toString();
+    final JsonArray loans = new JsonArray();
+    for (int i = 0; i < count; i++) {
+      final String itemId = UUID.randomUUID().toString();
+      loans.add(new JsonObject()
+          .put("id", UUID.randomUUID().toString())
+          .put("userId", userId)
+          .put("itemId", itemId)
+          .put("itemEffectiveLocationIdAtCheckOut", UUID.randomUUID().toString())
+          .put("status", new JsonObject().put("name", "Open"))
+          .put("loanDate", "2024-03-01T10:15:30.000+00:00")
+          .put("dueDate", "2024-03-22T23:59:59.000+00:00")
+          .put("action", "checkedout")
+          .put("renewalCount", 0)
+          .put("loanPolicyId", UUID.randomUUID().toString())
+          .put("checkoutServicePointId", UUID.randomUUID().toString())
+          .put("item", new JsonObject()
+              .put("id", itemId)
+              .put("holdingsRecordId", UUID.randomUUID().toString())
+              .put("instanceId", UUID.randomUUID().toString())
+              .put("title", "A fairly long title of the item number " + i)
+              .put("barcode", String.valueOf(100_000_000 + i))
+              .put("callNumber", "PR" + i + " .A1 2024")
+              .put("contributors", new JsonArray()
+                  .add(new JsonObject().put("name", "Contributor, Some")))
+              .put("status", new JsonObject().put("name", "Checked out"))
+              .put("location", new JsonObject().put("name", "Main Library"))
+              .put("materialType", new JsonObject().put("name", "book")))
+          .put("metadata", new JsonObject()
+              .put("createdDate", "2024-03-01T10:15:30.000+00:00")
+              .put("createdByUserId", UUID.randomUUID().toString())
+              .put("updatedDate", "2024-03-01T10:15:30.000+00:00")
+              .put("updatedByUserId", UUID.randomUUID().toString())));
+    }
+    return new JsonObject().put("loans", loans).put("totalRecords", count);
+  }
+
+  private record Result(long nanos, long allocated, long retained) {
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.edge.sip2.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.edge.sip2.support.tags.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class JsonFieldExtractorTests {
+
+  private static final JsonObject LOANS = new JsonObject()
+      .put("loans", new JsonArray()
+          .add(new JsonObject()
+              .put("id", "1")
+              .put("itemId", "item-1")
+              .put("item", new JsonObject()
+                  .put("barcode", "111")
+                  .put("title", "Title 1")
+                  .put("contributors", new JsonArray().add(new JsonObject().put("name", "A"))))
+              .put("loanDate", "2024-01-01T00:00:00.000+00:00"))
+          .add(new JsonObject()
+              .put("id", "2")
+              .put("itemId", "item-2")
+              .put("item", new JsonObject().put("title", "Title 2"))))
+      .put("totalRecords", 2)
+      .put("resultInfo", new JsonObject().put("totalRecords", 2));
+
+  @Test
+  void testOnlySelectedFieldsAreExtracted() {
+    var extractor = JsonFieldExtractor.of("totalRecords", "loans[].itemId",
+        "loans[].item.barcode");
+
+    var expected = new JsonObject()
+        .put("loans", new JsonArray()
+            .add(new JsonObject().put("itemId", "item-1")
+                .put("item", new JsonObject().put("barcode", "111")))
+            .add(new JsonObject().put("itemId", "item-2").put("item", new JsonObject())))
+        .put("totalRecords", 2);
+    assertEquals(expected, extractor.extract(LOANS.toBuffer()));
+  }
+
+  @Test
+  void testSelectedObjectIsExtractedWhole() {
+    var extractor = JsonFieldExtractor.of("loans.item", "loans.item.barcode", "resultInfo");
+
+    var extracted = extractor.extract(LOANS.toBuffer());
+
+    assertEquals(LOANS.getJsonObject("resultInfo"), extracted.getJsonObject("resultInfo"));
+    assertEquals(LOANS.getJsonArray("loans").getJsonObject(0).getJsonObject("item"),
+        extracted.getJsonArray("loans").getJsonObject(0).getJsonObject("item"));
+    assertNull(extracted.getJsonArray("loans").getJsonObject(0).getString("id"));
+  }
+
+  @Test
+  void testValuesAreDecodedLikeJsonObject() {
+    var json = "{\"int\":1,\"long\":12345678901,\"float\":1.5,\"bool\":true,\"null\":null,"
+        + "\"string\":\"a\\\"b\",\"array\":[1,\"2\",[3]]}";
+
+    var extractor = JsonFieldExtractor.of("int", "long", "float", "bool", "null", "string",
+        "array");
+
+    assertEquals(new JsonObject(json), extractor.extract(Buffer.buffer(json)));
+  }
+
+  @Test
+  void testBodyLongerThanTheParserBufferIsExtracted() {
+    var loans = new JsonArray();
+    for (int i = 0; i < 1000; i++) {
+      loans.add(new JsonObject().put("itemId", "item-" + i).put("title", "Title ë " + i));
+    }
+    var body = new JsonObject().put("loans", loans).put("totalRecords", 1000).toBuffer();
+
+    var extracted = JsonFieldExtractor.of("totalRecords", "loans[].itemId").extract(body);
+
+    assertEquals(1000, extracted.getInteger("totalRecords"));
+    assertEquals(1000, extracted.getJsonArray("loans").size());
+    assertEquals(new JsonObject().put("itemId", "item-999"),
+        extracted.getJsonArray("loans").getJsonObject(999));
+  }
+
+  @Test
+  void testInvalidBodies() {
+    var extractor = JsonFieldExtractor.of("totalRecords");
+
+    assertNull(extractor.extract(Buffer.buffer()));
+    assertThrows(DecodeException.class, () -> extractor.extract(Buffer.buffer("[]")));
+    assertThrows(DecodeException.class,
+        () -> extractor.extract(Buffer.buffer("{\"totalRecords\":")));
+    assertThrows(DecodeException.class, () -> extractor.extract(Buffer.buffer("{} {}")));
+  }
+
+  @Test
+  void testExtractorsOfTheSameFieldsAreEqual() {
+    assertEquals(JsonFieldExtractor.of("a", "b.c"), JsonFieldExtractor.of("b.c", "a", "a"));
+    assertEquals(JsonFieldExtractor.of("a", "b.c").hashCode(),
+        JsonFieldExtractor.of("b.c", "a").hashCode());
+    assertThrows(IllegalArgumentException.class, JsonFieldExtractor::of);
+  }
+}
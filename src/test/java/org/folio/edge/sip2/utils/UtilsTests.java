@@ -1,8 +1,11 @@
 package org.folio.edge.sip2.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
@@ -92,4 +95,21 @@ public class UtilsTests {
     var result = Utils.getEnvOrDefault("test", "TEST", 10, Integer::parseInt);
     assertEquals(10, result);
   }
+
+  @Test
+  void testConvertDateTimeUsesOffsetAtInstant() {
+    final OffsetDateTime winter = OffsetDateTime.of(2024, 1, 15, 12, 0, 0, 0, ZoneOffset.UTC);
+    final OffsetDateTime summer = OffsetDateTime.of(2024, 7, 15, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    assertEquals(ZoneOffset.ofHours(1),
+        Utils.convertDateTime(winter, "Europe/Stockholm").getOffset());
+    assertEquals(ZoneOffset.ofHours(2),
+        Utils.convertDateTime(summer, "Europe/Stockholm").getOffset());
+    assertEquals(winter.toInstant(), Utils.convertDateTime(winter, "Europe/Stockholm").toInstant());
+  }
+
+  @Test
+  void testGetZoneIdIsCached() {
+    assertSame(Utils.getZoneId("America/Chicago"), Utils.getZoneId("America/Chicago"));
+  }
 }
@@ -5,6 +5,8 @@ import static org.folio.edge.sip2.utils.WebClientUtils.SYS_NET_SERVER_OPTIONS;
 import static org.folio.edge.sip2.utils.WebClientUtils.SYS_PEM_KEY_CERT_OPTIONS;
 import static org.folio.edge.sip2.utils.WebClientUtils.SYS_PFX_KEY_CERT_OPTIONS;
 import static org.folio.edge.sip2.utils.WebClientUtils.SYS_PORT;
+import static org.folio.edge.sip2.utils.WebClientUtils.SYS_WEB_CLIENT_OPTIONS;
+import static org.folio.edge.sip2.utils.WebClientUtils.SYS_WEB_CLIENT_POOL_OPTIONS;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
@@ -28,6 +30,7 @@ import java.nio.file.Path;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterEach;
@@ -98,6 +101,47 @@ public class WebClientUtilsTests {
         () -> WebClientUtils.create(vertx, config));
   }
 
+  @Test
+  void testCreateWebClientWithClientAndPoolOptions(Vertx vertx) {
+    JsonObject config = new JsonObject()
+        .put(SYS_WEB_CLIENT_OPTIONS, new JsonObject()
+            .put("keepAliveTimeout", 30)
+            .put("connectTimeout", 5000)
+            .put("protocolVersion", "HTTP_2")
+            .put("http2MultiplexingLimit", 100))
+        .put(SYS_WEB_CLIENT_POOL_OPTIONS, new JsonObject()
+            .put("http1MaxSize", 20)
+            .put("maxWaitQueueSize", 100));
+    Assertions.assertDoesNotThrow(() -> WebClientUtils.create(vertx, config));
+  }
+
+  @Test
+  void testWarmUpOpensConnections(Vertx vertx, VertxTestContext testContext) {
+    AtomicInteger connections = new AtomicInteger();
+    JsonObject config = new JsonObject()
+        .put(SYS_WEB_CLIENT_POOL_OPTIONS, new JsonObject().put("http1MaxSize", 3));
+    WebClient webClient = WebClientUtils.create(vertx, config);
+
+    vertx.createHttpServer()
+        .connectionHandler(connection -> connections.incrementAndGet())
+        .requestHandler(req -> req.response().setStatusCode(404).end())
+        .listen(serverPort)
+        .compose(server -> WebClientUtils.warmUp(webClient,
+            "http://localhost:" + serverPort, 3))
+        .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+          Assertions.assertEquals(3, connections.get());
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  void testFailedWarmUpDoesNotFail(Vertx vertx, VertxTestContext testContext) {
+    WebClient webClient = WebClientUtils.create(vertx, new JsonObject());
+
+    WebClientUtils.warmUp(webClient, "http://localhost:" + serverPort, 2)
+        .onComplete(testContext.succeedingThenComplete());
+  }
+
   @Test
   void testWebClientServerCommunication(Vertx vertx, VertxTestContext testContext) {
     JsonObject sipConfig = getCommonSipConfig(vertx);